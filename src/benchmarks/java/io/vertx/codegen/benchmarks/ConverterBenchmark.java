@@ -0,0 +1,229 @@
+package io.vertx.codegen.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.codegen.CodeGenProcessor;
+import io.vertx.codegen.Compiler;
+import io.vertx.codegen.generators.dataobjecthelper.DataObjectHelperGen;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the converters generated for the tck data objects.
+ * <p/>
+ * The data objects are compiled with the processor during the setup, so the benchmark always measures the code
+ * generated by the current tree with the generator options of the {@link #mode} parameter. The tck data objects
+ * only declare setters, so only the {@code fromJson} methods are measured.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+  private static final String TCK_PACKAGE = "io.vertx.codegen.testmodel.";
+
+  private static final Map<String, String> SAMPLES = new LinkedHashMap<>();
+
+  static {
+    SAMPLES.put("DataObjectWithValues", "{" +
+      "\"booleanValue\":true,\"shortValue\":12,\"intValue\":1234,\"longValue\":123456789012," +
+      "\"floatValue\":1.5,\"doubleValue\":3.25,\"boxedBooleanValue\":false,\"boxedShortValue\":7," +
+      "\"boxedIntValue\":42,\"boxedLongValue\":9876543210,\"boxedFloatValue\":2.5,\"boxedDoubleValue\":6.75," +
+      "\"stringValue\":\"the-string\",\"instantValue\":\"2019-04-01T12:00:00Z\"," +
+      "\"jsonObjectValue\":{\"foo\":\"bar\",\"num\":3},\"jsonArrayValue\":[\"foo\",1,true]," +
+      "\"enumValue\":\"JULIEN\",\"genEnumValue\":\"BOB\"" +
+      "}");
+    SAMPLES.put("DataObjectWithLists", "{" +
+      "\"booleanValues\":[true,false],\"shortValues\":[1,2,3],\"integerValues\":[1,2,3]," +
+      "\"longValues\":[1,2,3],\"floatValues\":[1.5,2.5],\"doubleValues\":[1.5,2.5]," +
+      "\"stringValues\":[\"a\",\"b\",\"c\"],\"instantValues\":[\"2019-04-01T12:00:00Z\"]," +
+      "\"jsonObjectValues\":[{\"foo\":\"bar\"}],\"jsonArrayValues\":[[\"foo\",1]]," +
+      "\"enumValues\":[\"TIM\",\"NICK\"],\"genEnumValues\":[\"BOB\",\"LAURA\"]" +
+      "}");
+    SAMPLES.put("DataObjectWithMaps", "{" +
+      "\"booleanValues\":{\"a\":true,\"b\":false},\"shortValues\":{\"a\":1,\"b\":2}," +
+      "\"integerValues\":{\"a\":1,\"b\":2},\"longValues\":{\"a\":1,\"b\":2}," +
+      "\"floatValues\":{\"a\":1.5,\"b\":2.5},\"doubleValues\":{\"a\":1.5,\"b\":2.5}," +
+      "\"stringValues\":{\"a\":\"x\",\"b\":\"y\"},\"instantValues\":{\"a\":\"2019-04-01T12:00:00Z\"}," +
+      "\"jsonObjectValues\":{\"a\":{\"foo\":\"bar\"}},\"jsonArrayValues\":{\"a\":[\"foo\",1]}," +
+      "\"enumValues\":{\"a\":\"TIM\"},\"genEnumValues\":{\"a\":\"BOB\"}" +
+      "}");
+  }
+
+  @Param({"DataObjectWithValues", "DataObjectWithLists", "DataObjectWithMaps"})
+  public String dataObject;
+
+  /**
+   * The generator options: {@code default} generates the streaming methods only, {@code optimized} additionally
+   * enables the specialized primitives and the indexed dispatch.
+   */
+  @Param({"default", "optimized"})
+  public String mode;
+
+  private final JsonFactory factory = new JsonFactory();
+  private MethodHandle constructor;
+  private MethodHandle fromJsonObject;
+  private MethodHandle fromJsonParser;
+  private JsonObject json;
+  private byte[] bytes;
+
+  @Setup
+  public void setup() throws Exception {
+    File basedir = new File(System.getProperty("codegen.basedir", "."));
+    File tck = new File(basedir, "src/tck/java/io/vertx/codegen/testmodel");
+    Compiler compiler = new Compiler(new CodeGenProcessor(), new DiagnosticCollector<JavaFileObject>());
+    compiler.addOption("-Acodegen.generators=data_object_converters");
+    compiler.addOption("-A" + DataObjectHelperGen.STREAMING_OPTION + "=true");
+    if (mode.equals("optimized")) {
+      compiler.addOption("-A" + DataObjectHelperGen.SPECIALIZED_PRIMITIVES_OPTION + "=true");
+      compiler.addOption("-A" + DataObjectHelperGen.INDEXED_DISPATCH_OPTION + "=true");
+    }
+    // Exclude the tck classes of the test classpath, otherwise the processor does not generate existing converters
+    StringBuilder classpath = new StringBuilder();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      if (!new File(entry, TCK_PACKAGE.replace('.', '/')).isDirectory()) {
+        classpath.append(classpath.length() > 0 ? File.pathSeparator : "").append(entry);
+      }
+    }
+    compiler.addOption("-classpath");
+    compiler.addOption(classpath.toString());
+    List<File> sources = new ArrayList<>();
+    for (String name : new String[]{dataObject, "TestDataObject", "TestEnum", "TestGenEnum", "package-info"}) {
+      sources.add(new File(tck, name + ".java"));
+    }
+    if (!compiler.compile(sources.toArray(new File[0]))) {
+      throw new IllegalStateException("Could not compile " + dataObject);
+    }
+
+    ClassLoader loader = new ChildFirstClassLoader(compiler.getClassOutput(), getClass().getClassLoader());
+    Class<?> dataObjectClass = loader.loadClass(TCK_PACKAGE + dataObject);
+    Class<?> converterClass = loader.loadClass(TCK_PACKAGE + dataObject + "Converter");
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+    constructor = lookup
+      .findConstructor(dataObjectClass, MethodType.methodType(void.class))
+      .asType(MethodType.methodType(Object.class));
+    fromJsonObject = lookup
+      .findStatic(converterClass, "fromJson", MethodType.methodType(void.class, Iterable.class, dataObjectClass))
+      .asType(MethodType.methodType(void.class, JsonObject.class, Object.class));
+    fromJsonParser = lookup
+      .findStatic(converterClass, "fromJson", MethodType.methodType(void.class, JsonParser.class, dataObjectClass))
+      .asType(MethodType.methodType(void.class, JsonParser.class, Object.class));
+
+    String sample = SAMPLES.get(dataObject);
+    bytes = sample.getBytes(StandardCharsets.UTF_8);
+    try (JsonParser parser = factory.createParser(bytes)) {
+      parser.nextToken();
+      json = (JsonObject) readValue(parser);
+    }
+  }
+
+  @Benchmark
+  public Object fromJsonObject() throws Throwable {
+    Object obj = constructor.invokeExact();
+    fromJsonObject.invokeExact(json, obj);
+    return obj;
+  }
+
+  @Benchmark
+  public Object fromJsonParser() throws Throwable {
+    Object obj = constructor.invokeExact();
+    try (JsonParser parser = factory.createParser(bytes)) {
+      fromJsonParser.invokeExact(parser, obj);
+    }
+    return obj;
+  }
+
+  /**
+   * Read the current value the way the Vert.x json decoder does.
+   */
+  private static Object readValue(JsonParser parser) throws Exception {
+    switch (parser.currentToken()) {
+      case START_OBJECT: {
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.getCurrentName();
+          parser.nextToken();
+          map.put(name, readValue(parser));
+        }
+        return new JsonObject(map);
+      }
+      case START_ARRAY: {
+        List<Object> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          list.add(readValue(parser));
+        }
+        return new JsonArray(list);
+      }
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return parser.getNumberValue();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Load the freshly compiled tck classes before the ones of the test classpath.
+   */
+  private static class ChildFirstClassLoader extends URLClassLoader {
+
+    private ChildFirstClassLoader(File classOutput, ClassLoader parent) throws Exception {
+      super(new URL[]{classOutput.toURI().toURL()}, parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (name.startsWith(TCK_PACKAGE)) {
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> clazz = findLoadedClass(name);
+          if (clazz == null) {
+            clazz = findClass(name);
+          }
+          if (resolve) {
+            resolveClass(clazz);
+          }
+          return clazz;
+        }
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+}
@@ -0,0 +1,357 @@
+package io.vertx.codegen.benchmarks;
+
+import com.sun.source.util.JavacTask;
+import io.vertx.codegen.CodeGen;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.Model;
+import io.vertx.codegen.doc.Doc;
+import io.vertx.codegen.doc.Text;
+import io.vertx.codegen.generators.cheatsheet.CheatsheetGenLoader;
+import io.vertx.codegen.generators.dataobjecthelper.DataObjectHelperGenLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark the processor phases over a synthetic API: a {@code @VertxGen} interface and a {@code @DataObject}
+ * with {@link #size} methods each.
+ * <p/>
+ * The synthetic sources are parsed and attributed once with the compiler API, the benchmarks then measure
+ * the model building of {@link CodeGen#init} and the rendering of the models by the generators.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessorBenchmark {
+
+  private static final String PACKAGE = "io.vertx.codegen.benchmarks.synthetic";
+
+  @Param({"1000", "4000"})
+  public int size;
+
+  /**
+   * The value of the {@link Doc#DOCS_OPTION} option.
+   */
+  @Param({"true", "false"})
+  public String docs;
+
+  private ProcessingEnvironment env;
+  private RoundEnvironment round;
+  private List<Generator<Model>> generators;
+  private List<Model> models;
+
+  @Setup
+  public void setup() throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    List<JavaFileObject> sources = Arrays.asList(
+      new Source("package-info", packageInfo()),
+      new Source("SyntheticApi", api(size)),
+      new Source("SyntheticOptions", dataObject(size)));
+    JavacTask task = (JavacTask) compiler.getTask(null, null, diagnostics, Collections.singletonList("-proc:none"), null, sources);
+    task.parse();
+    List<Element> rootElements = new ArrayList<>();
+    task.analyze().forEach(rootElements::add);
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        throw new IllegalStateException("Invalid synthetic sources: " + diagnostic);
+      }
+    }
+    env = new Env(task.getElements(), task.getTypes(), Collections.singletonMap(Doc.DOCS_OPTION, docs));
+    round = new Round(task.getElements(), rootElements);
+    generators = Stream.of(new CheatsheetGenLoader(), new DataObjectHelperGenLoader())
+      .flatMap(loader -> loader.loadGenerators(env))
+      .map(generator -> {
+        generator.load(env);
+        @SuppressWarnings("unchecked")
+        Generator<Model> cast = (Generator<Model>) generator;
+        return cast;
+      })
+      .collect(Collectors.toList());
+    models = init().getModels().map(Map.Entry::getValue).collect(Collectors.toList());
+  }
+
+  private CodeGen init() {
+    CodeGen codegen = new CodeGen(env);
+    codegen.init(round, ProcessorBenchmark.class.getClassLoader());
+    return codegen;
+  }
+
+  @Benchmark
+  public void init(Blackhole blackhole) {
+    // Like the processor, the doc links are resolved when rendered
+    boolean deferred = Text.deferMappings(true);
+    try {
+      // Models are built lazily
+      init().getModels().forEach(entry -> blackhole.consume(entry.getValue()));
+    } finally {
+      Text.deferMappings(deferred);
+    }
+  }
+
+  @Benchmark
+  public void render(Blackhole blackhole) {
+    for (Model model : models) {
+      for (Generator<Model> generator : generators) {
+        if (generator.kinds.contains(model.getKind()) && generator.filename(model) != null) {
+          blackhole.consume(generator.render(model, 0, 1, new HashMap<>()));
+        }
+      }
+    }
+  }
+
+  private static String packageInfo() {
+    return "@io.vertx.codegen.annotations.ModuleGen(name = \"synthetic\", groupPackage = \"" + PACKAGE + "\")\n" +
+      "package " + PACKAGE + ";\n";
+  }
+
+  private static String api(int size) {
+    StringBuilder buffer = new StringBuilder();
+    buffer.append("package ").append(PACKAGE).append(";\n");
+    buffer.append("import io.vertx.codegen.annotations.VertxGen;\n");
+    buffer.append("import io.vertx.core.AsyncResult;\n");
+    buffer.append("import io.vertx.core.Future;\n");
+    buffer.append("import io.vertx.core.Handler;\n");
+    buffer.append("import java.util.List;\n");
+    buffer.append("import java.util.Map;\n");
+    buffer.append("/**\n * A synthetic API.\n */\n");
+    buffer.append("@VertxGen\n");
+    buffer.append("public interface SyntheticApi {\n");
+    for (int i = 0;i < size;i++) {
+      buffer.append("  /**\n");
+      buffer.append("   * Method ").append(i).append(", see {@link SyntheticOptions}.\n");
+      buffer.append("   *\n");
+      buffer.append("   * @param s the string\n");
+      switch (i % 4) {
+        case 0:
+          buffer.append("   * @return the result\n");
+          buffer.append("   */\n");
+          buffer.append("  String method").append(i).append("(String s, int i);\n");
+          break;
+        case 1:
+          buffer.append("   * @param handler the handler\n");
+          buffer.append("   */\n");
+          buffer.append("  void method").append(i).append("(String s, Handler<AsyncResult<List<String>>> handler);\n");
+          break;
+        case 2:
+          buffer.append("   * @return the future\n");
+          buffer.append("   */\n");
+          buffer.append("  Future<Map<String, Long>> method").append(i).append("(String s, SyntheticOptions options);\n");
+          break;
+        default:
+          buffer.append("   * @param handler the handler\n");
+          buffer.append("   */\n");
+          buffer.append("  void method").append(i).append("(String s, Handler<SyntheticApi> handler);\n");
+          break;
+      }
+    }
+    buffer.append("}\n");
+    return buffer.toString();
+  }
+
+  private static String dataObject(int size) {
+    StringBuilder buffer = new StringBuilder();
+    buffer.append("package ").append(PACKAGE).append(";\n");
+    buffer.append("import io.vertx.codegen.annotations.DataObject;\n");
+    buffer.append("import io.vertx.core.json.JsonObject;\n");
+    buffer.append("import java.util.List;\n");
+    buffer.append("import java.util.Map;\n");
+    buffer.append("/**\n * Synthetic options.\n */\n");
+    buffer.append("@DataObject(generateConverter = true)\n");
+    buffer.append("public class SyntheticOptions {\n");
+    buffer.append("  public SyntheticOptions() { }\n");
+    buffer.append("  public SyntheticOptions(JsonObject json) { }\n");
+    buffer.append("  public JsonObject toJson() { return new JsonObject(); }\n");
+    String[] types = {"String", "int", "Long", "boolean", "List<String>", "Map<String, Integer>", "JsonObject"};
+    for (int i = 0;i < size;i++) {
+      String type = types[i % types.length];
+      String name = "property" + i;
+      String capitalized = "Property" + i;
+      buffer.append("  private ").append(type).append(' ').append(name).append(";\n");
+      buffer.append("  /**\n   * @return the property ").append(i).append("\n   */\n");
+      buffer.append("  public ").append(type).append(" get").append(capitalized).append("() { return ").append(name).append("; }\n");
+      buffer.append("  /**\n   * Set the property ").append(i).append(".\n   */\n");
+      buffer.append("  public SyntheticOptions set").append(capitalized).append("(").append(type).append(" value) { ")
+        .append(name).append(" = value; return this; }\n");
+    }
+    buffer.append("}\n");
+    return buffer.toString();
+  }
+
+  private static class Source extends SimpleJavaFileObject {
+
+    private final String content;
+
+    private Source(String name, String content) {
+      super(URI.create("string:///" + PACKAGE.replace('.', '/') + '/' + name + ".java"), Kind.SOURCE);
+      this.content = content;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+
+  /**
+   * The processing environment of the analyzed sources, the filer is not available.
+   */
+  private static class Env implements ProcessingEnvironment {
+
+    private final Elements elementUtils;
+    private final Types typeUtils;
+    private final Map<String, String> options;
+
+    private Env(Elements elementUtils, Types typeUtils, Map<String, String> options) {
+      this.elementUtils = elementUtils;
+      this.typeUtils = typeUtils;
+      this.options = options;
+    }
+
+    @Override
+    public Map<String, String> getOptions() {
+      return options;
+    }
+
+    @Override
+    public Messager getMessager() {
+      return MESSAGER;
+    }
+
+    @Override
+    public Filer getFiler() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Elements getElementUtils() {
+      return elementUtils;
+    }
+
+    @Override
+    public Types getTypeUtils() {
+      return typeUtils;
+    }
+
+    @Override
+    public SourceVersion getSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public Locale getLocale() {
+      return Locale.getDefault();
+    }
+  }
+
+  private static final Messager MESSAGER = new Messager() {
+    @Override
+    public void printMessage(Diagnostic.Kind kind, CharSequence msg) {
+      if (kind == Diagnostic.Kind.ERROR) {
+        throw new IllegalStateException(msg.toString());
+      }
+    }
+    @Override
+    public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e) {
+      printMessage(kind, msg);
+    }
+    @Override
+    public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e, AnnotationMirror a) {
+      printMessage(kind, msg);
+    }
+    @Override
+    public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e, AnnotationMirror a, AnnotationValue v) {
+      printMessage(kind, msg);
+    }
+  };
+
+  /**
+   * A single processing round over the analyzed sources.
+   */
+  private static class Round implements RoundEnvironment {
+
+    private final List<Element> rootElements;
+    private final Set<Element> annotatable;
+
+    private Round(Elements elementUtils, List<Element> rootElements) {
+      this.rootElements = rootElements;
+      this.annotatable = new LinkedHashSet<>(rootElements);
+      rootElements.forEach(elt -> annotatable.add(elementUtils.getPackageOf(elt)));
+    }
+
+    @Override
+    public boolean processingOver() {
+      return false;
+    }
+
+    @Override
+    public boolean errorRaised() {
+      return false;
+    }
+
+    @Override
+    public Set<? extends Element> getRootElements() {
+      return new LinkedHashSet<>(rootElements);
+    }
+
+    @Override
+    public Set<? extends Element> getElementsAnnotatedWith(TypeElement a) {
+      return annotatable.stream()
+        .filter(elt -> elt.getAnnotationMirrors().stream().anyMatch(ann -> ann.getAnnotationType().asElement().equals(a)))
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Set<? extends Element> getElementsAnnotatedWith(Class<? extends Annotation> a) {
+      return annotatable.stream()
+        .filter(elt -> elt.getAnnotation(a) != null)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+  }
+}
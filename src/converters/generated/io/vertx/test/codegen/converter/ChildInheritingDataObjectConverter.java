@@ -34,11 +34,13 @@ public class ChildInheritingDataObjectConverter {
   }
 
   public static void toJson(ChildInheritingDataObject obj, java.util.Map<String, Object> json) {
-    if (obj.getChildProperty() != null) {
-      json.put("childProperty", obj.getChildProperty());
+    java.lang.String childPropertyValue = obj.getChildProperty();
+    if (childPropertyValue != null) {
+      json.put("childProperty", childPropertyValue);
     }
-    if (obj.getParentProperty() != null) {
-      json.put("parentProperty", obj.getParentProperty());
+    java.lang.String parentPropertyValue = obj.getParentProperty();
+    if (parentPropertyValue != null) {
+      json.put("parentProperty", parentPropertyValue);
     }
   }
 }
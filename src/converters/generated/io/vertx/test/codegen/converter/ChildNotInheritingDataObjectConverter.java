@@ -29,8 +29,9 @@ public class ChildNotInheritingDataObjectConverter {
   }
 
   public static void toJson(ChildNotInheritingDataObject obj, java.util.Map<String, Object> json) {
-    if (obj.getChildProperty() != null) {
-      json.put("childProperty", obj.getChildProperty());
+    java.lang.String childPropertyValue = obj.getChildProperty();
+    if (childPropertyValue != null) {
+      json.put("childProperty", childPropertyValue);
     }
   }
 }
@@ -29,8 +29,9 @@ public class ParentDataObjectConverter {
   }
 
   public static void toJson(ParentDataObject obj, java.util.Map<String, Object> json) {
-    if (obj.getParentProperty() != null) {
-      json.put("parentProperty", obj.getParentProperty());
+    java.lang.String parentPropertyValue = obj.getParentProperty();
+    if (parentPropertyValue != null) {
+      json.put("parentProperty", parentPropertyValue);
     }
   }
 }
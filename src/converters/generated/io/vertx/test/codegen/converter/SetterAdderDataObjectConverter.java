@@ -17,11 +17,12 @@ public class SetterAdderDataObjectConverter {
       switch (member.getKey()) {
         case "values":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof String)
                 list.add((String)item);
-            });
+            }
             obj.setValues(list);
           }
           break;
@@ -34,9 +35,12 @@ public class SetterAdderDataObjectConverter {
   }
 
   public static void toJson(SetterAdderDataObject obj, java.util.Map<String, Object> json) {
-    if (obj.getValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.String> valuesValue = obj.getValues();
+    if (valuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(valuesValue.size()));
+      for (java.lang.String item : valuesValue) {
+        array.add(item);
+      }
       json.put("values", array);
     }
   }
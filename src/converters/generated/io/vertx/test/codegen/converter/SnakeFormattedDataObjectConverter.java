@@ -39,14 +39,17 @@ public class SnakeFormattedDataObjectConverter {
   }
 
   public static void toJson(SnakeFormattedDataObject obj, java.util.Map<String, Object> json) {
-    if (obj.getFoo() != null) {
-      json.put("foo", obj.getFoo());
+    java.lang.String fooValue = obj.getFoo();
+    if (fooValue != null) {
+      json.put("foo", fooValue);
     }
-    if (obj.getFooBar() != null) {
-      json.put("foo_bar", obj.getFooBar());
+    java.lang.String fooBarValue = obj.getFooBar();
+    if (fooBarValue != null) {
+      json.put("foo_bar", fooBarValue);
     }
-    if (obj.getFooBarJuu() != null) {
-      json.put("foo_bar_juu", obj.getFooBarJuu());
+    java.lang.String fooBarJuuValue = obj.getFooBarJuu();
+    if (fooBarJuuValue != null) {
+      json.put("foo_bar_juu", fooBarJuuValue);
     }
   }
 }
@@ -0,0 +1,2391 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Binary codec for {@link io.vertx.test.codegen.converter.TestDataObject}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.test.codegen.converter.TestDataObject} original class using Vert.x codegen.
+ */
+public class TestDataObjectBinaryCodec {
+
+  private static final int SCHEMA = 0x95e7ca9a;
+
+  private static final java.util.concurrent.TimeUnit[] VALUES_java_util_concurrent_TimeUnit = java.util.concurrent.TimeUnit.values();
+
+  public static void writeTo(TestDataObject obj, Buffer buffer) {
+    buffer.appendInt(SCHEMA);
+    writeTo0(obj, buffer);
+    writeTo1(obj, buffer);
+    writeTo2(obj, buffer);
+    writeTo3(obj, buffer);
+  }
+
+  private static void writeTo0(TestDataObject obj, Buffer buffer) {
+    buffer.appendByte((byte) ((obj.getAddedBoxedBooleanValues() != null ? 1 : 0) | (obj.getAddedBoxedByteValues() != null ? 2 : 0) | (obj.getAddedBoxedCharValues() != null ? 4 : 0) | (obj.getAddedBoxedDoubleValues() != null ? 8 : 0) | (obj.getAddedBoxedFloatValues() != null ? 16 : 0) | (obj.getAddedBoxedIntValues() != null ? 32 : 0) | (obj.getAddedBoxedLongValues() != null ? 64 : 0) | (obj.getAddedBoxedShortValues() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getAddedBuffers() != null ? 1 : 0) | (obj.getAddedHttpMethods() != null ? 2 : 0) | (obj.getAddedJsonArrays() != null ? 4 : 0) | (obj.getAddedJsonObjectDataObjects() != null ? 8 : 0) | (obj.getAddedJsonObjects() != null ? 16 : 0) | (obj.getAddedMethodMappeds() != null ? 32 : 0) | (obj.getAddedObjects() != null ? 64 : 0) | (obj.getAddedStringDataObjects() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getAddedStringValues() != null ? 1 : 0) | (obj.isBoxedBoolean() != null ? 2 : 0) | (obj.getBoxedBooleanList() != null ? 4 : 0) | (obj.getBoxedBooleanSet() != null ? 8 : 0) | (obj.getBoxedBooleanValueMap() != null ? 16 : 0) | (obj.getBoxedByte() != null ? 32 : 0) | (obj.getBoxedByteList() != null ? 64 : 0) | (obj.getBoxedByteSet() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getBoxedByteValueMap() != null ? 1 : 0) | (obj.getBoxedChar() != null ? 2 : 0) | (obj.getBoxedCharList() != null ? 4 : 0) | (obj.getBoxedCharSet() != null ? 8 : 0) | (obj.getBoxedCharValueMap() != null ? 16 : 0) | (obj.getBoxedDouble() != null ? 32 : 0) | (obj.getBoxedDoubleList() != null ? 64 : 0) | (obj.getBoxedDoubleSet() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getBoxedDoubleValueMap() != null ? 1 : 0) | (obj.getBoxedFloat() != null ? 2 : 0) | (obj.getBoxedFloatList() != null ? 4 : 0) | (obj.getBoxedFloatSet() != null ? 8 : 0) | (obj.getBoxedFloatValueMap() != null ? 16 : 0) | (obj.getBoxedInt() != null ? 32 : 0) | (obj.getBoxedIntList() != null ? 64 : 0) | (obj.getBoxedIntSet() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getBoxedIntValueMap() != null ? 1 : 0) | (obj.getBoxedLong() != null ? 2 : 0) | (obj.getBoxedLongList() != null ? 4 : 0) | (obj.getBoxedLongSet() != null ? 8 : 0) | (obj.getBoxedLongValueMap() != null ? 16 : 0) | (obj.getBoxedShort() != null ? 32 : 0) | (obj.getBoxedShortList() != null ? 64 : 0) | (obj.getBoxedShortSet() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getBoxedShortValueMap() != null ? 1 : 0) | (obj.getBuffer() != null ? 2 : 0) | (obj.getBufferList() != null ? 4 : 0) | (obj.getBufferMap() != null ? 8 : 0) | (obj.getBufferSet() != null ? 16 : 0) | (obj.getHttpMethod() != null ? 32 : 0) | (obj.getHttpMethodList() != null ? 64 : 0) | (obj.getHttpMethodMap() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getHttpMethodSet() != null ? 1 : 0) | (obj.getJsonArray() != null ? 2 : 0) | (obj.getJsonArrayList() != null ? 4 : 0) | (obj.getJsonArrayMap() != null ? 8 : 0) | (obj.getJsonArraySet() != null ? 16 : 0) | (obj.getJsonObject() != null ? 32 : 0) | (obj.getJsonObjectDataObject() != null ? 64 : 0) | (obj.getJsonObjectDataObjectList() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getJsonObjectDataObjectMap() != null ? 1 : 0) | (obj.getJsonObjectDataObjectSet() != null ? 2 : 0) | (obj.getJsonObjectList() != null ? 4 : 0) | (obj.getJsonObjectMap() != null ? 8 : 0) | (obj.getJsonObjectSet() != null ? 16 : 0) | (obj.getKeyedBoxedBooleanValues() != null ? 32 : 0) | (obj.getKeyedBoxedByteValues() != null ? 64 : 0) | (obj.getKeyedBoxedCharValues() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getKeyedBoxedDoubleValues() != null ? 1 : 0) | (obj.getKeyedBoxedFloatValues() != null ? 2 : 0) | (obj.getKeyedBoxedIntValues() != null ? 4 : 0) | (obj.getKeyedBoxedLongValues() != null ? 8 : 0) | (obj.getKeyedBoxedShortValues() != null ? 16 : 0) | (obj.getKeyedBufferValues() != null ? 32 : 0) | (obj.getKeyedEnumValues() != null ? 64 : 0) | (obj.getKeyedJsonArrayValues() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getKeyedJsonObjectDataObjectValues() != null ? 1 : 0) | (obj.getKeyedJsonObjectValues() != null ? 2 : 0) | (obj.getKeyedMethodMappedValues() != null ? 4 : 0) | (obj.getKeyedObjectValues() != null ? 8 : 0) | (obj.getKeyedStringDataObjectValues() != null ? 16 : 0) | (obj.getKeyedStringValues() != null ? 32 : 0) | (obj.getMethodMapped() != null ? 64 : 0) | (obj.getMethodMappedList() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getMethodMappedMap() != null ? 1 : 0) | (obj.getMethodMappedSet() != null ? 2 : 0) | (obj.getObjectList() != null ? 4 : 0) | (obj.getObjectMap() != null ? 8 : 0) | (obj.getObjectSet() != null ? 16 : 0) | (obj.getString() != null ? 32 : 0) | (obj.getStringDataObject() != null ? 64 : 0) | (obj.getStringDataObjectList() != null ? 128 : 0)));
+    buffer.appendByte((byte) ((obj.getStringDataObjectMap() != null ? 1 : 0) | (obj.getStringDataObjectSet() != null ? 2 : 0) | (obj.getStringList() != null ? 4 : 0) | (obj.getStringSet() != null ? 8 : 0) | (obj.getStringValueMap() != null ? 16 : 0)));
+    java.util.Collection<java.lang.Boolean> p0 = obj.getAddedBoxedBooleanValues();
+    if (p0 != null) {
+      int size = 0;
+      for (java.lang.Boolean item : p0) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Boolean item : p0) {
+        if (item != null) {
+          buffer.appendByte((byte) (item ? 1 : 0));
+        }
+      }
+    }
+    java.util.Collection<java.lang.Byte> p1 = obj.getAddedBoxedByteValues();
+    if (p1 != null) {
+      int size = 0;
+      for (java.lang.Byte item : p1) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Byte item : p1) {
+        if (item != null) {
+          buffer.appendByte(item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Character> p2 = obj.getAddedBoxedCharValues();
+    if (p2 != null) {
+      int size = 0;
+      for (java.lang.Character item : p2) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Character item : p2) {
+        if (item != null) {
+          writeVarInt(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Double> p3 = obj.getAddedBoxedDoubleValues();
+    if (p3 != null) {
+      int size = 0;
+      for (java.lang.Double item : p3) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Double item : p3) {
+        if (item != null) {
+          buffer.appendDouble(item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Float> p4 = obj.getAddedBoxedFloatValues();
+    if (p4 != null) {
+      int size = 0;
+      for (java.lang.Float item : p4) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Float item : p4) {
+        if (item != null) {
+          buffer.appendFloat(item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Integer> p5 = obj.getAddedBoxedIntValues();
+    if (p5 != null) {
+      int size = 0;
+      for (java.lang.Integer item : p5) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Integer item : p5) {
+        if (item != null) {
+          writeSInt(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Long> p6 = obj.getAddedBoxedLongValues();
+    if (p6 != null) {
+      int size = 0;
+      for (java.lang.Long item : p6) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Long item : p6) {
+        if (item != null) {
+          writeSLong(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Short> p7 = obj.getAddedBoxedShortValues();
+    if (p7 != null) {
+      int size = 0;
+      for (java.lang.Short item : p7) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Short item : p7) {
+        if (item != null) {
+          writeSInt(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.buffer.Buffer> p8 = obj.getAddedBuffers();
+    if (p8 != null) {
+      int size = 0;
+      for (io.vertx.core.buffer.Buffer item : p8) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.buffer.Buffer item : p8) {
+        if (item != null) {
+          writeBuffer(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.util.concurrent.TimeUnit> p9 = obj.getAddedHttpMethods();
+    if (p9 != null) {
+      int size = 0;
+      for (java.util.concurrent.TimeUnit item : p9) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.concurrent.TimeUnit item : p9) {
+        if (item != null) {
+          writeVarInt(buffer, item.ordinal());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.json.JsonArray> p10 = obj.getAddedJsonArrays();
+    if (p10 != null) {
+      int size = 0;
+      for (io.vertx.core.json.JsonArray item : p10) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.json.JsonArray item : p10) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> p11 = obj.getAddedJsonObjectDataObjects();
+    if (p11 != null) {
+      int size = 0;
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : p11) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : p11) {
+        if (item != null) {
+          writeJson(buffer, item.toJson());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.json.JsonObject> p12 = obj.getAddedJsonObjects();
+    if (p12 != null) {
+      int size = 0;
+      for (io.vertx.core.json.JsonObject item : p12) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.json.JsonObject item : p12) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+  }
+
+  private static void writeTo1(TestDataObject obj, Buffer buffer) {
+    java.util.Collection<java.time.ZonedDateTime> p13 = obj.getAddedMethodMappeds();
+    if (p13 != null) {
+      int size = 0;
+      for (java.time.ZonedDateTime item : p13) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.time.ZonedDateTime item : p13) {
+        if (item != null) {
+          writeString(buffer, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item));
+        }
+      }
+    }
+    java.util.Collection<java.lang.Object> p14 = obj.getAddedObjects();
+    if (p14 != null) {
+      int size = 0;
+      for (java.lang.Object item : p14) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Object item : p14) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<io.vertx.test.codegen.converter.NestedStringDataObject> p15 = obj.getAddedStringDataObjects();
+    if (p15 != null) {
+      int size = 0;
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : p15) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : p15) {
+        if (item != null) {
+          writeString(buffer, item.toJson());
+        }
+      }
+    }
+    java.util.Collection<java.lang.String> p16 = obj.getAddedStringValues();
+    if (p16 != null) {
+      int size = 0;
+      for (java.lang.String item : p16) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.String item : p16) {
+        if (item != null) {
+          writeString(buffer, item);
+        }
+      }
+    }
+    java.lang.Boolean p17 = obj.isBoxedBoolean();
+    if (p17 != null) {
+      buffer.appendByte((byte) (p17 ? 1 : 0));
+    }
+    java.util.Collection<java.lang.Boolean> p18 = obj.getBoxedBooleanList();
+    if (p18 != null) {
+      int size = 0;
+      for (java.lang.Boolean item : p18) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Boolean item : p18) {
+        if (item != null) {
+          buffer.appendByte((byte) (item ? 1 : 0));
+        }
+      }
+    }
+    java.util.Collection<java.lang.Boolean> p19 = obj.getBoxedBooleanSet();
+    if (p19 != null) {
+      int size = 0;
+      for (java.lang.Boolean item : p19) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Boolean item : p19) {
+        if (item != null) {
+          buffer.appendByte((byte) (item ? 1 : 0));
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Boolean> p20 = obj.getBoxedBooleanValueMap();
+    if (p20 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Boolean> entry : p20.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Boolean> entry : p20.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendByte((byte) (entry.getValue() ? 1 : 0));
+        }
+      }
+    }
+    java.lang.Byte p21 = obj.getBoxedByte();
+    if (p21 != null) {
+      buffer.appendByte(p21);
+    }
+    java.util.Collection<java.lang.Byte> p22 = obj.getBoxedByteList();
+    if (p22 != null) {
+      int size = 0;
+      for (java.lang.Byte item : p22) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Byte item : p22) {
+        if (item != null) {
+          buffer.appendByte(item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Byte> p23 = obj.getBoxedByteSet();
+    if (p23 != null) {
+      int size = 0;
+      for (java.lang.Byte item : p23) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Byte item : p23) {
+        if (item != null) {
+          buffer.appendByte(item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Byte> p24 = obj.getBoxedByteValueMap();
+    if (p24 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Byte> entry : p24.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Byte> entry : p24.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendByte(entry.getValue());
+        }
+      }
+    }
+    java.lang.Character p25 = obj.getBoxedChar();
+    if (p25 != null) {
+      writeVarInt(buffer, p25);
+    }
+    java.util.Collection<java.lang.Character> p26 = obj.getBoxedCharList();
+    if (p26 != null) {
+      int size = 0;
+      for (java.lang.Character item : p26) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Character item : p26) {
+        if (item != null) {
+          writeVarInt(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Character> p27 = obj.getBoxedCharSet();
+    if (p27 != null) {
+      int size = 0;
+      for (java.lang.Character item : p27) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Character item : p27) {
+        if (item != null) {
+          writeVarInt(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Character> p28 = obj.getBoxedCharValueMap();
+    if (p28 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Character> entry : p28.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Character> entry : p28.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeVarInt(buffer, entry.getValue());
+        }
+      }
+    }
+    java.lang.Double p29 = obj.getBoxedDouble();
+    if (p29 != null) {
+      buffer.appendDouble(p29);
+    }
+    java.util.Collection<java.lang.Double> p30 = obj.getBoxedDoubleList();
+    if (p30 != null) {
+      int size = 0;
+      for (java.lang.Double item : p30) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Double item : p30) {
+        if (item != null) {
+          buffer.appendDouble(item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Double> p31 = obj.getBoxedDoubleSet();
+    if (p31 != null) {
+      int size = 0;
+      for (java.lang.Double item : p31) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Double item : p31) {
+        if (item != null) {
+          buffer.appendDouble(item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Double> p32 = obj.getBoxedDoubleValueMap();
+    if (p32 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Double> entry : p32.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Double> entry : p32.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendDouble(entry.getValue());
+        }
+      }
+    }
+    java.lang.Float p33 = obj.getBoxedFloat();
+    if (p33 != null) {
+      buffer.appendFloat(p33);
+    }
+    java.util.Collection<java.lang.Float> p34 = obj.getBoxedFloatList();
+    if (p34 != null) {
+      int size = 0;
+      for (java.lang.Float item : p34) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Float item : p34) {
+        if (item != null) {
+          buffer.appendFloat(item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Float> p35 = obj.getBoxedFloatSet();
+    if (p35 != null) {
+      int size = 0;
+      for (java.lang.Float item : p35) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Float item : p35) {
+        if (item != null) {
+          buffer.appendFloat(item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Float> p36 = obj.getBoxedFloatValueMap();
+    if (p36 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Float> entry : p36.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Float> entry : p36.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendFloat(entry.getValue());
+        }
+      }
+    }
+    java.lang.Integer p37 = obj.getBoxedInt();
+    if (p37 != null) {
+      writeSInt(buffer, p37);
+    }
+    java.util.Collection<java.lang.Integer> p38 = obj.getBoxedIntList();
+    if (p38 != null) {
+      int size = 0;
+      for (java.lang.Integer item : p38) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Integer item : p38) {
+        if (item != null) {
+          writeSInt(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Integer> p39 = obj.getBoxedIntSet();
+    if (p39 != null) {
+      int size = 0;
+      for (java.lang.Integer item : p39) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Integer item : p39) {
+        if (item != null) {
+          writeSInt(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Integer> p40 = obj.getBoxedIntValueMap();
+    if (p40 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Integer> entry : p40.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Integer> entry : p40.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeSInt(buffer, entry.getValue());
+        }
+      }
+    }
+    java.lang.Long p41 = obj.getBoxedLong();
+    if (p41 != null) {
+      writeSLong(buffer, p41);
+    }
+    java.util.Collection<java.lang.Long> p42 = obj.getBoxedLongList();
+    if (p42 != null) {
+      int size = 0;
+      for (java.lang.Long item : p42) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Long item : p42) {
+        if (item != null) {
+          writeSLong(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.Long> p43 = obj.getBoxedLongSet();
+    if (p43 != null) {
+      int size = 0;
+      for (java.lang.Long item : p43) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Long item : p43) {
+        if (item != null) {
+          writeSLong(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Long> p44 = obj.getBoxedLongValueMap();
+    if (p44 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Long> entry : p44.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Long> entry : p44.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeSLong(buffer, entry.getValue());
+        }
+      }
+    }
+    java.lang.Short p45 = obj.getBoxedShort();
+    if (p45 != null) {
+      writeSInt(buffer, p45);
+    }
+    java.util.Collection<java.lang.Short> p46 = obj.getBoxedShortList();
+    if (p46 != null) {
+      int size = 0;
+      for (java.lang.Short item : p46) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Short item : p46) {
+        if (item != null) {
+          writeSInt(buffer, item);
+        }
+      }
+    }
+  }
+
+  private static void writeTo2(TestDataObject obj, Buffer buffer) {
+    java.util.Collection<java.lang.Short> p47 = obj.getBoxedShortSet();
+    if (p47 != null) {
+      int size = 0;
+      for (java.lang.Short item : p47) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Short item : p47) {
+        if (item != null) {
+          writeSInt(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Short> p48 = obj.getBoxedShortValueMap();
+    if (p48 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Short> entry : p48.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Short> entry : p48.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeSInt(buffer, entry.getValue());
+        }
+      }
+    }
+    io.vertx.core.buffer.Buffer p49 = obj.getBuffer();
+    if (p49 != null) {
+      writeBuffer(buffer, p49);
+    }
+    java.util.Collection<io.vertx.core.buffer.Buffer> p50 = obj.getBufferList();
+    if (p50 != null) {
+      int size = 0;
+      for (io.vertx.core.buffer.Buffer item : p50) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.buffer.Buffer item : p50) {
+        if (item != null) {
+          writeBuffer(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.core.buffer.Buffer> p51 = obj.getBufferMap();
+    if (p51 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.core.buffer.Buffer> entry : p51.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.core.buffer.Buffer> entry : p51.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeBuffer(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.buffer.Buffer> p52 = obj.getBufferSet();
+    if (p52 != null) {
+      int size = 0;
+      for (io.vertx.core.buffer.Buffer item : p52) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.buffer.Buffer item : p52) {
+        if (item != null) {
+          writeBuffer(buffer, item);
+        }
+      }
+    }
+    java.util.concurrent.TimeUnit p53 = obj.getHttpMethod();
+    if (p53 != null) {
+      writeVarInt(buffer, p53.ordinal());
+    }
+    java.util.Collection<java.util.concurrent.TimeUnit> p54 = obj.getHttpMethodList();
+    if (p54 != null) {
+      int size = 0;
+      for (java.util.concurrent.TimeUnit item : p54) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.concurrent.TimeUnit item : p54) {
+        if (item != null) {
+          writeVarInt(buffer, item.ordinal());
+        }
+      }
+    }
+    java.util.Map<String, java.util.concurrent.TimeUnit> p55 = obj.getHttpMethodMap();
+    if (p55 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.util.concurrent.TimeUnit> entry : p55.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.util.concurrent.TimeUnit> entry : p55.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeVarInt(buffer, entry.getValue().ordinal());
+        }
+      }
+    }
+    java.util.Collection<java.util.concurrent.TimeUnit> p56 = obj.getHttpMethodSet();
+    if (p56 != null) {
+      int size = 0;
+      for (java.util.concurrent.TimeUnit item : p56) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.concurrent.TimeUnit item : p56) {
+        if (item != null) {
+          writeVarInt(buffer, item.ordinal());
+        }
+      }
+    }
+    io.vertx.core.json.JsonArray p57 = obj.getJsonArray();
+    if (p57 != null) {
+      writeJson(buffer, p57);
+    }
+    java.util.Collection<io.vertx.core.json.JsonArray> p58 = obj.getJsonArrayList();
+    if (p58 != null) {
+      int size = 0;
+      for (io.vertx.core.json.JsonArray item : p58) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.json.JsonArray item : p58) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.core.json.JsonArray> p59 = obj.getJsonArrayMap();
+    if (p59 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : p59.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : p59.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.json.JsonArray> p60 = obj.getJsonArraySet();
+    if (p60 != null) {
+      int size = 0;
+      for (io.vertx.core.json.JsonArray item : p60) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.json.JsonArray item : p60) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    io.vertx.core.json.JsonObject p61 = obj.getJsonObject();
+    if (p61 != null) {
+      writeJson(buffer, p61);
+    }
+    io.vertx.test.codegen.converter.NestedJsonObjectDataObject p62 = obj.getJsonObjectDataObject();
+    if (p62 != null) {
+      writeJson(buffer, p62.toJson());
+    }
+    java.util.Collection<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> p63 = obj.getJsonObjectDataObjectList();
+    if (p63 != null) {
+      int size = 0;
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : p63) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : p63) {
+        if (item != null) {
+          writeJson(buffer, item.toJson());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> p64 = obj.getJsonObjectDataObjectMap();
+    if (p64 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> entry : p64.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> entry : p64.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue().toJson());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> p65 = obj.getJsonObjectDataObjectSet();
+    if (p65 != null) {
+      int size = 0;
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : p65) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : p65) {
+        if (item != null) {
+          writeJson(buffer, item.toJson());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.json.JsonObject> p66 = obj.getJsonObjectList();
+    if (p66 != null) {
+      int size = 0;
+      for (io.vertx.core.json.JsonObject item : p66) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.json.JsonObject item : p66) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.core.json.JsonObject> p67 = obj.getJsonObjectMap();
+    if (p67 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonObject> entry : p67.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonObject> entry : p67.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.core.json.JsonObject> p68 = obj.getJsonObjectSet();
+    if (p68 != null) {
+      int size = 0;
+      for (io.vertx.core.json.JsonObject item : p68) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.core.json.JsonObject item : p68) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Boolean> p69 = obj.getKeyedBoxedBooleanValues();
+    if (p69 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Boolean> entry : p69.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Boolean> entry : p69.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendByte((byte) (entry.getValue() ? 1 : 0));
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Byte> p70 = obj.getKeyedBoxedByteValues();
+    if (p70 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Byte> entry : p70.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Byte> entry : p70.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendByte(entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Character> p71 = obj.getKeyedBoxedCharValues();
+    if (p71 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Character> entry : p71.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Character> entry : p71.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeVarInt(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Double> p72 = obj.getKeyedBoxedDoubleValues();
+    if (p72 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Double> entry : p72.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Double> entry : p72.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendDouble(entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Float> p73 = obj.getKeyedBoxedFloatValues();
+    if (p73 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Float> entry : p73.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Float> entry : p73.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          buffer.appendFloat(entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Integer> p74 = obj.getKeyedBoxedIntValues();
+    if (p74 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Integer> entry : p74.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Integer> entry : p74.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeSInt(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Long> p75 = obj.getKeyedBoxedLongValues();
+    if (p75 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Long> entry : p75.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Long> entry : p75.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeSLong(buffer, entry.getValue());
+        }
+      }
+    }
+  }
+
+  private static void writeTo3(TestDataObject obj, Buffer buffer) {
+    java.util.Map<String, java.lang.Short> p76 = obj.getKeyedBoxedShortValues();
+    if (p76 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Short> entry : p76.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Short> entry : p76.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeSInt(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.core.buffer.Buffer> p77 = obj.getKeyedBufferValues();
+    if (p77 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.core.buffer.Buffer> entry : p77.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.core.buffer.Buffer> entry : p77.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeBuffer(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.util.concurrent.TimeUnit> p78 = obj.getKeyedEnumValues();
+    if (p78 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.util.concurrent.TimeUnit> entry : p78.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.util.concurrent.TimeUnit> entry : p78.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeVarInt(buffer, entry.getValue().ordinal());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.core.json.JsonArray> p79 = obj.getKeyedJsonArrayValues();
+    if (p79 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : p79.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : p79.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> p80 = obj.getKeyedJsonObjectDataObjectValues();
+    if (p80 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> entry : p80.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> entry : p80.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue().toJson());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.core.json.JsonObject> p81 = obj.getKeyedJsonObjectValues();
+    if (p81 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonObject> entry : p81.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonObject> entry : p81.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, java.time.ZonedDateTime> p82 = obj.getKeyedMethodMappedValues();
+    if (p82 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.time.ZonedDateTime> entry : p82.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.time.ZonedDateTime> entry : p82.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeString(buffer, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(entry.getValue()));
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Object> p83 = obj.getKeyedObjectValues();
+    if (p83 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Object> entry : p83.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Object> entry : p83.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> p84 = obj.getKeyedStringDataObjectValues();
+    if (p84 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedStringDataObject> entry : p84.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedStringDataObject> entry : p84.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeString(buffer, entry.getValue().toJson());
+        }
+      }
+    }
+    java.util.Map<String, java.lang.String> p85 = obj.getKeyedStringValues();
+    if (p85 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.String> entry : p85.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.String> entry : p85.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeString(buffer, entry.getValue());
+        }
+      }
+    }
+    java.time.ZonedDateTime p86 = obj.getMethodMapped();
+    if (p86 != null) {
+      writeString(buffer, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(p86));
+    }
+    java.util.Collection<java.time.ZonedDateTime> p87 = obj.getMethodMappedList();
+    if (p87 != null) {
+      int size = 0;
+      for (java.time.ZonedDateTime item : p87) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.time.ZonedDateTime item : p87) {
+        if (item != null) {
+          writeString(buffer, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item));
+        }
+      }
+    }
+    java.util.Map<String, java.time.ZonedDateTime> p88 = obj.getMethodMappedMap();
+    if (p88 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.time.ZonedDateTime> entry : p88.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.time.ZonedDateTime> entry : p88.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeString(buffer, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(entry.getValue()));
+        }
+      }
+    }
+    java.util.Collection<java.time.ZonedDateTime> p89 = obj.getMethodMappedSet();
+    if (p89 != null) {
+      int size = 0;
+      for (java.time.ZonedDateTime item : p89) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.time.ZonedDateTime item : p89) {
+        if (item != null) {
+          writeString(buffer, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item));
+        }
+      }
+    }
+    java.util.Collection<java.lang.Object> p90 = obj.getObjectList();
+    if (p90 != null) {
+      int size = 0;
+      for (java.lang.Object item : p90) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Object item : p90) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.Object> p91 = obj.getObjectMap();
+    if (p91 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.Object> entry : p91.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.Object> entry : p91.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeJson(buffer, entry.getValue());
+        }
+      }
+    }
+    java.util.Collection<java.lang.Object> p92 = obj.getObjectSet();
+    if (p92 != null) {
+      int size = 0;
+      for (java.lang.Object item : p92) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.Object item : p92) {
+        if (item != null) {
+          writeJson(buffer, item);
+        }
+      }
+    }
+    buffer.appendByte((byte) (obj.isPrimitiveBoolean() ? 1 : 0));
+    buffer.appendByte(obj.getPrimitiveByte());
+    writeVarInt(buffer, obj.getPrimitiveChar());
+    buffer.appendDouble(obj.getPrimitiveDouble());
+    buffer.appendFloat(obj.getPrimitiveFloat());
+    writeSInt(buffer, obj.getPrimitiveInt());
+    writeSLong(buffer, obj.getPrimitiveLong());
+    writeSInt(buffer, obj.getPrimitiveShort());
+    java.lang.String p101 = obj.getString();
+    if (p101 != null) {
+      writeString(buffer, p101);
+    }
+    io.vertx.test.codegen.converter.NestedStringDataObject p102 = obj.getStringDataObject();
+    if (p102 != null) {
+      writeString(buffer, p102.toJson());
+    }
+    java.util.Collection<io.vertx.test.codegen.converter.NestedStringDataObject> p103 = obj.getStringDataObjectList();
+    if (p103 != null) {
+      int size = 0;
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : p103) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : p103) {
+        if (item != null) {
+          writeString(buffer, item.toJson());
+        }
+      }
+    }
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> p104 = obj.getStringDataObjectMap();
+    if (p104 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedStringDataObject> entry : p104.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedStringDataObject> entry : p104.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeString(buffer, entry.getValue().toJson());
+        }
+      }
+    }
+    java.util.Collection<io.vertx.test.codegen.converter.NestedStringDataObject> p105 = obj.getStringDataObjectSet();
+    if (p105 != null) {
+      int size = 0;
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : p105) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : p105) {
+        if (item != null) {
+          writeString(buffer, item.toJson());
+        }
+      }
+    }
+    java.util.Collection<java.lang.String> p106 = obj.getStringList();
+    if (p106 != null) {
+      int size = 0;
+      for (java.lang.String item : p106) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.String item : p106) {
+        if (item != null) {
+          writeString(buffer, item);
+        }
+      }
+    }
+    java.util.Collection<java.lang.String> p107 = obj.getStringSet();
+    if (p107 != null) {
+      int size = 0;
+      for (java.lang.String item : p107) {
+        if (item != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.lang.String item : p107) {
+        if (item != null) {
+          writeString(buffer, item);
+        }
+      }
+    }
+    java.util.Map<String, java.lang.String> p108 = obj.getStringValueMap();
+    if (p108 != null) {
+      int size = 0;
+      for (java.util.Map.Entry<String, java.lang.String> entry : p108.entrySet()) {
+        if (entry.getValue() != null) {
+          size++;
+        }
+      }
+      writeVarInt(buffer, size);
+      for (java.util.Map.Entry<String, java.lang.String> entry : p108.entrySet()) {
+        if (entry.getValue() != null) {
+          writeString(buffer, entry.getKey());
+          writeString(buffer, entry.getValue());
+        }
+      }
+    }
+  }
+
+  public static int readFrom(Buffer buffer, int pos, TestDataObject obj) {
+    int schema = buffer.getInt(pos);
+    if (schema != SCHEMA) {
+      throw new IllegalArgumentException("Invalid TestDataObject schema " + Integer.toHexString(schema) + " at " + pos);
+    }
+    pos += 4;
+    int[] cursor = { pos + 13 };
+    readFrom0(buffer, pos, cursor, obj);
+    readFrom1(buffer, pos, cursor, obj);
+    readFrom2(buffer, pos, cursor, obj);
+    return cursor[0];
+  }
+
+  private static void readFrom0(Buffer buffer, int pos, int[] cursor, TestDataObject obj) {
+    int bits0 = buffer.getByte(pos);
+    int bits1 = buffer.getByte(pos + 1);
+    int bits2 = buffer.getByte(pos + 2);
+    int bits3 = buffer.getByte(pos + 3);
+    int bits4 = buffer.getByte(pos + 4);
+    int bits5 = buffer.getByte(pos + 5);
+    if ((bits0 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedBooleanValue(buffer.getByte(cursor[0]++) != 0);
+      }
+    }
+    if ((bits0 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedByteValue(buffer.getByte(cursor[0]++));
+      }
+    }
+    if ((bits0 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedCharValue((char) readVarInt(buffer, cursor));
+      }
+    }
+    if ((bits0 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedDoubleValue(readDouble(buffer, cursor));
+      }
+    }
+    if ((bits0 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedFloatValue(readFloat(buffer, cursor));
+      }
+    }
+    if ((bits0 & 32) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedIntValue(readSInt(buffer, cursor));
+      }
+    }
+    if ((bits0 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedLongValue(readSLong(buffer, cursor));
+      }
+    }
+    if ((bits0 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBoxedShortValue((short) readSInt(buffer, cursor));
+      }
+    }
+    if ((bits1 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedBuffer(readBuffer(buffer, cursor));
+      }
+    }
+    if ((bits1 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedHttpMethod(VALUES_java_util_concurrent_TimeUnit[readVarInt(buffer, cursor)]);
+      }
+    }
+    if ((bits1 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedJsonArray((JsonArray) readJson(buffer, cursor));
+      }
+    }
+    if ((bits1 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedJsonObjectDataObject(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((JsonObject) readJson(buffer, cursor)));
+      }
+    }
+    if ((bits1 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedJsonObject((JsonObject) readJson(buffer, cursor));
+      }
+    }
+    if ((bits1 & 32) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedMethodMapped(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime(readString(buffer, cursor)));
+      }
+    }
+    if ((bits1 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedObject(readJson(buffer, cursor));
+      }
+    }
+    if ((bits1 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedStringDataObject(new io.vertx.test.codegen.converter.NestedStringDataObject(readString(buffer, cursor)));
+      }
+    }
+    if ((bits2 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        obj.addAddedStringValue(readString(buffer, cursor));
+      }
+    }
+    if ((bits2 & 2) != 0) {
+      obj.setBoxedBoolean(buffer.getByte(cursor[0]++) != 0);
+    }
+    if ((bits2 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Boolean> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(buffer.getByte(cursor[0]++) != 0);
+      }
+      obj.setBoxedBooleanList(list);
+    }
+    if ((bits2 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Boolean> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(buffer.getByte(cursor[0]++) != 0);
+      }
+      obj.setBoxedBooleanSet(list);
+    }
+    if ((bits2 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Boolean> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, buffer.getByte(cursor[0]++) != 0);
+      }
+      obj.setBoxedBooleanValueMap(map);
+    }
+    if ((bits2 & 32) != 0) {
+      obj.setBoxedByte(buffer.getByte(cursor[0]++));
+    }
+    if ((bits2 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Byte> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(buffer.getByte(cursor[0]++));
+      }
+      obj.setBoxedByteList(list);
+    }
+    if ((bits2 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Byte> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(buffer.getByte(cursor[0]++));
+      }
+      obj.setBoxedByteSet(list);
+    }
+    if ((bits3 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Byte> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, buffer.getByte(cursor[0]++));
+      }
+      obj.setBoxedByteValueMap(map);
+    }
+    if ((bits3 & 2) != 0) {
+      obj.setBoxedChar((char) readVarInt(buffer, cursor));
+    }
+    if ((bits3 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Character> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add((char) readVarInt(buffer, cursor));
+      }
+      obj.setBoxedCharList(list);
+    }
+    if ((bits3 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Character> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add((char) readVarInt(buffer, cursor));
+      }
+      obj.setBoxedCharSet(list);
+    }
+    if ((bits3 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Character> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, (char) readVarInt(buffer, cursor));
+      }
+      obj.setBoxedCharValueMap(map);
+    }
+    if ((bits3 & 32) != 0) {
+      obj.setBoxedDouble(readDouble(buffer, cursor));
+    }
+    if ((bits3 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Double> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readDouble(buffer, cursor));
+      }
+      obj.setBoxedDoubleList(list);
+    }
+    if ((bits3 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Double> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readDouble(buffer, cursor));
+      }
+      obj.setBoxedDoubleSet(list);
+    }
+    if ((bits4 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Double> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readDouble(buffer, cursor));
+      }
+      obj.setBoxedDoubleValueMap(map);
+    }
+    if ((bits4 & 2) != 0) {
+      obj.setBoxedFloat(readFloat(buffer, cursor));
+    }
+    if ((bits4 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Float> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readFloat(buffer, cursor));
+      }
+      obj.setBoxedFloatList(list);
+    }
+    if ((bits4 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Float> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readFloat(buffer, cursor));
+      }
+      obj.setBoxedFloatSet(list);
+    }
+    if ((bits4 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Float> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readFloat(buffer, cursor));
+      }
+      obj.setBoxedFloatValueMap(map);
+    }
+    if ((bits4 & 32) != 0) {
+      obj.setBoxedInt(readSInt(buffer, cursor));
+    }
+    if ((bits4 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Integer> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readSInt(buffer, cursor));
+      }
+      obj.setBoxedIntList(list);
+    }
+    if ((bits4 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Integer> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readSInt(buffer, cursor));
+      }
+      obj.setBoxedIntSet(list);
+    }
+    if ((bits5 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Integer> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readSInt(buffer, cursor));
+      }
+      obj.setBoxedIntValueMap(map);
+    }
+    if ((bits5 & 2) != 0) {
+      obj.setBoxedLong(readSLong(buffer, cursor));
+    }
+  }
+
+  private static void readFrom1(Buffer buffer, int pos, int[] cursor, TestDataObject obj) {
+    int bits5 = buffer.getByte(pos + 5);
+    int bits6 = buffer.getByte(pos + 6);
+    int bits7 = buffer.getByte(pos + 7);
+    int bits8 = buffer.getByte(pos + 8);
+    int bits9 = buffer.getByte(pos + 9);
+    if ((bits5 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Long> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readSLong(buffer, cursor));
+      }
+      obj.setBoxedLongList(list);
+    }
+    if ((bits5 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Long> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readSLong(buffer, cursor));
+      }
+      obj.setBoxedLongSet(list);
+    }
+    if ((bits5 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Long> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readSLong(buffer, cursor));
+      }
+      obj.setBoxedLongValueMap(map);
+    }
+    if ((bits5 & 32) != 0) {
+      obj.setBoxedShort((short) readSInt(buffer, cursor));
+    }
+    if ((bits5 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Short> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add((short) readSInt(buffer, cursor));
+      }
+      obj.setBoxedShortList(list);
+    }
+    if ((bits5 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Short> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add((short) readSInt(buffer, cursor));
+      }
+      obj.setBoxedShortSet(list);
+    }
+    if ((bits6 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Short> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, (short) readSInt(buffer, cursor));
+      }
+      obj.setBoxedShortValueMap(map);
+    }
+    if ((bits6 & 2) != 0) {
+      obj.setBuffer(readBuffer(buffer, cursor));
+    }
+    if ((bits6 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<io.vertx.core.buffer.Buffer> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readBuffer(buffer, cursor));
+      }
+      obj.setBufferList(list);
+    }
+    if ((bits6 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, io.vertx.core.buffer.Buffer> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readBuffer(buffer, cursor));
+      }
+      obj.setBufferMap(map);
+    }
+    if ((bits6 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<io.vertx.core.buffer.Buffer> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readBuffer(buffer, cursor));
+      }
+      obj.setBufferSet(list);
+    }
+    if ((bits6 & 32) != 0) {
+      obj.setHttpMethod(VALUES_java_util_concurrent_TimeUnit[readVarInt(buffer, cursor)]);
+    }
+    if ((bits6 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.util.concurrent.TimeUnit> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(VALUES_java_util_concurrent_TimeUnit[readVarInt(buffer, cursor)]);
+      }
+      obj.setHttpMethodList(list);
+    }
+    if ((bits6 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.util.concurrent.TimeUnit> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, VALUES_java_util_concurrent_TimeUnit[readVarInt(buffer, cursor)]);
+      }
+      obj.setHttpMethodMap(map);
+    }
+    if ((bits7 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.util.concurrent.TimeUnit> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(VALUES_java_util_concurrent_TimeUnit[readVarInt(buffer, cursor)]);
+      }
+      obj.setHttpMethodSet(list);
+    }
+    if ((bits7 & 2) != 0) {
+      obj.setJsonArray((JsonArray) readJson(buffer, cursor));
+    }
+    if ((bits7 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<io.vertx.core.json.JsonArray> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add((JsonArray) readJson(buffer, cursor));
+      }
+      obj.setJsonArrayList(list);
+    }
+    if ((bits7 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, io.vertx.core.json.JsonArray> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, (JsonArray) readJson(buffer, cursor));
+      }
+      obj.setJsonArrayMap(map);
+    }
+    if ((bits7 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<io.vertx.core.json.JsonArray> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add((JsonArray) readJson(buffer, cursor));
+      }
+      obj.setJsonArraySet(list);
+    }
+    if ((bits7 & 32) != 0) {
+      obj.setJsonObject((JsonObject) readJson(buffer, cursor));
+    }
+    if ((bits7 & 64) != 0) {
+      obj.setJsonObjectDataObject(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((JsonObject) readJson(buffer, cursor)));
+    }
+    if ((bits7 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((JsonObject) readJson(buffer, cursor)));
+      }
+      obj.setJsonObjectDataObjectList(list);
+    }
+    if ((bits8 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((JsonObject) readJson(buffer, cursor)));
+      }
+      obj.setJsonObjectDataObjectMap(map);
+    }
+    if ((bits8 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((JsonObject) readJson(buffer, cursor)));
+      }
+      obj.setJsonObjectDataObjectSet(list);
+    }
+    if ((bits8 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<io.vertx.core.json.JsonObject> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add((JsonObject) readJson(buffer, cursor));
+      }
+      obj.setJsonObjectList(list);
+    }
+    if ((bits8 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, io.vertx.core.json.JsonObject> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, (JsonObject) readJson(buffer, cursor));
+      }
+      obj.setJsonObjectMap(map);
+    }
+    if ((bits8 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<io.vertx.core.json.JsonObject> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add((JsonObject) readJson(buffer, cursor));
+      }
+      obj.setJsonObjectSet(list);
+    }
+    if ((bits8 & 32) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedBooleanValue(key, buffer.getByte(cursor[0]++) != 0);
+      }
+    }
+    if ((bits8 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedByteValue(key, buffer.getByte(cursor[0]++));
+      }
+    }
+    if ((bits8 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedCharValue(key, (char) readVarInt(buffer, cursor));
+      }
+    }
+    if ((bits9 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedDoubleValue(key, readDouble(buffer, cursor));
+      }
+    }
+    if ((bits9 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedFloatValue(key, readFloat(buffer, cursor));
+      }
+    }
+    if ((bits9 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedIntValue(key, readSInt(buffer, cursor));
+      }
+    }
+    if ((bits9 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedLongValue(key, readSLong(buffer, cursor));
+      }
+    }
+    if ((bits9 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBoxedShortValue(key, (short) readSInt(buffer, cursor));
+      }
+    }
+    if ((bits9 & 32) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedBufferValue(key, readBuffer(buffer, cursor));
+      }
+    }
+    if ((bits9 & 64) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedEnumValue(key, VALUES_java_util_concurrent_TimeUnit[readVarInt(buffer, cursor)]);
+      }
+    }
+  }
+
+  private static void readFrom2(Buffer buffer, int pos, int[] cursor, TestDataObject obj) {
+    int bits9 = buffer.getByte(pos + 9);
+    int bits10 = buffer.getByte(pos + 10);
+    int bits11 = buffer.getByte(pos + 11);
+    int bits12 = buffer.getByte(pos + 12);
+    if ((bits9 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedJsonArrayValue(key, (JsonArray) readJson(buffer, cursor));
+      }
+    }
+    if ((bits10 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedJsonObjectDataObjectValue(key, new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((JsonObject) readJson(buffer, cursor)));
+      }
+    }
+    if ((bits10 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedJsonObjectValue(key, (JsonObject) readJson(buffer, cursor));
+      }
+    }
+    if ((bits10 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedMethodMappedValue(key, io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime(readString(buffer, cursor)));
+      }
+    }
+    if ((bits10 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedObjectValue(key, readJson(buffer, cursor));
+      }
+    }
+    if ((bits10 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedStringDataObjectValue(key, new io.vertx.test.codegen.converter.NestedStringDataObject(readString(buffer, cursor)));
+      }
+    }
+    if ((bits10 & 32) != 0) {
+      int size = readVarInt(buffer, cursor);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        obj.addKeyedStringValue(key, readString(buffer, cursor));
+      }
+    }
+    if ((bits10 & 64) != 0) {
+      obj.setMethodMapped(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime(readString(buffer, cursor)));
+    }
+    if ((bits10 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.time.ZonedDateTime> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime(readString(buffer, cursor)));
+      }
+      obj.setMethodMappedList(list);
+    }
+    if ((bits11 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.time.ZonedDateTime> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime(readString(buffer, cursor)));
+      }
+      obj.setMethodMappedMap(map);
+    }
+    if ((bits11 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.time.ZonedDateTime> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime(readString(buffer, cursor)));
+      }
+      obj.setMethodMappedSet(list);
+    }
+    if ((bits11 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.Object> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readJson(buffer, cursor));
+      }
+      obj.setObjectList(list);
+    }
+    if ((bits11 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.Object> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readJson(buffer, cursor));
+      }
+      obj.setObjectMap(map);
+    }
+    if ((bits11 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.Object> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readJson(buffer, cursor));
+      }
+      obj.setObjectSet(list);
+    }
+    obj.setPrimitiveBoolean(buffer.getByte(cursor[0]++) != 0);
+    obj.setPrimitiveByte(buffer.getByte(cursor[0]++));
+    obj.setPrimitiveChar((char) readVarInt(buffer, cursor));
+    obj.setPrimitiveDouble(readDouble(buffer, cursor));
+    obj.setPrimitiveFloat(readFloat(buffer, cursor));
+    obj.setPrimitiveInt(readSInt(buffer, cursor));
+    obj.setPrimitiveLong(readSLong(buffer, cursor));
+    obj.setPrimitiveShort((short) readSInt(buffer, cursor));
+    if ((bits11 & 32) != 0) {
+      obj.setString(readString(buffer, cursor));
+    }
+    if ((bits11 & 64) != 0) {
+      obj.setStringDataObject(new io.vertx.test.codegen.converter.NestedStringDataObject(readString(buffer, cursor)));
+    }
+    if ((bits11 & 128) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<io.vertx.test.codegen.converter.NestedStringDataObject> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(new io.vertx.test.codegen.converter.NestedStringDataObject(readString(buffer, cursor)));
+      }
+      obj.setStringDataObjectList(list);
+    }
+    if ((bits12 & 1) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, new io.vertx.test.codegen.converter.NestedStringDataObject(readString(buffer, cursor)));
+      }
+      obj.setStringDataObjectMap(map);
+    }
+    if ((bits12 & 2) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<io.vertx.test.codegen.converter.NestedStringDataObject> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(new io.vertx.test.codegen.converter.NestedStringDataObject(readString(buffer, cursor)));
+      }
+      obj.setStringDataObjectSet(list);
+    }
+    if ((bits12 & 4) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readString(buffer, cursor));
+      }
+      obj.setStringList(list);
+    }
+    if ((bits12 & 8) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.LinkedHashSet<java.lang.String> list = new java.util.LinkedHashSet<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        list.add(readString(buffer, cursor));
+      }
+      obj.setStringSet(list);
+    }
+    if ((bits12 & 16) != 0) {
+      int size = readVarInt(buffer, cursor);
+      java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = readString(buffer, cursor);
+        map.put(key, readString(buffer, cursor));
+      }
+      obj.setStringValueMap(map);
+    }
+  }
+
+  private static void writeVarInt(Buffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.appendByte((byte) value);
+  }
+
+  private static int readVarInt(Buffer buffer, int[] cursor) {
+    int pos = cursor[0];
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.getByte(pos++);
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        cursor[0] = pos;
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint at " + cursor[0]);
+  }
+
+  private static void writeVarLong(Buffer buffer, long value) {
+    while ((value & ~0x7FL) != 0L) {
+      buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.appendByte((byte) value);
+  }
+
+  private static long readVarLong(Buffer buffer, int[] cursor) {
+    int pos = cursor[0];
+    long value = 0L;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.getByte(pos++);
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        cursor[0] = pos;
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint at " + cursor[0]);
+  }
+
+  private static void writeSInt(Buffer buffer, int value) {
+    writeVarInt(buffer, (value << 1) ^ (value >> 31));
+  }
+
+  private static int readSInt(Buffer buffer, int[] cursor) {
+    int value = readVarInt(buffer, cursor);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeSLong(Buffer buffer, long value) {
+    writeVarLong(buffer, (value << 1) ^ (value >> 63));
+  }
+
+  private static long readSLong(Buffer buffer, int[] cursor) {
+    long value = readVarLong(buffer, cursor);
+    return (value >>> 1) ^ -(value & 1L);
+  }
+
+  private static float readFloat(Buffer buffer, int[] cursor) {
+    float value = buffer.getFloat(cursor[0]);
+    cursor[0] += 4;
+    return value;
+  }
+
+  private static double readDouble(Buffer buffer, int[] cursor) {
+    double value = buffer.getDouble(cursor[0]);
+    cursor[0] += 8;
+    return value;
+  }
+
+  private static void writeBytes(Buffer buffer, byte[] bytes) {
+    writeVarInt(buffer, bytes.length);
+    buffer.appendBytes(bytes);
+  }
+
+  private static byte[] readBytes(Buffer buffer, int[] cursor) {
+    int length = readVarInt(buffer, cursor);
+    int start = cursor[0];
+    cursor[0] = start + length;
+    return buffer.getBytes(start, start + length);
+  }
+
+  private static void writeBuffer(Buffer buffer, Buffer value) {
+    writeVarInt(buffer, value.length());
+    buffer.appendBuffer(value);
+  }
+
+  private static Buffer readBuffer(Buffer buffer, int[] cursor) {
+    int length = readVarInt(buffer, cursor);
+    int start = cursor[0];
+    cursor[0] = start + length;
+    return buffer.getBuffer(start, start + length);
+  }
+
+  private static void writeString(Buffer buffer, String value) {
+    writeBytes(buffer, value.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+  }
+
+  private static String readString(Buffer buffer, int[] cursor) {
+    int length = readVarInt(buffer, cursor);
+    int start = cursor[0];
+    cursor[0] = start + length;
+    return buffer.getString(start, start + length, "UTF-8");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void writeJson(Buffer buffer, Object value) {
+    if (value == null) {
+      buffer.appendByte((byte) 0);
+    } else if (value instanceof Boolean) {
+      buffer.appendByte((byte) ((Boolean) value ? 2 : 1));
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      buffer.appendByte((byte) 3);
+      writeSInt(buffer, ((Number) value).intValue());
+    } else if (value instanceof Long) {
+      buffer.appendByte((byte) 4);
+      writeSLong(buffer, (Long) value);
+    } else if (value instanceof Float) {
+      buffer.appendByte((byte) 5);
+      buffer.appendFloat((Float) value);
+    } else if (value instanceof java.math.BigInteger) {
+      buffer.appendByte((byte) 11);
+      writeBytes(buffer, ((java.math.BigInteger) value).toByteArray());
+    } else if (value instanceof java.math.BigDecimal) {
+      java.math.BigDecimal decimal = (java.math.BigDecimal) value;
+      buffer.appendByte((byte) 12);
+      writeSInt(buffer, decimal.scale());
+      writeBytes(buffer, decimal.unscaledValue().toByteArray());
+    } else if (value instanceof Number) {
+      buffer.appendByte((byte) 6);
+      buffer.appendDouble(((Number) value).doubleValue());
+    } else if (value instanceof CharSequence || value instanceof Enum) {
+      buffer.appendByte((byte) 7);
+      writeString(buffer, value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+    } else if (value instanceof Instant) {
+      buffer.appendByte((byte) 7);
+      writeString(buffer, DateTimeFormatter.ISO_INSTANT.format((Instant) value));
+    } else if (value instanceof JsonObject || value instanceof java.util.Map) {
+      java.util.Map<String, Object> map = value instanceof JsonObject ? ((JsonObject) value).getMap() : (java.util.Map<String, Object>) value;
+      buffer.appendByte((byte) 8);
+      writeVarInt(buffer, map.size());
+      for (java.util.Map.Entry<String, Object> entry : map.entrySet()) {
+        writeString(buffer, entry.getKey());
+        writeJson(buffer, entry.getValue());
+      }
+    } else if (value instanceof JsonArray || value instanceof java.util.List) {
+      Iterable<Object> items = (Iterable<Object>) value;
+      buffer.appendByte((byte) 9);
+      writeVarInt(buffer, value instanceof JsonArray ? ((JsonArray) value).size() : ((java.util.List<Object>) value).size());
+      for (Object item : items) {
+        writeJson(buffer, item);
+      }
+    } else if (value instanceof Buffer) {
+      buffer.appendByte((byte) 13);
+      writeBuffer(buffer, (Buffer) value);
+    } else if (value instanceof byte[]) {
+      buffer.appendByte((byte) 10);
+      writeBytes(buffer, (byte[]) value);
+    } else {
+      throw new IllegalArgumentException("Unsupported JSON value " + value.getClass().getName());
+    }
+  }
+
+  private static Object readJson(Buffer buffer, int[] cursor) {
+    int pos = cursor[0];
+    byte type = buffer.getByte(pos);
+    cursor[0] = pos + 1;
+    switch (type) {
+      case 0:
+        return null;
+      case 1:
+        return Boolean.FALSE;
+      case 2:
+        return Boolean.TRUE;
+      case 3:
+        return readSInt(buffer, cursor);
+      case 4:
+        return readSLong(buffer, cursor);
+      case 5:
+        return readFloat(buffer, cursor);
+      case 6:
+        return readDouble(buffer, cursor);
+      case 7:
+        return readString(buffer, cursor);
+      case 8: {
+        int size = readVarInt(buffer, cursor);
+        java.util.Map<String, Object> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+          String key = readString(buffer, cursor);
+          map.put(key, readJson(buffer, cursor));
+        }
+        return new JsonObject(map);
+      }
+      case 9: {
+        int size = readVarInt(buffer, cursor);
+        java.util.List<Object> list = new java.util.ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readJson(buffer, cursor));
+        }
+        return new JsonArray(list);
+      }
+      case 10:
+        return readBytes(buffer, cursor);
+      case 11:
+        return new java.math.BigInteger(readBytes(buffer, cursor));
+      case 12: {
+        int scale = readSInt(buffer, cursor);
+        return new java.math.BigDecimal(new java.math.BigInteger(readBytes(buffer, cursor)), scale);
+      }
+      case 13:
+        return readBuffer(buffer, cursor);
+      default:
+        throw new IllegalArgumentException("Invalid JSON value type " + type + " at " + pos);
+    }
+  }
+}
@@ -14,1388 +14,1769 @@ public class TestDataObjectConverter {
 
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, TestDataObject obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
-      switch (member.getKey()) {
-        case "addedBoxedBooleanValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Boolean)
-                obj.addAddedBoxedBooleanValue((Boolean)item);
-            });
-          }
-          break;
-        case "addedBoxedByteValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                obj.addAddedBoxedByteValue(((Number)item).byteValue());
-            });
-          }
-          break;
-        case "addedBoxedCharValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                obj.addAddedBoxedCharValue(((String)item).charAt(0));
-            });
-          }
-          break;
-        case "addedBoxedDoubleValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                obj.addAddedBoxedDoubleValue(((Number)item).doubleValue());
-            });
-          }
-          break;
-        case "addedBoxedFloatValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                obj.addAddedBoxedFloatValue(((Number)item).floatValue());
-            });
-          }
-          break;
-        case "addedBoxedIntValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                obj.addAddedBoxedIntValue(((Number)item).intValue());
-            });
-          }
-          break;
-        case "addedBoxedLongValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                obj.addAddedBoxedLongValue(((Number)item).longValue());
-            });
-          }
-          break;
-        case "addedBoxedShortValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                obj.addAddedBoxedShortValue(((Number)item).shortValue());
-            });
-          }
-          break;
-        case "addedBuffers":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                obj.addAddedBuffer(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
-            });
-          }
-          break;
-        case "addedHttpMethods":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                obj.addAddedHttpMethod(java.util.concurrent.TimeUnit.valueOf((String)item));
-            });
-          }
-          break;
-        case "addedJsonArrays":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonArray)
-                obj.addAddedJsonArray(((JsonArray)item).copy());
-            });
-          }
-          break;
-        case "addedJsonObjectDataObjects":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                obj.addAddedJsonObjectDataObject(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)item));
-            });
-          }
-          break;
-        case "addedJsonObjects":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                obj.addAddedJsonObject(((JsonObject)item).copy());
-            });
-          }
-          break;
-        case "addedMethodMappeds":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                obj.addAddedMethodMapped(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)item));
-            });
-          }
-          break;
-        case "addedObjects":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Object)
-                obj.addAddedObject(item);
-            });
-          }
-          break;
-        case "addedStringDataObjects":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                obj.addAddedStringDataObject(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)item));
-            });
-          }
-          break;
-        case "addedStringValues":
-          if (member.getValue() instanceof JsonArray) {
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                obj.addAddedStringValue((String)item);
-            });
-          }
-          break;
-        case "boxedBoolean":
-          if (member.getValue() instanceof Boolean) {
-            obj.setBoxedBoolean((Boolean)member.getValue());
-          }
-          break;
-        case "boxedBooleanList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Boolean> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Boolean)
-                list.add((Boolean)item);
-            });
-            obj.setBoxedBooleanList(list);
-          }
-          break;
-        case "boxedBooleanSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Boolean> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Boolean)
-                list.add((Boolean)item);
-            });
-            obj.setBoxedBooleanSet(list);
-          }
-          break;
-        case "boxedBooleanValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Boolean> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Boolean)
-                map.put(entry.getKey(), (Boolean)entry.getValue());
-            });
-            obj.setBoxedBooleanValueMap(map);
-          }
-          break;
-        case "boxedByte":
-          if (member.getValue() instanceof Number) {
-            obj.setBoxedByte(((Number)member.getValue()).byteValue());
-          }
-          break;
-        case "boxedByteList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Byte> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).byteValue());
-            });
-            obj.setBoxedByteList(list);
-          }
-          break;
-        case "boxedByteSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Byte> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).byteValue());
-            });
-            obj.setBoxedByteSet(list);
-          }
-          break;
-        case "boxedByteValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Byte> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                map.put(entry.getKey(), ((Number)entry.getValue()).byteValue());
-            });
-            obj.setBoxedByteValueMap(map);
-          }
-          break;
-        case "boxedChar":
-          if (member.getValue() instanceof String) {
-            obj.setBoxedChar(((String)member.getValue()).charAt(0));
-          }
-          break;
-        case "boxedCharList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Character> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(((String)item).charAt(0));
-            });
-            obj.setBoxedCharList(list);
-          }
-          break;
-        case "boxedCharSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Character> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(((String)item).charAt(0));
-            });
-            obj.setBoxedCharSet(list);
-          }
-          break;
-        case "boxedCharValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Character> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                map.put(entry.getKey(), ((String)entry.getValue()).charAt(0));
-            });
-            obj.setBoxedCharValueMap(map);
-          }
-          break;
-        case "boxedDouble":
-          if (member.getValue() instanceof Number) {
-            obj.setBoxedDouble(((Number)member.getValue()).doubleValue());
-          }
-          break;
-        case "boxedDoubleList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Double> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).doubleValue());
-            });
-            obj.setBoxedDoubleList(list);
-          }
-          break;
-        case "boxedDoubleSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Double> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).doubleValue());
-            });
-            obj.setBoxedDoubleSet(list);
-          }
-          break;
-        case "boxedDoubleValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Double> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                map.put(entry.getKey(), ((Number)entry.getValue()).doubleValue());
-            });
-            obj.setBoxedDoubleValueMap(map);
-          }
-          break;
-        case "boxedFloat":
-          if (member.getValue() instanceof Number) {
-            obj.setBoxedFloat(((Number)member.getValue()).floatValue());
-          }
-          break;
-        case "boxedFloatList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Float> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).floatValue());
-            });
-            obj.setBoxedFloatList(list);
-          }
-          break;
-        case "boxedFloatSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Float> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).floatValue());
-            });
-            obj.setBoxedFloatSet(list);
-          }
-          break;
-        case "boxedFloatValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Float> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                map.put(entry.getKey(), ((Number)entry.getValue()).floatValue());
-            });
-            obj.setBoxedFloatValueMap(map);
-          }
-          break;
-        case "boxedInt":
-          if (member.getValue() instanceof Number) {
-            obj.setBoxedInt(((Number)member.getValue()).intValue());
-          }
-          break;
-        case "boxedIntList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Integer> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).intValue());
-            });
-            obj.setBoxedIntList(list);
-          }
-          break;
-        case "boxedIntSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Integer> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).intValue());
-            });
-            obj.setBoxedIntSet(list);
-          }
-          break;
-        case "boxedIntValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Integer> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                map.put(entry.getKey(), ((Number)entry.getValue()).intValue());
-            });
-            obj.setBoxedIntValueMap(map);
-          }
-          break;
-        case "boxedLong":
-          if (member.getValue() instanceof Number) {
-            obj.setBoxedLong(((Number)member.getValue()).longValue());
-          }
-          break;
-        case "boxedLongList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Long> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).longValue());
-            });
-            obj.setBoxedLongList(list);
-          }
-          break;
-        case "boxedLongSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Long> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).longValue());
-            });
-            obj.setBoxedLongSet(list);
-          }
-          break;
-        case "boxedLongValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Long> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                map.put(entry.getKey(), ((Number)entry.getValue()).longValue());
-            });
-            obj.setBoxedLongValueMap(map);
-          }
-          break;
-        case "boxedShort":
-          if (member.getValue() instanceof Number) {
-            obj.setBoxedShort(((Number)member.getValue()).shortValue());
-          }
-          break;
-        case "boxedShortList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Short> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).shortValue());
-            });
-            obj.setBoxedShortList(list);
-          }
-          break;
-        case "boxedShortSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Short> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Number)
-                list.add(((Number)item).shortValue());
-            });
-            obj.setBoxedShortSet(list);
-          }
-          break;
-        case "boxedShortValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Short> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                map.put(entry.getKey(), ((Number)entry.getValue()).shortValue());
-            });
-            obj.setBoxedShortValueMap(map);
-          }
-          break;
-        case "buffer":
-          if (member.getValue() instanceof String) {
-            obj.setBuffer(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)member.getValue())));
-          }
-          break;
-        case "bufferList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.core.buffer.Buffer> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
-            });
-            obj.setBufferList(list);
-          }
-          break;
-        case "bufferMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, io.vertx.core.buffer.Buffer> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                map.put(entry.getKey(), io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)entry.getValue())));
-            });
-            obj.setBufferMap(map);
-          }
-          break;
-        case "bufferSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<io.vertx.core.buffer.Buffer> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
-            });
-            obj.setBufferSet(list);
-          }
-          break;
-        case "httpMethod":
-          if (member.getValue() instanceof String) {
-            obj.setHttpMethod(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
-          }
-          break;
-        case "httpMethodList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.util.concurrent.TimeUnit> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(java.util.concurrent.TimeUnit.valueOf((String)item));
-            });
-            obj.setHttpMethodList(list);
-          }
-          break;
-        case "httpMethodMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.util.concurrent.TimeUnit> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                map.put(entry.getKey(), java.util.concurrent.TimeUnit.valueOf((String)entry.getValue()));
-            });
-            obj.setHttpMethodMap(map);
-          }
-          break;
-        case "httpMethodSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.util.concurrent.TimeUnit> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(java.util.concurrent.TimeUnit.valueOf((String)item));
-            });
-            obj.setHttpMethodSet(list);
-          }
-          break;
-        case "jsonArray":
-          if (member.getValue() instanceof JsonArray) {
-            obj.setJsonArray(((JsonArray)member.getValue()).copy());
-          }
-          break;
-        case "jsonArrayList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.core.json.JsonArray> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonArray)
-                list.add(((JsonArray)item).copy());
-            });
-            obj.setJsonArrayList(list);
-          }
-          break;
-        case "jsonArrayMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, io.vertx.core.json.JsonArray> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonArray)
-                map.put(entry.getKey(), ((JsonArray)entry.getValue()).copy());
-            });
-            obj.setJsonArrayMap(map);
-          }
-          break;
-        case "jsonArraySet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<io.vertx.core.json.JsonArray> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonArray)
-                list.add(((JsonArray)item).copy());
-            });
-            obj.setJsonArraySet(list);
-          }
-          break;
-        case "jsonObject":
-          if (member.getValue() instanceof JsonObject) {
-            obj.setJsonObject(((JsonObject)member.getValue()).copy());
-          }
-          break;
-        case "jsonObjectDataObject":
-          if (member.getValue() instanceof JsonObject) {
-            obj.setJsonObjectDataObject(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)member.getValue()));
-          }
-          break;
-        case "jsonObjectDataObjectList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                list.add(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)item));
-            });
-            obj.setJsonObjectDataObjectList(list);
-          }
-          break;
-        case "jsonObjectDataObjectMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonObject)
-                map.put(entry.getKey(), new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
-            });
-            obj.setJsonObjectDataObjectMap(map);
-          }
-          break;
-        case "jsonObjectDataObjectSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                list.add(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)item));
-            });
-            obj.setJsonObjectDataObjectSet(list);
-          }
-          break;
-        case "jsonObjectList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.core.json.JsonObject> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                list.add(((JsonObject)item).copy());
-            });
-            obj.setJsonObjectList(list);
-          }
-          break;
-        case "jsonObjectMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, io.vertx.core.json.JsonObject> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonObject)
-                map.put(entry.getKey(), ((JsonObject)entry.getValue()).copy());
-            });
-            obj.setJsonObjectMap(map);
-          }
-          break;
-        case "jsonObjectSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<io.vertx.core.json.JsonObject> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                list.add(((JsonObject)item).copy());
-            });
-            obj.setJsonObjectSet(list);
-          }
-          break;
-        case "keyedBoxedBooleanValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Boolean)
-                obj.addKeyedBoxedBooleanValue(entry.getKey(), (Boolean)entry.getValue());
-            });
-          }
-          break;
-        case "keyedBoxedByteValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                obj.addKeyedBoxedByteValue(entry.getKey(), ((Number)entry.getValue()).byteValue());
-            });
-          }
-          break;
-        case "keyedBoxedCharValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                obj.addKeyedBoxedCharValue(entry.getKey(), ((String)entry.getValue()).charAt(0));
-            });
-          }
-          break;
-        case "keyedBoxedDoubleValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                obj.addKeyedBoxedDoubleValue(entry.getKey(), ((Number)entry.getValue()).doubleValue());
-            });
-          }
-          break;
-        case "keyedBoxedFloatValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                obj.addKeyedBoxedFloatValue(entry.getKey(), ((Number)entry.getValue()).floatValue());
-            });
-          }
-          break;
-        case "keyedBoxedIntValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                obj.addKeyedBoxedIntValue(entry.getKey(), ((Number)entry.getValue()).intValue());
-            });
-          }
-          break;
-        case "keyedBoxedLongValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                obj.addKeyedBoxedLongValue(entry.getKey(), ((Number)entry.getValue()).longValue());
-            });
-          }
-          break;
-        case "keyedBoxedShortValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Number)
-                obj.addKeyedBoxedShortValue(entry.getKey(), ((Number)entry.getValue()).shortValue());
-            });
-          }
-          break;
-        case "keyedBufferValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                obj.addKeyedBufferValue(entry.getKey(), io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)entry.getValue())));
-            });
-          }
-          break;
-        case "keyedEnumValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                obj.addKeyedEnumValue(entry.getKey(), java.util.concurrent.TimeUnit.valueOf((String)entry.getValue()));
-            });
-          }
-          break;
-        case "keyedJsonArrayValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonArray)
-                obj.addKeyedJsonArrayValue(entry.getKey(), ((JsonArray)entry.getValue()).copy());
-            });
-          }
-          break;
-        case "keyedJsonObjectDataObjectValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonObject)
-                obj.addKeyedJsonObjectDataObjectValue(entry.getKey(), new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
-            });
-          }
-          break;
-        case "keyedJsonObjectValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonObject)
-                obj.addKeyedJsonObjectValue(entry.getKey(), ((JsonObject)entry.getValue()).copy());
-            });
-          }
-          break;
-        case "keyedMethodMappedValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                obj.addKeyedMethodMappedValue(entry.getKey(), io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)entry.getValue()));
-            });
-          }
-          break;
-        case "keyedObjectValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Object)
-                obj.addKeyedObjectValue(entry.getKey(), entry.getValue());
-            });
-          }
-          break;
-        case "keyedStringDataObjectValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                obj.addKeyedStringDataObjectValue(entry.getKey(), new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)entry.getValue()));
-            });
-          }
-          break;
-        case "keyedStringValues":
-          if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                obj.addKeyedStringValue(entry.getKey(), (String)entry.getValue());
-            });
-          }
-          break;
-        case "methodMapped":
-          if (member.getValue() instanceof String) {
-            obj.setMethodMapped(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)member.getValue()));
-          }
-          break;
-        case "methodMappedList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.time.ZonedDateTime> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)item));
-            });
-            obj.setMethodMappedList(list);
-          }
-          break;
-        case "methodMappedMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.time.ZonedDateTime> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                map.put(entry.getKey(), io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)entry.getValue()));
-            });
-            obj.setMethodMappedMap(map);
-          }
-          break;
-        case "methodMappedSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.time.ZonedDateTime> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)item));
-            });
-            obj.setMethodMappedSet(list);
-          }
-          break;
-        case "notConvertibleDataObject":
-          if (member.getValue() instanceof JsonObject) {
-            obj.setNotConvertibleDataObject(new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)member.getValue()));
-          }
-          break;
-        case "notConvertibleDataObjectList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.test.codegen.converter.NoConverterDataObject> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                list.add(new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)item));
-            });
-            obj.setNotConvertibleDataObjectList(list);
-          }
-          break;
-        case "notConvertibleDataObjectMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, io.vertx.test.codegen.converter.NoConverterDataObject> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof JsonObject)
-                map.put(entry.getKey(), new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
-            });
-            obj.setNotConvertibleDataObjectMap(map);
-          }
-          break;
-        case "notConvertibleDataObjectSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<io.vertx.test.codegen.converter.NoConverterDataObject> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof JsonObject)
-                list.add(new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)item));
-            });
-            obj.setNotConvertibleDataObjectSet(list);
-          }
-          break;
-        case "objectList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Object> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Object)
-                list.add(item);
-            });
-            obj.setObjectList(list);
-          }
-          break;
-        case "objectMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.Object> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof Object)
-                map.put(entry.getKey(), entry.getValue());
-            });
-            obj.setObjectMap(map);
-          }
-          break;
-        case "objectSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.Object> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof Object)
-                list.add(item);
-            });
-            obj.setObjectSet(list);
-          }
-          break;
-        case "primitiveBoolean":
-          if (member.getValue() instanceof Boolean) {
-            obj.setPrimitiveBoolean((Boolean)member.getValue());
-          }
-          break;
-        case "primitiveByte":
-          if (member.getValue() instanceof Number) {
-            obj.setPrimitiveByte(((Number)member.getValue()).byteValue());
-          }
-          break;
-        case "primitiveChar":
-          if (member.getValue() instanceof String) {
-            obj.setPrimitiveChar(((String)member.getValue()).charAt(0));
-          }
-          break;
-        case "primitiveDouble":
-          if (member.getValue() instanceof Number) {
-            obj.setPrimitiveDouble(((Number)member.getValue()).doubleValue());
-          }
-          break;
-        case "primitiveFloat":
-          if (member.getValue() instanceof Number) {
-            obj.setPrimitiveFloat(((Number)member.getValue()).floatValue());
-          }
-          break;
-        case "primitiveInt":
-          if (member.getValue() instanceof Number) {
-            obj.setPrimitiveInt(((Number)member.getValue()).intValue());
-          }
-          break;
-        case "primitiveLong":
-          if (member.getValue() instanceof Number) {
-            obj.setPrimitiveLong(((Number)member.getValue()).longValue());
-          }
-          break;
-        case "primitiveShort":
-          if (member.getValue() instanceof Number) {
-            obj.setPrimitiveShort(((Number)member.getValue()).shortValue());
-          }
-          break;
-        case "string":
-          if (member.getValue() instanceof String) {
-            obj.setString((String)member.getValue());
-          }
-          break;
-        case "stringDataObject":
-          if (member.getValue() instanceof String) {
-            obj.setStringDataObject(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)member.getValue()));
-          }
-          break;
-        case "stringDataObjectList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.test.codegen.converter.NestedStringDataObject> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)item));
-            });
-            obj.setStringDataObjectList(list);
-          }
-          break;
-        case "stringDataObjectMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                map.put(entry.getKey(), new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)entry.getValue()));
-            });
-            obj.setStringDataObjectMap(map);
-          }
-          break;
-        case "stringDataObjectSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<io.vertx.test.codegen.converter.NestedStringDataObject> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)item));
-            });
-            obj.setStringDataObjectSet(list);
-          }
-          break;
-        case "stringList":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add((String)item);
-            });
-            obj.setStringList(list);
-          }
-          break;
-        case "stringSet":
-          if (member.getValue() instanceof JsonArray) {
-            java.util.LinkedHashSet<java.lang.String> list =  new java.util.LinkedHashSet<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
-              if (item instanceof String)
-                list.add((String)item);
-            });
-            obj.setStringSet(list);
-          }
-          break;
-        case "stringValueMap":
-          if (member.getValue() instanceof JsonObject) {
-            java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
-              if (entry.getValue() instanceof String)
-                map.put(entry.getKey(), (String)entry.getValue());
-            });
-            obj.setStringValueMap(map);
-          }
-          break;
+      String property = member.getKey();
+      if (fromJson0(property, member, obj)) {
+        continue;
       }
+      if (fromJson1(property, member, obj)) {
+        continue;
+      }
+      fromJson2(property, member, obj);
     }
   }
 
+  private static boolean fromJson0(String property, java.util.Map.Entry<String, Object> member, TestDataObject obj) {
+    switch (property) {
+      case "addedBoxedBooleanValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Boolean)
+              obj.addAddedBoxedBooleanValue((Boolean)item);
+          }
+        }
+        break;
+      case "addedBoxedByteValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Number)
+              obj.addAddedBoxedByteValue(((Number)item).byteValue());
+          }
+        }
+        break;
+      case "addedBoxedCharValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof String)
+              obj.addAddedBoxedCharValue(((String)item).charAt(0));
+          }
+        }
+        break;
+      case "addedBoxedDoubleValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Number)
+              obj.addAddedBoxedDoubleValue(((Number)item).doubleValue());
+          }
+        }
+        break;
+      case "addedBoxedFloatValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Number)
+              obj.addAddedBoxedFloatValue(((Number)item).floatValue());
+          }
+        }
+        break;
+      case "addedBoxedIntValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Number)
+              obj.addAddedBoxedIntValue(((Number)item).intValue());
+          }
+        }
+        break;
+      case "addedBoxedLongValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Number)
+              obj.addAddedBoxedLongValue(((Number)item).longValue());
+          }
+        }
+        break;
+      case "addedBoxedShortValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Number)
+              obj.addAddedBoxedShortValue(((Number)item).shortValue());
+          }
+        }
+        break;
+      case "addedBuffers":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof String)
+              obj.addAddedBuffer(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
+          }
+        }
+        break;
+      case "addedHttpMethods":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof String)
+              obj.addAddedHttpMethod(java.util.concurrent.TimeUnit.valueOf((String)item));
+          }
+        }
+        break;
+      case "addedJsonArrays":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof JsonArray)
+              obj.addAddedJsonArray(((JsonArray)item).copy());
+          }
+        }
+        break;
+      case "addedJsonObjectDataObjects":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              obj.addAddedJsonObjectDataObject(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)item));
+          }
+        }
+        break;
+      case "addedJsonObjects":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              obj.addAddedJsonObject(((JsonObject)item).copy());
+          }
+        }
+        break;
+      case "addedMethodMappeds":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof String)
+              obj.addAddedMethodMapped(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)item));
+          }
+        }
+        break;
+      case "addedObjects":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof Object)
+              obj.addAddedObject(item);
+          }
+        }
+        break;
+      case "addedStringDataObjects":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof String)
+              obj.addAddedStringDataObject(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)item));
+          }
+        }
+        break;
+      case "addedStringValues":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          for (Object item : array) {
+            if (item instanceof String)
+              obj.addAddedStringValue((String)item);
+          }
+        }
+        break;
+      case "boxedBoolean":
+        if (member.getValue() instanceof Boolean) {
+          obj.setBoxedBoolean((Boolean)member.getValue());
+        }
+        break;
+      case "boxedBooleanList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Boolean> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Boolean)
+              list.add((Boolean)item);
+          }
+          obj.setBoxedBooleanList(list);
+        }
+        break;
+      case "boxedBooleanSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Boolean> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Boolean)
+              list.add((Boolean)item);
+          }
+          obj.setBoxedBooleanSet(list);
+        }
+        break;
+      case "boxedBooleanValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Boolean> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Boolean)
+              map.put(entry.getKey(), (Boolean)entry.getValue());
+          }
+          obj.setBoxedBooleanValueMap(map);
+        }
+        break;
+      case "boxedByte":
+        if (member.getValue() instanceof Number) {
+          obj.setBoxedByte(((Number)member.getValue()).byteValue());
+        }
+        break;
+      case "boxedByteList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Byte> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).byteValue());
+          }
+          obj.setBoxedByteList(list);
+        }
+        break;
+      case "boxedByteSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Byte> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).byteValue());
+          }
+          obj.setBoxedByteSet(list);
+        }
+        break;
+      case "boxedByteValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Byte> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              map.put(entry.getKey(), ((Number)entry.getValue()).byteValue());
+          }
+          obj.setBoxedByteValueMap(map);
+        }
+        break;
+      case "boxedChar":
+        if (member.getValue() instanceof String) {
+          obj.setBoxedChar(((String)member.getValue()).charAt(0));
+        }
+        break;
+      case "boxedCharList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Character> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(((String)item).charAt(0));
+          }
+          obj.setBoxedCharList(list);
+        }
+        break;
+      case "boxedCharSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Character> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(((String)item).charAt(0));
+          }
+          obj.setBoxedCharSet(list);
+        }
+        break;
+      case "boxedCharValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Character> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              map.put(entry.getKey(), ((String)entry.getValue()).charAt(0));
+          }
+          obj.setBoxedCharValueMap(map);
+        }
+        break;
+      case "boxedDouble":
+        if (member.getValue() instanceof Number) {
+          obj.setBoxedDouble(((Number)member.getValue()).doubleValue());
+        }
+        break;
+      case "boxedDoubleList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Double> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).doubleValue());
+          }
+          obj.setBoxedDoubleList(list);
+        }
+        break;
+      case "boxedDoubleSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Double> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).doubleValue());
+          }
+          obj.setBoxedDoubleSet(list);
+        }
+        break;
+      case "boxedDoubleValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Double> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              map.put(entry.getKey(), ((Number)entry.getValue()).doubleValue());
+          }
+          obj.setBoxedDoubleValueMap(map);
+        }
+        break;
+      case "boxedFloat":
+        if (member.getValue() instanceof Number) {
+          obj.setBoxedFloat(((Number)member.getValue()).floatValue());
+        }
+        break;
+      case "boxedFloatList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Float> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).floatValue());
+          }
+          obj.setBoxedFloatList(list);
+        }
+        break;
+      case "boxedFloatSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Float> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).floatValue());
+          }
+          obj.setBoxedFloatSet(list);
+        }
+        break;
+      case "boxedFloatValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Float> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              map.put(entry.getKey(), ((Number)entry.getValue()).floatValue());
+          }
+          obj.setBoxedFloatValueMap(map);
+        }
+        break;
+      case "boxedInt":
+        if (member.getValue() instanceof Number) {
+          obj.setBoxedInt(((Number)member.getValue()).intValue());
+        }
+        break;
+      case "boxedIntList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Integer> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).intValue());
+          }
+          obj.setBoxedIntList(list);
+        }
+        break;
+      case "boxedIntSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Integer> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).intValue());
+          }
+          obj.setBoxedIntSet(list);
+        }
+        break;
+      default:
+        return false;
+    }
+    return true;
+  }
+
+  private static boolean fromJson1(String property, java.util.Map.Entry<String, Object> member, TestDataObject obj) {
+    switch (property) {
+      case "boxedIntValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Integer> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              map.put(entry.getKey(), ((Number)entry.getValue()).intValue());
+          }
+          obj.setBoxedIntValueMap(map);
+        }
+        break;
+      case "boxedLong":
+        if (member.getValue() instanceof Number) {
+          obj.setBoxedLong(((Number)member.getValue()).longValue());
+        }
+        break;
+      case "boxedLongList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Long> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).longValue());
+          }
+          obj.setBoxedLongList(list);
+        }
+        break;
+      case "boxedLongSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Long> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).longValue());
+          }
+          obj.setBoxedLongSet(list);
+        }
+        break;
+      case "boxedLongValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Long> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              map.put(entry.getKey(), ((Number)entry.getValue()).longValue());
+          }
+          obj.setBoxedLongValueMap(map);
+        }
+        break;
+      case "boxedShort":
+        if (member.getValue() instanceof Number) {
+          obj.setBoxedShort(((Number)member.getValue()).shortValue());
+        }
+        break;
+      case "boxedShortList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Short> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).shortValue());
+          }
+          obj.setBoxedShortList(list);
+        }
+        break;
+      case "boxedShortSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Short> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Number)
+              list.add(((Number)item).shortValue());
+          }
+          obj.setBoxedShortSet(list);
+        }
+        break;
+      case "boxedShortValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Short> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              map.put(entry.getKey(), ((Number)entry.getValue()).shortValue());
+          }
+          obj.setBoxedShortValueMap(map);
+        }
+        break;
+      case "buffer":
+        if (member.getValue() instanceof String) {
+          obj.setBuffer(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)member.getValue())));
+        }
+        break;
+      case "bufferList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<io.vertx.core.buffer.Buffer> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
+          }
+          obj.setBufferList(list);
+        }
+        break;
+      case "bufferMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, io.vertx.core.buffer.Buffer> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              map.put(entry.getKey(), io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)entry.getValue())));
+          }
+          obj.setBufferMap(map);
+        }
+        break;
+      case "bufferSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<io.vertx.core.buffer.Buffer> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
+          }
+          obj.setBufferSet(list);
+        }
+        break;
+      case "httpMethod":
+        if (member.getValue() instanceof String) {
+          obj.setHttpMethod(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+        }
+        break;
+      case "httpMethodList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.util.concurrent.TimeUnit> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(java.util.concurrent.TimeUnit.valueOf((String)item));
+          }
+          obj.setHttpMethodList(list);
+        }
+        break;
+      case "httpMethodMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.util.concurrent.TimeUnit> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              map.put(entry.getKey(), java.util.concurrent.TimeUnit.valueOf((String)entry.getValue()));
+          }
+          obj.setHttpMethodMap(map);
+        }
+        break;
+      case "httpMethodSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.util.concurrent.TimeUnit> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(java.util.concurrent.TimeUnit.valueOf((String)item));
+          }
+          obj.setHttpMethodSet(list);
+        }
+        break;
+      case "jsonArray":
+        if (member.getValue() instanceof JsonArray) {
+          obj.setJsonArray(((JsonArray)member.getValue()).copy());
+        }
+        break;
+      case "jsonArrayList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<io.vertx.core.json.JsonArray> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof JsonArray)
+              list.add(((JsonArray)item).copy());
+          }
+          obj.setJsonArrayList(list);
+        }
+        break;
+      case "jsonArrayMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, io.vertx.core.json.JsonArray> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonArray)
+              map.put(entry.getKey(), ((JsonArray)entry.getValue()).copy());
+          }
+          obj.setJsonArrayMap(map);
+        }
+        break;
+      case "jsonArraySet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<io.vertx.core.json.JsonArray> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof JsonArray)
+              list.add(((JsonArray)item).copy());
+          }
+          obj.setJsonArraySet(list);
+        }
+        break;
+      case "jsonObject":
+        if (member.getValue() instanceof JsonObject) {
+          obj.setJsonObject(((JsonObject)member.getValue()).copy());
+        }
+        break;
+      case "jsonObjectDataObject":
+        if (member.getValue() instanceof JsonObject) {
+          obj.setJsonObjectDataObject(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)member.getValue()));
+        }
+        break;
+      case "jsonObjectDataObjectList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              list.add(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)item));
+          }
+          obj.setJsonObjectDataObjectList(list);
+        }
+        break;
+      case "jsonObjectDataObjectMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonObject)
+              map.put(entry.getKey(), new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
+          }
+          obj.setJsonObjectDataObjectMap(map);
+        }
+        break;
+      case "jsonObjectDataObjectSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              list.add(new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)item));
+          }
+          obj.setJsonObjectDataObjectSet(list);
+        }
+        break;
+      case "jsonObjectList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<io.vertx.core.json.JsonObject> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              list.add(((JsonObject)item).copy());
+          }
+          obj.setJsonObjectList(list);
+        }
+        break;
+      case "jsonObjectMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, io.vertx.core.json.JsonObject> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonObject)
+              map.put(entry.getKey(), ((JsonObject)entry.getValue()).copy());
+          }
+          obj.setJsonObjectMap(map);
+        }
+        break;
+      case "jsonObjectSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<io.vertx.core.json.JsonObject> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              list.add(((JsonObject)item).copy());
+          }
+          obj.setJsonObjectSet(list);
+        }
+        break;
+      case "keyedBoxedBooleanValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Boolean)
+              obj.addKeyedBoxedBooleanValue(entry.getKey(), (Boolean)entry.getValue());
+          }
+        }
+        break;
+      case "keyedBoxedByteValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              obj.addKeyedBoxedByteValue(entry.getKey(), ((Number)entry.getValue()).byteValue());
+          }
+        }
+        break;
+      case "keyedBoxedCharValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              obj.addKeyedBoxedCharValue(entry.getKey(), ((String)entry.getValue()).charAt(0));
+          }
+        }
+        break;
+      case "keyedBoxedDoubleValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              obj.addKeyedBoxedDoubleValue(entry.getKey(), ((Number)entry.getValue()).doubleValue());
+          }
+        }
+        break;
+      case "keyedBoxedFloatValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              obj.addKeyedBoxedFloatValue(entry.getKey(), ((Number)entry.getValue()).floatValue());
+          }
+        }
+        break;
+      case "keyedBoxedIntValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              obj.addKeyedBoxedIntValue(entry.getKey(), ((Number)entry.getValue()).intValue());
+          }
+        }
+        break;
+      default:
+        return false;
+    }
+    return true;
+  }
+
+  private static boolean fromJson2(String property, java.util.Map.Entry<String, Object> member, TestDataObject obj) {
+    switch (property) {
+      case "keyedBoxedLongValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              obj.addKeyedBoxedLongValue(entry.getKey(), ((Number)entry.getValue()).longValue());
+          }
+        }
+        break;
+      case "keyedBoxedShortValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Number)
+              obj.addKeyedBoxedShortValue(entry.getKey(), ((Number)entry.getValue()).shortValue());
+          }
+        }
+        break;
+      case "keyedBufferValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              obj.addKeyedBufferValue(entry.getKey(), io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)entry.getValue())));
+          }
+        }
+        break;
+      case "keyedEnumValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              obj.addKeyedEnumValue(entry.getKey(), java.util.concurrent.TimeUnit.valueOf((String)entry.getValue()));
+          }
+        }
+        break;
+      case "keyedJsonArrayValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonArray)
+              obj.addKeyedJsonArrayValue(entry.getKey(), ((JsonArray)entry.getValue()).copy());
+          }
+        }
+        break;
+      case "keyedJsonObjectDataObjectValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonObject)
+              obj.addKeyedJsonObjectDataObjectValue(entry.getKey(), new io.vertx.test.codegen.converter.NestedJsonObjectDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
+          }
+        }
+        break;
+      case "keyedJsonObjectValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonObject)
+              obj.addKeyedJsonObjectValue(entry.getKey(), ((JsonObject)entry.getValue()).copy());
+          }
+        }
+        break;
+      case "keyedMethodMappedValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              obj.addKeyedMethodMappedValue(entry.getKey(), io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)entry.getValue()));
+          }
+        }
+        break;
+      case "keyedObjectValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Object)
+              obj.addKeyedObjectValue(entry.getKey(), entry.getValue());
+          }
+        }
+        break;
+      case "keyedStringDataObjectValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              obj.addKeyedStringDataObjectValue(entry.getKey(), new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)entry.getValue()));
+          }
+        }
+        break;
+      case "keyedStringValues":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              obj.addKeyedStringValue(entry.getKey(), (String)entry.getValue());
+          }
+        }
+        break;
+      case "methodMapped":
+        if (member.getValue() instanceof String) {
+          obj.setMethodMapped(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)member.getValue()));
+        }
+        break;
+      case "methodMappedList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.time.ZonedDateTime> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)item));
+          }
+          obj.setMethodMappedList(list);
+        }
+        break;
+      case "methodMappedMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.time.ZonedDateTime> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              map.put(entry.getKey(), io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)entry.getValue()));
+          }
+          obj.setMethodMappedMap(map);
+        }
+        break;
+      case "methodMappedSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.time.ZonedDateTime> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(io.vertx.test.codegen.converter.TestDataObject.deserializeZonedDateTime((String)item));
+          }
+          obj.setMethodMappedSet(list);
+        }
+        break;
+      case "notConvertibleDataObject":
+        if (member.getValue() instanceof JsonObject) {
+          obj.setNotConvertibleDataObject(new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)member.getValue()));
+        }
+        break;
+      case "notConvertibleDataObjectList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<io.vertx.test.codegen.converter.NoConverterDataObject> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              list.add(new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)item));
+          }
+          obj.setNotConvertibleDataObjectList(list);
+        }
+        break;
+      case "notConvertibleDataObjectMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, io.vertx.test.codegen.converter.NoConverterDataObject> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof JsonObject)
+              map.put(entry.getKey(), new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
+          }
+          obj.setNotConvertibleDataObjectMap(map);
+        }
+        break;
+      case "notConvertibleDataObjectSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<io.vertx.test.codegen.converter.NoConverterDataObject> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof JsonObject)
+              list.add(new io.vertx.test.codegen.converter.NoConverterDataObject((io.vertx.core.json.JsonObject)item));
+          }
+          obj.setNotConvertibleDataObjectSet(list);
+        }
+        break;
+      case "objectList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.Object> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof Object)
+              list.add(item);
+          }
+          obj.setObjectList(list);
+        }
+        break;
+      case "objectMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.Object> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof Object)
+              map.put(entry.getKey(), entry.getValue());
+          }
+          obj.setObjectMap(map);
+        }
+        break;
+      case "objectSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.Object> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof Object)
+              list.add(item);
+          }
+          obj.setObjectSet(list);
+        }
+        break;
+      case "primitiveBoolean":
+        if (member.getValue() instanceof Boolean) {
+          obj.setPrimitiveBoolean((Boolean)member.getValue());
+        }
+        break;
+      case "primitiveByte":
+        if (member.getValue() instanceof Number) {
+          obj.setPrimitiveByte(((Number)member.getValue()).byteValue());
+        }
+        break;
+      case "primitiveChar":
+        if (member.getValue() instanceof String) {
+          obj.setPrimitiveChar(((String)member.getValue()).charAt(0));
+        }
+        break;
+      case "primitiveDouble":
+        if (member.getValue() instanceof Number) {
+          obj.setPrimitiveDouble(((Number)member.getValue()).doubleValue());
+        }
+        break;
+      case "primitiveFloat":
+        if (member.getValue() instanceof Number) {
+          obj.setPrimitiveFloat(((Number)member.getValue()).floatValue());
+        }
+        break;
+      case "primitiveInt":
+        if (member.getValue() instanceof Number) {
+          obj.setPrimitiveInt(((Number)member.getValue()).intValue());
+        }
+        break;
+      case "primitiveLong":
+        if (member.getValue() instanceof Number) {
+          obj.setPrimitiveLong(((Number)member.getValue()).longValue());
+        }
+        break;
+      case "primitiveShort":
+        if (member.getValue() instanceof Number) {
+          obj.setPrimitiveShort(((Number)member.getValue()).shortValue());
+        }
+        break;
+      case "string":
+        if (member.getValue() instanceof String) {
+          obj.setString((String)member.getValue());
+        }
+        break;
+      case "stringDataObject":
+        if (member.getValue() instanceof String) {
+          obj.setStringDataObject(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)member.getValue()));
+        }
+        break;
+      case "stringDataObjectList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<io.vertx.test.codegen.converter.NestedStringDataObject> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)item));
+          }
+          obj.setStringDataObjectList(list);
+        }
+        break;
+      case "stringDataObjectMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              map.put(entry.getKey(), new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)entry.getValue()));
+          }
+          obj.setStringDataObjectMap(map);
+        }
+        break;
+      case "stringDataObjectSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<io.vertx.test.codegen.converter.NestedStringDataObject> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add(new io.vertx.test.codegen.converter.NestedStringDataObject((java.lang.String)item));
+          }
+          obj.setStringDataObjectSet(list);
+        }
+        break;
+      case "stringList":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>(array.size());
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add((String)item);
+          }
+          obj.setStringList(list);
+        }
+        break;
+      case "stringSet":
+        if (member.getValue() instanceof JsonArray) {
+          JsonArray array = (JsonArray) member.getValue();
+          java.util.LinkedHashSet<java.lang.String> list = new java.util.LinkedHashSet<>((int) (array.size() / 0.75f) + 1);
+          for (Object item : array) {
+            if (item instanceof String)
+              list.add((String)item);
+          }
+          obj.setStringSet(list);
+        }
+        break;
+      case "stringValueMap":
+        if (member.getValue() instanceof JsonObject) {
+          JsonObject object = (JsonObject) member.getValue();
+          java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+          for (java.util.Map.Entry<String, Object> entry : object) {
+            if (entry.getValue() instanceof String)
+              map.put(entry.getKey(), (String)entry.getValue());
+          }
+          obj.setStringValueMap(map);
+        }
+        break;
+      default:
+        return false;
+    }
+    return true;
+  }
+
   public static void toJson(TestDataObject obj, JsonObject json) {
     toJson(obj, json.getMap());
   }
 
   public static void toJson(TestDataObject obj, java.util.Map<String, Object> json) {
-    if (obj.getAddedBoxedBooleanValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedBooleanValues().forEach(item -> array.add(item));
+    toJson0(obj, json);
+    toJson1(obj, json);
+    toJson2(obj, json);
+  }
+
+  private static void toJson0(TestDataObject obj, java.util.Map<String, Object> json) {
+    java.util.List<java.lang.Boolean> addedBoxedBooleanValuesValue = obj.getAddedBoxedBooleanValues();
+    if (addedBoxedBooleanValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedBooleanValuesValue.size()));
+      for (java.lang.Boolean item : addedBoxedBooleanValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedBooleanValues", array);
     }
-    if (obj.getAddedBoxedByteValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedByteValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.Byte> addedBoxedByteValuesValue = obj.getAddedBoxedByteValues();
+    if (addedBoxedByteValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedByteValuesValue.size()));
+      for (java.lang.Byte item : addedBoxedByteValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedByteValues", array);
     }
-    if (obj.getAddedBoxedCharValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedCharValues().forEach(item -> array.add(Character.toString(item)));
+    java.util.List<java.lang.Character> addedBoxedCharValuesValue = obj.getAddedBoxedCharValues();
+    if (addedBoxedCharValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedCharValuesValue.size()));
+      for (java.lang.Character item : addedBoxedCharValuesValue) {
+        array.add(Character.toString(item));
+      }
       json.put("addedBoxedCharValues", array);
     }
-    if (obj.getAddedBoxedDoubleValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedDoubleValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.Double> addedBoxedDoubleValuesValue = obj.getAddedBoxedDoubleValues();
+    if (addedBoxedDoubleValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedDoubleValuesValue.size()));
+      for (java.lang.Double item : addedBoxedDoubleValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedDoubleValues", array);
     }
-    if (obj.getAddedBoxedFloatValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedFloatValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.Float> addedBoxedFloatValuesValue = obj.getAddedBoxedFloatValues();
+    if (addedBoxedFloatValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedFloatValuesValue.size()));
+      for (java.lang.Float item : addedBoxedFloatValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedFloatValues", array);
     }
-    if (obj.getAddedBoxedIntValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedIntValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.Integer> addedBoxedIntValuesValue = obj.getAddedBoxedIntValues();
+    if (addedBoxedIntValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedIntValuesValue.size()));
+      for (java.lang.Integer item : addedBoxedIntValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedIntValues", array);
     }
-    if (obj.getAddedBoxedLongValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedLongValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.Long> addedBoxedLongValuesValue = obj.getAddedBoxedLongValues();
+    if (addedBoxedLongValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedLongValuesValue.size()));
+      for (java.lang.Long item : addedBoxedLongValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedLongValues", array);
     }
-    if (obj.getAddedBoxedShortValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBoxedShortValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.Short> addedBoxedShortValuesValue = obj.getAddedBoxedShortValues();
+    if (addedBoxedShortValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBoxedShortValuesValue.size()));
+      for (java.lang.Short item : addedBoxedShortValuesValue) {
+        array.add(item);
+      }
       json.put("addedBoxedShortValues", array);
     }
-    if (obj.getAddedBuffers() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedBuffers().forEach(item -> array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes())));
+    java.util.List<io.vertx.core.buffer.Buffer> addedBuffersValue = obj.getAddedBuffers();
+    if (addedBuffersValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedBuffersValue.size()));
+      for (io.vertx.core.buffer.Buffer item : addedBuffersValue) {
+        array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes()));
+      }
       json.put("addedBuffers", array);
     }
-    if (obj.getAddedHttpMethods() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedHttpMethods().forEach(item -> array.add(item.name()));
+    java.util.List<java.util.concurrent.TimeUnit> addedHttpMethodsValue = obj.getAddedHttpMethods();
+    if (addedHttpMethodsValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedHttpMethodsValue.size()));
+      for (java.util.concurrent.TimeUnit item : addedHttpMethodsValue) {
+        array.add(item.name());
+      }
       json.put("addedHttpMethods", array);
     }
-    if (obj.getAddedJsonArrays() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedJsonArrays().forEach(item -> array.add(item));
+    java.util.List<io.vertx.core.json.JsonArray> addedJsonArraysValue = obj.getAddedJsonArrays();
+    if (addedJsonArraysValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedJsonArraysValue.size()));
+      for (io.vertx.core.json.JsonArray item : addedJsonArraysValue) {
+        array.add(item);
+      }
       json.put("addedJsonArrays", array);
     }
-    if (obj.getAddedJsonObjectDataObjects() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedJsonObjectDataObjects().forEach(item -> array.add(item.toJson()));
+    java.util.List<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> addedJsonObjectDataObjectsValue = obj.getAddedJsonObjectDataObjects();
+    if (addedJsonObjectDataObjectsValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedJsonObjectDataObjectsValue.size()));
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : addedJsonObjectDataObjectsValue) {
+        array.add(item.toJson());
+      }
       json.put("addedJsonObjectDataObjects", array);
     }
-    if (obj.getAddedJsonObjects() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedJsonObjects().forEach(item -> array.add(item));
+    java.util.List<io.vertx.core.json.JsonObject> addedJsonObjectsValue = obj.getAddedJsonObjects();
+    if (addedJsonObjectsValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedJsonObjectsValue.size()));
+      for (io.vertx.core.json.JsonObject item : addedJsonObjectsValue) {
+        array.add(item);
+      }
       json.put("addedJsonObjects", array);
     }
-    if (obj.getAddedMethodMappeds() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedMethodMappeds().forEach(item -> array.add(io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item)));
+    java.util.List<java.time.ZonedDateTime> addedMethodMappedsValue = obj.getAddedMethodMappeds();
+    if (addedMethodMappedsValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedMethodMappedsValue.size()));
+      for (java.time.ZonedDateTime item : addedMethodMappedsValue) {
+        array.add(io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item));
+      }
       json.put("addedMethodMappeds", array);
     }
-    if (obj.getAddedObjects() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedObjects().forEach(item -> array.add(item));
+    java.util.List<java.lang.Object> addedObjectsValue = obj.getAddedObjects();
+    if (addedObjectsValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedObjectsValue.size()));
+      for (java.lang.Object item : addedObjectsValue) {
+        array.add(item);
+      }
       json.put("addedObjects", array);
     }
-    if (obj.getAddedStringDataObjects() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedStringDataObjects().forEach(item -> array.add(item.toJson()));
+    java.util.List<io.vertx.test.codegen.converter.NestedStringDataObject> addedStringDataObjectsValue = obj.getAddedStringDataObjects();
+    if (addedStringDataObjectsValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedStringDataObjectsValue.size()));
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : addedStringDataObjectsValue) {
+        array.add(item.toJson());
+      }
       json.put("addedStringDataObjects", array);
     }
-    if (obj.getAddedStringValues() != null) {
-      JsonArray array = new JsonArray();
-      obj.getAddedStringValues().forEach(item -> array.add(item));
+    java.util.List<java.lang.String> addedStringValuesValue = obj.getAddedStringValues();
+    if (addedStringValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(addedStringValuesValue.size()));
+      for (java.lang.String item : addedStringValuesValue) {
+        array.add(item);
+      }
       json.put("addedStringValues", array);
     }
-    if (obj.isBoxedBoolean() != null) {
-      json.put("boxedBoolean", obj.isBoxedBoolean());
+    java.lang.Boolean boxedBooleanValue = obj.isBoxedBoolean();
+    if (boxedBooleanValue != null) {
+      json.put("boxedBoolean", boxedBooleanValue);
     }
-    if (obj.getBoxedBooleanList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedBooleanList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Boolean> boxedBooleanListValue = obj.getBoxedBooleanList();
+    if (boxedBooleanListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedBooleanListValue.size()));
+      for (java.lang.Boolean item : boxedBooleanListValue) {
+        array.add(item);
+      }
       json.put("boxedBooleanList", array);
     }
-    if (obj.getBoxedBooleanSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedBooleanSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Boolean> boxedBooleanSetValue = obj.getBoxedBooleanSet();
+    if (boxedBooleanSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedBooleanSetValue.size()));
+      for (java.lang.Boolean item : boxedBooleanSetValue) {
+        array.add(item);
+      }
       json.put("boxedBooleanSet", array);
     }
-    if (obj.getBoxedBooleanValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedBooleanValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Boolean> boxedBooleanValueMapValue = obj.getBoxedBooleanValueMap();
+    if (boxedBooleanValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedBooleanValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Boolean> entry : boxedBooleanValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedBooleanValueMap", map);
     }
-    if (obj.getBoxedByte() != null) {
-      json.put("boxedByte", obj.getBoxedByte());
+    java.lang.Byte boxedByteValue = obj.getBoxedByte();
+    if (boxedByteValue != null) {
+      json.put("boxedByte", boxedByteValue);
     }
-    if (obj.getBoxedByteList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedByteList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Byte> boxedByteListValue = obj.getBoxedByteList();
+    if (boxedByteListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedByteListValue.size()));
+      for (java.lang.Byte item : boxedByteListValue) {
+        array.add(item);
+      }
       json.put("boxedByteList", array);
     }
-    if (obj.getBoxedByteSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedByteSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Byte> boxedByteSetValue = obj.getBoxedByteSet();
+    if (boxedByteSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedByteSetValue.size()));
+      for (java.lang.Byte item : boxedByteSetValue) {
+        array.add(item);
+      }
       json.put("boxedByteSet", array);
     }
-    if (obj.getBoxedByteValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedByteValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Byte> boxedByteValueMapValue = obj.getBoxedByteValueMap();
+    if (boxedByteValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedByteValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Byte> entry : boxedByteValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedByteValueMap", map);
     }
-    if (obj.getBoxedChar() != null) {
-      json.put("boxedChar", Character.toString(obj.getBoxedChar()));
+    java.lang.Character boxedCharValue = obj.getBoxedChar();
+    if (boxedCharValue != null) {
+      json.put("boxedChar", Character.toString(boxedCharValue));
     }
-    if (obj.getBoxedCharList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedCharList().forEach(item -> array.add(Character.toString(item)));
+    java.util.List<java.lang.Character> boxedCharListValue = obj.getBoxedCharList();
+    if (boxedCharListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedCharListValue.size()));
+      for (java.lang.Character item : boxedCharListValue) {
+        array.add(Character.toString(item));
+      }
       json.put("boxedCharList", array);
     }
-    if (obj.getBoxedCharSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedCharSet().forEach(item -> array.add(Character.toString(item)));
+    java.util.Set<java.lang.Character> boxedCharSetValue = obj.getBoxedCharSet();
+    if (boxedCharSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedCharSetValue.size()));
+      for (java.lang.Character item : boxedCharSetValue) {
+        array.add(Character.toString(item));
+      }
       json.put("boxedCharSet", array);
     }
-    if (obj.getBoxedCharValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedCharValueMap().forEach((key, value) -> map.put(key, Character.toString(value)));
+    java.util.Map<String, java.lang.Character> boxedCharValueMapValue = obj.getBoxedCharValueMap();
+    if (boxedCharValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedCharValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Character> entry : boxedCharValueMapValue.entrySet()) {
+        map.put(entry.getKey(), Character.toString(entry.getValue()));
+      }
       json.put("boxedCharValueMap", map);
     }
-    if (obj.getBoxedDouble() != null) {
-      json.put("boxedDouble", obj.getBoxedDouble());
+    java.lang.Double boxedDoubleValue = obj.getBoxedDouble();
+    if (boxedDoubleValue != null) {
+      json.put("boxedDouble", boxedDoubleValue);
     }
-    if (obj.getBoxedDoubleList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedDoubleList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Double> boxedDoubleListValue = obj.getBoxedDoubleList();
+    if (boxedDoubleListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedDoubleListValue.size()));
+      for (java.lang.Double item : boxedDoubleListValue) {
+        array.add(item);
+      }
       json.put("boxedDoubleList", array);
     }
-    if (obj.getBoxedDoubleSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedDoubleSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Double> boxedDoubleSetValue = obj.getBoxedDoubleSet();
+    if (boxedDoubleSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedDoubleSetValue.size()));
+      for (java.lang.Double item : boxedDoubleSetValue) {
+        array.add(item);
+      }
       json.put("boxedDoubleSet", array);
     }
-    if (obj.getBoxedDoubleValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedDoubleValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Double> boxedDoubleValueMapValue = obj.getBoxedDoubleValueMap();
+    if (boxedDoubleValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedDoubleValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Double> entry : boxedDoubleValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedDoubleValueMap", map);
     }
-    if (obj.getBoxedFloat() != null) {
-      json.put("boxedFloat", obj.getBoxedFloat());
+    java.lang.Float boxedFloatValue = obj.getBoxedFloat();
+    if (boxedFloatValue != null) {
+      json.put("boxedFloat", boxedFloatValue);
     }
-    if (obj.getBoxedFloatList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedFloatList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Float> boxedFloatListValue = obj.getBoxedFloatList();
+    if (boxedFloatListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedFloatListValue.size()));
+      for (java.lang.Float item : boxedFloatListValue) {
+        array.add(item);
+      }
       json.put("boxedFloatList", array);
     }
-    if (obj.getBoxedFloatSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedFloatSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Float> boxedFloatSetValue = obj.getBoxedFloatSet();
+    if (boxedFloatSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedFloatSetValue.size()));
+      for (java.lang.Float item : boxedFloatSetValue) {
+        array.add(item);
+      }
       json.put("boxedFloatSet", array);
     }
-    if (obj.getBoxedFloatValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedFloatValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Float> boxedFloatValueMapValue = obj.getBoxedFloatValueMap();
+    if (boxedFloatValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedFloatValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Float> entry : boxedFloatValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedFloatValueMap", map);
     }
-    if (obj.getBoxedInt() != null) {
-      json.put("boxedInt", obj.getBoxedInt());
+    java.lang.Integer boxedIntValue = obj.getBoxedInt();
+    if (boxedIntValue != null) {
+      json.put("boxedInt", boxedIntValue);
     }
-    if (obj.getBoxedIntList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedIntList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Integer> boxedIntListValue = obj.getBoxedIntList();
+    if (boxedIntListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedIntListValue.size()));
+      for (java.lang.Integer item : boxedIntListValue) {
+        array.add(item);
+      }
       json.put("boxedIntList", array);
     }
-    if (obj.getBoxedIntSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedIntSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Integer> boxedIntSetValue = obj.getBoxedIntSet();
+    if (boxedIntSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedIntSetValue.size()));
+      for (java.lang.Integer item : boxedIntSetValue) {
+        array.add(item);
+      }
       json.put("boxedIntSet", array);
     }
-    if (obj.getBoxedIntValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedIntValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Integer> boxedIntValueMapValue = obj.getBoxedIntValueMap();
+    if (boxedIntValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedIntValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Integer> entry : boxedIntValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedIntValueMap", map);
     }
-    if (obj.getBoxedLong() != null) {
-      json.put("boxedLong", obj.getBoxedLong());
+    java.lang.Long boxedLongValue = obj.getBoxedLong();
+    if (boxedLongValue != null) {
+      json.put("boxedLong", boxedLongValue);
     }
-    if (obj.getBoxedLongList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedLongList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Long> boxedLongListValue = obj.getBoxedLongList();
+    if (boxedLongListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedLongListValue.size()));
+      for (java.lang.Long item : boxedLongListValue) {
+        array.add(item);
+      }
       json.put("boxedLongList", array);
     }
-    if (obj.getBoxedLongSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedLongSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Long> boxedLongSetValue = obj.getBoxedLongSet();
+    if (boxedLongSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedLongSetValue.size()));
+      for (java.lang.Long item : boxedLongSetValue) {
+        array.add(item);
+      }
       json.put("boxedLongSet", array);
     }
-    if (obj.getBoxedLongValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedLongValueMap().forEach((key, value) -> map.put(key, value));
+  }
+
+  private static void toJson1(TestDataObject obj, java.util.Map<String, Object> json) {
+    java.util.Map<String, java.lang.Long> boxedLongValueMapValue = obj.getBoxedLongValueMap();
+    if (boxedLongValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedLongValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Long> entry : boxedLongValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedLongValueMap", map);
     }
-    if (obj.getBoxedShort() != null) {
-      json.put("boxedShort", obj.getBoxedShort());
+    java.lang.Short boxedShortValue = obj.getBoxedShort();
+    if (boxedShortValue != null) {
+      json.put("boxedShort", boxedShortValue);
     }
-    if (obj.getBoxedShortList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedShortList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Short> boxedShortListValue = obj.getBoxedShortList();
+    if (boxedShortListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedShortListValue.size()));
+      for (java.lang.Short item : boxedShortListValue) {
+        array.add(item);
+      }
       json.put("boxedShortList", array);
     }
-    if (obj.getBoxedShortSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBoxedShortSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Short> boxedShortSetValue = obj.getBoxedShortSet();
+    if (boxedShortSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(boxedShortSetValue.size()));
+      for (java.lang.Short item : boxedShortSetValue) {
+        array.add(item);
+      }
       json.put("boxedShortSet", array);
     }
-    if (obj.getBoxedShortValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBoxedShortValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Short> boxedShortValueMapValue = obj.getBoxedShortValueMap();
+    if (boxedShortValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (boxedShortValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Short> entry : boxedShortValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("boxedShortValueMap", map);
     }
-    if (obj.getBuffer() != null) {
-      json.put("buffer", java.util.Base64.getEncoder().encodeToString(obj.getBuffer().getBytes()));
+    io.vertx.core.buffer.Buffer bufferValue = obj.getBuffer();
+    if (bufferValue != null) {
+      json.put("buffer", java.util.Base64.getEncoder().encodeToString(bufferValue.getBytes()));
     }
-    if (obj.getBufferList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBufferList().forEach(item -> array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes())));
+    java.util.List<io.vertx.core.buffer.Buffer> bufferListValue = obj.getBufferList();
+    if (bufferListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(bufferListValue.size()));
+      for (io.vertx.core.buffer.Buffer item : bufferListValue) {
+        array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes()));
+      }
       json.put("bufferList", array);
     }
-    if (obj.getBufferMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getBufferMap().forEach((key, value) -> map.put(key, java.util.Base64.getEncoder().encodeToString(value.getBytes())));
+    java.util.Map<String, io.vertx.core.buffer.Buffer> bufferMapValue = obj.getBufferMap();
+    if (bufferMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (bufferMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.buffer.Buffer> entry : bufferMapValue.entrySet()) {
+        map.put(entry.getKey(), java.util.Base64.getEncoder().encodeToString(entry.getValue().getBytes()));
+      }
       json.put("bufferMap", map);
     }
-    if (obj.getBufferSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBufferSet().forEach(item -> array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes())));
+    java.util.Set<io.vertx.core.buffer.Buffer> bufferSetValue = obj.getBufferSet();
+    if (bufferSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(bufferSetValue.size()));
+      for (io.vertx.core.buffer.Buffer item : bufferSetValue) {
+        array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes()));
+      }
       json.put("bufferSet", array);
     }
-    if (obj.getHttpMethod() != null) {
-      json.put("httpMethod", obj.getHttpMethod().name());
+    java.util.concurrent.TimeUnit httpMethodValue = obj.getHttpMethod();
+    if (httpMethodValue != null) {
+      json.put("httpMethod", httpMethodValue.name());
     }
-    if (obj.getHttpMethodList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getHttpMethodList().forEach(item -> array.add(item.name()));
+    java.util.List<java.util.concurrent.TimeUnit> httpMethodListValue = obj.getHttpMethodList();
+    if (httpMethodListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(httpMethodListValue.size()));
+      for (java.util.concurrent.TimeUnit item : httpMethodListValue) {
+        array.add(item.name());
+      }
       json.put("httpMethodList", array);
     }
-    if (obj.getHttpMethodMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getHttpMethodMap().forEach((key, value) -> map.put(key, value.name()));
+    java.util.Map<String, java.util.concurrent.TimeUnit> httpMethodMapValue = obj.getHttpMethodMap();
+    if (httpMethodMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (httpMethodMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.util.concurrent.TimeUnit> entry : httpMethodMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue().name());
+      }
       json.put("httpMethodMap", map);
     }
-    if (obj.getHttpMethodSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getHttpMethodSet().forEach(item -> array.add(item.name()));
+    java.util.Set<java.util.concurrent.TimeUnit> httpMethodSetValue = obj.getHttpMethodSet();
+    if (httpMethodSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(httpMethodSetValue.size()));
+      for (java.util.concurrent.TimeUnit item : httpMethodSetValue) {
+        array.add(item.name());
+      }
       json.put("httpMethodSet", array);
     }
-    if (obj.getJsonArray() != null) {
-      json.put("jsonArray", obj.getJsonArray());
+    io.vertx.core.json.JsonArray jsonArrayValue = obj.getJsonArray();
+    if (jsonArrayValue != null) {
+      json.put("jsonArray", jsonArrayValue);
     }
-    if (obj.getJsonArrayList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getJsonArrayList().forEach(item -> array.add(item));
+    java.util.List<io.vertx.core.json.JsonArray> jsonArrayListValue = obj.getJsonArrayList();
+    if (jsonArrayListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonArrayListValue.size()));
+      for (io.vertx.core.json.JsonArray item : jsonArrayListValue) {
+        array.add(item);
+      }
       json.put("jsonArrayList", array);
     }
-    if (obj.getJsonArrayMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getJsonArrayMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, io.vertx.core.json.JsonArray> jsonArrayMapValue = obj.getJsonArrayMap();
+    if (jsonArrayMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (jsonArrayMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : jsonArrayMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("jsonArrayMap", map);
     }
-    if (obj.getJsonArraySet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getJsonArraySet().forEach(item -> array.add(item));
+    java.util.Set<io.vertx.core.json.JsonArray> jsonArraySetValue = obj.getJsonArraySet();
+    if (jsonArraySetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonArraySetValue.size()));
+      for (io.vertx.core.json.JsonArray item : jsonArraySetValue) {
+        array.add(item);
+      }
       json.put("jsonArraySet", array);
     }
-    if (obj.getJsonObject() != null) {
-      json.put("jsonObject", obj.getJsonObject());
+    io.vertx.core.json.JsonObject jsonObjectValue = obj.getJsonObject();
+    if (jsonObjectValue != null) {
+      json.put("jsonObject", jsonObjectValue);
     }
-    if (obj.getJsonObjectDataObject() != null) {
-      json.put("jsonObjectDataObject", obj.getJsonObjectDataObject().toJson());
+    io.vertx.test.codegen.converter.NestedJsonObjectDataObject jsonObjectDataObjectValue = obj.getJsonObjectDataObject();
+    if (jsonObjectDataObjectValue != null) {
+      json.put("jsonObjectDataObject", jsonObjectDataObjectValue.toJson());
     }
-    if (obj.getJsonObjectDataObjectList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getJsonObjectDataObjectList().forEach(item -> array.add(item.toJson()));
+    java.util.List<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> jsonObjectDataObjectListValue = obj.getJsonObjectDataObjectList();
+    if (jsonObjectDataObjectListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonObjectDataObjectListValue.size()));
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : jsonObjectDataObjectListValue) {
+        array.add(item.toJson());
+      }
       json.put("jsonObjectDataObjectList", array);
     }
-    if (obj.getJsonObjectDataObjectMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getJsonObjectDataObjectMap().forEach((key, value) -> map.put(key, value.toJson()));
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> jsonObjectDataObjectMapValue = obj.getJsonObjectDataObjectMap();
+    if (jsonObjectDataObjectMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (jsonObjectDataObjectMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> entry : jsonObjectDataObjectMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue().toJson());
+      }
       json.put("jsonObjectDataObjectMap", map);
     }
-    if (obj.getJsonObjectDataObjectSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getJsonObjectDataObjectSet().forEach(item -> array.add(item.toJson()));
+    java.util.Set<io.vertx.test.codegen.converter.NestedJsonObjectDataObject> jsonObjectDataObjectSetValue = obj.getJsonObjectDataObjectSet();
+    if (jsonObjectDataObjectSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonObjectDataObjectSetValue.size()));
+      for (io.vertx.test.codegen.converter.NestedJsonObjectDataObject item : jsonObjectDataObjectSetValue) {
+        array.add(item.toJson());
+      }
       json.put("jsonObjectDataObjectSet", array);
     }
-    if (obj.getJsonObjectList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getJsonObjectList().forEach(item -> array.add(item));
+    java.util.List<io.vertx.core.json.JsonObject> jsonObjectListValue = obj.getJsonObjectList();
+    if (jsonObjectListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonObjectListValue.size()));
+      for (io.vertx.core.json.JsonObject item : jsonObjectListValue) {
+        array.add(item);
+      }
       json.put("jsonObjectList", array);
     }
-    if (obj.getJsonObjectMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getJsonObjectMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, io.vertx.core.json.JsonObject> jsonObjectMapValue = obj.getJsonObjectMap();
+    if (jsonObjectMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (jsonObjectMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonObject> entry : jsonObjectMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("jsonObjectMap", map);
     }
-    if (obj.getJsonObjectSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getJsonObjectSet().forEach(item -> array.add(item));
+    java.util.Set<io.vertx.core.json.JsonObject> jsonObjectSetValue = obj.getJsonObjectSet();
+    if (jsonObjectSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonObjectSetValue.size()));
+      for (io.vertx.core.json.JsonObject item : jsonObjectSetValue) {
+        array.add(item);
+      }
       json.put("jsonObjectSet", array);
     }
-    if (obj.getKeyedBoxedBooleanValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedBooleanValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Boolean> keyedBoxedBooleanValuesValue = obj.getKeyedBoxedBooleanValues();
+    if (keyedBoxedBooleanValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedBooleanValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Boolean> entry : keyedBoxedBooleanValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedBooleanValues", map);
     }
-    if (obj.getKeyedBoxedByteValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedByteValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Byte> keyedBoxedByteValuesValue = obj.getKeyedBoxedByteValues();
+    if (keyedBoxedByteValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedByteValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Byte> entry : keyedBoxedByteValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedByteValues", map);
     }
-    if (obj.getKeyedBoxedCharValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedCharValues().forEach((key, value) -> map.put(key, Character.toString(value)));
+    java.util.Map<String, java.lang.Character> keyedBoxedCharValuesValue = obj.getKeyedBoxedCharValues();
+    if (keyedBoxedCharValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedCharValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Character> entry : keyedBoxedCharValuesValue.entrySet()) {
+        map.put(entry.getKey(), Character.toString(entry.getValue()));
+      }
       json.put("keyedBoxedCharValues", map);
     }
-    if (obj.getKeyedBoxedDoubleValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedDoubleValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Double> keyedBoxedDoubleValuesValue = obj.getKeyedBoxedDoubleValues();
+    if (keyedBoxedDoubleValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedDoubleValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Double> entry : keyedBoxedDoubleValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedDoubleValues", map);
     }
-    if (obj.getKeyedBoxedFloatValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedFloatValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Float> keyedBoxedFloatValuesValue = obj.getKeyedBoxedFloatValues();
+    if (keyedBoxedFloatValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedFloatValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Float> entry : keyedBoxedFloatValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedFloatValues", map);
     }
-    if (obj.getKeyedBoxedIntValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedIntValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Integer> keyedBoxedIntValuesValue = obj.getKeyedBoxedIntValues();
+    if (keyedBoxedIntValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedIntValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Integer> entry : keyedBoxedIntValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedIntValues", map);
     }
-    if (obj.getKeyedBoxedLongValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedLongValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Long> keyedBoxedLongValuesValue = obj.getKeyedBoxedLongValues();
+    if (keyedBoxedLongValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedLongValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Long> entry : keyedBoxedLongValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedLongValues", map);
     }
-    if (obj.getKeyedBoxedShortValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBoxedShortValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Short> keyedBoxedShortValuesValue = obj.getKeyedBoxedShortValues();
+    if (keyedBoxedShortValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBoxedShortValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Short> entry : keyedBoxedShortValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedBoxedShortValues", map);
     }
-    if (obj.getKeyedBufferValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedBufferValues().forEach((key, value) -> map.put(key, java.util.Base64.getEncoder().encodeToString(value.getBytes())));
+    java.util.Map<String, io.vertx.core.buffer.Buffer> keyedBufferValuesValue = obj.getKeyedBufferValues();
+    if (keyedBufferValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedBufferValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.buffer.Buffer> entry : keyedBufferValuesValue.entrySet()) {
+        map.put(entry.getKey(), java.util.Base64.getEncoder().encodeToString(entry.getValue().getBytes()));
+      }
       json.put("keyedBufferValues", map);
     }
-    if (obj.getKeyedEnumValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedEnumValues().forEach((key, value) -> map.put(key, value.name()));
+    java.util.Map<String, java.util.concurrent.TimeUnit> keyedEnumValuesValue = obj.getKeyedEnumValues();
+    if (keyedEnumValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedEnumValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.util.concurrent.TimeUnit> entry : keyedEnumValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue().name());
+      }
       json.put("keyedEnumValues", map);
     }
-    if (obj.getKeyedJsonArrayValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedJsonArrayValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, io.vertx.core.json.JsonArray> keyedJsonArrayValuesValue = obj.getKeyedJsonArrayValues();
+    if (keyedJsonArrayValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedJsonArrayValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : keyedJsonArrayValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedJsonArrayValues", map);
     }
-    if (obj.getKeyedJsonObjectDataObjectValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedJsonObjectDataObjectValues().forEach((key, value) -> map.put(key, value.toJson()));
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> keyedJsonObjectDataObjectValuesValue = obj.getKeyedJsonObjectDataObjectValues();
+    if (keyedJsonObjectDataObjectValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedJsonObjectDataObjectValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedJsonObjectDataObject> entry : keyedJsonObjectDataObjectValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue().toJson());
+      }
       json.put("keyedJsonObjectDataObjectValues", map);
     }
-    if (obj.getKeyedJsonObjectValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedJsonObjectValues().forEach((key, value) -> map.put(key, value));
+  }
+
+  private static void toJson2(TestDataObject obj, java.util.Map<String, Object> json) {
+    java.util.Map<String, io.vertx.core.json.JsonObject> keyedJsonObjectValuesValue = obj.getKeyedJsonObjectValues();
+    if (keyedJsonObjectValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedJsonObjectValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonObject> entry : keyedJsonObjectValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedJsonObjectValues", map);
     }
-    if (obj.getKeyedMethodMappedValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedMethodMappedValues().forEach((key, value) -> map.put(key, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(value)));
+    java.util.Map<String, java.time.ZonedDateTime> keyedMethodMappedValuesValue = obj.getKeyedMethodMappedValues();
+    if (keyedMethodMappedValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedMethodMappedValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.time.ZonedDateTime> entry : keyedMethodMappedValuesValue.entrySet()) {
+        map.put(entry.getKey(), io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(entry.getValue()));
+      }
       json.put("keyedMethodMappedValues", map);
     }
-    if (obj.getKeyedObjectValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedObjectValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Object> keyedObjectValuesValue = obj.getKeyedObjectValues();
+    if (keyedObjectValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedObjectValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Object> entry : keyedObjectValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedObjectValues", map);
     }
-    if (obj.getKeyedStringDataObjectValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedStringDataObjectValues().forEach((key, value) -> map.put(key, value.toJson()));
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> keyedStringDataObjectValuesValue = obj.getKeyedStringDataObjectValues();
+    if (keyedStringDataObjectValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedStringDataObjectValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedStringDataObject> entry : keyedStringDataObjectValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue().toJson());
+      }
       json.put("keyedStringDataObjectValues", map);
     }
-    if (obj.getKeyedStringValues() != null) {
-      JsonObject map = new JsonObject();
-      obj.getKeyedStringValues().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.String> keyedStringValuesValue = obj.getKeyedStringValues();
+    if (keyedStringValuesValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (keyedStringValuesValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.String> entry : keyedStringValuesValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("keyedStringValues", map);
     }
-    if (obj.getMethodMapped() != null) {
-      json.put("methodMapped", io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(obj.getMethodMapped()));
+    java.time.ZonedDateTime methodMappedValue = obj.getMethodMapped();
+    if (methodMappedValue != null) {
+      json.put("methodMapped", io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(methodMappedValue));
     }
-    if (obj.getMethodMappedList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getMethodMappedList().forEach(item -> array.add(io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item)));
+    java.util.List<java.time.ZonedDateTime> methodMappedListValue = obj.getMethodMappedList();
+    if (methodMappedListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(methodMappedListValue.size()));
+      for (java.time.ZonedDateTime item : methodMappedListValue) {
+        array.add(io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item));
+      }
       json.put("methodMappedList", array);
     }
-    if (obj.getMethodMappedMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getMethodMappedMap().forEach((key, value) -> map.put(key, io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(value)));
+    java.util.Map<String, java.time.ZonedDateTime> methodMappedMapValue = obj.getMethodMappedMap();
+    if (methodMappedMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (methodMappedMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.time.ZonedDateTime> entry : methodMappedMapValue.entrySet()) {
+        map.put(entry.getKey(), io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(entry.getValue()));
+      }
       json.put("methodMappedMap", map);
     }
-    if (obj.getMethodMappedSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getMethodMappedSet().forEach(item -> array.add(io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item)));
+    java.util.Set<java.time.ZonedDateTime> methodMappedSetValue = obj.getMethodMappedSet();
+    if (methodMappedSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(methodMappedSetValue.size()));
+      for (java.time.ZonedDateTime item : methodMappedSetValue) {
+        array.add(io.vertx.test.codegen.converter.TestDataObject.serializeZonedDateTime(item));
+      }
       json.put("methodMappedSet", array);
     }
-    if (obj.getObjectList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getObjectList().forEach(item -> array.add(item));
+    java.util.List<java.lang.Object> objectListValue = obj.getObjectList();
+    if (objectListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(objectListValue.size()));
+      for (java.lang.Object item : objectListValue) {
+        array.add(item);
+      }
       json.put("objectList", array);
     }
-    if (obj.getObjectMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getObjectMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.Object> objectMapValue = obj.getObjectMap();
+    if (objectMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (objectMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.Object> entry : objectMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("objectMap", map);
     }
-    if (obj.getObjectSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getObjectSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.Object> objectSetValue = obj.getObjectSet();
+    if (objectSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(objectSetValue.size()));
+      for (java.lang.Object item : objectSetValue) {
+        array.add(item);
+      }
       json.put("objectSet", array);
     }
     json.put("primitiveBoolean", obj.isPrimitiveBoolean());
@@ -1406,40 +1787,60 @@ public class TestDataObjectConverter {
     json.put("primitiveInt", obj.getPrimitiveInt());
     json.put("primitiveLong", obj.getPrimitiveLong());
     json.put("primitiveShort", obj.getPrimitiveShort());
-    if (obj.getString() != null) {
-      json.put("string", obj.getString());
-    }
-    if (obj.getStringDataObject() != null) {
-      json.put("stringDataObject", obj.getStringDataObject().toJson());
-    }
-    if (obj.getStringDataObjectList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getStringDataObjectList().forEach(item -> array.add(item.toJson()));
+    java.lang.String stringValue = obj.getString();
+    if (stringValue != null) {
+      json.put("string", stringValue);
+    }
+    io.vertx.test.codegen.converter.NestedStringDataObject stringDataObjectValue = obj.getStringDataObject();
+    if (stringDataObjectValue != null) {
+      json.put("stringDataObject", stringDataObjectValue.toJson());
+    }
+    java.util.List<io.vertx.test.codegen.converter.NestedStringDataObject> stringDataObjectListValue = obj.getStringDataObjectList();
+    if (stringDataObjectListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(stringDataObjectListValue.size()));
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : stringDataObjectListValue) {
+        array.add(item.toJson());
+      }
       json.put("stringDataObjectList", array);
     }
-    if (obj.getStringDataObjectMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getStringDataObjectMap().forEach((key, value) -> map.put(key, value.toJson()));
+    java.util.Map<String, io.vertx.test.codegen.converter.NestedStringDataObject> stringDataObjectMapValue = obj.getStringDataObjectMap();
+    if (stringDataObjectMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (stringDataObjectMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.test.codegen.converter.NestedStringDataObject> entry : stringDataObjectMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue().toJson());
+      }
       json.put("stringDataObjectMap", map);
     }
-    if (obj.getStringDataObjectSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getStringDataObjectSet().forEach(item -> array.add(item.toJson()));
+    java.util.Set<io.vertx.test.codegen.converter.NestedStringDataObject> stringDataObjectSetValue = obj.getStringDataObjectSet();
+    if (stringDataObjectSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(stringDataObjectSetValue.size()));
+      for (io.vertx.test.codegen.converter.NestedStringDataObject item : stringDataObjectSetValue) {
+        array.add(item.toJson());
+      }
       json.put("stringDataObjectSet", array);
     }
-    if (obj.getStringList() != null) {
-      JsonArray array = new JsonArray();
-      obj.getStringList().forEach(item -> array.add(item));
+    java.util.List<java.lang.String> stringListValue = obj.getStringList();
+    if (stringListValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(stringListValue.size()));
+      for (java.lang.String item : stringListValue) {
+        array.add(item);
+      }
       json.put("stringList", array);
     }
-    if (obj.getStringSet() != null) {
-      JsonArray array = new JsonArray();
-      obj.getStringSet().forEach(item -> array.add(item));
+    java.util.Set<java.lang.String> stringSetValue = obj.getStringSet();
+    if (stringSetValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(stringSetValue.size()));
+      for (java.lang.String item : stringSetValue) {
+        array.add(item);
+      }
       json.put("stringSet", array);
     }
-    if (obj.getStringValueMap() != null) {
-      JsonObject map = new JsonObject();
-      obj.getStringValueMap().forEach((key, value) -> map.put(key, value));
+    java.util.Map<String, java.lang.String> stringValueMapValue = obj.getStringValueMap();
+    if (stringValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (stringValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, java.lang.String> entry : stringValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
       json.put("stringValueMap", map);
     }
   }
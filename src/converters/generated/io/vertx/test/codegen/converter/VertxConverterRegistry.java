@@ -0,0 +1,139 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.json.ConverterRegistry;
+import io.vertx.codegen.json.JsonCodec;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converter registry of the {@code vertx} module.
+ * NOTE: This class has been automatically generated from the {@code vertx} module using Vert.x codegen.
+ */
+public class VertxConverterRegistry implements ConverterRegistry {
+
+  private static final Map<Class<?>, JsonCodec<?, ?>> CODECS;
+
+  static {
+    Map<Class<?>, JsonCodec<?, ?>> codecs = new LinkedHashMap<>();
+    codecs.put(io.vertx.test.codegen.converter.ChildInheritingDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.ChildInheritingDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.ChildInheritingDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.ChildInheritingDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.ChildNotInheritingDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.ChildNotInheritingDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.ChildNotInheritingDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.ChildNotInheritingDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.ConverterGeneratesDeserializerWithFromJsonDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.ConverterGeneratesDeserializerWithFromJsonDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      json -> {
+        io.vertx.test.codegen.converter.ConverterGeneratesDeserializerWithFromJsonDataObject obj = new io.vertx.test.codegen.converter.ConverterGeneratesDeserializerWithFromJsonDataObject();
+        io.vertx.test.codegen.converter.ConverterGeneratesDeserializerWithFromJsonDataObjectConverter.fromJson(json, obj);
+        return obj;
+      },
+      io.vertx.test.codegen.converter.ConverterGeneratesDeserializerWithFromJsonDataObject::toJson));
+    codecs.put(io.vertx.test.codegen.converter.ConverterGeneratesSerializerWithToJsonDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.ConverterGeneratesSerializerWithToJsonDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.ConverterGeneratesSerializerWithToJsonDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.ConverterGeneratesSerializerWithToJsonDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.InstantDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.InstantDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.InstantDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.InstantDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.NestedJsonObjectDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.NestedJsonObjectDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.NestedJsonObjectDataObject::new,
+      io.vertx.test.codegen.converter.NestedJsonObjectDataObject::toJson));
+    codecs.put(io.vertx.test.codegen.converter.NestedStringDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.NestedStringDataObject.class,
+      java.lang.String.class,
+      io.vertx.test.codegen.converter.NestedStringDataObject::new,
+      io.vertx.test.codegen.converter.NestedStringDataObject::toJson));
+    codecs.put(io.vertx.test.codegen.converter.NoConverterDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.NoConverterDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.NoConverterDataObject::new,
+      null));
+    codecs.put(io.vertx.test.codegen.converter.ParentDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.ParentDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.ParentDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.ParentDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.SetterAdderDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.SetterAdderDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.SetterAdderDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.SetterAdderDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.SnakeFormattedDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.SnakeFormattedDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.SnakeFormattedDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.SnakeFormattedDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(io.vertx.test.codegen.converter.TestDataObject.class, JsonCodec.of(
+      io.vertx.test.codegen.converter.TestDataObject.class,
+      io.vertx.core.json.JsonObject.class,
+      io.vertx.test.codegen.converter.TestDataObject::new,
+      obj -> {
+        JsonObject json = new JsonObject();
+        io.vertx.test.codegen.converter.TestDataObjectConverter.toJson(obj, json);
+        return json;
+      }));
+    codecs.put(java.util.concurrent.TimeUnit.class, JsonCodec.of(
+      java.util.concurrent.TimeUnit.class,
+      java.lang.String.class,
+      java.util.concurrent.TimeUnit::valueOf,
+      java.util.concurrent.TimeUnit::name));
+    codecs.put(java.time.ZonedDateTime.class, JsonCodec.of(
+      java.time.ZonedDateTime.class,
+      java.lang.String.class,
+      io.vertx.test.codegen.converter.TestDataObject::deserializeZonedDateTime,
+      io.vertx.test.codegen.converter.TestDataObject::serializeZonedDateTime));
+    CODECS = Collections.unmodifiableMap(codecs);
+  }
+
+  @Override
+  public String getModuleName() {
+    return "vertx";
+  }
+
+  @Override
+  public Map<Class<?>, JsonCodec<?, ?>> getCodecs() {
+    return CODECS;
+  }
+}
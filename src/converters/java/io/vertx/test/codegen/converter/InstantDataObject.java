@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.InstantEncoding;
+import io.vertx.codegen.annotations.JsonInstant;
+import io.vertx.core.json.JsonObject;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@DataObject(generateConverter = true, instantEncoding = InstantEncoding.EPOCH_MILLIS)
+public class InstantDataObject {
+
+  private Instant millis;
+  private Instant nanos;
+  private Instant iso;
+  private List<Instant> millisList;
+  private List<Instant> isoList;
+
+  public InstantDataObject() {
+  }
+
+  public InstantDataObject(JsonObject json) {
+  }
+
+  public Instant getMillis() {
+    return millis;
+  }
+
+  public InstantDataObject setMillis(Instant millis) {
+    this.millis = millis;
+    return this;
+  }
+
+  @JsonInstant(InstantEncoding.EPOCH_NANOS)
+  public Instant getNanos() {
+    return nanos;
+  }
+
+  public InstantDataObject setNanos(Instant nanos) {
+    this.nanos = nanos;
+    return this;
+  }
+
+  @JsonInstant(InstantEncoding.ISO_8601)
+  public Instant getIso() {
+    return iso;
+  }
+
+  public InstantDataObject setIso(Instant iso) {
+    this.iso = iso;
+    return this;
+  }
+
+  public List<Instant> getMillisList() {
+    return millisList;
+  }
+
+  public InstantDataObject setMillisList(List<Instant> millisList) {
+    this.millisList = millisList;
+    return this;
+  }
+
+  @JsonInstant(InstantEncoding.ISO_8601)
+  public List<Instant> getIsoList() {
+    return isoList;
+  }
+
+  public InstantDataObject setIsoList(List<Instant> isoList) {
+    this.isoList = isoList;
+    return this;
+  }
+}
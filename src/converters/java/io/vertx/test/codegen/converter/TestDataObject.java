@@ -24,7 +24,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
-@DataObject(generateConverter = true)
+@DataObject(generateConverter = true, generateBinaryCodec = true)
 public class TestDataObject {
 
   public static String serializeZonedDateTime(ZonedDateTime value) {
@@ -107,7 +107,7 @@ public class ClassModel implements Model {
     this.typeUtils = env.getTypeUtils();
     this.env = env;
     this.typeFactory = typeFactory;
-    this.docFactory = new Doc.Factory(env.getMessager(), elementUtils, typeUtils, typeFactory, modelElt);
+    this.docFactory = new Doc.Factory(env, typeFactory, modelElt);
     this.messager = env.getMessager();
     this.modelElt = modelElt;
     this.annotationValueInfoFactory = new AnnotationValueInfoFactory(typeFactory);
@@ -324,11 +324,11 @@ public class ClassModel implements Model {
         ifaceFQCN = declaredType.toString();
         ifaceSimpleName = elem.getSimpleName().toString();
         ifacePackageName = elementUtils.getPackageOf(elem).getQualifiedName().toString();
-        ifaceComment = elementUtils.getDocComment(elem);
+        ifaceComment = docFactory.getDocComment(elem);
         doc = docFactory.createDoc(elem);
         if (doc != null)
           doc.getBlockTags().stream().filter(tag -> tag.getName().equals("deprecated")).findFirst().ifPresent(tag ->
-            deprecatedDesc = new Text(Helper.normalizeWhitespaces(tag.getValue())).map(Token.tagMapper(elementUtils, typeUtils, modelElt))
+            deprecatedDesc = new Text(Helper.normalizeWhitespaces(tag.getValue())).map(Token.tagMapper(elementUtils, typeUtils, typeFactory, modelElt))
           );
         deprecated = deprecated || deprecatedDesc != null;
         concrete = elem.getAnnotation(VertxGen.class) == null || elem.getAnnotation(VertxGen.class).concrete();
@@ -690,7 +690,7 @@ public class ClassModel implements Model {
 
     //
     Map<String, String> paramDescs = new HashMap<>();
-    String comment = elementUtils.getDocComment(modelMethod);
+    String comment = docFactory.getDocComment(modelMethod);
     Doc doc = docFactory.createDoc(modelMethod);
     Text returnDesc = null;
     Text methodDeprecatedDesc = null;
@@ -707,7 +707,7 @@ public class ClassModel implements Model {
           filter(tag -> tag.getName().equals("return")).
           findFirst();
       if (returnTag.isPresent()) {
-        returnDesc = new Text(Helper.normalizeWhitespaces(returnTag.get().getValue())).map(Token.tagMapper(elementUtils, typeUtils, modelElt));
+        returnDesc = new Text(Helper.normalizeWhitespaces(returnTag.get().getValue())).map(Token.tagMapper(elementUtils, typeUtils, typeFactory, modelElt));
       }
       Optional<Tag> methodDeprecatedTag = doc.
           getBlockTags().
@@ -715,7 +715,7 @@ public class ClassModel implements Model {
           filter(tag -> tag.getName().equals("deprecated")).
           findFirst();
       if (methodDeprecatedTag.isPresent()) {
-        methodDeprecatedDesc = new Text(Helper.normalizeWhitespaces(methodDeprecatedTag.get().getValue())).map(Token.tagMapper(elementUtils, typeUtils, modelElt));
+        methodDeprecatedDesc = new Text(Helper.normalizeWhitespaces(methodDeprecatedTag.get().getValue())).map(Token.tagMapper(elementUtils, typeUtils, typeFactory, modelElt));
       }
     }
 
@@ -737,7 +737,7 @@ public class ClassModel implements Model {
       }
       String name = param.getSimpleName().toString();
       String desc = paramDescs.get(name);
-      Text text = desc != null ? new Text(desc).map(Token.tagMapper(elementUtils, typeUtils, modelElt)) : null;
+      Text text = desc != null ? new Text(desc).map(Token.tagMapper(elementUtils, typeUtils, typeFactory, modelElt)) : null;
       TypeInfo unresolvedTypeInfo;
       try {
         unresolvedTypeInfo = typeFactory.create(typeUse, methodType.getParameterTypes().get(i));
@@ -114,7 +114,9 @@ public class CodeGen {
       .filter(elt -> elt instanceof TypeElement)
       .map(elt -> (TypeElement)elt).forEach(te -> {
       for (ModelProvider provider : PROVIDERS) {
+        ProcessorMetrics.Sample sample = ProcessorMetrics.sample();
         Model model = provider.getModel(env, tmf, te);
+        ProcessorMetrics.record(sample, "getModel");
         if (model != null) {
           String kind = model.getKind();
           all.add(te);
@@ -303,8 +305,13 @@ public class CodeGen {
     @Override
     public M getValue() {
       if (value == null) {
+        ProcessorMetrics.Sample sample = ProcessorMetrics.sample();
         value = supplier.get();
         value.process();
+        if (sample != null) {
+          sample.stop("process:" + value.getKind());
+          sample.metrics().count("models." + value.getKind());
+        }
       }
       return value;
     }
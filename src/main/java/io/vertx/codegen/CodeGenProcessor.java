@@ -1,9 +1,11 @@
 package io.vertx.codegen;
 
+import io.vertx.codegen.doc.Text;
 import io.vertx.codegen.generators.cheatsheet.CheatsheetGenLoader;
 import io.vertx.codegen.generators.dataobjecthelper.DataObjectHelperGenLoader;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
 import javax.annotation.processing.FilerException;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
@@ -12,18 +14,32 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
-import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,7 +51,7 @@ import java.util.stream.StreamSupport;
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
-@javax.annotation.processing.SupportedOptions({"codegen.output","codegen.generators"})
+@javax.annotation.processing.SupportedOptions({"codegen.output","codegen.generators","codegen.threads","codegen.cache","codegen.metrics","codegen.docs"})
 @javax.annotation.processing.SupportedSourceVersion(javax.lang.model.SourceVersion.RELEASE_8)
 public class CodeGenProcessor extends AbstractProcessor {
 
@@ -49,12 +65,45 @@ public class CodeGenProcessor extends AbstractProcessor {
   private Map<String, String> relocations = new HashMap<>();
   private Set<Class<? extends Annotation>> supportedAnnotation = new HashSet<>();
   private List<CodeGen.Converter> mappers;
+  private ForkJoinPool renderPool;
+  private GenerationCache cache;
+  private ProcessorMetrics metrics;
+  private File metricsFile;
 
   @Override
   public Set<String> getSupportedAnnotationTypes() {
     return supportedAnnotation.stream().map(Class::getName).collect(Collectors.toSet());
   }
 
+  /**
+   * Declare the options of the loaded generators and the Gradle incremental annotation processing category
+   * of the processor, this is called by Gradle
+   * after {@link #init(ProcessingEnvironment)} since the processor is registered as {@code dynamic}:
+   *
+   * <ul>
+   *   <li>{@code isolating} when all the loaded generators are {@link Generator#isolating isolating}</li>
+   *   <li>{@code aggregating} when an incremental generator is loaded and the other generators are isolating</li>
+   *   <li>none when a generator declares neither, or when files are written outside of the {@link Filer} with
+   *   {@code codegen.output}</li>
+   * </ul>
+   */
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> options = new HashSet<>(super.getSupportedOptions());
+    if (processingEnv != null) {
+      Collection<? extends Generator<?>> generators = getCodeGenerators();
+      generators.forEach(gen -> options.addAll(gen.options()));
+      if (outputDirectory == null && relocations.isEmpty() && generators.stream().allMatch(gen -> gen.incremental || gen.isolating)) {
+        if (generators.stream().anyMatch(gen -> gen.incremental)) {
+          options.add("org.gradle.annotation.processing.aggregating");
+        } else {
+          options.add("org.gradle.annotation.processing.isolating");
+        }
+      }
+    }
+    return options;
+  }
+
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
@@ -66,6 +115,60 @@ public class CodeGenProcessor extends AbstractProcessor {
     if (mappers == null) {
       mappers = loadJsonMappers();
     }
+
+    // Parallel rendering
+    String threadsOption = processingEnv.getOptions().get("codegen.threads");
+    if (threadsOption != null) {
+      int threads;
+      try {
+        threads = Integer.parseInt(threadsOption.trim());
+      } catch (NumberFormatException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Invalid codegen.threads value " + threadsOption + ", rendering sequentially");
+        threads = 1;
+      }
+      if (threads > 1) {
+        renderPool = new ForkJoinPool(threads);
+      }
+    }
+
+    // Generation cache
+    String cacheOption = processingEnv.getOptions().get("codegen.cache");
+    if (cacheOption != null) {
+      File cacheDir = new File(cacheOption);
+      if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Cache directory " + cacheOption + " cannot be created, caching disabled");
+      } else {
+        cache = new GenerationCache(cacheDir, processingEnv.getElementUtils(), cacheSalt());
+      }
+    }
+
+    // Metrics
+    String metricsOption = processingEnv.getOptions().get("codegen.metrics");
+    if (metricsOption != null) {
+      metrics = new ProcessorMetrics();
+      metricsFile = new File(metricsOption);
+    }
+  }
+
+  /**
+   * @return the part of the processor configuration that affects the generated content: the processor options
+   *         and the options declared by the generators, the json mappers and the version of the code of codegen
+   *         and of the generators
+   */
+  private String cacheSalt() {
+    StringBuilder salt = new StringBuilder();
+    Set<String> generatorOptions = new HashSet<>();
+    getCodeGenerators().forEach(gen -> generatorOptions.addAll(gen.options()));
+    new TreeMap<>(processingEnv.getOptions()).forEach((key, value) -> {
+      if ((key.startsWith("codegen.") || generatorOptions.contains(key)) && !key.equals("codegen.cache") && !key.equals("codegen.threads") && !key.equals("codegen.metrics")) {
+        salt.append(key).append('=').append(value).append('\n');
+      }
+    });
+    mappers.forEach(mapper -> salt.append(mapper).append('\n'));
+    Map<File, String> checksums = new HashMap<>();
+    salt.append("codegen=").append(GenerationCache.codeVersion(CodeGenProcessor.class, checksums)).append('\n');
+    getCodeGenerators().forEach(gen -> salt.append(gen.name).append('=').append(GenerationCache.codeVersion(gen.getClass(), checksums)).append('\n'));
+    return salt.toString();
   }
 
   private Predicate<Generator> filterGenerators() {
@@ -145,12 +248,16 @@ public class CodeGenProcessor extends AbstractProcessor {
     });
   }
 
+  /**
+   * @return the class output directory, it is resolved with a {@link Filer#getResource} lookup that does not create a
+   *         file, an isolating processor must not create files without an originating element
+   */
   private Path fetchSourcePath() {
     try {
-      JavaFileObject generationForPath = processingEnv.getFiler()
-          .createClassFile("PathFor" + getClass().getSimpleName());
-      return new File(generationForPath.toUri()).toPath().getParent();
-    } catch (IOException e) {
+      FileObject classOutput = processingEnv.getFiler()
+          .getResource(StandardLocation.CLASS_OUTPUT, "", "PathFor" + getClass().getSimpleName());
+      return new File(classOutput.toUri()).toPath().getParent();
+    } catch (IOException | IllegalArgumentException e) {
       processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to determine source file path!");
     }
 
@@ -210,6 +317,35 @@ public class CodeGenProcessor extends AbstractProcessor {
 
   @Override
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    // The models are rendered before the round returns, so the links of their docs are resolved on first access
+    // unless the models are rendered concurrently, the links must then be resolved on the processor thread
+    boolean deferred = Text.deferMappings(renderPool == null);
+    try {
+      return metrics != null ? processWithMetrics(roundEnv) : process(roundEnv);
+    } finally {
+      Text.deferMappings(deferred);
+    }
+  }
+
+  private boolean processWithMetrics(RoundEnvironment roundEnv) {
+    ProcessorMetrics prev = metrics.bind();
+    ProcessorMetrics.Sample sample = metrics.start();
+    try {
+      return process(roundEnv);
+    } finally {
+      sample.stop("round");
+      ProcessorMetrics.unbind(prev);
+      if (roundEnv.processingOver()) {
+        try {
+          metrics.write(metricsFile);
+        } catch (IOException e) {
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not write metrics to " + metricsFile + ": " + e.getMessage());
+        }
+      }
+    }
+  }
+
+  private boolean process(RoundEnvironment roundEnv) {
 
     // find elements annotated with @SuppressWarnings("codegen-enhanced-method")
     if (!roundEnv.processingOver()) {
@@ -218,7 +354,9 @@ public class CodeGenProcessor extends AbstractProcessor {
       if (!roundEnv.errorRaised()) {
         CodeGen codegen = new CodeGen(processingEnv);
         mappers.forEach(codegen::registerConverter);
+        ProcessorMetrics.Sample initSample = ProcessorMetrics.sample();
         codegen.init(roundEnv, getClass().getClassLoader());
+        ProcessorMetrics.record(initSample, "init");
         Map<String, GeneratedFile> generatedClasses = new HashMap<>();
 
         // Generate source code
@@ -272,15 +410,11 @@ public class CodeGenProcessor extends AbstractProcessor {
         });
 
         // Generate classes
-        generatedClasses.values().forEach(generated -> {
-          boolean shouldWarningsBeSuppressed = false;
+        render(generatedClasses.values(), "class:").forEach(generated -> {
           try {
-            String content = generated.generate();
-            if (content.length() > 0) {
-              JavaFileObject target = processingEnv.getFiler().createSourceFile(generated.uri);
-              try (Writer writer = target.openWriter()) {
-                writer.write(content);
-              }
+            Callable<Writer> output = () -> processingEnv.getFiler().createSourceFile(generated.uri, generated.originatingElements()).openWriter();
+            if (write(generated, output, content -> false)) {
+              count("files.java");
               processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generated model " + generated.get(0).model.getFqn() + ": " + generated.uri);
             }
           } catch (GenException e) {
@@ -293,14 +427,10 @@ public class CodeGenProcessor extends AbstractProcessor {
     } else {
 
       // Generate resources
-      for (GeneratedFile generated : generatedResources.values()) {
-        boolean shouldWarningsBeSuppressed = false;
+      for (GeneratedFile generated : render(generatedResources.values(), "resource:")) {
         try {
-          String content = generated.generate();
-          if (content.length() > 0) {
-            try (Writer w = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", generated.uri).openWriter()) {
-              w.write(content);
-            }
+          Callable<Writer> output = () -> {
+            Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", generated.uri, generated.originatingElements()).openWriter();
             boolean createSource;
             try {
               processingEnv.getFiler().getResource(StandardLocation.SOURCE_OUTPUT, "", generated.uri);
@@ -310,10 +440,18 @@ public class CodeGenProcessor extends AbstractProcessor {
               createSource = false;
             }
             if (createSource) {
-              try (Writer w = processingEnv.getFiler().createResource(StandardLocation.SOURCE_OUTPUT, "", generated.uri).openWriter()) {
-                w.write(content);
+              Writer classWriter = writer;
+              try {
+                writer = new TeeWriter(classWriter, processingEnv.getFiler().createResource(StandardLocation.SOURCE_OUTPUT, "", generated.uri, generated.originatingElements()).openWriter());
+              } catch (IOException | RuntimeException e) {
+                classWriter.close();
+                throw e;
               }
             }
+            return writer;
+          };
+          if (write(generated, output, content -> isUpToDate(generated.uri, content))) {
+            count("files.resource");
             processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generated model " + generated.get(0).model.getFqn() + ": " + generated.uri);
           }
         } catch (GenException e) {
@@ -323,9 +461,8 @@ public class CodeGenProcessor extends AbstractProcessor {
         }
       }
       // Generate files
-      generatedFiles.values().forEach(generated -> {
+      render(generatedFiles.values(), "file:").forEach(generated -> {
         // todo: need to rewrite "/" according to platform file separator
-        boolean shouldWarningsBeSuppressed = false;
         File file;
         if (generated.uri.startsWith("/")) {
           file = new File(generated.uri);
@@ -335,22 +472,201 @@ public class CodeGenProcessor extends AbstractProcessor {
           return;
         }
         Helper.ensureParentDir(file);
-        String content = generated.generate();
-        if (content.length() > 0) {
-          try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(content);
-          } catch (GenException e) {
-            reportGenException(e);
-          } catch (Exception e) {
-            reportException(e, generated.get(0).model.getElement());
+        try {
+          if (write(generated, file)) {
+            count("files.other");
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generated model " + generated.get(0).model.getFqn() + ": " + generated.uri);
           }
-          processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generated model " + generated.get(0).model.getFqn() + ": " + generated.uri);
+        } catch (GenException e) {
+          reportGenException(e);
+        } catch (Exception e) {
+          reportException(e, generated.get(0).model.getElement());
         }
       });
+      if (renderPool != null) {
+        renderPool.shutdown();
+        renderPool = null;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sort the {@code files} by uri so they are always written in the same order. When {@code codegen.threads}
+   * is set, the non incremental files of {@link Generator#threadSafe thread safe} generators are rendered concurrently, the {@link Filer} writes still happen
+   * on the processor thread when calling {@link GeneratedFile#generate()}.
+   * <p/>
+   * When {@code codegen.cache} is set, the files whose fingerprint matches the cache are not rendered.
+   *
+   * @param files the files to render
+   * @param cacheNamespace the cache namespace of the files
+   * @return the sorted files
+   */
+  private List<GeneratedFile> render(Collection<GeneratedFile> files, String cacheNamespace) {
+    List<GeneratedFile> sorted = new ArrayList<>(files);
+    sorted.sort(Comparator.comparing(generated -> generated.uri));
+    if (cache != null) {
+      sorted.forEach(generated -> {
+        generated.sort();
+        generated.cacheKey = cacheNamespace + generated.uri;
+        generated.fingerprint = cache.fingerprint(
+          generated.stream().map(processing -> (Generator<?>) processing.generator).collect(Collectors.toList()),
+          generated.stream().map(processing -> processing.model).collect(Collectors.toList()));
+        generated.cached = cache.get(generated.cacheKey, generated.fingerprint);
+        if (generated.cached != null) {
+          count("files.cached");
+        }
+      });
+    }
+    if (renderPool != null) {
+      sorted.stream()
+        .filter(generated -> generated.cached == null)
+        .filter(GeneratedFile::isIndependent)
+        .forEach(generated -> generated.renderAsync(renderPool));
+    }
+    return sorted;
+  }
+
+  /**
+   * Write a file to the {@code codegen.output} directory.
+   * <p/>
+   * Unless the content must be cached, is already cached or was rendered concurrently, the parts are streamed to
+   * a temporary file of the directory as they are rendered, the temporary file replaces the file once all the parts
+   * are rendered and is discarded when a part fails to render.
+   *
+   * @param generated the file
+   * @param file the file
+   * @return whether the file was written
+   */
+  private boolean write(GeneratedFile generated, File file) throws Exception {
+    if (cache != null || generated.rendering != null) {
+      return write(generated, () -> new FileWriter(file), content -> isUpToDate(file, content));
+    }
+    File tmp = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+    boolean moved = false;
+    try {
+      try (Writer writer = new FileWriter(tmp)) {
+        generated.renderTo(writer);
+      }
+      if (tmp.length() == 0) {
+        return false;
+      }
+      ProcessorMetrics.Sample sample = ProcessorMetrics.sample();
+      try {
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      moved = true;
+      ProcessorMetrics.record(sample, "write");
+      return true;
+    } finally {
+      if (!moved) {
+        tmp.delete();
+      }
+    }
+  }
+
+  /**
+   * Write the content of a file to the writer opened by {@code output}, the writer is only opened when the content
+   * is not empty.
+   * <p/>
+   * The writer is opened once all the parts are rendered, so a generator failure does not leave a partial file that
+   * cannot be discarded, e.g. a source file created with the {@link Filer}. Unless the content must be cached, is
+   * already cached or was rendered concurrently, the parts are streamed to a temporary file as they are rendered and
+   * the temporary file is copied to the writer, so the content of a large file is not held in memory.
+   *
+   * @param generated the file
+   * @param output opens the writer of the file
+   * @param upToDate checks whether the file has already the cached content
+   * @return whether the file was written
+   */
+  private boolean write(GeneratedFile generated, Callable<Writer> output, Predicate<String> upToDate) throws Exception {
+    if (cache == null && generated.rendering == null) {
+      File tmp = File.createTempFile("codegen", ".tmp");
+      try {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(tmp), StandardCharsets.UTF_8)) {
+          generated.renderTo(writer);
+        }
+        if (tmp.length() == 0) {
+          return false;
+        }
+        ProcessorMetrics.Sample sample = ProcessorMetrics.sample();
+        try (Reader reader = new InputStreamReader(new FileInputStream(tmp), StandardCharsets.UTF_8);
+             Writer writer = output.call()) {
+          char[] buffer = new char[8192];
+          int len;
+          while ((len = reader.read(buffer)) != -1) {
+            writer.write(buffer, 0, len);
+          }
+        }
+        ProcessorMetrics.record(sample, "write");
+        return true;
+      } finally {
+        tmp.delete();
+      }
+    }
+    String content = generate(generated);
+    if (content.isEmpty()) {
+      return false;
+    }
+    if (generated.cached != null && upToDate.test(content)) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Up-to-date model " + generated.get(0).model.getFqn() + ": " + generated.uri);
+      count("files.up_to_date");
+      return false;
+    }
+    ProcessorMetrics.Sample writeSample = ProcessorMetrics.sample();
+    try (Writer writer = output.call()) {
+      writer.write(content);
     }
+    ProcessorMetrics.record(writeSample, "write");
     return true;
   }
 
+  /**
+   * Generate the content of a file and store it in the cache when it was not cached.
+   */
+  private String generate(GeneratedFile generated) {
+    String content = generated.generate();
+    if (cache != null && generated.cached == null) {
+      try {
+        cache.put(generated.cacheKey, generated.fingerprint, content);
+      } catch (IOException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Could not cache " + generated.uri + ": " + e.getMessage());
+      }
+    }
+    return content;
+  }
+
+  private void count(String name) {
+    if (metrics != null) {
+      metrics.count(name);
+    }
+  }
+
+  /**
+   * @return whether the class output resource at {@code uri} already has the {@code content}
+   */
+  private boolean isUpToDate(String uri, String content) {
+    try {
+      FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", uri);
+      return content.contentEquals(existing.getCharContent(true));
+    } catch (IOException | IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return whether the {@code file} already has the {@code content}
+   */
+  private boolean isUpToDate(File file, String content) {
+    try {
+      return file.isFile() && content.equals(new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset()));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
   private void reportGenException(GenException e) {
     String name = e.element.toString();
     if (e.element.getKind() == ElementKind.METHOD) {
@@ -380,7 +696,10 @@ public class CodeGenProcessor extends AbstractProcessor {
 
     private final String uri;
     private final Map<String, Object> session = new HashMap<>();
-
+    private Future<String> rendering;
+    private String cacheKey;
+    private String fingerprint;
+    private String cached;
 
     public GeneratedFile(String uri) {
       super();
@@ -395,27 +714,129 @@ public class CodeGenProcessor extends AbstractProcessor {
       return super.add(modelProcessing);
     }
 
+    /**
+     * @return the elements of the models the file is generated from
+     */
+    Element[] originatingElements() {
+      return stream().map(processing -> processing.model.getElement()).toArray(Element[]::new);
+    }
+
+    /**
+     * @return {@code true} when the file is not aggregated by an incremental generator and its generators are
+     * thread safe, so it can be rendered independently of other files
+     */
+    boolean isIndependent() {
+      return stream().allMatch(processing -> processing.generator.threadSafe && !processing.generator.incremental);
+    }
+
+    void renderAsync(ForkJoinPool pool) {
+      Callable<String> task = this::render;
+      ProcessorMetrics metrics = ProcessorMetrics.current();
+      rendering = pool.submit(metrics != null ? metrics.wrap(task) : task);
+    }
+
     String generate() {
+      if (cached != null) {
+        return cached;
+      }
+      if (rendering != null) {
+        try {
+          return rendering.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        } finally {
+          rendering = null;
+        }
+      }
+      return render();
+    }
+
+    void sort() {
       Collections.sort(this, (o1, o2) ->
         o1.model.getElement().getSimpleName().toString().compareTo(
           o2.model.getElement().getSimpleName().toString()));
-      StringBuilder buffer = new StringBuilder();
+    }
+
+    private String render() {
+      sort();
+      StringWriter buffer = new StringWriter();
       for (int i = 0; i < size(); i++) {
-        ModelProcessing processing = get(i);
-        try {
-          String part = processing.generator.render(processing.model, i, size(), session);
-          if (part != null) {
-            buffer.append(part);
-          }
-        } catch (GenException e) {
-          throw e;
-        } catch (Exception e) {
-          GenException genException = new GenException(processing.model.getElement(), e.getMessage());
-          genException.initCause(e);
-          throw genException;
-        }
+        render(i, buffer);
       }
       return buffer.toString();
     }
+
+    /**
+     * Render the parts to the {@code writer} as they are rendered.
+     */
+    void renderTo(Writer writer) {
+      sort();
+      for (int i = 0; i < size(); i++) {
+        render(i, writer);
+      }
+    }
+
+    private void render(int index, Writer writer) {
+      ModelProcessing processing = get(index);
+      ProcessorMetrics.Sample sample = ProcessorMetrics.sample();
+      try {
+        processing.generator.render(processing.model, new RenderContext(index, size(), session), writer);
+      } catch (GenException e) {
+        throw e;
+      } catch (Exception e) {
+        GenException genException = new GenException(processing.model.getElement(), e.getMessage());
+        genException.initCause(e);
+        throw genException;
+      } finally {
+        ProcessorMetrics.record(sample, "render:" + processing.generator.name);
+      }
+    }
+  }
+
+  /**
+   * Writes to two writers, e.g. the class and source outputs of a resource.
+   */
+  private static class TeeWriter extends Writer {
+
+    private final Writer first;
+    private final Writer second;
+
+    TeeWriter(Writer first, Writer second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      first.write(cbuf, off, len);
+      second.write(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+      first.write(str, off, len);
+      second.write(str, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      first.flush();
+      second.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        first.close();
+      } finally {
+        second.close();
+      }
+    }
   }
 }
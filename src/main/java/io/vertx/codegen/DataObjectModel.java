@@ -2,6 +2,7 @@ package io.vertx.codegen;
 
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.InstantEncoding;
 import io.vertx.codegen.doc.Doc;
 import io.vertx.codegen.doc.Tag;
 import io.vertx.codegen.doc.Text;
@@ -52,6 +53,9 @@ public class DataObjectModel implements Model {
   private boolean generateConverter;
   private boolean inheritConverter;
   private boolean publicConverter;
+  private boolean generateBinaryCodec;
+  private InstantEncoding instantEncoding;
+  private boolean transferJsonOwnership;
   private int constructors;
   // ----------------
   private boolean deprecated;
@@ -67,7 +71,7 @@ public class DataObjectModel implements Model {
     this.elementUtils = env.getElementUtils();
     this.typeUtils = env.getTypeUtils();
     this.typeFactory = typeFactory;
-    this.docFactory = new Doc.Factory(env.getMessager(), elementUtils, typeUtils, typeFactory, modelElt);
+    this.docFactory = new Doc.Factory(env, typeFactory, modelElt);
     this.modelElt = modelElt;
     this.annotationValueInfoFactory = new AnnotationValueInfoFactory(typeFactory);
     this.deprecated = modelElt.getAnnotation(Deprecated.class) != null;
@@ -149,6 +153,18 @@ public class DataObjectModel implements Model {
     return publicConverter;
   }
 
+  public boolean getGenerateBinaryCodec() {
+    return generateBinaryCodec;
+  }
+
+  public InstantEncoding getInstantEncoding() {
+    return instantEncoding;
+  }
+
+  public boolean getTransferJsonOwnership() {
+    return transferJsonOwnership;
+  }
+
   public boolean isSerializable() { return type.isDataObjectHolder() && type.getDataObject().isSerializable(); }
 
   public boolean isDeserializable() { return type.isDataObjectHolder() && type.getDataObject().isDeserializable(); }
@@ -188,6 +204,9 @@ public class DataObjectModel implements Model {
     vars.put("generateConverter", generateConverter);
     vars.put("inheritConverter", inheritConverter);
     vars.put("publicConverter", publicConverter);
+    vars.put("generateBinaryCodec", generateBinaryCodec);
+    vars.put("instantEncoding", instantEncoding);
+    vars.put("transferJsonOwnership", transferJsonOwnership);
     vars.put("concrete", concrete);
     vars.put("isClass", isClass);
     vars.put("properties", propertyMap.values());
@@ -226,6 +245,9 @@ public class DataObjectModel implements Model {
     this.generateConverter = ann.generateConverter();
     this.publicConverter = ann.publicConverter();
     this.inheritConverter = ann.inheritConverter();
+    this.generateBinaryCodec = ann.generateBinaryCodec();
+    this.instantEncoding = ann.instantEncoding();
+    this.transferJsonOwnership = ann.transferJsonOwnership();
     this.isClass = modelElt.getKind() == ElementKind.CLASS;
     this.concrete = isClass && !modelElt.getModifiers().contains(Modifier.ABSTRACT);
     try {
@@ -237,7 +259,7 @@ public class DataObjectModel implements Model {
     doc = docFactory.createDoc(modelElt);
     if (doc != null)
       doc.getBlockTags().stream().filter(tag -> tag.getName().equals("deprecated")).findFirst().ifPresent(tag ->
-        deprecatedDesc = new Text(Helper.normalizeWhitespaces(tag.getValue())).map(Token.tagMapper(elementUtils, typeUtils, modelElt))
+        deprecatedDesc = new Text(Helper.normalizeWhitespaces(tag.getValue())).map(Token.tagMapper(elementUtils, typeUtils, typeFactory, modelElt))
       );
     if (getModule() == null) {
       throw new GenException(modelElt, "Data object must have an ancestor package annotated with @ModuleGen");
@@ -602,7 +624,7 @@ public class DataObjectModel implements Model {
           filter(tag -> tag.getName().equals("deprecated")).
           findFirst();
       if (methodDeprecatedTag.isPresent()) {
-        propertyDeprecatedDesc = new Text(Helper.normalizeWhitespaces(methodDeprecatedTag.get().getValue())).map(Token.tagMapper(elementUtils, typeUtils, modelElt));
+        propertyDeprecatedDesc = new Text(Helper.normalizeWhitespaces(methodDeprecatedTag.get().getValue())).map(Token.tagMapper(elementUtils, typeUtils, typeFactory, modelElt));
       }
     }
 
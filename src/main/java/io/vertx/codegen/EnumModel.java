@@ -47,7 +47,7 @@ public class EnumModel implements Model {
     this.typeUtils = env.getTypeUtils();
     this.elementUtils = env.getElementUtils();
     this.typeMirrorFactory = new TypeMirrorFactory(elementUtils, typeUtils);
-    this.docFactory = new Doc.Factory(env.getMessager(), elementUtils, typeUtils, typeMirrorFactory, modelElt);
+    this.docFactory = new Doc.Factory(env, typeMirrorFactory, modelElt);
     this.modelElt = modelElt;
     this.annotationValueInfoFactory = new AnnotationValueInfoFactory(typeMirrorFactory);
     this.deprecated = modelElt.getAnnotation(Deprecated.class) != null;
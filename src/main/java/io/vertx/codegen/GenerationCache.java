@@ -0,0 +1,277 @@
+package io.vertx.codegen;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A persistent cache of generated content stored in the {@code codegen.cache} directory.
+ * <p/>
+ * Each generated file is stored with the fingerprint of the models it has been generated from, the
+ * fingerprint covers the signature, the annotations and the documentation of the model element, its ancestors and
+ * the types it references. When a later build computes the same fingerprint, the cached content is reused
+ * instead of rendering the models again.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class GenerationCache {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final File dir;
+  private final Elements elementUtils;
+  private final String salt;
+
+  /**
+   * @param dir the cache directory
+   * @param elementUtils the element utils
+   * @param salt a value mixed in every fingerprint, it should capture the processor configuration
+   */
+  GenerationCache(File dir, Elements elementUtils, String salt) {
+    this.dir = dir;
+    this.elementUtils = elementUtils;
+    this.salt = salt;
+  }
+
+  /**
+   * Compute the fingerprint of a file generated from a list of models, this must be called from the
+   * processor thread as it inspects the model elements.
+   *
+   * @param generators the generator of each model
+   * @param models the models
+   * @return the fingerprint
+   */
+  String fingerprint(List<? extends Generator<?>> generators, List<? extends Model> models) {
+    StringBuilder buffer = new StringBuilder(salt);
+    for (int i = 0;i < models.size();i++) {
+      Generator<?> generator = generators.get(i);
+      Model model = models.get(i);
+      buffer.append('\n').append(generator.name).append(':').append(generator.getClass().getName());
+      buffer.append('\n').append(model.getKind()).append(':').append(model.getFqn());
+      Set<Element> visited = new HashSet<>();
+      digest(model.getElement(), true, visited, buffer);
+    }
+    return hash(buffer.toString());
+  }
+
+  /**
+   * Lookup the content of a generated file.
+   *
+   * @param key the generated file key
+   * @param fingerprint the expected fingerprint
+   * @return the cached content or {@code null} when absent or when the fingerprint does not match
+   */
+  String get(String key, String fingerprint) {
+    File file = file(key);
+    if (file.isFile()) {
+      try {
+        String entry = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        int idx = entry.indexOf('\n');
+        if (idx != -1 && entry.substring(0, idx).equals(fingerprint)) {
+          return entry.substring(idx + 1);
+        }
+      } catch (IOException ignore) {
+        // Treat as a miss
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Store the content of a generated file.
+   *
+   * @param key the generated file key
+   * @param fingerprint the fingerprint of the file
+   * @param content the content
+   * @throws IOException when the cache cannot be written
+   */
+  void put(String key, String fingerprint, String content) throws IOException {
+    File file = file(key);
+    Helper.ensureParentDir(file);
+    File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+    Files.write(tmp.toPath(), (fingerprint + '\n' + content).getBytes(StandardCharsets.UTF_8));
+    Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private File file(String key) {
+    return new File(dir, hash(key) + ".gen");
+  }
+
+  private void digest(Element elt, boolean deep, Set<Element> visited, StringBuilder buffer) {
+    if (elt == null || !visited.add(elt)) {
+      return;
+    }
+    if (elt instanceof TypeElement && isPlatformType((TypeElement) elt)) {
+      // Stable for a given JDK
+      buffer.append('\n').append(elt);
+      return;
+    }
+    buffer.append('\n').append(elt.getKind()).append(' ').append(elt.getModifiers()).append(' ').append(elt);
+    elt.getAnnotationMirrors().forEach(ann -> buffer.append('\n').append(ann));
+    if (deep) {
+      String doc = elementUtils.getDocComment(elt);
+      if (doc != null) {
+        buffer.append('\n').append(doc);
+      }
+    }
+    if (elt instanceof TypeElement) {
+      TypeElement typeElt = (TypeElement) elt;
+      buffer.append("\nextends ").append(typeElt.getSuperclass()).append(" implements ").append(typeElt.getInterfaces());
+      if (deep) {
+        // Ancestors contribute inherited state and documentation
+        digestType(typeElt.getSuperclass(), true, visited, buffer);
+        typeElt.getInterfaces().forEach(type -> digestType(type, true, visited, buffer));
+      }
+      if (deep) {
+        // Nested types first so they are not only shallow digested when a member references them
+        typeElt.getEnclosedElements().stream()
+          .filter(enclosedElt -> enclosedElt.getKind().isClass() || enclosedElt.getKind().isInterface())
+          .forEach(enclosedElt -> digest(enclosedElt, true, visited, buffer));
+        typeElt.getEnclosedElements().stream()
+          .filter(enclosedElt -> !enclosedElt.getKind().isClass() && !enclosedElt.getKind().isInterface())
+          .forEach(enclosedElt -> digestMember(enclosedElt, visited, buffer));
+      } else {
+        for (Element enclosedElt : typeElt.getEnclosedElements()) {
+          buffer.append('\n').append(enclosedElt.getModifiers()).append(' ').append(enclosedElt);
+        }
+      }
+    }
+  }
+
+  private void digestMember(Element memberElt, Set<Element> visited, StringBuilder buffer) {
+    buffer.append('\n').append(memberElt.getKind()).append(' ').append(memberElt.getModifiers()).append(' ').append(memberElt);
+    memberElt.getAnnotationMirrors().forEach(ann -> buffer.append('\n').append(ann));
+    String doc = elementUtils.getDocComment(memberElt);
+    if (doc != null) {
+      buffer.append('\n').append(doc);
+    }
+    if (memberElt.getKind() == ElementKind.METHOD || memberElt.getKind() == ElementKind.CONSTRUCTOR) {
+      ExecutableElement methodElt = (ExecutableElement) memberElt;
+      buffer.append(" : ").append(methodElt.getReturnType());
+      digestType(methodElt.getReturnType(), false, visited, buffer);
+      for (VariableElement paramElt : methodElt.getParameters()) {
+        paramElt.getAnnotationMirrors().forEach(ann -> buffer.append('\n').append(ann));
+        digestType(paramElt.asType(), false, visited, buffer);
+      }
+    } else if (memberElt.getKind() == ElementKind.FIELD) {
+      Object value = ((VariableElement) memberElt).getConstantValue();
+      if (value != null) {
+        buffer.append(" = ").append(value);
+      }
+      digestType(memberElt.asType(), false, visited, buffer);
+    }
+  }
+
+  private void digestType(TypeMirror type, boolean deep, Set<Element> visited, StringBuilder buffer) {
+    if (type.getKind() == TypeKind.DECLARED) {
+      DeclaredType declaredType = (DeclaredType) type;
+      digest(declaredType.asElement(), deep, visited, buffer);
+      declaredType.getTypeArguments().forEach(arg -> digestType(arg, false, visited, buffer));
+    }
+  }
+
+  private static boolean isPlatformType(TypeElement elt) {
+    String fqn = elt.getQualifiedName().toString();
+    return fqn.startsWith("java.") || fqn.startsWith("javax.");
+  }
+
+  /**
+   * Compute the version of the code of a class, i.e its {@code Implementation-Version} and a checksum of its code
+   * source: the jar containing the class or the class files of its package and sub packages when it is loaded from a
+   * directory. This is mixed in the fingerprints so an upgraded or rebuilt generator does not reuse the content of
+   * the previous one.
+   *
+   * @param clazz the class
+   * @param checksums the checksums already computed by location
+   * @return the code version
+   */
+  static String codeVersion(Class<?> clazz, Map<File, String> checksums) {
+    StringBuilder version = new StringBuilder();
+    Package pkg = clazz.getPackage();
+    if (pkg != null && pkg.getImplementationVersion() != null) {
+      version.append(pkg.getImplementationVersion());
+    }
+    try {
+      CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+      File location = codeSource != null && codeSource.getLocation() != null ? new File(codeSource.getLocation().toURI()) : null;
+      if (location != null && location.isDirectory()) {
+        location = new File(location, pkg != null ? pkg.getName().replace('.', File.separatorChar) : "");
+      }
+      if (location == null || !location.exists()) {
+        // Not a local file, only rely on the version
+        return version.toString();
+      }
+      String checksum = checksums.get(location);
+      if (checksum == null) {
+        checksum = checksum(location);
+        checksums.put(location, checksum);
+      }
+      return version.append(':').append(checksum).toString();
+    } catch (IOException | URISyntaxException | IllegalArgumentException | SecurityException e) {
+      return version.toString();
+    }
+  }
+
+  /**
+   * @return the checksum of a jar file or of the class files of a package directory and its sub packages
+   */
+  private static String checksum(File location) throws IOException {
+    MessageDigest digest = digest();
+    if (location.isFile()) {
+      digest.update(Files.readAllBytes(location.toPath()));
+    } else {
+      List<Path> files;
+      try (Stream<Path> stream = Files.walk(location.toPath())) {
+        files = stream.filter(path -> path.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+      }
+      for (Path file : files) {
+        digest.update(location.toPath().relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(Files.readAllBytes(file));
+      }
+    }
+    return hex(digest.digest());
+  }
+
+  private static MessageDigest digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static String hash(String s) {
+    return hex(digest().digest(s.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static String hex(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0;i < bytes.length;i++) {
+      chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+}
@@ -1,6 +1,10 @@
 package io.vertx.codegen;
 
 import javax.annotation.processing.ProcessingEnvironment;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
@@ -9,6 +13,10 @@ import java.util.Set;
 
 /**
  * A generator for a {@link Model}.
+ * <p/>
+ * A generator renders a model either as a string with {@link #render(Model, int, int, Map)} or to a writer
+ * with {@link #render(Model, RenderContext, Writer)}, the processor renders with the writer so the output of a
+ * generator overriding it is streamed instead of being built as a string.
  *
  * @param <M> the model
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -20,10 +28,42 @@ public abstract class Generator<M extends Model> {
   public Set<String> kinds;
   public boolean incremental;
 
+  /**
+   * Whether each file of the generator is rendered from a single model and only depends on the element of this
+   * model and the types it references. The processor is an {@code isolating} Gradle incremental annotation processor
+   * only when all its non incremental generators declare it.
+   */
+  public boolean isolating;
+
+  /**
+   * Whether the generator can render several models concurrently, i.e its rendering does not mutate the generator
+   * state. The processor only renders the files of thread safe generators concurrently with {@code codegen.threads}.
+   */
+  public boolean threadSafe;
+
+  private final boolean rendersToWriter;
+
+  protected Generator() {
+    boolean overridden;
+    try {
+      overridden = getClass().getMethod("render", Model.class, RenderContext.class, Writer.class).getDeclaringClass() != Generator.class;
+    } catch (NoSuchMethodException e) {
+      overridden = false;
+    }
+    rendersToWriter = overridden;
+  }
+
   public Collection<Class<? extends Annotation>> annotations() {
     return Collections.emptySet();
   }
 
+  /**
+   * @return the processor options supported by this generator
+   */
+  public Collection<String> options() {
+    return Collections.emptySet();
+  }
+
   public void load(ProcessingEnvironment processingEnv) {
     env = processingEnv;
   }
@@ -59,6 +99,33 @@ public abstract class Generator<M extends Model> {
    * @return the rendered string or {@code null}
    */
   public String render(M model, int index, int size, Map<String, Object> session) {
+    if (rendersToWriter) {
+      StringWriter buffer = new StringWriter();
+      try {
+        render(model, new RenderContext(index, size, session), buffer);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return buffer.toString();
+    }
     return null;
   }
+
+  /**
+   * Render the model to the {@code writer}, by default the string rendered by {@link #render(Model, int, int, Map)}
+   * is written.
+   * <p/>
+   * The writer streams to a temporary file that becomes the generated file once all its parts are rendered, the
+   * file is not created when nothing is written and is discarded when a part fails to render.
+   *
+   * @param model the model
+   * @param context the render context
+   * @param writer the writer of the part
+   */
+  public void render(M model, RenderContext context, Writer writer) throws IOException {
+    String content = render(model, context.getIndex(), context.getSize(), context.getSession());
+    if (content != null) {
+      writer.write(content);
+    }
+  }
 }
@@ -31,6 +31,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -625,55 +626,93 @@ public class Helper {
   public static Method getReflectMethod(ProcessingEnvironment env, ExecutableElement modelMethod) {
     ClassLoader loader = CodeGen.loaderMap.get(env);
     if (loader != null) {
-      return getReflectMethod(loader, modelMethod);
+      return getReflectMethod(env, loader, modelMethod);
     }
     return null;
   }
 
+  /**
+   * The index of the public methods of a class by signature, see {@link #getReflectMethod(ClassLoader, ExecutableElement)}.
+   */
+  private static final ClassValue<Map<String, Method>> METHOD_INDEX = new ClassValue<Map<String, Method>>() {
+    @Override
+    protected Map<String, Method> computeValue(Class<?> clazz) {
+      Map<String, Method> index = new HashMap<>();
+      for (Method m : clazz.getMethods()) {
+        String sign = m.toGenericString();
+        int pos = sign.indexOf('(');
+        pos = sign.lastIndexOf('.', pos) + 1;
+        sign = sign.substring(pos);
+        sign = sign.replace(", ", ","); // Remove space between arguments
+        index.merge(sign, m, (method, other) -> method.getReturnType().isAssignableFrom(other.getReturnType()) ? other : method);
+      }
+      return index;
+    }
+  };
+
+  /**
+   * The names of the classes a class loader cannot load per processing environment, the values do not reference
+   * the environment so it can be collected.
+   */
+  private static final Map<ProcessingEnvironment, Map<ClassLoader, Set<String>>> MISSING_CLASSES = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Like {@link #getReflectMethod(ClassLoader, ExecutableElement)} but remembers the classes the {@code loader}
+   * cannot load for the lifetime of the processing environment {@code env}.
+   */
+  public static Method getReflectMethod(ProcessingEnvironment env, ClassLoader loader, ExecutableElement modelMethod) {
+    TypeElement typeElt = (TypeElement) modelMethod.getEnclosingElement();
+    String className = typeElt.getQualifiedName().toString();
+    Set<String> missing = MISSING_CLASSES
+      .computeIfAbsent(env, e -> new ConcurrentHashMap<>())
+      .computeIfAbsent(loader, l -> ConcurrentHashMap.newKeySet());
+    if (missing.contains(className)) {
+      return null;
+    }
+    Class<?> clazz;
+    try {
+      clazz = loader.loadClass(className);
+    } catch (ClassNotFoundException e) {
+      missing.add(className);
+      return null;
+    }
+    return getReflectMethod(clazz, modelMethod);
+  }
+
   /**
    * Returns a {@link Method } corresponding to the {@literal methodElt} parameter. Obviously this work
    * only when the corresponding method is available on the classpath using java lang reflection.
+   * <p/>
+   * The methods of a class are indexed by signature the first time the class is looked up, so the lookup
+   * does not depend on the method count of the class.
    *
    * @param modelMethod the model method element
    * @return the method or null if not found
    */
   public static Method getReflectMethod(ClassLoader loader, ExecutableElement modelMethod) {
     TypeElement typeElt = (TypeElement) modelMethod.getEnclosingElement();
-    Method method = null;
+    Class<?> clazz;
     try {
-      Class<?> clazz = loader.loadClass(typeElt.getQualifiedName().toString());
-      StringBuilder sb = new StringBuilder(modelMethod.getSimpleName());
-      sb.append("(");
-      List<? extends VariableElement> params = modelMethod.getParameters();
-      for (int i = 0;i < params.size();i++) {
-        if (i > 0) {
-          sb.append(",");
-        }
-        VariableElement param = params.get(i);
-        toString(param.asType(), sb);
-      }
-      sb.append(")");
-      String s = sb.toString();
-      for (Method m : clazz.getMethods()) {
-        String sign = m.toGenericString();
-        int pos = sign.indexOf('(');
-        pos = sign.lastIndexOf('.', pos) + 1;
-        sign = sign.substring(pos);
-        sign = sign.replace(", ", ","); // Remove space between arguments
-        if (sign.equals(s)) {
-          // Test this case
-          if (method != null) {
-            if (method.getReturnType().isAssignableFrom(m.getReturnType())) {
-              method = m;
-            }
-          } else {
-            method = m;
-          }
-        }
-      }
+      clazz = loader.loadClass(typeElt.getQualifiedName().toString());
     } catch (ClassNotFoundException e) {
+      return null;
+    }
+    return getReflectMethod(clazz, modelMethod);
+  }
+
+  private static Method getReflectMethod(Class<?> clazz, ExecutableElement modelMethod) {
+    StringBuilder sb = new StringBuilder(modelMethod.getSimpleName());
+    sb.append("(");
+    List<? extends VariableElement> params = modelMethod.getParameters();
+    for (int i = 0;i < params.size();i++) {
+      if (i > 0) {
+        sb.append(",");
+      }
+      VariableElement param = params.get(i);
+      toString(param.asType(), sb);
     }
-    return method;
+    sb.append(")");
+    return METHOD_INDEX.get(clazz).get(sb.toString());
   }
 
   public static ClassKind getAnnotatedDataObjectAnnotatedSerializationType(Elements elementUtils, TypeElement dataObjectElt) {
@@ -14,10 +14,15 @@ import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
@@ -47,20 +52,66 @@ public class ModuleInfo {
   static {
     BiFunction<Elements, String, Set<PackageElement>> result = getPackageElementJava8;
     try {
-      Method method = Elements.class.getDeclaredMethod("getAllPackageElements", CharSequence.class);
+      MethodHandle handle = MethodHandles.publicLookup().findVirtual(Elements.class, "getAllPackageElements", MethodType.methodType(Set.class, CharSequence.class));
       result = (elts, fqn) -> {
         try {
-          return (Set<PackageElement>) method.invoke(elts, fqn);
-        } catch (Exception e) {
+          return (Set<PackageElement>) handle.invokeExact(elts, (CharSequence) fqn);
+        } catch (Throwable e) {
           return getPackageElementJava8.apply(elts, fqn);
         }
       };
-    } catch (NoSuchMethodException e) {
+    } catch (NoSuchMethodException | IllegalAccessException e) {
       // Java 8
     }
     getPackageElement = result;
   }
 
+  /**
+   * The resolved modules of the packages, indexed by element utils, i.e by processing environment. The index only
+   * retains names and module infos so it does not prevent the processing environment to be collected.
+   */
+  private static final Map<Elements, ModuleIndex> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private static class ModuleIndex {
+
+    /**
+     * Maps a package name to the name of the package annotated with {@link ModuleGen} or to the empty string
+     * when the package does not belong to a module.
+     */
+    private final Map<String, String> modulePackages = new ConcurrentHashMap<>();
+    private final Map<String, ModuleInfo> modules = new ConcurrentHashMap<>();
+
+    private String resolve(Elements elementUtils, PackageElement pkgElt, String pkgQN) {
+      String modulePackage = modulePackages.get(pkgQN);
+      if (modulePackage == null) {
+        ModuleGen annotation = pkgElt != null ? pkgElt.getAnnotation(ModuleGen.class) : null;
+        if (annotation != null) {
+          modules.putIfAbsent(pkgQN, new ModuleInfo(pkgQN, annotation.name(), annotation.groupPackage()));
+          modulePackage = pkgQN;
+        } else {
+          int pos = pkgQN.lastIndexOf('.');
+          if (pos == -1) {
+            modulePackage = "";
+          } else {
+            String parentQN = pkgQN.substring(0, pos);
+            modulePackage = resolve(elementUtils, getFirstPackageElement(elementUtils, parentQN), parentQN);
+          }
+        }
+        modulePackages.put(pkgQN, modulePackage);
+      }
+      return modulePackage;
+    }
+  }
+
+  private static PackageElement getFirstPackageElement(Elements elementUtils, String pkgQN) {
+    Set<PackageElement> pkgElts = getPackageElement.apply(elementUtils, pkgQN);
+    return pkgElts.isEmpty() ? null : pkgElts.iterator().next();
+  }
+
+  private static ModuleIndex index(Elements elementUtils) {
+    return indexes.computeIfAbsent(elementUtils, elts -> new ModuleIndex());
+  }
+
   /**
    * Resolve a module info for the specified {@code pkgElt} argument, returns null for undertermined.
    *
@@ -69,11 +120,10 @@ public class ModuleInfo {
    * @return the module info
    */
   public static ModuleInfo resolve(Elements elementUtils, PackageElement pkgElt) {
-    PackageElement result = resolveFirstModuleGenAnnotatedPackageElement(elementUtils, pkgElt);
-    if (result != null) {
-      ModuleGen annotation = result.getAnnotation(ModuleGen.class);
-      return new ModuleInfo(result.getQualifiedName().toString(), annotation.name(), annotation.groupPackage());
-    } else return null;
+    if (pkgElt == null) return null;
+    ModuleIndex index = index(elementUtils);
+    String modulePackage = index.resolve(elementUtils, pkgElt, pkgElt.getQualifiedName().toString());
+    return modulePackage.isEmpty() ? null : index.modules.get(modulePackage);
   }
 
   public static DeclaredType resolveJsonMapper(Elements elementUtils, Types typeUtils, PackageElement pkgElt, DeclaredType javaType) {
@@ -102,23 +152,14 @@ public class ModuleInfo {
   public static PackageElement resolveFirstModuleGenAnnotatedPackageElement(Elements elementUtils, PackageElement pkgElt) {
     if (pkgElt == null) return null;
     String pkgQN = pkgElt.getQualifiedName().toString();
-    while (true) {
-      if (pkgElt != null) {
-        ModuleGen annotation = pkgElt.getAnnotation(ModuleGen.class);
-        if (annotation != null) {
-          return pkgElt;
-        }
-      }
-      int pos = pkgQN.lastIndexOf('.');
-      if (pos == -1) {
-        break;
-      } else {
-        pkgQN = pkgQN.substring(0, pos);
-        Set<PackageElement> pkgElts = getPackageElement.apply(elementUtils, pkgQN);
-        pkgElt = pkgElts.isEmpty() ? null : pkgElts.iterator().next();
-      }
+    String modulePackage = index(elementUtils).resolve(elementUtils, pkgElt, pkgQN);
+    if (modulePackage.isEmpty()) {
+      return null;
+    } else if (modulePackage.equals(pkgQN)) {
+      return pkgElt;
+    } else {
+      return getFirstPackageElement(elementUtils, modulePackage);
     }
-    return null;
   }
 
   public String getGroupPackage() {
@@ -0,0 +1,216 @@
+package io.vertx.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of the processor phases recorded when the {@code codegen.metrics} option is set.
+ * <p/>
+ * Each phase records the number of executions, the wall time and the bytes allocated by the thread executing it,
+ * a phase includes the phases it executes, e.g {@code process:class} includes the {@code doc} phases of the
+ * class model. The metrics are bound to the processor thread and to the rendering threads, the code that
+ * can be instrumented obtains them with {@link #current()}.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public final class ProcessorMetrics {
+
+  private static final ThreadLocal<ProcessorMetrics> current = new ThreadLocal<>();
+  private static final com.sun.management.ThreadMXBean threadBean = threadBean();
+
+  private static com.sun.management.ThreadMXBean threadBean() {
+    try {
+      java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (sunBean.isThreadAllocatedMemorySupported()) {
+          if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+          }
+          return sunBean;
+        }
+      }
+    } catch (Throwable ignore) {
+      // Not a HotSpot JVM
+    }
+    return null;
+  }
+
+  /**
+   * @return the metrics bound to the current thread or {@code null} when metrics are not recorded
+   */
+  public static ProcessorMetrics current() {
+    return current.get();
+  }
+
+  /**
+   * Start recording a phase with the metrics bound to the current thread.
+   *
+   * @return the sample to stop or {@code null} when metrics are not recorded
+   */
+  public static Sample sample() {
+    ProcessorMetrics metrics = current.get();
+    return metrics != null ? metrics.start() : null;
+  }
+
+  /**
+   * Stop recording a phase started with {@link #sample()}, this is a no-op when the sample is {@code null}.
+   *
+   * @param sample the sample
+   * @param phase the phase name
+   */
+  public static void record(Sample sample, String phase) {
+    if (sample != null) {
+      sample.stop(phase);
+    }
+  }
+
+  private static long allocatedBytes(long threadId) {
+    return threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : -1L;
+  }
+
+  private final Map<String, Phase> phases = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Bind the metrics to the current thread.
+   *
+   * @return the metrics previously bound
+   */
+  ProcessorMetrics bind() {
+    ProcessorMetrics prev = current.get();
+    current.set(this);
+    return prev;
+  }
+
+  /**
+   * Restore the metrics previously bound to the current thread.
+   */
+  static void unbind(ProcessorMetrics prev) {
+    if (prev != null) {
+      current.set(prev);
+    } else {
+      current.remove();
+    }
+  }
+
+  /**
+   * Call the {@code task} with the metrics bound to the executing thread.
+   */
+  <T> Callable<T> wrap(Callable<T> task) {
+    return () -> {
+      ProcessorMetrics prev = bind();
+      try {
+        return task.call();
+      } finally {
+        unbind(prev);
+      }
+    };
+  }
+
+  /**
+   * Start recording a phase on the current thread.
+   */
+  public Sample start() {
+    return new Sample(this);
+  }
+
+  /**
+   * Increment a counter.
+   *
+   * @param name the counter name
+   */
+  public void count(String name) {
+    counters.computeIfAbsent(name, n -> new LongAdder()).increment();
+  }
+
+  /**
+   * Write the report, the format is CSV when the file name ends with {@code .csv} and JSON otherwise.
+   *
+   * @param file the report file
+   */
+  void write(File file) throws IOException {
+    Helper.ensureParentDir(file);
+    Map<String, Phase> sortedPhases = new TreeMap<>(phases);
+    Map<String, LongAdder> sortedCounters = new TreeMap<>(counters);
+    try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+      if (file.getName().endsWith(".csv")) {
+        writer.print("type,name,count,wall_nanos,allocated_bytes\n");
+        sortedPhases.forEach((name, phase) -> writer.print("phase," + name + "," + phase.count + "," + phase.wallNanos + "," + phase.allocatedBytes + "\n"));
+        sortedCounters.forEach((name, count) -> writer.print("counter," + name + "," + count + ",,\n"));
+      } else {
+        writer.print("{\n");
+        writer.print("  \"phases\": {");
+        String sep = "\n";
+        for (Map.Entry<String, Phase> entry : sortedPhases.entrySet()) {
+          Phase phase = entry.getValue();
+          writer.print(sep + "    \"" + entry.getKey() + "\": {\"count\": " + phase.count + ", \"wallNanos\": " + phase.wallNanos + ", \"allocatedBytes\": " + phase.allocatedBytes + "}");
+          sep = ",\n";
+        }
+        writer.print("\n  },\n");
+        writer.print("  \"counters\": {");
+        sep = "\n";
+        for (Map.Entry<String, LongAdder> entry : sortedCounters.entrySet()) {
+          writer.print(sep + "    \"" + entry.getKey() + "\": " + entry.getValue());
+          sep = ",\n";
+        }
+        writer.print("\n  }\n");
+        writer.print("}\n");
+      }
+    }
+  }
+
+  /**
+   * A phase being recorded on a thread.
+   */
+  public static final class Sample {
+
+    private final ProcessorMetrics metrics;
+    private final long threadId;
+    private final long startNanos;
+    private final long startBytes;
+
+    private Sample(ProcessorMetrics metrics) {
+      this.metrics = metrics;
+      this.threadId = Thread.currentThread().getId();
+      this.startBytes = allocatedBytes(threadId);
+      this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * @return the metrics recording the sample
+     */
+    ProcessorMetrics metrics() {
+      return metrics;
+    }
+
+    /**
+     * Stop recording, this must be called from the thread that started the sample.
+     *
+     * @param phase the phase name
+     */
+    public void stop(String phase) {
+      long wallNanos = System.nanoTime() - startNanos;
+      long allocated = startBytes >= 0 ? allocatedBytes(threadId) - startBytes : 0L;
+      Phase stats = metrics.phases.computeIfAbsent(phase, n -> new Phase());
+      stats.count.increment();
+      stats.wallNanos.add(wallNanos);
+      stats.allocatedBytes.add(allocated);
+    }
+  }
+
+  private static final class Phase {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder wallNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+  }
+}
@@ -0,0 +1,45 @@
+package io.vertx.codegen;
+
+import java.util.Map;
+
+/**
+ * The context of a model rendering, it describes the position of the model in the file being generated.
+ * <p/>
+ * The context is immutable, the session is the only mutable state shared by the renderings of the models of a file,
+ * the models of a file are rendered sequentially so the session does not need to be thread safe.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public final class RenderContext {
+
+  private final int index;
+  private final int size;
+  private final Map<String, Object> session;
+
+  public RenderContext(int index, int size, Map<String, Object> session) {
+    this.index = index;
+    this.size = size;
+    this.session = session;
+  }
+
+  /**
+   * @return the index of the model in the file for an incremental generator
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * @return the number of models of the file for an incremental generator
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return the session of the file
+   */
+  public Map<String, Object> getSession() {
+    return session;
+  }
+}
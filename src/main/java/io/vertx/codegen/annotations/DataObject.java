@@ -53,7 +53,20 @@ import java.lang.annotation.Target;
  * generated methods only handle the conversion of the property of the data object and do not handle the properties of the
  * ancestors of this data object, {@link #inheritConverter()} can be set to true to change this behavior and handle the
  * conversion of the inherited properties as well. The converter generation can be prevented with the
- * {@link #generateConverter()} annotation member.
+ * {@link #generateConverter()} annotation member.<p/>
+ *
+ * A binary codec can be generated with the {@link #generateBinaryCodec()} annotation member, the codec has the
+ * {@code writeTo(T,Buffer)} and {@code readFrom(Buffer,int,T)} methods that encode the properties of the data object
+ * in a compact binary format.<p/>
+ *
+ * The {@link java.time.Instant} properties are converted to ISO-8601 strings, {@link #instantEncoding()} can
+ * encode them as a number of milliseconds or nanoseconds from the epoch instead, the {@link JsonInstant} annotation
+ * overrides this encoding for a single property.<p/>
+ *
+ * The converter {@code fromJson} method sets a copy of the {@code JsonObject} and {@code JsonArray} members on the
+ * data object, with {@link #transferJsonOwnership()} it sets the members as is instead: the data object takes the
+ * ownership of the members and the caller must not modify them afterwards, e.g when the JSON has just been parsed.
+ * The {@link TransferJsonOwnership} annotation overrides this setting for a single property.
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -76,6 +89,21 @@ public @interface DataObject {
    */
   boolean publicConverter() default true;
 
+  /**
+   * @return true if a binary codec should be generated for the data object
+   */
+  boolean generateBinaryCodec() default false;
+
+  /**
+   * @return the JSON encoding of the {@link java.time.Instant} properties
+   */
+  InstantEncoding instantEncoding() default InstantEncoding.ISO_8601;
+
+  /**
+   * @return true if the converter should set the {@code JsonObject} and {@code JsonArray} members without copying them
+   */
+  boolean transferJsonOwnership() default false;
+
   /**
    * @return todo
    */
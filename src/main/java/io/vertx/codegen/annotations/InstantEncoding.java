@@ -0,0 +1,25 @@
+package io.vertx.codegen.annotations;
+
+/**
+ * The JSON encoding of the {@link java.time.Instant} properties of a data object.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public enum InstantEncoding {
+
+  /**
+   * A string formatted like {@link java.time.format.DateTimeFormatter#ISO_INSTANT}, e.g {@code 2019-04-01T12:00:00.250Z}.
+   */
+  ISO_8601,
+
+  /**
+   * A number of milliseconds from the epoch, the sub-millisecond part of the instant is truncated.
+   */
+  EPOCH_MILLIS,
+
+  /**
+   * A number of nanoseconds from the epoch, only the instants between the years 1677 and 2262 can be encoded.
+   */
+  EPOCH_NANOS
+
+}
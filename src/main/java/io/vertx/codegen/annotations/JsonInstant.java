@@ -0,0 +1,23 @@
+package io.vertx.codegen.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the {@link DataObject#instantEncoding()} of a data object property, the annotation can be declared
+ * on the field, the getter or the setter of the property.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface JsonInstant {
+
+  /**
+   * @return the encoding of the property
+   */
+  InstantEncoding value();
+
+}
@@ -0,0 +1,23 @@
+package io.vertx.codegen.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the {@link DataObject#transferJsonOwnership()} of a {@code JsonObject} or {@code JsonArray} data object
+ * property, the annotation can be declared on the field, the getter or the setter of the property.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface TransferJsonOwnership {
+
+  /**
+   * @return true if the converter sets the JSON members of the property without copying them
+   */
+  boolean value() default true;
+
+}
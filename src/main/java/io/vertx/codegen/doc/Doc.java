@@ -1,8 +1,10 @@
 package io.vertx.codegen.doc;
 
+import io.vertx.codegen.ProcessorMetrics;
 import io.vertx.codegen.type.TypeMirrorFactory;
 
 import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
@@ -27,6 +29,12 @@ import java.util.regex.Pattern;
  */
 public class Doc {
 
+  /**
+   * The processor option that disables the documentation of the models when set to {@code false}, the doc comments
+   * are then not retrieved and the docs of the models are {@code null}.
+   */
+  public static final String DOCS_OPTION = "codegen.docs";
+
   private static final Pattern TAG_START = Pattern.compile("(^|\n)\\p{javaWhitespace}*@([^\\p{javaWhitespace}]+)", Pattern.MULTILINE);
   private static final Pattern BODY_START = Pattern.compile("\n{2,}");
 
@@ -107,11 +115,13 @@ public class Doc {
    */
   public List<Token> getTokens() {
     if (body != null) {
-      ArrayList<Token> tokens = new ArrayList<>(firstSentence.tokens.size() + 2 + body.tokens.size());
-      tokens.addAll(firstSentence.tokens);
+      List<Token> firstSentenceTokens = firstSentence.getTokens();
+      List<Token> bodyTokens = body.getTokens();
+      ArrayList<Token> tokens = new ArrayList<>(firstSentenceTokens.size() + 2 + bodyTokens.size());
+      tokens.addAll(firstSentenceTokens);
       tokens.add(new Token.LineBreak("\n"));
       tokens.add(new Token.LineBreak("\n"));
-      tokens.addAll(body.tokens);
+      tokens.addAll(bodyTokens);
       return tokens;
     } else {
       return firstSentence.getTokens();
@@ -153,29 +163,66 @@ public class Doc {
     private final Types typeUtils;
     private final TypeMirrorFactory typeFactory;
     private final TypeElement ownerElt;
+    private final boolean enabled;
+
+    public Factory(ProcessingEnvironment env, TypeMirrorFactory typeFactory, TypeElement ownerElt) {
+      this(env.getMessager(), env.getElementUtils(), env.getTypeUtils(), typeFactory, ownerElt, !"false".equalsIgnoreCase(env.getOptions().get(DOCS_OPTION)));
+    }
 
     public Factory(Messager messager, Elements elementUtils, Types typeUtils, TypeMirrorFactory typeFactory, TypeElement ownerElt) {
+      this(messager, elementUtils, typeUtils, typeFactory, ownerElt, true);
+    }
+
+    private Factory(Messager messager, Elements elementUtils, Types typeUtils, TypeMirrorFactory typeFactory, TypeElement ownerElt, boolean enabled) {
       this.messager = messager;
       this.elementUtils = elementUtils;
       this.typeUtils = typeUtils;
       this.typeFactory = typeFactory;
       this.ownerElt = ownerElt;
+      this.enabled = enabled;
+    }
+
+    /**
+     * @return whether the docs are enabled, i.e the {@link #DOCS_OPTION} option is not {@code false}
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * @param elt the element
+     * @return the comment of the element or {@code null} when it has no comment or the docs are disabled
+     */
+    public String getDocComment(Element elt) {
+      return enabled ? elementUtils.getDocComment(elt) : null;
     }
 
     /**
      * When the {@code elt} argument has a comment, this comment is parsed and returned as a {@link Doc}
-     * object.
+     * object. The tokens of the doc are created and their links resolved on first access.
      *
      * @param elt the element
      * @return the comment object
      */
     public Doc createDoc(Element elt) {
+      if (!enabled) {
+        return null;
+      }
+      ProcessorMetrics.Sample sample = ProcessorMetrics.sample();
+      try {
+        return doCreateDoc(elt);
+      } finally {
+        ProcessorMetrics.record(sample, "doc");
+      }
+    }
+
+    private Doc doCreateDoc(Element elt) {
       String docComment = elementUtils.getDocComment(elt);
       if (docComment != null) {
         Doc doc = Doc.create(docComment);
 
         // Rewrite the link token with more contextual type info
-        Function<Token, Token> mapper = Token.tagMapper(elementUtils, typeUtils, ownerElt);
+        Function<Token, Token> mapper = Token.tagMapper(elementUtils, typeUtils, typeFactory, ownerElt);
 
         //
         return new Doc(
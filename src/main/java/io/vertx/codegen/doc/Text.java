@@ -6,22 +6,51 @@ import java.util.stream.Collectors;
 
 /**
  * A structured text, it can be evaluated as a stream of tokens.
+ * <p/>
+ * The tokens are created on first access. When mappings are deferred, a mapped text maps its tokens on first
+ * access as well, so a text that is never rendered does not pay for the resolution of its links.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class Text {
 
+  private static final ThreadLocal<Boolean> deferMappings = new ThreadLocal<>();
+
+  /**
+   * Set whether the texts mapped by the current thread defer their mapping to the first access of their tokens.
+   * The mapping of a text can use the processing environment, so the tokens of such texts must be accessed
+   * before the processing is over and by the thread that owns the processing environment, mappings must
+   * not be deferred when texts are rendered concurrently.
+   *
+   * @param defer whether to defer the mappings
+   * @return the previous value
+   */
+  public static boolean deferMappings(boolean defer) {
+    boolean prev = deferMappings.get() != null;
+    if (defer) {
+      deferMappings.set(Boolean.TRUE);
+    } else {
+      deferMappings.remove();
+    }
+    return prev;
+  }
+
   final String value;
-  final List<Token> tokens;
+  private final boolean mapped;
+  private Text source;
+  private Function<Token, Token> mapping;
+  private volatile List<Token> tokens;
 
   public Text(String value) {
     this.value = value;
-    this.tokens = Token.tokenize(value);
+    this.mapped = false;
   }
 
-  private Text(String value, List<Token> tokens) {
+  private Text(String value, Text source, Function<Token, Token> mapping) {
     this.value = value;
-    this.tokens = tokens;
+    this.mapped = true;
+    this.source = source;
+    this.mapping = mapping;
   }
 
   /**
@@ -38,14 +67,30 @@ public class Text {
    * @return the new text object
    */
   public Text map(Function<Token, Token> mapping) {
-    return new Text(value, tokens.stream().map(mapping).collect(Collectors.toList()));
+    Text text = new Text(value, this, mapping);
+    if (deferMappings.get() == null) {
+      text.getTokens();
+    }
+    return text;
   }
 
   /**
    * @return the tokens of this comment
    */
   public List<Token> getTokens() {
-    return tokens;
+    List<Token> result = tokens;
+    if (result == null) {
+      if (mapped) {
+        result = source.getTokens().stream().map(mapping).collect(Collectors.toList());
+        tokens = result;
+        source = null;
+        mapping = null;
+      } else {
+        result = Token.tokenize(value);
+        tokens = result;
+      }
+    }
+    return result;
   }
 
   public boolean equals(Object o) {
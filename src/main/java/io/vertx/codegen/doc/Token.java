@@ -24,44 +24,82 @@ import java.util.regex.Pattern;
  */
 public abstract class Token {
 
-  private static final Pattern TOKEN_SPLITTER = Pattern.compile("(\\{@\\p{Alpha}[^\\}]*\\})|(\\r?\\n)");
-  private static final Pattern INLINE_TAG_PATTERN = Pattern.compile("\\{@([^\\p{javaWhitespace}]+)((?:.|\\n)*)\\}");
-
   /**
    * Tokenize the string.
+   * <p/>
+   * The string is scanned once: an inline tag starts with <code>&#123;@</code> followed by a letter and ends with the
+   * first following <code>}</code>, a line break is a {@code \n} or {@code \r\n} sequence, everything else is text.
    *
    * @param s the string to tokenize
    * @return the tokens after analysis
    */
   public static List<Token> tokenize(String s) {
     ArrayList<Token> events = new ArrayList<>();
-    parse(s, 0, TOKEN_SPLITTER.matcher(s), events);
+    int len = s.length();
+    int prev = 0;
+    int pos = 0;
+    // The position of the next '}', an inline tag ends with the first '}' following its start
+    int close = s.indexOf('}');
+    while (pos < len) {
+      char c = s.charAt(pos);
+      int end = -1;
+      boolean inlineTag = false;
+      if (c == '{') {
+        if (close != -1 && pos + 2 < len && s.charAt(pos + 1) == '@' && isAlpha(s.charAt(pos + 2))) {
+          if (close < pos + 3) {
+            close = s.indexOf('}', pos + 3);
+          }
+          if (close != -1) {
+            end = close + 1;
+            inlineTag = true;
+          }
+        }
+      } else if (c == '\n') {
+        end = pos + 1;
+      } else if (c == '\r' && pos + 1 < len && s.charAt(pos + 1) == '\n') {
+        end = pos + 2;
+      }
+      if (end == -1) {
+        pos++;
+        continue;
+      }
+      if (pos > prev) {
+        events.add(new Token.Text(s.substring(prev, pos)));
+      }
+      String value = s.substring(pos, end);
+      events.add(inlineTag ? parseInlineTag(s, pos, end, value) : new Token.LineBreak(value));
+      prev = pos = end;
+    }
+    if (prev < len) {
+      events.add(new Token.Text(s.substring(prev, len)));
+    }
     return events;
   }
 
-  private static void parse(String s, int prev, Matcher matcher, ArrayList<Token> events) {
-    if (matcher.find()) {
-      if (matcher.start() > prev) {
-        events.add(new Token.Text(s.substring(prev, matcher.start())));
-      }
-      String value = s.substring(matcher.start(), matcher.end());
-      if (matcher.group(1) != null) {
-        Matcher tagMatcher = INLINE_TAG_PATTERN.matcher(value);
-        if (!tagMatcher.matches()) {
-          // If we are here, it means the INLINE_TAG_PATTERN matches less then TOKEN_SPLITTER and this is a bug.
-          // so we should know at least the value that raised it
+  private static boolean isAlpha(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  /**
+   * Parse the inline tag between {@code start} and {@code end}: the name is the run of non whitespace characters
+   * following <code>&#123;@</code> and the value is the remaining text before the closing <code>}</code>.
+   */
+  private static Token.InlineTag parseInlineTag(String s, int start, int end, String value) {
+    int nameEnd = start + 2;
+    while (nameEnd < end - 1 && !Character.isWhitespace(s.charAt(nameEnd))) {
+      nameEnd++;
+    }
+    for (int i = nameEnd;i < end - 1;i++) {
+      switch (s.charAt(i)) {
+        case '\r':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          // The value cannot contain other line terminators than \n
           throw new AssertionError("bug -->" + value + "<--");
-        }
-        events.add(new Token.InlineTag(value, new Tag(tagMatcher.group(1), tagMatcher.group(2))));
-      } else {
-        events.add(new Token.LineBreak(value));
-      }
-      parse(s, matcher.end(), matcher, events);
-    } else {
-      if (prev < s.length()) {
-        events.add(new Token.Text(s.substring(prev, s.length())));
       }
     }
+    return new Token.InlineTag(value, new Tag(s.substring(start + 2, nameEnd), s.substring(nameEnd, end - 1)));
   }
 
   final String value;
@@ -158,7 +196,20 @@ public abstract class Token {
    */
   public static Function<Token, Token> tagMapper(
       Elements elementUtils, Types typeUtils, TypeElement ownerElt) {
-    TypeMirrorFactory typeFactory = new TypeMirrorFactory(elementUtils, typeUtils);
+    return tagMapper(elementUtils, typeUtils, new TypeMirrorFactory(elementUtils, typeUtils), ownerElt);
+  }
+
+  /**
+   * Create a tag mapper that remaps tags with extra contexutal info like @link tags.
+   *
+   * @param elementUtils the element utils
+   * @param typeUtils the type utils
+   * @param typeFactory the type factory creating the type of the link tags
+   * @param ownerElt the type element in which this tag is declared
+   * @return the mapper
+   */
+  public static Function<Token, Token> tagMapper(
+      Elements elementUtils, Types typeUtils, TypeMirrorFactory typeFactory, TypeElement ownerElt) {
     return token -> {
       if (token.isInlineTag()) {
         Tag tag = ((Token.InlineTag) token).getTag();
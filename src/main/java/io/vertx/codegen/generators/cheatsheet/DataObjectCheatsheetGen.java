@@ -1,6 +1,7 @@
 package io.vertx.codegen.generators.cheatsheet;
 
 import io.vertx.codegen.Generator;
+import io.vertx.codegen.RenderContext;
 import io.vertx.codegen.DataObjectModel;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.ModuleGen;
@@ -10,14 +11,14 @@ import io.vertx.codegen.doc.Token;
 import io.vertx.codegen.type.ClassKind;
 import io.vertx.codegen.type.TypeInfo;
 
+import java.io.IOException;
 import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
 
 public class DataObjectCheatsheetGen extends Generator<DataObjectModel> {
 
@@ -25,6 +26,7 @@ public class DataObjectCheatsheetGen extends Generator<DataObjectModel> {
     name = "cheatsheet";
     kinds = Collections.singleton("dataObject");
     incremental = true;
+    threadSafe = true;
   }
 
   @Override
@@ -38,16 +40,17 @@ public class DataObjectCheatsheetGen extends Generator<DataObjectModel> {
   }
 
   @Override
-  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
-    StringWriter buffer = new StringWriter();
-    PrintWriter html = new PrintWriter(buffer);
-    if (index == 0) {
+  public void render(DataObjectModel model, RenderContext context, Writer writer) throws IOException {
+    PrintWriter html = new PrintWriter(writer);
+    if (context.getIndex() == 0) {
       html.append("= Cheatsheets\n");
       html.append("\n");
     }
     render(model, html);
     html.append("\n");
-    return buffer.toString();
+    if (html.checkError()) {
+      throw new IOException("Could not write " + filename(model));
+    }
   }
 
   private void render(DataObjectModel model, PrintWriter html) {
@@ -2,6 +2,7 @@ package io.vertx.codegen.generators.cheatsheet;
 
 import io.vertx.codegen.ClassModel;
 import io.vertx.codegen.Generator;
+import io.vertx.codegen.RenderContext;
 import io.vertx.codegen.EnumModel;
 import io.vertx.codegen.annotations.ModuleGen;
 import io.vertx.codegen.annotations.VertxGen;
@@ -9,8 +10,9 @@ import io.vertx.codegen.doc.Doc;
 import io.vertx.codegen.doc.Tag;
 import io.vertx.codegen.doc.Token;
 
+import java.io.IOException;
 import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.util.*;
 
@@ -23,6 +25,7 @@ public class EnumCheatsheetGen extends Generator<EnumModel> {
     name = "cheatsheet";
     kinds = Collections.singleton("enum");
     incremental = true;
+    threadSafe = true;
   }
 
   @Override
@@ -36,16 +39,17 @@ public class EnumCheatsheetGen extends Generator<EnumModel> {
   }
 
   @Override
-  public String render(EnumModel model, int index, int size, Map<String, Object> session) {
-    StringWriter buffer = new StringWriter();
-    PrintWriter html = new PrintWriter(buffer);
-    if (index == 0) {
+  public void render(EnumModel model, RenderContext context, Writer writer) throws IOException {
+    PrintWriter html = new PrintWriter(writer);
+    if (context.getIndex() == 0) {
       html.append("= Enums\n");
       html.append("\n");
     }
     render(model, html);
     html.append("\n");
-    return buffer.toString();
+    if (html.checkError()) {
+      throw new IOException("Could not write " + filename(model));
+    }
   }
 
   private void render(EnumModel model, PrintWriter html) {
@@ -0,0 +1,236 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.EnumModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.MapperKind;
+import io.vertx.codegen.Model;
+import io.vertx.codegen.ModuleInfo;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.RenderContext;
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.ModuleGen;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.codegen.format.CamelCase;
+import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.DataObjectInfo;
+import io.vertx.codegen.type.MapperInfo;
+import io.vertx.codegen.type.TypeInfo;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generate a {@code io.vertx.codegen.json.ConverterRegistry} per module that maps the data objects and enums of the
+ * module, and the types of their properties having a json mapper, to the method references of their conversions.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class ConverterRegistryGen extends Generator<Model> {
+
+  /**
+   * Generate the converter registries of the modules.
+   */
+  public static final String REGISTRY_OPTION = "codegen.converter_registry";
+
+  static final String SERVICE_NAME = "io.vertx.codegen.json.ConverterRegistry";
+
+  private boolean enabled;
+
+  public ConverterRegistryGen() {
+    name = "converter_registry";
+    kinds = new HashSet<>(Arrays.asList("module", "dataObject", "enum"));
+    threadSafe = true;
+    // Generates nothing until enabled
+    isolating = true;
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Arrays.asList(ModuleGen.class, DataObject.class, VertxGen.class);
+  }
+
+  @Override
+  public Collection<String> options() {
+    return Collections.singletonList(REGISTRY_OPTION);
+  }
+
+  @Override
+  public void load(ProcessingEnvironment processingEnv) {
+    super.load(processingEnv);
+    enabled = Boolean.parseBoolean(processingEnv.getOptions().get(REGISTRY_OPTION));
+    // Aggregates the models of a module only when enabled, so a disabled registry keeps the processor isolating
+    incremental = enabled;
+  }
+
+  /**
+   * @return the qualified name of the registry of the {@code module}
+   */
+  static String registryName(ModuleInfo module) {
+    return module.getPackageName() + "." + module.getName(CamelCase.INSTANCE) + "ConverterRegistry";
+  }
+
+  @Override
+  public String filename(Model model) {
+    ModuleInfo module = model.getModule();
+    if (enabled && module != null && (!(model instanceof DataObjectModel) || ((DataObjectModel) model).isClass())) {
+      return registryName(module) + ".java";
+    }
+    return null;
+  }
+
+  @Override
+  public void render(Model model, RenderContext context, Writer out) throws IOException {
+    ModuleInfo module = model.getModule();
+    PrintWriter writer = new PrintWriter(out);
+    if (context.getIndex() == 0) {
+      genHeader(module, writer);
+    }
+    @SuppressWarnings("unchecked")
+    Set<String> registered = (Set<String>) context.getSession().computeIfAbsent("registered", k -> new HashSet<String>());
+    if (model instanceof DataObjectModel) {
+      genDataObject((DataObjectModel) model, module, registered, writer);
+    } else if (model instanceof EnumModel) {
+      genEnum(((EnumModel) model).getType(), registered, writer);
+    }
+    if (context.getIndex() == context.getSize() - 1) {
+      genFooter(module, writer);
+    }
+    if (writer.checkError()) {
+      throw new IOException("Could not write " + registryName(module));
+    }
+  }
+
+  private void genHeader(ModuleInfo module, PrintWriter writer) {
+    String simpleName = module.getName(CamelCase.INSTANCE) + "ConverterRegistry";
+    writer.print("package " + module.getPackageName() + ";\n");
+    writer.print("\n");
+    writer.print("import io.vertx.codegen.json.ConverterRegistry;\n");
+    writer.print("import io.vertx.codegen.json.JsonCodec;\n");
+    writer.print("import io.vertx.core.json.JsonObject;\n");
+    writer.print("\n");
+    writer.print("import java.util.Collections;\n");
+    writer.print("import java.util.LinkedHashMap;\n");
+    writer.print("import java.util.Map;\n");
+    writer.print("\n");
+    writer.print("/**\n");
+    writer.print(" * Converter registry of the {@code " + module.getName() + "} module.\n");
+    writer.print(" * NOTE: This class has been automatically generated from the {@code " + module.getName() + "} module using Vert.x codegen.\n");
+    writer.print(" */\n");
+    writer.print("public class " + simpleName + " implements ConverterRegistry {\n");
+    writer.print("\n");
+    writer.print("  private static final Map<Class<?>, JsonCodec<?, ?>> CODECS;\n");
+    writer.print("\n");
+    writer.print("  static {\n");
+    writer.print("    Map<Class<?>, JsonCodec<?, ?>> codecs = new LinkedHashMap<>();\n");
+  }
+
+  private void genFooter(ModuleInfo module, PrintWriter writer) {
+    writer.print("    CODECS = Collections.unmodifiableMap(codecs);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public String getModuleName() {\n");
+    writer.print("    return \"" + module.getName() + "\";\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public Map<Class<?>, JsonCodec<?, ?>> getCodecs() {\n");
+    writer.print("    return CODECS;\n");
+    writer.print("  }\n");
+    writer.print("}\n");
+  }
+
+  private void genDataObject(DataObjectModel model, ModuleInfo module, Set<String> registered, PrintWriter writer) {
+    String type = model.getType().getName();
+    if (registered.add(type)) {
+      DataObjectInfo dataObject = model.getType().getDataObject();
+      String jsonType = dataObject != null ? dataObject.getJsonType().getName() : "io.vertx.core.json.JsonObject";
+      // The converter fills an object from a JsonObject, it must be accessible from the registry package
+      boolean converter = jsonType.equals("io.vertx.core.json.JsonObject") && model.getGenerateConverter() &&
+        (model.isPublicConverter() || model.getType().getPackageName().equals(module.getPackageName()));
+      String decoder = null;
+      if (dataObject != null && dataObject.isDeserializable()) {
+        if (dataObject.getDeserializer().getKind() != MapperKind.SELF) {
+          decoder = methodReference(dataObject.getDeserializer());
+        } else if (model.isConcrete()) {
+          decoder = type + "::new";
+        }
+      } else if (converter && model.isConcrete() && model.hasEmptyConstructor()) {
+        decoder = "json -> {\n" +
+          "        " + type + " obj = new " + type + "();\n" +
+          "        " + type + "Converter.fromJson(json, obj);\n" +
+          "        return obj;\n" +
+          "      }";
+      }
+      String encoder = null;
+      if (dataObject != null && dataObject.isSerializable()) {
+        encoder = dataObject.getSerializer().getKind() == MapperKind.SELF ? type + "::" + String.join(".", dataObject.getSerializer().getSelectors()) : methodReference(dataObject.getSerializer());
+      } else if (converter) {
+        encoder = "obj -> {\n" +
+          "        JsonObject json = new JsonObject();\n" +
+          "        " + type + "Converter.toJson(obj, json);\n" +
+          "        return json;\n" +
+          "      }";
+      }
+      if (decoder != null || encoder != null) {
+        genCodec(type, jsonType, decoder, encoder, writer);
+      }
+    }
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      TypeInfo propType = prop.getType().getRaw();
+      if (propType == null) {
+        continue;
+      }
+      if (propType.getKind() == ClassKind.ENUM) {
+        genEnum(propType, registered, writer);
+      } else {
+        DataObjectInfo dataObject = propType.getDataObject();
+        // Annotated data objects are registered by the registry of their module
+        if (dataObject != null && !dataObject.isAnnotated() && registered.add(propType.getName())) {
+          genCodec(
+            propType.getName(),
+            dataObject.getJsonType().getName(),
+            dataObject.isDeserializable() ? methodReference(dataObject.getDeserializer()) : null,
+            dataObject.isSerializable() ? methodReference(dataObject.getSerializer()) : null,
+            writer);
+        }
+      }
+    }
+  }
+
+  private void genEnum(TypeInfo type, Set<String> registered, PrintWriter writer) {
+    if (registered.add(type.getName())) {
+      genCodec(type.getName(), "java.lang.String", type.getName() + "::valueOf", type.getName() + "::name", writer);
+    }
+  }
+
+  private void genCodec(String type, String jsonType, String decoder, String encoder, PrintWriter writer) {
+    writer.print("    codecs.put(" + type + ".class, JsonCodec.of(\n");
+    writer.print("      " + type + ".class,\n");
+    writer.print("      " + jsonType + ".class,\n");
+    writer.print("      " + decoder + ",\n");
+    writer.print("      " + encoder + "));\n");
+  }
+
+  /**
+   * @return the method reference of a static method mapper, e.g {@code Mapper::serialize} or {@code Mapper.INSTANCE::serialize}
+   */
+  private static String methodReference(MapperInfo mapper) {
+    List<String> selectors = mapper.getSelectors();
+    StringBuilder ref = new StringBuilder(mapper.getQualifiedName());
+    for (int i = 0; i < selectors.size() - 1; i++) {
+      ref.append('.').append(selectors.get(i));
+    }
+    return ref.append("::").append(selectors.get(selectors.size() - 1)).toString();
+  }
+}
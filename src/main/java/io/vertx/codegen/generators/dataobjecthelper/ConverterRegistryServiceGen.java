@@ -0,0 +1,54 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.ModuleModel;
+import io.vertx.codegen.RenderContext;
+import io.vertx.codegen.annotations.ModuleGen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Declare the registries generated by {@link ConverterRegistryGen} as {@link java.util.ServiceLoader} services.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class ConverterRegistryServiceGen extends Generator<ModuleModel> {
+
+  private boolean enabled;
+
+  public ConverterRegistryServiceGen() {
+    name = "converter_registry";
+    kinds = Collections.singleton("module");
+    threadSafe = true;
+    // Generates nothing until enabled
+    isolating = true;
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(ModuleGen.class);
+  }
+
+  @Override
+  public void load(ProcessingEnvironment processingEnv) {
+    super.load(processingEnv);
+    enabled = Boolean.parseBoolean(processingEnv.getOptions().get(ConverterRegistryGen.REGISTRY_OPTION));
+    // Aggregates the models of a module only when enabled, so a disabled registry keeps the processor isolating
+    incremental = enabled;
+  }
+
+  @Override
+  public String filename(ModuleModel model) {
+    return enabled ? "resources/META-INF/services/" + ConverterRegistryGen.SERVICE_NAME : null;
+  }
+
+  @Override
+  public void render(ModuleModel model, RenderContext context, Writer writer) throws IOException {
+    writer.write(ConverterRegistryGen.registryName(model.getModule()) + "\n");
+  }
+}
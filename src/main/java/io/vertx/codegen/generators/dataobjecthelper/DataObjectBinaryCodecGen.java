@@ -0,0 +1,815 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.RenderContext;
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.DataObjectInfo;
+import io.vertx.codegen.type.EnumTypeInfo;
+import io.vertx.codegen.type.MapperInfo;
+import io.vertx.codegen.type.TypeInfo;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Generates a compact binary codec for the data objects declaring {@link DataObject#generateBinaryCodec()}.
+ * <p/>
+ * The encoded properties are the properties the JSON converter converts in both directions, i.e having a getter
+ * and a setter or an adder, they are encoded in the order of their names which gives them a stable ordinal. The
+ * encoding starts with a fingerprint of the schema, i.e the names, shapes and types of the encoded properties and
+ * the constants of their enums, {@code readFrom} rejects an encoding with a different fingerprint. It continues with
+ * a presence bitmap of the nullable properties followed by the present property values:
+ *
+ * <ul>
+ *   <li>{@code boolean} and {@code byte} as a single byte</li>
+ *   <li>{@code short}, {@code int}, {@code long} as zig-zag varints, {@code char} and enum ordinals as varints</li>
+ *   <li>{@code float} and {@code double} as their IEEE 754 bits</li>
+ *   <li>strings and buffers as a varint length followed by the bytes, buffers are copied without an intermediate {@code byte[]}</li>
+ *   <li>{@link Instant} as zig-zag varint seconds and varint nanos</li>
+ *   <li>JSON values with a type tag, big numbers and buffers keep their type</li>
+ *   <li>data objects with the encoding of the JSON type of their mapper</li>
+ *   <li>collections as a varint size followed by the elements, null elements are dropped like the JSON converter does</li>
+ * </ul>
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class DataObjectBinaryCodecGen extends Generator<DataObjectModel> {
+
+  private static final Pattern BITS = Pattern.compile("\\bbits(\\d+)\\b");
+
+  public DataObjectBinaryCodecGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_binary_codec";
+    threadSafe = true;
+    isolating = true;
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(DataObject.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.isClass() && model.getGenerateBinaryCodec()) {
+      return model.getFqn() + "BinaryCodec.java";
+    }
+    return null;
+  }
+
+  @Override
+  public void render(DataObjectModel model, RenderContext context, Writer out) throws IOException {
+    PrintWriter writer = new PrintWriter(out);
+    String simpleName = model.getType().getSimpleName();
+    String visibility = model.isPublicConverter() ? "public" : "";
+    boolean inheritConverter = model.getInheritConverter();
+    Set<String> helpers = new TreeSet<>();
+    Map<String, String> enums = new LinkedHashMap<>();
+    List<PropertyInfo> props = new ArrayList<>();
+    List<Codec> codecs = new ArrayList<>();
+    int nullables = 0;
+    List<PropertyInfo> sorted = new ArrayList<>(model.getPropertyMap().values());
+    sorted.sort(Comparator.comparing(PropertyInfo::getName));
+    CRC32 schema = new CRC32();
+    for (PropertyInfo prop : sorted) {
+      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && (prop.isSetter() || prop.isAdder()) && prop.isJsonifiable()) {
+        Codec codec = codec(prop.getType(), helpers, enums);
+        if (codec != null) {
+          props.add(prop);
+          codecs.add(codec);
+          if (isNullable(prop)) {
+            nullables++;
+          }
+          schema.update(schema(prop).getBytes(StandardCharsets.UTF_8));
+        }
+      }
+    }
+    int bitmapSize = (nullables + 7) / 8;
+
+    writer.print("package " + model.getType().getPackageName() + ";\n");
+    writer.print("\n");
+    writer.print("import io.vertx.core.buffer.Buffer;\n");
+    writer.print("import io.vertx.core.json.JsonObject;\n");
+    writer.print("import io.vertx.core.json.JsonArray;\n");
+    writer.print("import java.time.Instant;\n");
+    writer.print("import java.time.format.DateTimeFormatter;\n");
+    writer.print("\n");
+    writer.print("/**\n");
+    writer.print(" * Binary codec for {@link " + model.getType() + "}.\n");
+    writer.print(" * NOTE: This class has been automatically generated from the {@link " + model.getType() + "} original class using Vert.x codegen.\n");
+    writer.print(" */\n");
+    writer.print("public class " + simpleName + "BinaryCodec {\n");
+    writer.print("\n");
+    writer.print("  private static final int SCHEMA = 0x" + String.format("%08x", (int) schema.getValue()) + ";\n");
+    for (Map.Entry<String, String> entry : enums.entrySet()) {
+      writer.print("\n");
+      writer.print("  private static final " + entry.getKey() + "[] " + entry.getValue() + " = " + entry.getKey() + ".values();\n");
+    }
+
+    // writeTo
+    List<String> writeStatements = new ArrayList<>();
+    for (int i = 0; i < props.size(); i++) {
+      if (isNullable(props.get(i))) {
+        writeStatements.add("    " + javaType(props.get(i)) + " p" + i + " = obj." + props.get(i).getGetterMethod() + "();\n");
+      }
+    }
+    for (int b = 0; b < bitmapSize; b++) {
+      writeStatements.add(genBitmap(props, b, true));
+    }
+    for (int i = 0; i < props.size(); i++) {
+      writeStatements.add(genWrite(props.get(i), codecs.get(i), i));
+    }
+    List<List<String>> writeChunks = MethodChunks.split(writeStatements);
+    if (writeChunks.size() > 1) {
+      // The chunks cannot share the locals, the bitmap reads the properties and each chunk reads the properties it writes
+      writeStatements.clear();
+      for (int b = 0; b < bitmapSize; b++) {
+        writeStatements.add(genBitmap(props, b, false));
+      }
+      for (int i = 0; i < props.size(); i++) {
+        PropertyInfo prop = props.get(i);
+        String write = genWrite(prop, codecs.get(i), i);
+        writeStatements.add(isNullable(prop) ? "    " + javaType(prop) + " p" + i + " = obj." + prop.getGetterMethod() + "();\n" + write : write);
+      }
+      writeChunks = MethodChunks.split(writeStatements);
+    }
+    writer.print("\n");
+    writer.print("  " + visibility + " static void writeTo(" + simpleName + " obj, Buffer buffer) {\n");
+    writer.print("    buffer.appendInt(SCHEMA);\n");
+    if (writeChunks.size() == 1) {
+      writeChunks.get(0).forEach(writer::print);
+    } else {
+      for (int c = 0; c < writeChunks.size(); c++) {
+        writer.print("    writeTo" + c + "(obj, buffer);\n");
+      }
+    }
+    writer.print("  }\n");
+    if (writeChunks.size() > 1) {
+      for (int c = 0; c < writeChunks.size(); c++) {
+        writer.print("\n");
+        writer.print("  private static void writeTo" + c + "(" + simpleName + " obj, Buffer buffer) {\n");
+        writeChunks.get(c).forEach(writer::print);
+        writer.print("  }\n");
+      }
+    }
+
+    // readFrom
+    List<String> readStatements = new ArrayList<>();
+    int bit = 0;
+    for (int i = 0; i < props.size(); i++) {
+      PropertyInfo prop = props.get(i);
+      readStatements.add(genRead(prop, codecs.get(i), bit));
+      if (isNullable(prop)) {
+        bit++;
+      }
+    }
+    List<List<String>> readChunks = MethodChunks.split(readStatements);
+    writer.print("\n");
+    writer.print("  " + visibility + " static int readFrom(Buffer buffer, int pos, " + simpleName + " obj) {\n");
+    writer.print("    int schema = buffer.getInt(pos);\n");
+    writer.print("    if (schema != SCHEMA) {\n");
+    writer.print("      throw new IllegalArgumentException(\"Invalid " + simpleName + " schema \" + Integer.toHexString(schema) + \" at \" + pos);\n");
+    writer.print("    }\n");
+    writer.print("    pos += 4;\n");
+    if (readChunks.size() == 1) {
+      for (int b = 0; b < bitmapSize; b++) {
+        writer.print(genBits(b));
+      }
+    }
+    writer.print("    int[] cursor = { pos" + (bitmapSize > 0 ? " + " + bitmapSize : "") + " };\n");
+    if (readChunks.size() == 1) {
+      readChunks.get(0).forEach(writer::print);
+    } else {
+      for (int c = 0; c < readChunks.size(); c++) {
+        writer.print("    readFrom" + c + "(buffer, pos, cursor, obj);\n");
+      }
+    }
+    writer.print("    return cursor[0];\n");
+    writer.print("  }\n");
+    if (readChunks.size() > 1) {
+      for (int c = 0; c < readChunks.size(); c++) {
+        List<String> chunk = readChunks.get(c);
+        // Each chunk reads the bitmap bytes of its properties
+        Set<Integer> bytes = new TreeSet<>();
+        for (String statement : chunk) {
+          Matcher matcher = BITS.matcher(statement);
+          while (matcher.find()) {
+            bytes.add(Integer.parseInt(matcher.group(1)));
+          }
+        }
+        writer.print("\n");
+        writer.print("  private static void readFrom" + c + "(Buffer buffer, int pos, int[] cursor, " + simpleName + " obj) {\n");
+        for (int b : bytes) {
+          writer.print(genBits(b));
+        }
+        chunk.forEach(writer::print);
+        writer.print("  }\n");
+      }
+    }
+    if (props.stream().anyMatch(prop -> prop.isList() || prop.isSet() || prop.isMap())) {
+      helpers.add("VarInt");
+    }
+    if (props.stream().anyMatch(PropertyInfo::isMap)) {
+      helpers.add("String");
+    }
+    genHelpers(helpers, writer);
+    writer.print("}\n");
+    if (writer.checkError()) {
+      throw new IOException("Could not write " + model.getFqn() + "BinaryCodec");
+    }
+  }
+
+  /**
+   * @return the statement appending the byte {@code b} of the presence bitmap, the properties are read from the
+   *         {@code p<i>} locals or from their getters
+   */
+  private static String genBitmap(List<PropertyInfo> props, int b, boolean locals) {
+    StringBuilder bits = new StringBuilder();
+    int bit = 0;
+    for (int i = 0; i < props.size(); i++) {
+      PropertyInfo prop = props.get(i);
+      if (isNullable(prop)) {
+        if (bit / 8 == b) {
+          String value = locals ? "p" + i : "obj." + prop.getGetterMethod() + "()";
+          bits.append(bits.length() > 0 ? " | " : "").append("(").append(value).append(" != null ? ").append(1 << (bit % 8)).append(" : 0)");
+        }
+        bit++;
+      }
+    }
+    return "    buffer.appendByte((byte) (" + bits + "));\n";
+  }
+
+  private static String genBits(int b) {
+    return "    int bits" + b + " = buffer.getByte(pos" + (b > 0 ? " + " + b : "") + ");\n";
+  }
+
+  /**
+   * @return the statements writing the property {@code i}, a nullable property is read from the {@code p<i>} local
+   */
+  private static String genWrite(PropertyInfo prop, Codec codec, int i) {
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    if (!isNullable(prop)) {
+      writer.print("    " + codec.write("obj." + prop.getGetterMethod() + "()") + ";\n");
+    } else if (prop.isList() || prop.isSet()) {
+      String elementType = prop.getType().getName();
+      writer.print("    if (p" + i + " != null) {\n");
+      writer.print("      int size = 0;\n");
+      writer.print("      for (" + elementType + " item : p" + i + ") {\n");
+      writer.print("        if (item != null) {\n");
+      writer.print("          size++;\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+      writer.print("      writeVarInt(buffer, size);\n");
+      writer.print("      for (" + elementType + " item : p" + i + ") {\n");
+      writer.print("        if (item != null) {\n");
+      writer.print("          " + codec.write("item") + ";\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+    } else if (prop.isMap()) {
+      String entryType = "java.util.Map.Entry<String, " + prop.getType().getName() + ">";
+      writer.print("    if (p" + i + " != null) {\n");
+      writer.print("      int size = 0;\n");
+      writer.print("      for (" + entryType + " entry : p" + i + ".entrySet()) {\n");
+      writer.print("        if (entry.getValue() != null) {\n");
+      writer.print("          size++;\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+      writer.print("      writeVarInt(buffer, size);\n");
+      writer.print("      for (" + entryType + " entry : p" + i + ".entrySet()) {\n");
+      writer.print("        if (entry.getValue() != null) {\n");
+      writer.print("          writeString(buffer, entry.getKey());\n");
+      writer.print("          " + codec.write("entry.getValue()") + ";\n");
+      writer.print("        }\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+    } else {
+      writer.print("    if (p" + i + " != null) {\n");
+      writer.print("      " + codec.write("p" + i) + ";\n");
+      writer.print("    }\n");
+    }
+    writer.flush();
+    return buffer.toString();
+  }
+
+  /**
+   * @return the statements reading the property, a nullable property is read when the {@code bit} of the bitmap is set
+   */
+  private static String genRead(PropertyInfo prop, Codec codec, int bit) {
+    StringWriter buffer = new StringWriter();
+    PrintWriter writer = new PrintWriter(buffer);
+    if (!isNullable(prop)) {
+      writer.print("    obj." + prop.getSetterMethod() + "(" + codec.read + ");\n");
+      writer.flush();
+      return buffer.toString();
+    }
+    writer.print("    if ((bits" + (bit / 8) + " & " + (1 << (bit % 8)) + ") != 0) {\n");
+    String elementType = prop.getType().getName();
+    if (prop.isList() || prop.isSet()) {
+      writer.print("      int size = readVarInt(buffer, cursor);\n");
+      if (prop.isSetter()) {
+        String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+        writer.print("      " + coll + "<" + elementType + "> list = new " + coll + "<>(" + (prop.isList() ? "size" : "size * 4 / 3 + 1") + ");\n");
+        writer.print("      for (int i = 0; i < size; i++) {\n");
+        writer.print("        list.add(" + codec.read + ");\n");
+        writer.print("      }\n");
+        writer.print("      obj." + prop.getSetterMethod() + "(list);\n");
+      } else {
+        writer.print("      for (int i = 0; i < size; i++) {\n");
+        writer.print("        obj." + prop.getAdderMethod() + "(" + codec.read + ");\n");
+        writer.print("      }\n");
+      }
+    } else if (prop.isMap()) {
+      writer.print("      int size = readVarInt(buffer, cursor);\n");
+      if (prop.isSetter()) {
+        writer.print("      java.util.Map<String, " + elementType + "> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);\n");
+        writer.print("      for (int i = 0; i < size; i++) {\n");
+        writer.print("        String key = readString(buffer, cursor);\n");
+        writer.print("        map.put(key, " + codec.read + ");\n");
+        writer.print("      }\n");
+        writer.print("      obj." + prop.getSetterMethod() + "(map);\n");
+      } else {
+        writer.print("      for (int i = 0; i < size; i++) {\n");
+        writer.print("        String key = readString(buffer, cursor);\n");
+        writer.print("        obj." + prop.getAdderMethod() + "(key, " + codec.read + ");\n");
+        writer.print("      }\n");
+      }
+    } else {
+      writer.print("      obj." + prop.getSetterMethod() + "(" + codec.read + ");\n");
+    }
+    writer.print("    }\n");
+    writer.flush();
+    return buffer.toString();
+  }
+
+  /**
+   * @return the description of the encoding of a property in the schema fingerprint
+   */
+  private static String schema(PropertyInfo prop) {
+    StringBuilder sb = new StringBuilder(prop.getName()).append(':');
+    if (prop.isList()) {
+      sb.append("list:");
+    } else if (prop.isSet()) {
+      sb.append("set:");
+    } else if (prop.isMap()) {
+      sb.append("map:");
+    }
+    TypeInfo type = prop.getType();
+    DataObjectInfo dataObject = type.getDataObject();
+    sb.append(dataObject != null ? dataObject.getJsonType().getName() : type.getName());
+    if (dataObject == null && type instanceof EnumTypeInfo) {
+      sb.append(((EnumTypeInfo) type).getValues());
+    }
+    return sb.append(';').toString();
+  }
+
+  private static boolean isNullable(PropertyInfo prop) {
+    return prop.getType().getKind() != ClassKind.PRIMITIVE || prop.isList() || prop.isSet() || prop.isMap();
+  }
+
+  private static String javaType(PropertyInfo prop) {
+    if (prop.isList() || prop.isSet()) {
+      return "java.util.Collection<" + prop.getType().getName() + ">";
+    } else if (prop.isMap()) {
+      return "java.util.Map<String, " + prop.getType().getName() + ">";
+    } else {
+      return prop.getType().getName();
+    }
+  }
+
+  /**
+   * The encoding of a non null value.
+   */
+  private static class Codec {
+
+    private final String writer;
+    private final String read;
+
+    /**
+     * @param writer the statement writing the value, {@code $} is replaced by the value expression
+     * @param read the expression reading the value
+     */
+    private Codec(String writer, String read) {
+      this.writer = writer;
+      this.read = read;
+    }
+
+    String write(String value) {
+      return writer.replace("$", value);
+    }
+  }
+
+  /**
+   * @return the codec of the {@code type} or {@code null} when the type is not supported
+   */
+  private static Codec codec(TypeInfo type, Set<String> helpers, Map<String, String> enums) {
+    ClassKind kind = type.getKind();
+    if (kind.basic) {
+      if (kind == ClassKind.STRING) {
+        helpers.add("String");
+        return new Codec("writeString(buffer, $)", "readString(buffer, cursor)");
+      }
+      switch (type.getSimpleName()) {
+        case "boolean":
+        case "Boolean":
+          return new Codec("buffer.appendByte((byte) ($ ? 1 : 0))", "buffer.getByte(cursor[0]++) != 0");
+        case "byte":
+        case "Byte":
+          return new Codec("buffer.appendByte($)", "buffer.getByte(cursor[0]++)");
+        case "short":
+        case "Short":
+          helpers.add("SInt");
+          return new Codec("writeSInt(buffer, $)", "(short) readSInt(buffer, cursor)");
+        case "int":
+        case "Integer":
+          helpers.add("SInt");
+          return new Codec("writeSInt(buffer, $)", "readSInt(buffer, cursor)");
+        case "long":
+        case "Long":
+          helpers.add("SLong");
+          return new Codec("writeSLong(buffer, $)", "readSLong(buffer, cursor)");
+        case "float":
+        case "Float":
+          helpers.add("Float");
+          return new Codec("buffer.appendFloat($)", "readFloat(buffer, cursor)");
+        case "double":
+        case "Double":
+          helpers.add("Double");
+          return new Codec("buffer.appendDouble($)", "readDouble(buffer, cursor)");
+        case "char":
+        case "Character":
+          helpers.add("VarInt");
+          return new Codec("writeVarInt(buffer, $)", "(char) readVarInt(buffer, cursor)");
+        default:
+          return null;
+      }
+    }
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null) {
+      if (!dataObject.isSerializable() || !dataObject.isDeserializable()) {
+        return null;
+      }
+      MapperInfo serializer = dataObject.getSerializer();
+      MapperInfo deserializer = dataObject.getDeserializer();
+      TypeInfo jsonType = serializer.getJsonType();
+      if (!jsonType.getName().equals(deserializer.getJsonType().getName())) {
+        return null;
+      }
+      Codec json = codec(jsonType, helpers, enums);
+      if (json == null) {
+        return null;
+      }
+      String serialize;
+      switch (serializer.getKind()) {
+        case SELF:
+          serialize = "$." + String.join(".", serializer.getSelectors()) + "()";
+          break;
+        case STATIC_METHOD:
+          serialize = serializer.getQualifiedName() + "." + String.join(".", serializer.getSelectors()) + "($)";
+          break;
+        default:
+          return null;
+      }
+      String deserialize;
+      switch (deserializer.getKind()) {
+        case SELF:
+          deserialize = "new " + type.getName() + "(" + json.read + ")";
+          break;
+        case STATIC_METHOD:
+          deserialize = deserializer.getQualifiedName() + "." + String.join(".", deserializer.getSelectors()) + "(" + json.read + ")";
+          break;
+        default:
+          return null;
+      }
+      return new Codec(json.writer.replace("$", serialize), deserialize);
+    }
+    switch (kind) {
+      case API:
+        if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+          helpers.add("Buffer");
+          return new Codec("writeBuffer(buffer, $)", "readBuffer(buffer, cursor)");
+        }
+        return null;
+      case ENUM: {
+        String values = enums.computeIfAbsent(type.getName(), name -> "VALUES_" + name.replace('.', '_'));
+        helpers.add("VarInt");
+        return new Codec("writeVarInt(buffer, $.ordinal())", values + "[readVarInt(buffer, cursor)]");
+      }
+      case JSON_OBJECT:
+        helpers.add("Json");
+        return new Codec("writeJson(buffer, $)", "(JsonObject) readJson(buffer, cursor)");
+      case JSON_ARRAY:
+        helpers.add("Json");
+        return new Codec("writeJson(buffer, $)", "(JsonArray) readJson(buffer, cursor)");
+      case OBJECT:
+        helpers.add("Json");
+        return new Codec("writeJson(buffer, $)", "readJson(buffer, cursor)");
+      case OTHER:
+        if (type.getName().equals(Instant.class.getName())) {
+          helpers.add("Instant");
+          return new Codec("writeInstant(buffer, $)", "readInstant(buffer, cursor)");
+        }
+        return null;
+      default:
+        return null;
+    }
+  }
+
+  private static void genHelpers(Set<String> helpers, PrintWriter writer) {
+    // Resolve the helpers dependencies
+    if (helpers.contains("Json")) {
+      helpers.add("Bytes");
+      helpers.add("SInt");
+      helpers.add("SLong");
+      helpers.add("Float");
+      helpers.add("Double");
+      helpers.add("String");
+      helpers.add("Buffer");
+    }
+    if (helpers.contains("Instant")) {
+      helpers.add("SLong");
+    }
+    if (helpers.contains("String")) {
+      helpers.add("Bytes");
+    }
+    if (helpers.contains("SInt") || helpers.contains("Bytes") || helpers.contains("Buffer") || helpers.contains("Instant") || helpers.contains("Json")) {
+      helpers.add("VarInt");
+    }
+    if (helpers.contains("SLong")) {
+      helpers.add("VarLong");
+    }
+    if (helpers.contains("VarInt")) {
+      writer.print("\n");
+      writer.print("  private static void writeVarInt(Buffer buffer, int value) {\n");
+      writer.print("    while ((value & ~0x7F) != 0) {\n");
+      writer.print("      buffer.appendByte((byte) ((value & 0x7F) | 0x80));\n");
+      writer.print("      value >>>= 7;\n");
+      writer.print("    }\n");
+      writer.print("    buffer.appendByte((byte) value);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static int readVarInt(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int pos = cursor[0];\n");
+      writer.print("    int value = 0;\n");
+      writer.print("    for (int shift = 0; shift < 32; shift += 7) {\n");
+      writer.print("      byte b = buffer.getByte(pos++);\n");
+      writer.print("      value |= (b & 0x7F) << shift;\n");
+      writer.print("      if (b >= 0) {\n");
+      writer.print("        cursor[0] = pos;\n");
+      writer.print("        return value;\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    throw new IllegalArgumentException(\"Malformed varint at \" + cursor[0]);\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("VarLong")) {
+      writer.print("\n");
+      writer.print("  private static void writeVarLong(Buffer buffer, long value) {\n");
+      writer.print("    while ((value & ~0x7FL) != 0L) {\n");
+      writer.print("      buffer.appendByte((byte) ((value & 0x7F) | 0x80));\n");
+      writer.print("      value >>>= 7;\n");
+      writer.print("    }\n");
+      writer.print("    buffer.appendByte((byte) value);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static long readVarLong(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int pos = cursor[0];\n");
+      writer.print("    long value = 0L;\n");
+      writer.print("    for (int shift = 0; shift < 64; shift += 7) {\n");
+      writer.print("      byte b = buffer.getByte(pos++);\n");
+      writer.print("      value |= (long) (b & 0x7F) << shift;\n");
+      writer.print("      if (b >= 0) {\n");
+      writer.print("        cursor[0] = pos;\n");
+      writer.print("        return value;\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    throw new IllegalArgumentException(\"Malformed varint at \" + cursor[0]);\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("SInt")) {
+      writer.print("\n");
+      writer.print("  private static void writeSInt(Buffer buffer, int value) {\n");
+      writer.print("    writeVarInt(buffer, (value << 1) ^ (value >> 31));\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static int readSInt(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int value = readVarInt(buffer, cursor);\n");
+      writer.print("    return (value >>> 1) ^ -(value & 1);\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("SLong")) {
+      writer.print("\n");
+      writer.print("  private static void writeSLong(Buffer buffer, long value) {\n");
+      writer.print("    writeVarLong(buffer, (value << 1) ^ (value >> 63));\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static long readSLong(Buffer buffer, int[] cursor) {\n");
+      writer.print("    long value = readVarLong(buffer, cursor);\n");
+      writer.print("    return (value >>> 1) ^ -(value & 1L);\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("Float")) {
+      writer.print("\n");
+      writer.print("  private static float readFloat(Buffer buffer, int[] cursor) {\n");
+      writer.print("    float value = buffer.getFloat(cursor[0]);\n");
+      writer.print("    cursor[0] += 4;\n");
+      writer.print("    return value;\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("Double")) {
+      writer.print("\n");
+      writer.print("  private static double readDouble(Buffer buffer, int[] cursor) {\n");
+      writer.print("    double value = buffer.getDouble(cursor[0]);\n");
+      writer.print("    cursor[0] += 8;\n");
+      writer.print("    return value;\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("Bytes")) {
+      writer.print("\n");
+      writer.print("  private static void writeBytes(Buffer buffer, byte[] bytes) {\n");
+      writer.print("    writeVarInt(buffer, bytes.length);\n");
+      writer.print("    buffer.appendBytes(bytes);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static byte[] readBytes(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int length = readVarInt(buffer, cursor);\n");
+      writer.print("    int start = cursor[0];\n");
+      writer.print("    cursor[0] = start + length;\n");
+      writer.print("    return buffer.getBytes(start, start + length);\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("Buffer")) {
+      writer.print("\n");
+      writer.print("  private static void writeBuffer(Buffer buffer, Buffer value) {\n");
+      writer.print("    writeVarInt(buffer, value.length());\n");
+      writer.print("    buffer.appendBuffer(value);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static Buffer readBuffer(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int length = readVarInt(buffer, cursor);\n");
+      writer.print("    int start = cursor[0];\n");
+      writer.print("    cursor[0] = start + length;\n");
+      writer.print("    return buffer.getBuffer(start, start + length);\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("String")) {
+      writer.print("\n");
+      writer.print("  private static void writeString(Buffer buffer, String value) {\n");
+      writer.print("    writeBytes(buffer, value.getBytes(java.nio.charset.StandardCharsets.UTF_8));\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static String readString(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int length = readVarInt(buffer, cursor);\n");
+      writer.print("    int start = cursor[0];\n");
+      writer.print("    cursor[0] = start + length;\n");
+      writer.print("    return buffer.getString(start, start + length, \"UTF-8\");\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("Instant")) {
+      writer.print("\n");
+      writer.print("  private static void writeInstant(Buffer buffer, Instant value) {\n");
+      writer.print("    writeSLong(buffer, value.getEpochSecond());\n");
+      writer.print("    writeVarInt(buffer, value.getNano());\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static Instant readInstant(Buffer buffer, int[] cursor) {\n");
+      writer.print("    long seconds = readSLong(buffer, cursor);\n");
+      writer.print("    return Instant.ofEpochSecond(seconds, readVarInt(buffer, cursor));\n");
+      writer.print("  }\n");
+    }
+    if (helpers.contains("Json")) {
+      writer.print("\n");
+      writer.print("  @SuppressWarnings(\"unchecked\")\n");
+      writer.print("  private static void writeJson(Buffer buffer, Object value) {\n");
+      writer.print("    if (value == null) {\n");
+      writer.print("      buffer.appendByte((byte) 0);\n");
+      writer.print("    } else if (value instanceof Boolean) {\n");
+      writer.print("      buffer.appendByte((byte) ((Boolean) value ? 2 : 1));\n");
+      writer.print("    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {\n");
+      writer.print("      buffer.appendByte((byte) 3);\n");
+      writer.print("      writeSInt(buffer, ((Number) value).intValue());\n");
+      writer.print("    } else if (value instanceof Long) {\n");
+      writer.print("      buffer.appendByte((byte) 4);\n");
+      writer.print("      writeSLong(buffer, (Long) value);\n");
+      writer.print("    } else if (value instanceof Float) {\n");
+      writer.print("      buffer.appendByte((byte) 5);\n");
+      writer.print("      buffer.appendFloat((Float) value);\n");
+      writer.print("    } else if (value instanceof java.math.BigInteger) {\n");
+      writer.print("      buffer.appendByte((byte) 11);\n");
+      writer.print("      writeBytes(buffer, ((java.math.BigInteger) value).toByteArray());\n");
+      writer.print("    } else if (value instanceof java.math.BigDecimal) {\n");
+      writer.print("      java.math.BigDecimal decimal = (java.math.BigDecimal) value;\n");
+      writer.print("      buffer.appendByte((byte) 12);\n");
+      writer.print("      writeSInt(buffer, decimal.scale());\n");
+      writer.print("      writeBytes(buffer, decimal.unscaledValue().toByteArray());\n");
+      writer.print("    } else if (value instanceof Number) {\n");
+      writer.print("      buffer.appendByte((byte) 6);\n");
+      writer.print("      buffer.appendDouble(((Number) value).doubleValue());\n");
+      writer.print("    } else if (value instanceof CharSequence || value instanceof Enum) {\n");
+      writer.print("      buffer.appendByte((byte) 7);\n");
+      writer.print("      writeString(buffer, value instanceof Enum ? ((Enum<?>) value).name() : value.toString());\n");
+      writer.print("    } else if (value instanceof Instant) {\n");
+      writer.print("      buffer.appendByte((byte) 7);\n");
+      writer.print("      writeString(buffer, DateTimeFormatter.ISO_INSTANT.format((Instant) value));\n");
+      writer.print("    } else if (value instanceof JsonObject || value instanceof java.util.Map) {\n");
+      writer.print("      java.util.Map<String, Object> map = value instanceof JsonObject ? ((JsonObject) value).getMap() : (java.util.Map<String, Object>) value;\n");
+      writer.print("      buffer.appendByte((byte) 8);\n");
+      writer.print("      writeVarInt(buffer, map.size());\n");
+      writer.print("      for (java.util.Map.Entry<String, Object> entry : map.entrySet()) {\n");
+      writer.print("        writeString(buffer, entry.getKey());\n");
+      writer.print("        writeJson(buffer, entry.getValue());\n");
+      writer.print("      }\n");
+      writer.print("    } else if (value instanceof JsonArray || value instanceof java.util.List) {\n");
+      writer.print("      Iterable<Object> items = (Iterable<Object>) value;\n");
+      writer.print("      buffer.appendByte((byte) 9);\n");
+      writer.print("      writeVarInt(buffer, value instanceof JsonArray ? ((JsonArray) value).size() : ((java.util.List<Object>) value).size());\n");
+      writer.print("      for (Object item : items) {\n");
+      writer.print("        writeJson(buffer, item);\n");
+      writer.print("      }\n");
+      writer.print("    } else if (value instanceof Buffer) {\n");
+      writer.print("      buffer.appendByte((byte) 13);\n");
+      writer.print("      writeBuffer(buffer, (Buffer) value);\n");
+      writer.print("    } else if (value instanceof byte[]) {\n");
+      writer.print("      buffer.appendByte((byte) 10);\n");
+      writer.print("      writeBytes(buffer, (byte[]) value);\n");
+      writer.print("    } else {\n");
+      writer.print("      throw new IllegalArgumentException(\"Unsupported JSON value \" + value.getClass().getName());\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  private static Object readJson(Buffer buffer, int[] cursor) {\n");
+      writer.print("    int pos = cursor[0];\n");
+      writer.print("    byte type = buffer.getByte(pos);\n");
+      writer.print("    cursor[0] = pos + 1;\n");
+      writer.print("    switch (type) {\n");
+      writer.print("      case 0:\n");
+      writer.print("        return null;\n");
+      writer.print("      case 1:\n");
+      writer.print("        return Boolean.FALSE;\n");
+      writer.print("      case 2:\n");
+      writer.print("        return Boolean.TRUE;\n");
+      writer.print("      case 3:\n");
+      writer.print("        return readSInt(buffer, cursor);\n");
+      writer.print("      case 4:\n");
+      writer.print("        return readSLong(buffer, cursor);\n");
+      writer.print("      case 5:\n");
+      writer.print("        return readFloat(buffer, cursor);\n");
+      writer.print("      case 6:\n");
+      writer.print("        return readDouble(buffer, cursor);\n");
+      writer.print("      case 7:\n");
+      writer.print("        return readString(buffer, cursor);\n");
+      writer.print("      case 8: {\n");
+      writer.print("        int size = readVarInt(buffer, cursor);\n");
+      writer.print("        java.util.Map<String, Object> map = new java.util.LinkedHashMap<>(size * 4 / 3 + 1);\n");
+      writer.print("        for (int i = 0; i < size; i++) {\n");
+      writer.print("          String key = readString(buffer, cursor);\n");
+      writer.print("          map.put(key, readJson(buffer, cursor));\n");
+      writer.print("        }\n");
+      writer.print("        return new JsonObject(map);\n");
+      writer.print("      }\n");
+      writer.print("      case 9: {\n");
+      writer.print("        int size = readVarInt(buffer, cursor);\n");
+      writer.print("        java.util.List<Object> list = new java.util.ArrayList<>(size);\n");
+      writer.print("        for (int i = 0; i < size; i++) {\n");
+      writer.print("          list.add(readJson(buffer, cursor));\n");
+      writer.print("        }\n");
+      writer.print("        return new JsonArray(list);\n");
+      writer.print("      }\n");
+      writer.print("      case 10:\n");
+      writer.print("        return readBytes(buffer, cursor);\n");
+      writer.print("      case 11:\n");
+      writer.print("        return new java.math.BigInteger(readBytes(buffer, cursor));\n");
+      writer.print("      case 12: {\n");
+      writer.print("        int scale = readSInt(buffer, cursor);\n");
+      writer.print("        return new java.math.BigDecimal(new java.math.BigInteger(readBytes(buffer, cursor)), scale);\n");
+      writer.print("      }\n");
+      writer.print("      case 13:\n");
+      writer.print("        return readBuffer(buffer, cursor);\n");
+      writer.print("      default:\n");
+      writer.print("        throw new IllegalArgumentException(\"Invalid JSON value type \" + type + \" at \" + pos);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+    }
+  }
+}
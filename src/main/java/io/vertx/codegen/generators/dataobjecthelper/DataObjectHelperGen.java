@@ -3,7 +3,10 @@ package io.vertx.codegen.generators.dataobjecthelper;
 import io.vertx.codegen.Generator;
 import io.vertx.codegen.DataObjectModel;
 import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.RenderContext;
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.InstantEncoding;
+import io.vertx.codegen.annotations.TransferJsonOwnership;
 import io.vertx.codegen.format.CamelCase;
 import io.vertx.codegen.format.Case;
 import io.vertx.codegen.format.LowerCamelCase;
@@ -16,22 +19,63 @@ import io.vertx.codegen.type.MapperInfo;
 import io.vertx.codegen.type.TypeInfo;
 import io.vertx.codegen.writer.CodeWriter;
 
+import javax.annotation.processing.ProcessingEnvironment;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class DataObjectHelperGen extends Generator<DataObjectModel> {
 
-  private Case formatter;
+  /**
+   * Generate the Jackson streaming {@code fromJson(JsonParser, T)} and {@code toJson(T, JsonGenerator)} methods.
+   */
+  public static final String STREAMING_OPTION = "codegen.data_object_converters.streaming";
+
+  /**
+   * Generate primitive specialized conversions that avoid boxing and unboxing values.
+   */
+  public static final String SPECIALIZED_PRIMITIVES_OPTION = "codegen.data_object_converters.specialized_primitives";
+
+  /**
+   * Dispatch the JSON members to the properties with a precomputed index instead of a string switch.
+   */
+  public static final String INDEXED_DISPATCH_OPTION = "codegen.data_object_converters.indexed_dispatch";
+
+  /**
+   * Generate a {@code JsonDecoder} read stream decoding the objects of a JSON array or of newline delimited JSON objects
+   * from chunks of bytes, this implies the {@link #STREAMING_OPTION}.
+   */
+  public static final String DECODER_OPTION = "codegen.data_object_converters.decoder";
+
+  private static final Map<String, String> UNBOXED = new HashMap<>();
+
+  static {
+    UNBOXED.put("Byte", "byte");
+    UNBOXED.put("Short", "short");
+    UNBOXED.put("Integer", "int");
+    UNBOXED.put("Long", "long");
+    UNBOXED.put("Float", "float");
+    UNBOXED.put("Double", "double");
+  }
+
+  private boolean streaming;
+  private boolean specializedPrimitives;
+  private boolean indexedDispatch;
+  private boolean decoder;
 
   public DataObjectHelperGen() {
     kinds = Collections.singleton("dataObject");
     name = "data_object_converters";
+    threadSafe = true;
+    isolating = true;
   }
 
   @Override
@@ -39,6 +83,20 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
     return Collections.singletonList(DataObject.class);
   }
 
+  @Override
+  public Collection<String> options() {
+    return Arrays.asList(STREAMING_OPTION, SPECIALIZED_PRIMITIVES_OPTION, INDEXED_DISPATCH_OPTION, DECODER_OPTION);
+  }
+
+  @Override
+  public void load(ProcessingEnvironment processingEnv) {
+    super.load(processingEnv);
+    streaming = Boolean.parseBoolean(processingEnv.getOptions().get(STREAMING_OPTION));
+    specializedPrimitives = Boolean.parseBoolean(processingEnv.getOptions().get(SPECIALIZED_PRIMITIVES_OPTION));
+    indexedDispatch = Boolean.parseBoolean(processingEnv.getOptions().get(INDEXED_DISPATCH_OPTION));
+    decoder = Boolean.parseBoolean(processingEnv.getOptions().get(DECODER_OPTION));
+  }
+
   @Override
   public String filename(DataObjectModel model) {
     if (model.isClass() && model.getGenerateConverter()) {
@@ -48,15 +106,21 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
   }
 
   @Override
-  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+  public void render(DataObjectModel model, RenderContext context, Writer out) throws IOException {
 
-    formatter = getCase(model);
+    Case formatter = getCase(model);
 
-    StringWriter buffer = new StringWriter();
-    PrintWriter writer = new PrintWriter(buffer);
+    PrintWriter writer = new PrintWriter(out);
     CodeWriter code = new CodeWriter(writer);
     String visibility= model.isPublicConverter() ? "public" : "";
     boolean inheritConverter = model.getInheritConverter();
+    PropertyDispatch dispatch = new PropertyDispatch(model.getPropertyMap().values().stream()
+      .filter(prop -> prop.isDeclared() || inheritConverter)
+      .map(prop -> LowerCamelCase.INSTANCE.to(formatter, prop.getName()))
+      .collect(Collectors.toList()), indexedDispatch);
+    // The decoder instantiates the decoded objects
+    boolean genDecoder = decoder && model.isConcrete() && model.hasEmptyConstructor();
+    JacksonConverterGen jackson = streaming || decoder ? new JacksonConverterGen(visibility, inheritConverter, specializedPrimitives, genDecoder, model, formatter, dispatch, writer) : null;
 
     writer.print("package " + model.getType().getPackageName() + ";\n");
     writer.print("\n");
@@ -64,6 +128,9 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
     writer.print("import io.vertx.core.json.JsonArray;\n");
     writer.print("import java.time.Instant;\n");
     writer.print("import java.time.format.DateTimeFormatter;\n");
+    if (jackson != null) {
+      jackson.genImports();
+    }
     writer.print("\n");
     writer.print("/**\n");
     writer.print(" * Converter and mapper for {@link " + model.getType() + "}.\n");
@@ -73,36 +140,54 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
       .codeln("public class " + model.getType().getSimpleName() + "Converter {"
       ).newLine();
     if (model.getGenerateConverter()) {
+      Set<String> boxingHelpers = new TreeSet<>();
       writer.print("\n");
-      genFromJson(visibility, inheritConverter, model, writer);
+      genFromJson(visibility, inheritConverter, model, formatter, dispatch, boxingHelpers, writer);
       writer.print("\n");
-      genToJson(visibility, inheritConverter, model, writer);
+      genToJson(visibility, inheritConverter, model, formatter, writer);
+      if (jackson != null) {
+        writer.print("\n");
+        jackson.genFromJson();
+        writer.print("\n");
+        jackson.genToJson();
+        jackson.genHelpers();
+        jackson.genDecoder();
+      }
+      dispatch.genIndexMethod(writer);
+      genBoxingHelpers(boxingHelpers, writer);
+      InstantGen.genHelpers(InstantGen.encodings(model, inheritConverter), writer);
     }
     writer.print("}\n");
-    return buffer.toString();
+    if (writer.checkError()) {
+      throw new IOException("Could not write " + model.getFqn() + "Converter");
+    }
   }
 
-  private void genToJson(String visibility, boolean inheritConverter, DataObjectModel model, PrintWriter writer) {
+  private void genToJson(String visibility, boolean inheritConverter, DataObjectModel model, Case formatter, PrintWriter writer) {
     String simpleName = model.getType().getSimpleName();
     writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, JsonObject json) {\n");
     writer.print("    toJson(obj, json.getMap());\n");
     writer.print("  }\n");
     writer.print("\n");
     writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, java.util.Map<String, Object> json) {\n");
+    // The statements of each property are generated apart to split the method when it is too large
+    List<String> statements = new ArrayList<>();
     model.getPropertyMap().values().forEach(prop -> {
       if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable()) {
+        StringWriter buffer = new StringWriter();
+        PrintWriter propWriter = new PrintWriter(buffer);
         ClassKind propKind = prop.getType().getKind();
         if (propKind.basic) {
           if (propKind == ClassKind.STRING) {
-            genPropToJson("", "", prop, writer);
+            genPropToJson("", "", prop, formatter, propWriter);
           } else {
             switch (prop.getType().getSimpleName()) {
               case "char":
               case "Character":
-                genPropToJson("Character.toString(", ")", prop, writer);
+                genPropToJson("Character.toString(", ")", prop, formatter, propWriter);
                 break;
               default:
-                genPropToJson("", "", prop, writer);
+                genPropToJson("", "", prop, formatter, propWriter);
             }
           }
         } else {
@@ -124,7 +209,7 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
                 default:
                   throw new UnsupportedOperationException();
               }
-              genPropToJson(m, match, prop, writer);
+              genPropToJson(m, match, prop, formatter, propWriter);
             } else {
               return;
             }
@@ -132,102 +217,136 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
             switch (propKind) {
               case API:
                 if (prop.getType().getName().equals("io.vertx.core.buffer.Buffer")) {
-                  genPropToJson("java.util.Base64.getEncoder().encodeToString(", ".getBytes())", prop, writer);
+                  genPropToJson("java.util.Base64.getEncoder().encodeToString(", ".getBytes())", prop, formatter, propWriter);
                 }
                 break;
               case ENUM:
-                genPropToJson("", ".name()", prop, writer);
+                genPropToJson("", ".name()", prop, formatter, propWriter);
                 break;
               case JSON_OBJECT:
               case JSON_ARRAY:
               case OBJECT:
-                genPropToJson("", "", prop, writer);
+                genPropToJson("", "", prop, formatter, propWriter);
                 break;
               case OTHER:
-                if (prop.getType().getName().equals(Instant.class.getName())) {
-                  genPropToJson("DateTimeFormatter.ISO_INSTANT.format(", ")", prop, writer);
+                if (InstantGen.isInstant(prop)) {
+                  String[] conversion = InstantGen.toJson(InstantGen.encoding(model, prop));
+                  genPropToJson(conversion[0], conversion[1], prop, formatter, propWriter);
                 }
                 break;
             }
           }
         }
+        if (buffer.getBuffer().length() > 0) {
+          statements.add(buffer.toString());
+        }
       }
     });
-
+    List<List<String>> chunks = MethodChunks.split(statements);
+    if (chunks.size() == 1) {
+      chunks.get(0).forEach(writer::print);
+      writer.print("  }\n");
+      return;
+    }
+    for (int i = 0; i < chunks.size(); i++) {
+      writer.print("    toJson" + i + "(obj, json);\n");
+    }
     writer.print("  }\n");
+    for (int i = 0; i < chunks.size(); i++) {
+      writer.print("\n");
+      writer.print("  private static void toJson" + i + "(" + simpleName + " obj, java.util.Map<String, Object> json) {\n");
+      chunks.get(i).forEach(writer::print);
+      writer.print("  }\n");
+    }
   }
 
-  private void genPropToJson(String before, String after, PropertyInfo prop, PrintWriter writer) {
+  private void genPropToJson(String before, String after, PropertyInfo prop, Case formatter, PrintWriter writer) {
     String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
     String indent = "    ";
+    String type = prop.getType().getName();
+    if (prop.getType().getKind() == ClassKind.PRIMITIVE) {
+      writer.print(indent + "json.put(\"" + jsonPropertyName + "\", " + before + "obj." + prop.getGetterMethod() + "()" + after + ");\n");
+      return;
+    }
+    // The getter is called once and the collections are presized and filled without capturing lambdas
+    String value = prop.getName() + "Value";
     if (prop.isList() || prop.isSet()) {
-      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      writer.print(indent + "  JsonArray array = new JsonArray();\n");
-      writer.print(indent + "  obj." + prop.getGetterMethod() + "().forEach(item -> array.add(" + before + "item" + after + "));\n");
+      writer.print(indent + "java.util." + (prop.isList() ? "List" : "Set") + "<" + type + "> " + value + " = obj." + prop.getGetterMethod() + "();\n");
+      writer.print(indent + "if (" + value + " != null) {\n");
+      writer.print(indent + "  JsonArray array = new JsonArray(new java.util.ArrayList<>(" + value + ".size()));\n");
+      writer.print(indent + "  for (" + type + " item : " + value + ") {\n");
+      writer.print(indent + "    array.add(" + before + "item" + after + ");\n");
+      writer.print(indent + "  }\n");
       writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", array);\n");
       writer.print(indent + "}\n");
     } else if (prop.isMap()) {
-      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      writer.print(indent + "  JsonObject map = new JsonObject();\n");
-      writer.print(indent + "  obj." + prop.getGetterMethod() + "().forEach((key, value) -> map.put(key, " + before + "value" + after + "));\n");
+      writer.print(indent + "java.util.Map<String, " + type + "> " + value + " = obj." + prop.getGetterMethod() + "();\n");
+      writer.print(indent + "if (" + value + " != null) {\n");
+      writer.print(indent + "  JsonObject map = new JsonObject(new java.util.LinkedHashMap<>(" + capacity(value + ".size()") + "));\n");
+      writer.print(indent + "  for (java.util.Map.Entry<String, " + type + "> entry : " + value + ".entrySet()) {\n");
+      writer.print(indent + "    map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
+      writer.print(indent + "  }\n");
       writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", map);\n");
       writer.print(indent + "}\n");
     } else {
-      String sp = "";
-      if (prop.getType().getKind() != ClassKind.PRIMITIVE) {
-        sp = "  ";
-        writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      }
-      writer.print(indent + sp + "json.put(\"" + jsonPropertyName + "\", " + before + "obj." + prop.getGetterMethod() + "()" + after + ");\n");
-      if (prop.getType().getKind() != ClassKind.PRIMITIVE) {
-        writer.print(indent + "}\n");
-      }
+      writer.print(indent + type + " " + value + " = obj." + prop.getGetterMethod() + "();\n");
+      writer.print(indent + "if (" + value + " != null) {\n");
+      writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", " + before + value + after + ");\n");
+      writer.print(indent + "}\n");
     }
   }
 
-  private void genFromJson(String visibility, boolean inheritConverter, DataObjectModel model, PrintWriter writer) {
-    writer.print("  " + visibility + " static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, " + model.getType().getSimpleName() + " obj) {\n");
-    writer.print("    for (java.util.Map.Entry<String, Object> member : json) {\n");
-    writer.print("      switch (member.getKey()) {\n");
+  private void genFromJson(String visibility, boolean inheritConverter, DataObjectModel model, Case formatter, PropertyDispatch dispatch, Set<String> boxingHelpers, PrintWriter writer) {
+    String modelName = model.getType().getSimpleName();
+    // The cases of each property are generated apart to split the method when it is too large
+    List<String> cases = new ArrayList<>();
+    List<String> declaredCases = new ArrayList<>();
     model.getPropertyMap().values().forEach(prop -> {
       if (prop.isDeclared() || inheritConverter) {
+        StringWriter buffer = new StringWriter();
+        PrintWriter propWriter = new PrintWriter(buffer);
         ClassKind propKind = prop.getType().getKind();
         if (propKind.basic) {
+          String boxed = prop.getType().getSimpleName();
           if (propKind == ClassKind.STRING) {
-            genPropFromJson("String", "(String)", "", prop, writer);
+            genPropFromJson("String", "(String)", "", prop, formatter, dispatch, propWriter);
+          } else if (specializedPrimitives && propKind == ClassKind.BOXED_PRIMITIVE && UNBOXED.containsKey(boxed)) {
+            // Reuse the value when it has already the property type instead of unboxing and boxing it again
+            boxingHelpers.add(boxed);
+            genPropFromJson("Number", "to" + boxed + "((Number)", ")", prop, formatter, dispatch, propWriter);
           } else {
             switch (prop.getType().getSimpleName()) {
               case "boolean":
               case "Boolean":
-                genPropFromJson("Boolean", "(Boolean)", "", prop, writer);
+                genPropFromJson("Boolean", "(Boolean)", "", prop, formatter, dispatch, propWriter);
                 break;
               case "byte":
               case "Byte":
-                genPropFromJson("Number", "((Number)", ").byteValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").byteValue()", prop, formatter, dispatch, propWriter);
                 break;
               case "short":
               case "Short":
-                genPropFromJson("Number", "((Number)", ").shortValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").shortValue()", prop, formatter, dispatch, propWriter);
                 break;
               case "int":
               case "Integer":
-                genPropFromJson("Number", "((Number)", ").intValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").intValue()", prop, formatter, dispatch, propWriter);
                 break;
               case "long":
               case "Long":
-                genPropFromJson("Number", "((Number)", ").longValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").longValue()", prop, formatter, dispatch, propWriter);
                 break;
               case "float":
               case "Float":
-                genPropFromJson("Number", "((Number)", ").floatValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").floatValue()", prop, formatter, dispatch, propWriter);
                 break;
               case "double":
               case "Double":
-                genPropFromJson("Number", "((Number)", ").doubleValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").doubleValue()", prop, formatter, dispatch, propWriter);
                 break;
               case "char":
               case "Character":
-                genPropFromJson("String", "((String)", ").charAt(0)", prop, writer);
+                genPropFromJson("String", "((String)", ").charAt(0)", prop, formatter, dispatch, propWriter);
                 break;
             }
           }
@@ -257,7 +376,9 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
                 match,
                 ")",
                 prop,
-                writer
+                formatter,
+                dispatch,
+                propWriter
               );
 
             }
@@ -265,71 +386,118 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
             switch (propKind) {
               case API:
                 if (prop.getType().getName().equals("io.vertx.core.buffer.Buffer")) {
-                  genPropFromJson("String", "io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)", "))", prop, writer);
+                  genPropFromJson("String", "io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)", "))", prop, formatter, dispatch, propWriter);
                 }
                 break;
               case JSON_OBJECT:
-                genPropFromJson("JsonObject", "((JsonObject)", ").copy()", prop, writer);
+                genPropFromJson("JsonObject", "((JsonObject)", transferJsonOwnership(model, prop) ? ")" : ").copy()", prop, formatter, dispatch, propWriter);
                 break;
               case JSON_ARRAY:
-                genPropFromJson("JsonArray", "((JsonArray)", ").copy()", prop, writer);
+                genPropFromJson("JsonArray", "((JsonArray)", transferJsonOwnership(model, prop) ? ")" : ").copy()", prop, formatter, dispatch, propWriter);
                 break;
               case ENUM:
-                genPropFromJson("String", prop.getType().getName() + ".valueOf((String)", ")", prop, writer);
+                genPropFromJson("String", prop.getType().getName() + ".valueOf((String)", ")", prop, formatter, dispatch, propWriter);
                 break;
               case OBJECT:
-                genPropFromJson("Object", "", "", prop, writer);
+                genPropFromJson("Object", "", "", prop, formatter, dispatch, propWriter);
                 break;
               case OTHER:
-                if (prop.getType().getName().equals(Instant.class.getName())) {
-                  genPropFromJson("String", "Instant.from(DateTimeFormatter.ISO_INSTANT.parse((String)", "))", prop, writer);
+                if (InstantGen.isInstant(prop)) {
+                  InstantEncoding encoding = InstantGen.encoding(model, prop);
+                  String[] conversion = InstantGen.fromJson(encoding);
+                  if (encoding == InstantEncoding.ISO_8601) {
+                    genPropFromJson("String", conversion[0] + "(String)", conversion[1], prop, formatter, dispatch, propWriter);
+                  } else {
+                    genPropFromJson("Number", conversion[0] + "((Number)", ").longValue()" + conversion[1], prop, formatter, dispatch, propWriter);
+                  }
                 }
                 break;
               default:
             }
           }
         }
+        if (buffer.getBuffer().length() > 0) {
+          cases.add(buffer.toString());
+          if (prop.isDeclared()) {
+            declaredCases.add(buffer.toString());
+          }
+        }
       }
     });
-    writer.print("      }\n");
+    writer.print("  " + visibility + " static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, " + modelName + " obj) {\n");
+    writer.print("    for (java.util.Map.Entry<String, Object> member : json) {\n");
+    // The declared properties are dispatched first, the inherited properties are likely less used
+    List<List<String>> chunks = MethodChunks.split(cases, declaredCases);
+    if (chunks.size() == 1) {
+      writer.print("      switch (" + dispatch.selector("member.getKey()") + ") {\n");
+      chunks.get(0).forEach(writer::print);
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      return;
+    }
+    writer.print("      " + dispatch.selectorType() + " property = " + dispatch.selector("member.getKey()") + ";\n");
+    for (int i = 0; i < chunks.size(); i++) {
+      if (i < chunks.size() - 1) {
+        writer.print("      if (fromJson" + i + "(property, member, obj)) {\n");
+        writer.print("        continue;\n");
+        writer.print("      }\n");
+      } else {
+        writer.print("      fromJson" + i + "(property, member, obj);\n");
+      }
+    }
     writer.print("    }\n");
     writer.print("  }\n");
+    for (int i = 0; i < chunks.size(); i++) {
+      writer.print("\n");
+      writer.print("  private static boolean fromJson" + i + "(" + dispatch.selectorType() + " property, java.util.Map.Entry<String, Object> member, " + modelName + " obj) {\n");
+      writer.print("    switch (property) {\n");
+      chunks.get(i).forEach(c -> writer.print(MethodChunks.unindent(c, 2)));
+      writer.print("      default:\n");
+      writer.print("        return false;\n");
+      writer.print("    }\n");
+      writer.print("    return true;\n");
+      writer.print("  }\n");
+    }
   }
 
-  private void genPropFromJson(String cast, String before, String after, PropertyInfo prop, PrintWriter writer) {
+  private void genPropFromJson(String cast, String before, String after, PropertyInfo prop, Case formatter, PropertyDispatch dispatch, PrintWriter writer) {
     String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
     String indent = "        ";
-    writer.print(indent + "case \"" + jsonPropertyName + "\":\n");
+    writer.print(indent + dispatch.caseOf(jsonPropertyName) + "\n");
     if (prop.isList() || prop.isSet()) {
       writer.print(indent + "  if (member.getValue() instanceof JsonArray) {\n");
+      writer.print(indent + "    JsonArray array = (JsonArray) member.getValue();\n");
       if (prop.isSetter()) {
         String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
-        writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list =  new " + coll + "<>();\n");
-        writer.print(indent + "    ((Iterable<Object>)member.getValue()).forEach( item -> {\n");
+        String size = prop.isList() ? "array.size()" : capacity("array.size()");
+        writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list = new " + coll + "<>(" + size + ");\n");
+        writer.print(indent + "    for (Object item : array) {\n");
         writer.print(indent + "      if (item instanceof " + cast + ")\n");
         writer.print(indent + "        list.add(" + before + "item" + after + ");\n");
-        writer.print(indent + "    });\n");
+        writer.print(indent + "    }\n");
         writer.print(indent + "    obj." + prop.getSetterMethod() + "(list);\n");
       } else if (prop.isAdder()) {
-        writer.print(indent + "    ((Iterable<Object>)member.getValue()).forEach( item -> {\n");
+        writer.print(indent + "    for (Object item : array) {\n");
         writer.print(indent + "      if (item instanceof " + cast + ")\n");
         writer.print(indent + "        obj." + prop.getAdderMethod() + "(" + before + "item" + after + ");\n");
-        writer.print(indent + "    });\n");
+        writer.print(indent + "    }\n");
       }
       writer.print(indent + "  }\n");
     } else if (prop.isMap()) {
       writer.print(indent + "  if (member.getValue() instanceof JsonObject) {\n");
+      writer.print(indent + "    JsonObject object = (JsonObject) member.getValue();\n");
       if (prop.isAdder()) {
-        writer.print(indent + "    ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {\n");
+        writer.print(indent + "    for (java.util.Map.Entry<String, Object> entry : object) {\n");
         writer.print(indent + "      if (entry.getValue() instanceof " + cast + ")\n");
         writer.print(indent + "        obj." + prop.getAdderMethod() + "(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
-        writer.print(indent + "    });\n");
+        writer.print(indent + "    }\n");
       } else if (prop.isSetter()) {
-        writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>();\n");
-        writer.print(indent + "    ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {\n");
+        writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>(" + capacity("object.size()") + ");\n");
+        writer.print(indent + "    for (java.util.Map.Entry<String, Object> entry : object) {\n");
         writer.print(indent + "      if (entry.getValue() instanceof " + cast + ")\n");
         writer.print(indent + "        map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
-        writer.print(indent + "    });\n");
+        writer.print(indent + "    }\n");
         writer.print(indent + "    obj." + prop.getSetterMethod() + "(map);\n");
       }
       writer.print(indent + "  }\n");
@@ -343,6 +511,35 @@ public class DataObjectHelperGen extends Generator<DataObjectModel> {
     writer.print(indent + "  break;\n");
   }
 
+  /**
+   * @return whether the JSON members of the {@code prop} are set without being copied, i.e the {@link TransferJsonOwnership}
+   *         annotation value or the data object setting
+   */
+  private static boolean transferJsonOwnership(DataObjectModel model, PropertyInfo prop) {
+    AnnotationValueInfo ann = prop.getAnnotation(TransferJsonOwnership.class.getName());
+    if (ann != null) {
+      return (Boolean) ann.getMember("value");
+    }
+    return model.getTransferJsonOwnership();
+  }
+
+  /**
+   * @return the initial capacity of a hash based collection holding {@code size} elements without being resized
+   */
+  private static String capacity(String size) {
+    return "(int) (" + size + " / 0.75f) + 1";
+  }
+
+  private void genBoxingHelpers(Set<String> boxingHelpers, PrintWriter writer) {
+    for (String boxed : boxingHelpers) {
+      String unboxed = UNBOXED.get(boxed);
+      writer.print("\n");
+      writer.print("  private static " + boxed + " to" + boxed + "(Number value) {\n");
+      writer.print("    return value instanceof " + boxed + " ? (" + boxed + ") value : " + boxed + ".valueOf(value." + unboxed + "Value());\n");
+      writer.print("  }\n");
+    }
+  }
+
   private Case getCase(DataObjectModel model) {
     AnnotationValueInfo abc = model
       .getAnnotations()
@@ -0,0 +1,208 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.annotations.InstantEncoding;
+import io.vertx.codegen.annotations.JsonInstant;
+import io.vertx.codegen.type.AnnotationValueInfo;
+
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The conversions of the {@link Instant} properties of a data object.
+ * <p/>
+ * The ISO-8601 encoding is performed by helpers generated in the converter that format and parse the fixed layout
+ * of {@link java.time.format.DateTimeFormatter#ISO_INSTANT} without going through a {@code TemporalAccessor}, the
+ * instants or the strings that do not fit the layout, e.g years after 9999, lower case separators or offsets, fall
+ * back on {@code DateTimeFormatter}.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+final class InstantGen {
+
+  private InstantGen() {
+  }
+
+  static boolean isInstant(PropertyInfo prop) {
+    return prop.getType().getName().equals(Instant.class.getName());
+  }
+
+  /**
+   * @return the encoding of the {@code prop}, i.e the {@link JsonInstant} annotation value or the data object encoding
+   */
+  static InstantEncoding encoding(DataObjectModel model, PropertyInfo prop) {
+    AnnotationValueInfo ann = prop.getAnnotation(JsonInstant.class.getName());
+    if (ann != null) {
+      return InstantEncoding.valueOf((String) ann.getMember("value"));
+    }
+    return model.getInstantEncoding();
+  }
+
+  /**
+   * @return the encodings of the instant properties converted by the converter
+   */
+  static Set<InstantEncoding> encodings(DataObjectModel model, boolean inheritConverter) {
+    Set<InstantEncoding> encodings = EnumSet.noneOf(InstantEncoding.class);
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if ((prop.isDeclared() || inheritConverter) && isInstant(prop)) {
+        encodings.add(encoding(model, prop));
+      }
+    }
+    return encodings;
+  }
+
+  /**
+   * @return the expression prefix and suffix converting an instant to its JSON value
+   */
+  static String[] toJson(InstantEncoding encoding) {
+    switch (encoding) {
+      case EPOCH_MILLIS:
+        return new String[]{"", ".toEpochMilli()"};
+      case EPOCH_NANOS:
+        return new String[]{"toEpochNanos(", ")"};
+      default:
+        return new String[]{"formatInstant(", ")"};
+    }
+  }
+
+  /**
+   * @return the expression prefix and suffix converting a JSON value to an instant, the value is a {@code long}
+   *         for the epoch encodings and a {@code String} otherwise
+   */
+  static String[] fromJson(InstantEncoding encoding) {
+    switch (encoding) {
+      case EPOCH_MILLIS:
+        return new String[]{"Instant.ofEpochMilli(", ")"};
+      case EPOCH_NANOS:
+        return new String[]{"Instant.ofEpochSecond(0L, ", ")"};
+      default:
+        return new String[]{"parseInstant(", ")"};
+    }
+  }
+
+  static void genHelpers(Set<InstantEncoding> encodings, PrintWriter writer) {
+    if (encodings.contains(InstantEncoding.EPOCH_NANOS)) {
+      writer.print("\n");
+      writer.print("  private static long toEpochNanos(Instant instant) {\n");
+      writer.print("    return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1000000000L), instant.getNano());\n");
+      writer.print("  }\n");
+    }
+    if (encodings.contains(InstantEncoding.ISO_8601)) {
+      genFormat(writer);
+      genParse(writer);
+    }
+  }
+
+  private static void genFormat(PrintWriter writer) {
+    writer.print("\n");
+    writer.print("  private static String formatInstant(Instant instant) {\n");
+    writer.print("    long seconds = instant.getEpochSecond();\n");
+    writer.print("    int secondOfDay = (int) Math.floorMod(seconds, 86400L);\n");
+    writer.print("    long z = Math.floorDiv(seconds, 86400L) + 719468L;\n");
+    writer.print("    long era = Math.floorDiv(z, 146097L);\n");
+    writer.print("    int dayOfEra = (int) (z - era * 146097L);\n");
+    writer.print("    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;\n");
+    writer.print("    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);\n");
+    writer.print("    int mp = (5 * dayOfYear + 2) / 153;\n");
+    writer.print("    int day = dayOfYear - (153 * mp + 2) / 5 + 1;\n");
+    writer.print("    int month = mp < 10 ? mp + 3 : mp - 9;\n");
+    writer.print("    long year = yearOfEra + era * 400L + (month <= 2 ? 1 : 0);\n");
+    writer.print("    if (year < 0L || year > 9999L) {\n");
+    writer.print("      return DateTimeFormatter.ISO_INSTANT.format(instant);\n");
+    writer.print("    }\n");
+    writer.print("    char[] chars = new char[30];\n");
+    writer.print("    formatDigits(chars, 0, (int) year, 4);\n");
+    writer.print("    chars[4] = '-';\n");
+    writer.print("    formatDigits(chars, 5, month, 2);\n");
+    writer.print("    chars[7] = '-';\n");
+    writer.print("    formatDigits(chars, 8, day, 2);\n");
+    writer.print("    chars[10] = 'T';\n");
+    writer.print("    formatDigits(chars, 11, secondOfDay / 3600, 2);\n");
+    writer.print("    chars[13] = ':';\n");
+    writer.print("    formatDigits(chars, 14, (secondOfDay / 60) % 60, 2);\n");
+    writer.print("    chars[16] = ':';\n");
+    writer.print("    formatDigits(chars, 17, secondOfDay % 60, 2);\n");
+    writer.print("    int pos = 19;\n");
+    writer.print("    int nanos = instant.getNano();\n");
+    writer.print("    if (nanos != 0) {\n");
+    writer.print("      chars[pos++] = '.';\n");
+    writer.print("      if (nanos % 1000000 == 0) {\n");
+    writer.print("        formatDigits(chars, pos, nanos / 1000000, 3);\n");
+    writer.print("        pos += 3;\n");
+    writer.print("      } else if (nanos % 1000 == 0) {\n");
+    writer.print("        formatDigits(chars, pos, nanos / 1000, 6);\n");
+    writer.print("        pos += 6;\n");
+    writer.print("      } else {\n");
+    writer.print("        formatDigits(chars, pos, nanos, 9);\n");
+    writer.print("        pos += 9;\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("    chars[pos++] = 'Z';\n");
+    writer.print("    return new String(chars, 0, pos);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static void formatDigits(char[] chars, int pos, int value, int digits) {\n");
+    writer.print("    for (int i = pos + digits - 1; i >= pos; i--) {\n");
+    writer.print("      chars[i] = (char) ('0' + value % 10);\n");
+    writer.print("      value /= 10;\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+  }
+
+  private static void genParse(PrintWriter writer) {
+    writer.print("\n");
+    writer.print("  private static Instant parseInstant(String text) {\n");
+    writer.print("    int length = text.length();\n");
+    writer.print("    if ((length == 20 || length >= 22 && length <= 30) && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T' &&\n");
+    writer.print("      text.charAt(13) == ':' && text.charAt(16) == ':' && text.charAt(length - 1) == 'Z') {\n");
+    writer.print("      int year = parseDigits(text, 0, 4);\n");
+    writer.print("      int month = parseDigits(text, 5, 2);\n");
+    writer.print("      int day = parseDigits(text, 8, 2);\n");
+    writer.print("      int hour = parseDigits(text, 11, 2);\n");
+    writer.print("      int minute = parseDigits(text, 14, 2);\n");
+    writer.print("      int second = parseDigits(text, 17, 2);\n");
+    writer.print("      int nanos = 0;\n");
+    writer.print("      if (length > 20) {\n");
+    writer.print("        nanos = text.charAt(19) == '.' ? parseDigits(text, 20, length - 21) : -1;\n");
+    writer.print("        for (int i = length - 21; i < 9 && nanos > 0; i++) {\n");
+    writer.print("          nanos *= 10;\n");
+    writer.print("        }\n");
+    writer.print("      }\n");
+    writer.print("      if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && hour >= 0 && hour < 24 && minute >= 0 && minute < 60 &&\n");
+    writer.print("        second >= 0 && second < 60 && nanos >= 0) {\n");
+    writer.print("        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);\n");
+    writer.print("        int monthLength = month == 2 ? (leap ? 29 : 28) : (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);\n");
+    writer.print("        if (day <= monthLength) {\n");
+    writer.print("          int y = month <= 2 ? year - 1 : year;\n");
+    writer.print("          int era = Math.floorDiv(y, 400);\n");
+    writer.print("          int yearOfEra = y - era * 400;\n");
+    writer.print("          int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;\n");
+    writer.print("          int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;\n");
+    writer.print("          long days = era * 146097L + dayOfEra - 719468L;\n");
+    writer.print("          return Instant.ofEpochSecond(days * 86400L + hour * 3600 + minute * 60 + second, nanos);\n");
+    writer.print("        }\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    // ISO_INSTANT only parses offsets since Java 9 and OffsetDateTime does not cover the years of Instant.MIN/MAX
+    writer.print("    if (length > 0 && (text.charAt(length - 1) == 'Z' || text.charAt(length - 1) == 'z')) {\n");
+    writer.print("      return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(text));\n");
+    writer.print("    }\n");
+    writer.print("    return java.time.OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant();\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static int parseDigits(String text, int pos, int digits) {\n");
+    writer.print("    int value = 0;\n");
+    writer.print("    for (int i = pos; i < pos + digits; i++) {\n");
+    writer.print("      int digit = text.charAt(i) - '0';\n");
+    writer.print("      if (digit < 0 || digit > 9) {\n");
+    writer.print("        return -1;\n");
+    writer.print("      }\n");
+    writer.print("      value = value * 10 + digit;\n");
+    writer.print("    }\n");
+    writer.print("    return value;\n");
+    writer.print("  }\n");
+  }
+}
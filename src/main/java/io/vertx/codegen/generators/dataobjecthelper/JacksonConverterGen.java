@@ -0,0 +1,1060 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.annotations.InstantEncoding;
+import io.vertx.codegen.format.Case;
+import io.vertx.codegen.format.LowerCamelCase;
+import io.vertx.codegen.format.SnakeCase;
+import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.DataObjectInfo;
+import io.vertx.codegen.type.MapperInfo;
+import io.vertx.codegen.type.TypeInfo;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the streaming {@code fromJson(JsonParser, T)} and {@code toJson(T, JsonGenerator)} methods of
+ * a data object converter: the properties are read from the parser tokens into the setters and written from the getters
+ * to the generator without an intermediate {@code JsonObject}.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class JacksonConverterGen {
+
+  /**
+   * The JSON representation of a value.
+   */
+  private static class JsonValue {
+
+    /**
+     * The boolean expression testing the current {@code token} of the parser.
+     */
+    final String test;
+
+    /**
+     * The expression reading the value from the {@code parser}.
+     */
+    final String read;
+
+    JsonValue(String test, String read) {
+      this.test = test;
+      this.read = read;
+    }
+
+    JsonValue map(String before, String after) {
+      return new JsonValue(test, before + read + after);
+    }
+  }
+
+  private final String visibility;
+  private final boolean inheritConverter;
+  private final boolean specializedPrimitives;
+  private final boolean decoder;
+  private final DataObjectModel model;
+  private final Case formatter;
+  private final PropertyDispatch dispatch;
+  private PrintWriter writer;
+  private boolean jsonValueHelpers;
+  private boolean bufferHelpers;
+  private final Set<String> primitiveHelpers = new TreeSet<>();
+
+  JacksonConverterGen(String visibility, boolean inheritConverter, boolean specializedPrimitives, boolean decoder, DataObjectModel model, Case formatter, PropertyDispatch dispatch, PrintWriter writer) {
+    this.visibility = visibility;
+    this.inheritConverter = inheritConverter;
+    this.specializedPrimitives = specializedPrimitives;
+    this.decoder = decoder;
+    this.model = model;
+    this.formatter = formatter;
+    this.dispatch = dispatch;
+    this.writer = writer;
+  }
+
+  void genImports() {
+    writer.print("import com.fasterxml.jackson.core.JsonGenerator;\n");
+    writer.print("import com.fasterxml.jackson.core.JsonParseException;\n");
+    writer.print("import com.fasterxml.jackson.core.JsonParser;\n");
+    writer.print("import com.fasterxml.jackson.core.JsonToken;\n");
+    writer.print("import com.fasterxml.jackson.core.io.SerializedString;\n");
+    if (decoder) {
+      writer.print("import com.fasterxml.jackson.core.JsonFactory;\n");
+      writer.print("import io.vertx.core.Handler;\n");
+      writer.print("import io.vertx.core.buffer.Buffer;\n");
+      writer.print("import io.vertx.core.streams.ReadStream;\n");
+    }
+  }
+
+  void genFromJson() {
+    writer.print("  " + visibility + " static void fromJson(JsonParser parser, " + model.getType().getSimpleName() + " obj) throws java.io.IOException {\n");
+    writer.print("    JsonToken token = parser.currentToken();\n");
+    writer.print("    if (token != JsonToken.START_OBJECT) {\n");
+    writer.print("      token = parser.nextToken();\n");
+    writer.print("    }\n");
+    writer.print("    if (token != JsonToken.START_OBJECT) {\n");
+    writer.print("      throw new JsonParseException(parser, \"Expected an object instead of \" + token);\n");
+    writer.print("    }\n");
+    writer.print("    while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+    writer.print("      String name = parser.currentName();\n");
+    writer.print("      token = parser.nextToken();\n");
+    // The cases of each property are generated apart to split the method when it is too large
+    List<String> cases = new ArrayList<>();
+    List<String> declaredCases = new ArrayList<>();
+    model.getPropertyMap().values().forEach(prop -> {
+      if (prop.isDeclared() || inheritConverter) {
+        String code = capture(() -> genPropFromJson(prop));
+        if (!code.isEmpty()) {
+          cases.add(code);
+          if (prop.isDeclared()) {
+            declaredCases.add(code);
+          }
+        }
+      }
+    });
+    List<List<String>> chunks = MethodChunks.split(cases, declaredCases);
+    if (chunks.size() == 1) {
+      writer.print("      switch (" + dispatch.selector("name") + ") {\n");
+      chunks.get(0).forEach(writer::print);
+      writer.print("        default:\n");
+      writer.print("          parser.skipChildren();\n");
+      writer.print("          break;\n");
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      return;
+    }
+    writer.print("      " + dispatch.selectorType() + " property = " + dispatch.selector("name") + ";\n");
+    for (int i = 0; i < chunks.size() - 1; i++) {
+      writer.print("      if (fromJson" + i + "(property, token, parser, obj)) {\n");
+      writer.print("        continue;\n");
+      writer.print("      }\n");
+    }
+    writer.print("      if (!fromJson" + (chunks.size() - 1) + "(property, token, parser, obj)) {\n");
+    writer.print("        parser.skipChildren();\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    for (int i = 0; i < chunks.size(); i++) {
+      writer.print("\n");
+      writer.print("  private static boolean fromJson" + i + "(" + dispatch.selectorType() + " property, JsonToken token, JsonParser parser, " + model.getType().getSimpleName() + " obj) throws java.io.IOException {\n");
+      writer.print("    switch (property) {\n");
+      chunks.get(i).forEach(c -> writer.print(MethodChunks.unindent(c, 2)));
+      writer.print("      default:\n");
+      writer.print("        return false;\n");
+      writer.print("    }\n");
+      writer.print("    return true;\n");
+      writer.print("  }\n");
+    }
+  }
+
+  private void genPropFromJson(PropertyInfo prop) {
+    JsonValue value = readValue(prop);
+    if (value == null) {
+      return;
+    }
+    String indent = "          ";
+    String typeName = prop.getType().getName();
+    if (prop.isList() || prop.isSet()) {
+      if (!prop.isSetter() && !prop.isAdder()) {
+        return;
+      }
+      writer.print("        " + dispatch.caseOf(jsonPropertyName(prop)) + "\n");
+      writer.print(indent + "if (token == JsonToken.START_ARRAY) {\n");
+      String add;
+      if (prop.isSetter()) {
+        String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+        writer.print(indent + "  " + coll + "<" + typeName + "> list = new " + coll + "<>();\n");
+        add = "list.add(" + value.read + ");";
+      } else {
+        add = "obj." + prop.getAdderMethod() + "(" + value.read + ");";
+      }
+      writer.print(indent + "  while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {\n");
+      genTest(indent + "    ", value, add);
+      writer.print(indent + "  }\n");
+      if (prop.isSetter()) {
+        writer.print(indent + "  obj." + prop.getSetterMethod() + "(list);\n");
+      }
+    } else if (prop.isMap()) {
+      if (!prop.isSetter() && !prop.isAdder()) {
+        return;
+      }
+      writer.print("        " + dispatch.caseOf(jsonPropertyName(prop)) + "\n");
+      writer.print(indent + "if (token == JsonToken.START_OBJECT) {\n");
+      String put;
+      if (prop.isAdder()) {
+        put = "obj." + prop.getAdderMethod() + "(key, " + value.read + ");";
+      } else {
+        writer.print(indent + "  java.util.Map<String, " + typeName + "> map = new java.util.LinkedHashMap<>();\n");
+        put = "map.put(key, " + value.read + ");";
+      }
+      writer.print(indent + "  while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+      writer.print(indent + "    String key = parser.currentName();\n");
+      writer.print(indent + "    token = parser.nextToken();\n");
+      genTest(indent + "    ", value, put);
+      writer.print(indent + "  }\n");
+      if (!prop.isAdder()) {
+        writer.print(indent + "  obj." + prop.getSetterMethod() + "(map);\n");
+      }
+    } else {
+      if (!prop.isSetter()) {
+        return;
+      }
+      writer.print("        " + dispatch.caseOf(jsonPropertyName(prop)) + "\n");
+      writer.print(indent + "if (" + value.test + ") {\n");
+      writer.print(indent + "  obj." + prop.getSetterMethod() + "(" + value.read + ");\n");
+    }
+    writer.print(indent + "} else {\n");
+    writer.print(indent + "  parser.skipChildren();\n");
+    writer.print(indent + "}\n");
+    writer.print(indent + "break;\n");
+  }
+
+  private void genTest(String indent, JsonValue value, String statement) {
+    writer.print(indent + "if (" + value.test + ") {\n");
+    writer.print(indent + "  " + statement + "\n");
+    writer.print(indent + "} else {\n");
+    writer.print(indent + "  parser.skipChildren();\n");
+    writer.print(indent + "}\n");
+  }
+
+  /**
+   * @return the JSON representation of the {@code type} or {@code null} when it cannot be read
+   */
+  private JsonValue readValue(TypeInfo type) {
+    ClassKind kind = type.getKind();
+    if (kind.basic) {
+      if (kind == ClassKind.STRING) {
+        return new JsonValue("token == JsonToken.VALUE_STRING", "parser.getText()");
+      }
+      if (specializedPrimitives) {
+        return readPrimitive(type);
+      }
+      // Out of range numbers are narrowed like the map based converter does instead of failing the parser
+      switch (type.getSimpleName()) {
+        case "boolean":
+        case "Boolean":
+          return new JsonValue("token.isBoolean()", "parser.getBooleanValue()");
+        case "byte":
+        case "Byte":
+          return new JsonValue("token.isNumeric()", "parser.getNumberValue().byteValue()");
+        case "short":
+        case "Short":
+          return new JsonValue("token.isNumeric()", "parser.getNumberValue().shortValue()");
+        case "int":
+        case "Integer":
+          return new JsonValue("token.isNumeric()", "parser.getNumberValue().intValue()");
+        case "long":
+        case "Long":
+          return new JsonValue("token.isNumeric()", "parser.getNumberValue().longValue()");
+        case "float":
+        case "Float":
+          return new JsonValue("token.isNumeric()", "parser.getFloatValue()");
+        case "double":
+        case "Double":
+          return new JsonValue("token.isNumeric()", "parser.getDoubleValue()");
+        case "char":
+        case "Character":
+          return new JsonValue("token == JsonToken.VALUE_STRING", "parser.getText().charAt(0)");
+        default:
+          return null;
+      }
+    }
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null) {
+      if (!dataObject.isDeserializable()) {
+        return null;
+      }
+      MapperInfo mapper = dataObject.getDeserializer();
+      JsonValue json = readValue(mapper.getJsonType());
+      if (json == null) {
+        return null;
+      }
+      switch (mapper.getKind()) {
+        case SELF:
+          return json.map("new " + type.getName() + "(", ")");
+        case STATIC_METHOD:
+          return json.map(mapper.getQualifiedName() + "." + String.join(".", mapper.getSelectors()) + "(", ")");
+        default:
+          throw new AssertionError();
+      }
+    }
+    switch (kind) {
+      case API:
+        if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+          bufferHelpers = true;
+          return new JsonValue("token == JsonToken.VALUE_STRING", "readBuffer(parser)");
+        }
+        return null;
+      case JSON_OBJECT:
+        jsonValueHelpers = true;
+        return new JsonValue("token == JsonToken.START_OBJECT", "readJsonObject(parser)");
+      case JSON_ARRAY:
+        jsonValueHelpers = true;
+        return new JsonValue("token == JsonToken.START_ARRAY", "readJsonArray(parser)");
+      case ENUM:
+        return new JsonValue("token == JsonToken.VALUE_STRING", type.getName() + ".valueOf(parser.getText())");
+      case OBJECT:
+        jsonValueHelpers = true;
+        return new JsonValue("token != JsonToken.VALUE_NULL", "readJsonValue(parser)");
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return the JSON representation of the {@code prop} value or {@code null} when it cannot be read
+   */
+  private JsonValue readValue(PropertyInfo prop) {
+    if (InstantGen.isInstant(prop)) {
+      InstantEncoding encoding = InstantGen.encoding(model, prop);
+      String[] conversion = InstantGen.fromJson(encoding);
+      if (encoding == InstantEncoding.ISO_8601) {
+        return new JsonValue("token == JsonToken.VALUE_STRING", conversion[0] + "parser.getText()" + conversion[1]);
+      }
+      return new JsonValue("token.isNumeric()", conversion[0] + "parser.getLongValue()" + conversion[1]);
+    }
+    return readValue(prop.getType());
+  }
+
+  /**
+   * Read a primitive with a specialized helper that converts the parsed number like {@code Number#xxxValue()} would do
+   * without allocating it.
+   */
+  private JsonValue readPrimitive(TypeInfo type) {
+    switch (type.getSimpleName()) {
+      case "boolean":
+      case "Boolean":
+        return new JsonValue("token.isBoolean()", "token == JsonToken.VALUE_TRUE");
+      case "byte":
+      case "Byte":
+        primitiveHelpers.add("int");
+        return new JsonValue("token.isNumeric()", "(byte)readInt(parser)");
+      case "short":
+      case "Short":
+        primitiveHelpers.add("int");
+        return new JsonValue("token.isNumeric()", "(short)readInt(parser)");
+      case "int":
+      case "Integer":
+        primitiveHelpers.add("int");
+        return new JsonValue("token.isNumeric()", "readInt(parser)");
+      case "long":
+      case "Long":
+        primitiveHelpers.add("long");
+        return new JsonValue("token.isNumeric()", "readLong(parser)");
+      case "float":
+      case "Float":
+        primitiveHelpers.add("float");
+        return new JsonValue("token.isNumeric()", "readFloat(parser)");
+      case "double":
+      case "Double":
+        primitiveHelpers.add("double");
+        return new JsonValue("token.isNumeric()", "readDouble(parser)");
+      case "char":
+      case "Character":
+        primitiveHelpers.add("char");
+        return new JsonValue("token == JsonToken.VALUE_STRING", "readChar(parser)");
+      default:
+        return null;
+    }
+  }
+
+  void genToJson() {
+    // The names are quoted, escaped and encoded once, writing a name copies the encoded bytes
+    boolean names = false;
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable() && writeValue(prop, "value") != null) {
+        writer.print("  private static final SerializedString " + nameConstant(prop) + " = new SerializedString(\"" + jsonPropertyName(prop) + "\");\n");
+        names = true;
+      }
+    }
+    if (names) {
+      writer.print("\n");
+    }
+    writer.print("  " + visibility + " static void toJson(" + model.getType().getSimpleName() + " obj, JsonGenerator generator) throws java.io.IOException {\n");
+    writer.print("    generator.writeStartObject();\n");
+    // The statements of each property are generated apart to split the method when it is too large
+    List<String> statements = new ArrayList<>();
+    model.getPropertyMap().values().forEach(prop -> {
+      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable()) {
+        String code = capture(() -> genPropToJson(prop));
+        if (!code.isEmpty()) {
+          statements.add(code);
+        }
+      }
+    });
+    List<List<String>> chunks = MethodChunks.split(statements);
+    if (chunks.size() == 1) {
+      chunks.get(0).forEach(writer::print);
+    } else {
+      for (int i = 0; i < chunks.size(); i++) {
+        writer.print("    toJson" + i + "(obj, generator);\n");
+      }
+    }
+    writer.print("    generator.writeEndObject();\n");
+    writer.print("  }\n");
+    for (int i = 0; chunks.size() > 1 && i < chunks.size(); i++) {
+      writer.print("\n");
+      writer.print("  private static void toJson" + i + "(" + model.getType().getSimpleName() + " obj, JsonGenerator generator) throws java.io.IOException {\n");
+      chunks.get(i).forEach(writer::print);
+      writer.print("  }\n");
+    }
+  }
+
+  /**
+   * @return the code generated by {@code gen} instead of writing it
+   */
+  private String capture(Runnable gen) {
+    PrintWriter out = writer;
+    StringWriter buffer = new StringWriter();
+    writer = new PrintWriter(buffer);
+    try {
+      gen.run();
+    } finally {
+      writer = out;
+    }
+    return buffer.toString();
+  }
+
+  private void genPropToJson(PropertyInfo prop) {
+    TypeInfo type = prop.getType();
+    String getter = "obj." + prop.getGetterMethod() + "()";
+    String local = prop.getName() + "Value";
+    String indent = "    ";
+    if (prop.isList() || prop.isSet()) {
+      String write = writeValue(prop, "item");
+      if (write == null) {
+        return;
+      }
+      writer.print(indent + "java.util." + (prop.isList() ? "List" : "Set") + "<" + type.getName() + "> " + local + " = " + getter + ";\n");
+      writer.print(indent + "if (" + local + " != null) {\n");
+      writer.print(indent + "  generator.writeFieldName(" + nameConstant(prop) + ");\n");
+      writer.print(indent + "  generator.writeStartArray();\n");
+      writer.print(indent + "  for (" + type.getName() + " item : " + local + ") {\n");
+      genWriteNullable(indent + "    ", "item", write);
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  generator.writeEndArray();\n");
+      writer.print(indent + "}\n");
+    } else if (prop.isMap()) {
+      String write = writeValue(prop, "value");
+      if (write == null) {
+        return;
+      }
+      writer.print(indent + "java.util.Map<String, " + type.getName() + "> " + local + " = " + getter + ";\n");
+      writer.print(indent + "if (" + local + " != null) {\n");
+      writer.print(indent + "  generator.writeFieldName(" + nameConstant(prop) + ");\n");
+      writer.print(indent + "  generator.writeStartObject();\n");
+      writer.print(indent + "  for (java.util.Map.Entry<String, " + type.getName() + "> entry : " + local + ".entrySet()) {\n");
+      writer.print(indent + "    generator.writeFieldName(entry.getKey());\n");
+      writer.print(indent + "    " + type.getName() + " value = entry.getValue();\n");
+      genWriteNullable(indent + "    ", "value", write);
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  generator.writeEndObject();\n");
+      writer.print(indent + "}\n");
+    } else if (type.getKind() == ClassKind.PRIMITIVE) {
+      String write = writeValue(prop, getter);
+      if (write == null) {
+        return;
+      }
+      writer.print(indent + "generator.writeFieldName(" + nameConstant(prop) + ");\n");
+      writer.print(indent + write + "\n");
+    } else {
+      String write = writeValue(prop, local);
+      if (write == null) {
+        return;
+      }
+      writer.print(indent + type.getName() + " " + local + " = " + getter + ";\n");
+      writer.print(indent + "if (" + local + " != null) {\n");
+      writer.print(indent + "  generator.writeFieldName(" + nameConstant(prop) + ");\n");
+      writer.print(indent + "  " + write + "\n");
+      writer.print(indent + "}\n");
+    }
+  }
+
+  private void genWriteNullable(String indent, String value, String write) {
+    writer.print(indent + "if (" + value + " == null) {\n");
+    writer.print(indent + "  generator.writeNull();\n");
+    writer.print(indent + "} else {\n");
+    writer.print(indent + "  " + write + "\n");
+    writer.print(indent + "}\n");
+  }
+
+  /**
+   * @return the statement writing the non null {@code value} of type {@code type} or {@code null} when it cannot be written
+   */
+  private String writeValue(TypeInfo type, String value) {
+    ClassKind kind = type.getKind();
+    if (kind.basic) {
+      if (kind == ClassKind.STRING) {
+        return "generator.writeString(" + value + ");";
+      }
+      switch (type.getSimpleName()) {
+        case "boolean":
+        case "Boolean":
+          return "generator.writeBoolean(" + value + ");";
+        case "char":
+        case "Character":
+          return "generator.writeString(Character.toString(" + value + "));";
+        default:
+          return "generator.writeNumber(" + value + ");";
+      }
+    }
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null) {
+      if (!dataObject.isSerializable()) {
+        return null;
+      }
+      MapperInfo mapper = dataObject.getSerializer();
+      String json;
+      switch (mapper.getKind()) {
+        case SELF:
+          json = value + "." + String.join(".", mapper.getSelectors()) + "()";
+          break;
+        case STATIC_METHOD:
+          json = mapper.getQualifiedName() + "." + String.join(".", mapper.getSelectors()) + "(" + value + ")";
+          break;
+        default:
+          throw new UnsupportedOperationException();
+      }
+      if (mapper.getJsonType().getKind() == ClassKind.STRING) {
+        return "generator.writeString(" + json + ");";
+      }
+      jsonValueHelpers = true;
+      return "writeJsonValue(generator, " + json + ");";
+    }
+    switch (kind) {
+      case API:
+        if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+          bufferHelpers = true;
+          return "writeBuffer(generator, " + value + ");";
+        }
+        return null;
+      case ENUM:
+        return "generator.writeString(" + value + ".name());";
+      case JSON_OBJECT:
+      case JSON_ARRAY:
+      case OBJECT:
+        jsonValueHelpers = true;
+        return "writeJsonValue(generator, " + value + ");";
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return the statement writing the non null {@code value} of the {@code prop} or {@code null} when it cannot be written
+   */
+  private String writeValue(PropertyInfo prop, String value) {
+    if (InstantGen.isInstant(prop)) {
+      InstantEncoding encoding = InstantGen.encoding(model, prop);
+      String[] conversion = InstantGen.toJson(encoding);
+      String json = conversion[0] + value + conversion[1];
+      return encoding == InstantEncoding.ISO_8601 ? "generator.writeString(" + json + ");" : "generator.writeNumber(" + json + ");";
+    }
+    return writeValue(prop.getType(), value);
+  }
+
+  /**
+   * Generate the helpers reading and writing arbitrary JSON values when the converter needs them.
+   */
+  void genHelpers() {
+    primitiveHelpers.forEach(this::genPrimitiveHelper);
+    if (bufferHelpers || jsonValueHelpers) {
+      genBufferHelpers();
+    }
+    if (!jsonValueHelpers) {
+      return;
+    }
+    writer.print("\n");
+    writer.print("  private static JsonObject readJsonObject(JsonParser parser) throws java.io.IOException {\n");
+    writer.print("    java.util.Map<String, Object> map = new java.util.LinkedHashMap<>();\n");
+    writer.print("    while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+    writer.print("      String key = parser.currentName();\n");
+    writer.print("      parser.nextToken();\n");
+    writer.print("      map.put(key, readJsonValue(parser));\n");
+    writer.print("    }\n");
+    writer.print("    return new JsonObject(map);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static JsonArray readJsonArray(JsonParser parser) throws java.io.IOException {\n");
+    writer.print("    java.util.List<Object> list = new java.util.ArrayList<>();\n");
+    writer.print("    while (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+    writer.print("      list.add(readJsonValue(parser));\n");
+    writer.print("    }\n");
+    writer.print("    return new JsonArray(list);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static Object readJsonValue(JsonParser parser) throws java.io.IOException {\n");
+    writer.print("    switch (parser.currentToken()) {\n");
+    writer.print("      case START_OBJECT:\n");
+    writer.print("        return readJsonObject(parser);\n");
+    writer.print("      case START_ARRAY:\n");
+    writer.print("        return readJsonArray(parser);\n");
+    writer.print("      case VALUE_STRING:\n");
+    writer.print("        return parser.getText();\n");
+    writer.print("      case VALUE_NUMBER_INT:\n");
+    writer.print("      case VALUE_NUMBER_FLOAT:\n");
+    writer.print("        return parser.getNumberValue();\n");
+    writer.print("      case VALUE_TRUE:\n");
+    writer.print("        return Boolean.TRUE;\n");
+    writer.print("      case VALUE_FALSE:\n");
+    writer.print("        return Boolean.FALSE;\n");
+    writer.print("      case VALUE_NULL:\n");
+    writer.print("        return null;\n");
+    writer.print("      default:\n");
+    writer.print("        throw new JsonParseException(parser, \"Unexpected token \" + parser.currentToken());\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static void writeJsonValue(JsonGenerator generator, Object value) throws java.io.IOException {\n");
+    writer.print("    if (value == null) {\n");
+    writer.print("      generator.writeNull();\n");
+    writer.print("    } else if (value instanceof String) {\n");
+    writer.print("      generator.writeString((String) value);\n");
+    writer.print("    } else if (value instanceof Boolean) {\n");
+    writer.print("      generator.writeBoolean((Boolean) value);\n");
+    writer.print("    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {\n");
+    writer.print("      generator.writeNumber(((Number) value).intValue());\n");
+    writer.print("    } else if (value instanceof Long) {\n");
+    writer.print("      generator.writeNumber((Long) value);\n");
+    writer.print("    } else if (value instanceof Float) {\n");
+    writer.print("      generator.writeNumber((Float) value);\n");
+    writer.print("    } else if (value instanceof Double) {\n");
+    writer.print("      generator.writeNumber((Double) value);\n");
+    writer.print("    } else if (value instanceof java.math.BigInteger) {\n");
+    writer.print("      generator.writeNumber((java.math.BigInteger) value);\n");
+    writer.print("    } else if (value instanceof java.math.BigDecimal) {\n");
+    writer.print("      generator.writeNumber((java.math.BigDecimal) value);\n");
+    writer.print("    } else if (value instanceof JsonObject) {\n");
+    writer.print("      generator.writeStartObject();\n");
+    writer.print("      for (java.util.Map.Entry<String, Object> entry : (JsonObject) value) {\n");
+    writer.print("        generator.writeFieldName(entry.getKey());\n");
+    writer.print("        writeJsonValue(generator, entry.getValue());\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndObject();\n");
+    writer.print("    } else if (value instanceof java.util.Map) {\n");
+    writer.print("      generator.writeStartObject();\n");
+    writer.print("      for (java.util.Map.Entry<?, ?> entry : ((java.util.Map<?, ?>) value).entrySet()) {\n");
+    writer.print("        generator.writeFieldName(String.valueOf(entry.getKey()));\n");
+    writer.print("        writeJsonValue(generator, entry.getValue());\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndObject();\n");
+    writer.print("    } else if (value instanceof JsonArray || value instanceof java.util.List) {\n");
+    writer.print("      generator.writeStartArray();\n");
+    writer.print("      for (Object item : (Iterable<?>) value) {\n");
+    writer.print("        writeJsonValue(generator, item);\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndArray();\n");
+    writer.print("    } else if (value instanceof CharSequence) {\n");
+    writer.print("      generator.writeString(value.toString());\n");
+    writer.print("    } else if (value instanceof Instant) {\n");
+    writer.print("      generator.writeString(DateTimeFormatter.ISO_INSTANT.format((Instant) value));\n");
+    writer.print("    } else if (value instanceof byte[]) {\n");
+    writer.print("      generator.writeBinary(com.fasterxml.jackson.core.Base64Variants.MIME_NO_LINEFEEDS, (byte[]) value, 0, ((byte[]) value).length);\n");
+    writer.print("    } else if (value instanceof io.vertx.core.buffer.Buffer) {\n");
+    writer.print("      writeBuffer(generator, (io.vertx.core.buffer.Buffer) value);\n");
+    writer.print("    } else if (value instanceof Enum) {\n");
+    writer.print("      generator.writeString(((Enum<?>) value).name());\n");
+    writer.print("    } else {\n");
+    writer.print("      throw new IllegalStateException(\"Illegal type in JSON: \" + value.getClass().getName());\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+  }
+
+  /**
+   * Generate the helpers streaming the Base64 encoding of a buffer between the buffer and the generator or the parser,
+   * the bytes are encoded and decoded by chunks without copying the whole buffer into a {@code byte[]} nor a {@code String}.
+   */
+  private void genBufferHelpers() {
+    writer.print("\n");
+    writer.print("  private static void writeBuffer(JsonGenerator generator, io.vertx.core.buffer.Buffer value) throws java.io.IOException {\n");
+    writer.print("    int length = value.length();\n");
+    writer.print("    generator.writeBinary(com.fasterxml.jackson.core.Base64Variants.MIME_NO_LINEFEEDS, new java.io.InputStream() {\n");
+    writer.print("      int pos;\n");
+    writer.print("      @Override\n");
+    writer.print("      public int read() {\n");
+    writer.print("        return pos < length ? value.getByte(pos++) & 0xFF : -1;\n");
+    writer.print("      }\n");
+    writer.print("      @Override\n");
+    writer.print("      public int read(byte[] b, int off, int len) {\n");
+    writer.print("        if (pos >= length) {\n");
+    writer.print("          return -1;\n");
+    writer.print("        }\n");
+    writer.print("        int n = Math.min(len, length - pos);\n");
+    writer.print("        value.getBytes(pos, pos + n, b, off);\n");
+    writer.print("        pos += n;\n");
+    writer.print("        return n;\n");
+    writer.print("      }\n");
+    writer.print("    }, length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private static io.vertx.core.buffer.Buffer readBuffer(JsonParser parser) throws java.io.IOException {\n");
+    writer.print("    io.vertx.core.buffer.Buffer buffer = io.vertx.core.buffer.Buffer.buffer();\n");
+    writer.print("    parser.readBinaryValue(com.fasterxml.jackson.core.Base64Variants.MIME_NO_LINEFEEDS, new java.io.OutputStream() {\n");
+    writer.print("      @Override\n");
+    writer.print("      public void write(int b) {\n");
+    writer.print("        buffer.appendByte((byte) b);\n");
+    writer.print("      }\n");
+    writer.print("      @Override\n");
+    writer.print("      public void write(byte[] b, int off, int len) {\n");
+    writer.print("        buffer.appendBytes(b, off, len);\n");
+    writer.print("      }\n");
+    writer.print("    });\n");
+    writer.print("    return buffer;\n");
+    writer.print("  }\n");
+  }
+
+  private void genPrimitiveHelper(String primitive) {
+    writer.print("\n");
+    if (primitive.equals("char")) {
+      writer.print("  private static char readChar(JsonParser parser) throws java.io.IOException {\n");
+      writer.print("    if (parser.getTextLength() == 0) {\n");
+      writer.print("      throw new JsonParseException(parser, \"Expected a character\");\n");
+      writer.print("    }\n");
+      writer.print("    return parser.getTextCharacters()[parser.getTextOffset()];\n");
+      writer.print("  }\n");
+      return;
+    }
+    String cast = primitive.equals("int") || primitive.equals("long") ? "(" + primitive + ") " : "";
+    String name = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+    writer.print("  private static " + primitive + " read" + name + "(JsonParser parser) throws java.io.IOException {\n");
+    writer.print("    switch (parser.getNumberType()) {\n");
+    writer.print("      case INT:\n");
+    writer.print("        return parser.getIntValue();\n");
+    writer.print("      case LONG:\n");
+    writer.print("        return " + (primitive.equals("int") ? "(int) " : "") + "parser.getLongValue();\n");
+    if (primitive.equals("float")) {
+      writer.print("      case FLOAT:\n");
+      writer.print("        return parser.getFloatValue();\n");
+      writer.print("      case DOUBLE:\n");
+      writer.print("        return (float) parser.getDoubleValue();\n");
+    } else {
+      writer.print("      case FLOAT:\n");
+      writer.print("      case DOUBLE:\n");
+      writer.print("        return " + cast + "parser.getDoubleValue();\n");
+    }
+    writer.print("      default:\n");
+    writer.print("        return parser.getNumberValue()." + primitive + "Value();\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+  }
+
+  /**
+   * Generate the {@code JsonDecoder} read stream decoding the objects of a JSON array or of newline delimited JSON
+   * objects from chunks of bytes: the decoder scans the chunks for the bytes of the next object, tracking the nesting
+   * depth and the strings, and decodes them with {@code fromJson(JsonParser, T)} when they are complete.
+   */
+  void genDecoder() {
+    if (!decoder) {
+      return;
+    }
+    String simpleName = model.getType().getSimpleName();
+    writer.print("\n");
+    writer.print("  /**\n");
+    writer.print("   * @return a new decoder of a stream of {@link " + simpleName + "} JSON objects\n");
+    writer.print("   */\n");
+    writer.print("  " + visibility + " static JsonDecoder decoder() {\n");
+    writer.print("    return new JsonDecoder();\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  /**\n");
+    writer.print("   * Decodes the {@link " + simpleName + "} objects of a JSON array or of newline delimited JSON objects written as chunks of bytes,\n");
+    writer.print("   * each object is decoded when its bytes are complete, so the decoder holds at most the bytes of an object and of\n");
+    writer.print("   * the last chunk. The chunks writer should stop writing when {@link #writeQueueFull()} returns {@code true} and\n");
+    writer.print("   * resume when the drain handler is called.\n");
+    writer.print("   * <p/>\n");
+    writer.print("   * The decoder is not a {@code WriteStream}, a {@code ReadStream<Buffer>} source is piped to it with its handlers:\n");
+    writer.print("   * <pre>\n");
+    writer.print("   * source.handler(chunk -> {\n");
+    writer.print("   *   decoder.handle(chunk);\n");
+    writer.print("   *   if (decoder.writeQueueFull()) {\n");
+    writer.print("   *     source.pause();\n");
+    writer.print("   *   }\n");
+    writer.print("   * });\n");
+    writer.print("   * decoder.drainHandler(v -> source.resume());\n");
+    writer.print("   * source.endHandler(v -> decoder.end());\n");
+    writer.print("   * </pre>\n");
+    writer.print("   */\n");
+    writer.print("  " + visibility + " static class JsonDecoder implements ReadStream<" + simpleName + ">, Handler<Buffer> {\n");
+    writer.print("\n");
+    writer.print("    private static final JsonFactory factory = new JsonFactory();\n");
+    writer.print("\n");
+    writer.print("    private static final int START = 0, ARRAY = 1, OBJECTS = 2, CLOSED = 3;\n");
+    writer.print("\n");
+    writer.print("    private static final int INITIAL_CAPACITY = 1024;\n");
+    writer.print("\n");
+    writer.print("    private byte[] pending = new byte[INITIAL_CAPACITY];\n");
+    writer.print("    private int head;\n");
+    writer.print("    private int tail;\n");
+    writer.print("    private int scan;\n");
+    writer.print("    private int elementStart = -1;\n");
+    writer.print("    private int depth;\n");
+    writer.print("    private boolean inString;\n");
+    writer.print("    private boolean escape;\n");
+    writer.print("    private int state = START;\n");
+    writer.print("    private long demand = Long.MAX_VALUE;\n");
+    writer.print("    private boolean emitting;\n");
+    writer.print("    private boolean drainPending;\n");
+    writer.print("    private boolean ended;\n");
+    writer.print("    private boolean done;\n");
+    writer.print("    private boolean failed;\n");
+    writer.print("    private Handler<" + simpleName + "> handler;\n");
+    writer.print("    private Handler<Throwable> exceptionHandler;\n");
+    writer.print("    private Handler<Void> endHandler;\n");
+    writer.print("    private Handler<Void> drainHandler;\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder handler(Handler<" + simpleName + "> handler) {\n");
+    writer.print("      this.handler = handler;\n");
+    writer.print("      return this;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder exceptionHandler(Handler<Throwable> handler) {\n");
+    writer.print("      this.exceptionHandler = handler;\n");
+    writer.print("      return this;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder endHandler(Handler<Void> handler) {\n");
+    writer.print("      this.endHandler = handler;\n");
+    writer.print("      return this;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder drainHandler(Handler<Void> handler) {\n");
+    writer.print("      this.drainHandler = handler;\n");
+    writer.print("      return this;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder pause() {\n");
+    writer.print("      demand = 0L;\n");
+    writer.print("      return this;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder resume() {\n");
+    writer.print("      return fetch(Long.MAX_VALUE);\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    public JsonDecoder fetch(long amount) {\n");
+    writer.print("      if (amount < 0L) {\n");
+    writer.print("        throw new IllegalArgumentException(\"Invalid amount \" + amount);\n");
+    writer.print("      }\n");
+    writer.print("      demand += amount;\n");
+    writer.print("      if (demand < 0L) {\n");
+    writer.print("        demand = Long.MAX_VALUE;\n");
+    writer.print("      }\n");
+    writer.print("      decode();\n");
+    writer.print("      return this;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    /**\n");
+    writer.print("     * @return whether the decoder is paused and the writer should stop writing chunks\n");
+    writer.print("     */\n");
+    writer.print("    public boolean writeQueueFull() {\n");
+    writer.print("      if (demand == 0L) {\n");
+    writer.print("        drainPending = true;\n");
+    writer.print("        return true;\n");
+    writer.print("      }\n");
+    writer.print("      return false;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    /**\n");
+    writer.print("     * Write a chunk of bytes.\n");
+    writer.print("     */\n");
+    writer.print("    public void handle(Buffer chunk) {\n");
+    writer.print("      if (ended) {\n");
+    writer.print("        throw new IllegalStateException(\"Decoder ended\");\n");
+    writer.print("      }\n");
+    writer.print("      if (failed) {\n");
+    writer.print("        return;\n");
+    writer.print("      }\n");
+    writer.print("      int length = chunk.length();\n");
+    writer.print("      if (tail + length > pending.length) {\n");
+    writer.print("        int size = tail - head;\n");
+    writer.print("        move(size + length > pending.length ? new byte[Math.max(pending.length * 2, size + length)] : pending);\n");
+    writer.print("      }\n");
+    writer.print("      chunk.getBytes(0, length, pending, tail);\n");
+    writer.print("      tail += length;\n");
+    writer.print("      decode();\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    /**\n");
+    writer.print("     * Move the pending bytes at the start of {@code buf}.\n");
+    writer.print("     */\n");
+    writer.print("    private void move(byte[] buf) {\n");
+    writer.print("      int size = tail - head;\n");
+    writer.print("      System.arraycopy(pending, head, buf, 0, size);\n");
+    writer.print("      pending = buf;\n");
+    writer.print("      scan -= head;\n");
+    writer.print("      if (elementStart != -1) {\n");
+    writer.print("        elementStart -= head;\n");
+    writer.print("      }\n");
+    writer.print("      head = 0;\n");
+    writer.print("      tail = size;\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    /**\n");
+    writer.print("     * Release the space of the decoded objects when the pending bytes use a quarter of a grown array.\n");
+    writer.print("     */\n");
+    writer.print("    private void shrink() {\n");
+    writer.print("      int size = tail - head;\n");
+    writer.print("      if (pending.length > INITIAL_CAPACITY && size * 4 <= pending.length) {\n");
+    writer.print("        move(new byte[Math.max(INITIAL_CAPACITY, size * 2)]);\n");
+    writer.print("      }\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    /**\n");
+    writer.print("     * Signal the end of the chunks.\n");
+    writer.print("     */\n");
+    writer.print("    public void end() {\n");
+    writer.print("      ended = true;\n");
+    writer.print("      decode();\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    private void decode() {\n");
+    writer.print("      if (emitting || failed) {\n");
+    writer.print("        return;\n");
+    writer.print("      }\n");
+    writer.print("      emitting = true;\n");
+    writer.print("      try {\n");
+    writer.print("        while (demand > 0L) {\n");
+    writer.print("          " + simpleName + " obj;\n");
+    writer.print("          try {\n");
+    writer.print("            obj = next();\n");
+    writer.print("            if (obj == null && ended && (elementStart != -1 || state == ARRAY)) {\n");
+    writer.print("              throw new JsonParseException(null, \"Unexpected end of input\");\n");
+    writer.print("            }\n");
+    writer.print("          } catch (java.io.IOException | RuntimeException e) {\n");
+    writer.print("            fail(e);\n");
+    writer.print("            return;\n");
+    writer.print("          }\n");
+    writer.print("          if (obj == null) {\n");
+    writer.print("            if (ended) {\n");
+    writer.print("              if (!done) {\n");
+    writer.print("                done = true;\n");
+    writer.print("                Handler<Void> h = endHandler;\n");
+    writer.print("                if (h != null) {\n");
+    writer.print("                  h.handle(null);\n");
+    writer.print("                }\n");
+    writer.print("              }\n");
+    writer.print("            } else if (drainPending) {\n");
+    writer.print("              drainPending = false;\n");
+    writer.print("              Handler<Void> h = drainHandler;\n");
+    writer.print("              if (h != null) {\n");
+    writer.print("                h.handle(null);\n");
+    writer.print("              }\n");
+    writer.print("            }\n");
+    writer.print("            break;\n");
+    writer.print("          }\n");
+    writer.print("          if (demand != Long.MAX_VALUE) {\n");
+    writer.print("            demand--;\n");
+    writer.print("          }\n");
+    writer.print("          // Handler failures are not decoding failures, they are thrown to the caller\n");
+    writer.print("          Handler<" + simpleName + "> h = handler;\n");
+    writer.print("          if (h != null) {\n");
+    writer.print("            h.handle(obj);\n");
+    writer.print("          }\n");
+    writer.print("        }\n");
+    writer.print("      } finally {\n");
+    writer.print("        emitting = false;\n");
+    writer.print("      }\n");
+    writer.print("      shrink();\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    private void fail(Exception e) {\n");
+    writer.print("      failed = true;\n");
+    writer.print("      Handler<Throwable> h = exceptionHandler;\n");
+    writer.print("      if (h == null) {\n");
+    writer.print("        throw e instanceof RuntimeException ? (RuntimeException) e : new java.io.UncheckedIOException((java.io.IOException) e);\n");
+    writer.print("      }\n");
+    writer.print("      h.handle(e);\n");
+    writer.print("    }\n");
+    writer.print("\n");
+    writer.print("    private " + simpleName + " next() throws java.io.IOException {\n");
+    writer.print("      byte[] buf = pending;\n");
+    writer.print("      int pos = scan;\n");
+    writer.print("      while (pos < tail) {\n");
+    writer.print("        byte b = buf[pos++];\n");
+    writer.print("        if (elementStart == -1) {\n");
+    writer.print("          switch (b) {\n");
+    writer.print("            case ' ':\n");
+    writer.print("            case '\\t':\n");
+    writer.print("            case '\\r':\n");
+    writer.print("            case '\\n':\n");
+    writer.print("              head = pos;\n");
+    writer.print("              continue;\n");
+    writer.print("            case '[':\n");
+    writer.print("              if (state == START) {\n");
+    writer.print("                state = ARRAY;\n");
+    writer.print("                head = pos;\n");
+    writer.print("                continue;\n");
+    writer.print("              }\n");
+    writer.print("              break;\n");
+    writer.print("            case ',':\n");
+    writer.print("              if (state == ARRAY) {\n");
+    writer.print("                head = pos;\n");
+    writer.print("                continue;\n");
+    writer.print("              }\n");
+    writer.print("              break;\n");
+    writer.print("            case ']':\n");
+    writer.print("              if (state == ARRAY) {\n");
+    writer.print("                state = CLOSED;\n");
+    writer.print("                head = pos;\n");
+    writer.print("                continue;\n");
+    writer.print("              }\n");
+    writer.print("              break;\n");
+    writer.print("            case '{':\n");
+    writer.print("              if (state != CLOSED) {\n");
+    writer.print("                if (state == START) {\n");
+    writer.print("                  state = OBJECTS;\n");
+    writer.print("                }\n");
+    writer.print("                elementStart = pos - 1;\n");
+    writer.print("                depth = 1;\n");
+    writer.print("                continue;\n");
+    writer.print("              }\n");
+    writer.print("              break;\n");
+    writer.print("          }\n");
+    writer.print("          scan = pos;\n");
+    writer.print("          throw new JsonParseException(null, \"Unexpected character '\" + (char) b + \"' instead of a JSON object\");\n");
+    writer.print("        } else if (inString) {\n");
+    writer.print("          if (escape) {\n");
+    writer.print("            escape = false;\n");
+    writer.print("          } else if (b == '\\\\') {\n");
+    writer.print("            escape = true;\n");
+    writer.print("          } else if (b == '\"') {\n");
+    writer.print("            inString = false;\n");
+    writer.print("          }\n");
+    writer.print("        } else if (b == '\"') {\n");
+    writer.print("          inString = true;\n");
+    writer.print("        } else if (b == '{' || b == '[') {\n");
+    writer.print("          depth++;\n");
+    writer.print("        } else if ((b == '}' || b == ']') && --depth == 0) {\n");
+    writer.print("          int start = elementStart;\n");
+    writer.print("          elementStart = -1;\n");
+    writer.print("          head = pos;\n");
+    writer.print("          scan = pos;\n");
+    writer.print("          " + simpleName + " obj = new " + simpleName + "();\n");
+    writer.print("          try (JsonParser parser = factory.createParser(buf, start, pos - start)) {\n");
+    writer.print("            fromJson(parser, obj);\n");
+    writer.print("          }\n");
+    writer.print("          return obj;\n");
+    writer.print("        }\n");
+    writer.print("      }\n");
+    writer.print("      scan = pos;\n");
+    writer.print("      return null;\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+  }
+
+  private String jsonPropertyName(PropertyInfo prop) {
+    return LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+  }
+
+  /**
+   * @return the name of the constant holding the serialized JSON name of the property
+   */
+  private static String nameConstant(PropertyInfo prop) {
+    return LowerCamelCase.INSTANCE.to(SnakeCase.INSTANCE, prop.getName()).toUpperCase() + "_NAME";
+  }
+}
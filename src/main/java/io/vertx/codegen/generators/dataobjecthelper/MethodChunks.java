@@ -0,0 +1,130 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the generated statements of a converter method in chunks that are generated as helper methods when the
+ * method would be larger than the HotSpot {@code HugeMethodLimit} of 8000 bytes, a method larger than this limit is
+ * never compiled by the JIT and remains interpreted.
+ * <p/>
+ * The bytecode size of the statements is estimated from their source: the tokens of the generated code map to a few
+ * bytes of bytecode each, e.g a qualified method invocation is a single token compiled to a 3 bytes instruction
+ * with its receiver and arguments being the other tokens.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class MethodChunks {
+
+  /**
+   * The estimated bytecode size of the statements of a method that is not split, it leaves room for the estimation
+   * error and the statements surrounding the split statements.
+   */
+  static final int METHOD_SIZE = 7000;
+
+  /**
+   * The estimated bytecode size of a chunk.
+   */
+  static final int CHUNK_SIZE = 5000;
+
+  /**
+   * The estimated bytecode size of a token, the generated converters compile to 1 to 2 bytes per token, e.g a
+   * boxed primitive put in a map.
+   */
+  private static final double BYTES_PER_TOKEN = 2;
+
+  private static final Pattern TOKEN = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"|'(?:[^'\\\\]|\\\\.)*'|[\\w.]+|[^\\s\\w]");
+
+  private MethodChunks() {
+  }
+
+  /**
+   * @return the estimated bytecode size of the {@code code} statements
+   */
+  static int estimate(String code) {
+    int tokens = 0;
+    for (String line : code.split("\n")) {
+      int comment = line.indexOf("//");
+      Matcher matcher = TOKEN.matcher(comment >= 0 && line.lastIndexOf('"', comment) < 0 ? line.substring(0, comment) : line);
+      while (matcher.find()) {
+        tokens++;
+      }
+    }
+    return (int) (tokens * BYTES_PER_TOKEN);
+  }
+
+  /**
+   * Split the {@code statements} in chunks of at most {@link #CHUNK_SIZE} estimated bytes, the statements order is
+   * preserved and a statement larger than a chunk gets its own chunk.
+   *
+   * @return a single chunk when all the statements fit in a method of at most {@link #METHOD_SIZE} estimated bytes
+   */
+  static List<List<String>> split(List<String> statements) {
+    int total = 0;
+    for (String statement : statements) {
+      total += estimate(statement);
+    }
+    if (total <= METHOD_SIZE) {
+      return Collections.singletonList(statements);
+    }
+    List<List<String>> chunks = new ArrayList<>();
+    List<String> chunk = new ArrayList<>();
+    int size = 0;
+    for (String statement : statements) {
+      int estimate = estimate(statement);
+      if (size + estimate > CHUNK_SIZE && !chunk.isEmpty()) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>();
+        size = 0;
+      }
+      chunk.add(statement);
+      size += estimate;
+    }
+    chunks.add(chunk);
+    return chunks;
+  }
+
+  /**
+   * Like {@link #split(List)} but the {@code hot} statements are placed in the first chunks when the statements are
+   * split, e.g the dispatch of a member tries the chunks in order and finds the hot properties in the first chunk.
+   */
+  static List<List<String>> split(List<String> statements, List<String> hot) {
+    List<List<String>> chunks = split(statements);
+    if (chunks.size() > 1) {
+      Set<String> first = new HashSet<>(hot);
+      List<String> ordered = new ArrayList<>(hot);
+      for (String statement : statements) {
+        if (!first.contains(statement)) {
+          ordered.add(statement);
+        }
+      }
+      chunks = split(ordered);
+    }
+    return chunks;
+  }
+
+  /**
+   * @return the {@code code} with its lines shifted to the left by {@code shift} characters
+   */
+  static String unindent(String code, int shift) {
+    StringBuilder sb = new StringBuilder(code.length());
+    String[] lines = code.split("\n", -1);
+    for (int i = 0; i < lines.length; i++) {
+      String line = lines[i];
+      int blank = 0;
+      while (blank < shift && blank < line.length() && line.charAt(blank) == ' ') {
+        blank++;
+      }
+      if (i > 0) {
+        sb.append('\n');
+      }
+      sb.append(line, blank, line.length());
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,174 @@
+package io.vertx.codegen.generators.dataobjecthelper;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * The dispatch of a JSON member name to the property it converts in a generated {@code fromJson} method.
+ * <p/>
+ * By default the generated code switches on the name string. When the dispatch is indexed, the generated
+ * {@code propertyIndex(String)} method maps the name to the property index with a decision tree precomputed from the
+ * property names: a switch on the name length followed by switches on the characters that discriminate the names
+ * of the same length and a final comparison with the only candidate name.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class PropertyDispatch {
+
+  private final Map<String, Integer> indexes;
+
+  /**
+   * @param names the property names
+   * @param indexed whether to dispatch with the property indexes
+   */
+  PropertyDispatch(List<String> names, boolean indexed) {
+    if (indexed) {
+      indexes = new LinkedHashMap<>();
+      names.forEach(name -> indexes.putIfAbsent(name, indexes.size()));
+    } else {
+      indexes = null;
+    }
+  }
+
+  /**
+   * @return the expression to switch on for the member {@code name} expression
+   */
+  String selector(String name) {
+    return indexes != null ? "propertyIndex(" + name + ")" : name;
+  }
+
+  /**
+   * @return the type of the {@link #selector(String)} expression
+   */
+  String selectorType() {
+    return indexes != null ? "int" : "String";
+  }
+
+  /**
+   * @return the case label of the property {@code name}
+   */
+  String caseOf(String name) {
+    return indexes != null ? "case " + indexes.get(name) + ": // " + name : "case \"" + name + "\":";
+  }
+
+  /**
+   * Generate the {@code propertyIndex(String)} method when the dispatch is indexed.
+   * <p/>
+   * When the decision tree would be larger than the {@code HugeMethodLimit}, the name lengths are dispatched to
+   * {@code propertyIndex<length>(String)} helper methods, a helper method still too large dispatches the characters
+   * of its switch to helper methods of their own.
+   */
+  void genIndexMethod(PrintWriter writer) {
+    if (indexes == null) {
+      return;
+    }
+    Map<Integer, List<String>> byLength = new TreeMap<>();
+    indexes.keySet().forEach(name -> byLength.computeIfAbsent(name.length(), length -> new ArrayList<>()).add(name));
+    List<String> helpers = new ArrayList<>();
+    writer.print("\n");
+    writer.print("  private static int propertyIndex(String name) {\n");
+    writer.print(genSwitch("name.length()", byLength, String::valueOf, new HashSet<>(), "    ", "propertyIndex", "", helpers));
+    writer.print("  }\n");
+    helpers.forEach(helper -> {
+      writer.print("\n");
+      writer.print(helper);
+    });
+  }
+
+  /**
+   * @return the code matching the {@code names} of the same length, when {@code helpers} is not null and the code is
+   *         larger than a method the switch cases call the helper methods prefixed by {@code method} added to
+   *         {@code helpers}
+   */
+  private String genMatch(List<String> names, Set<Integer> tested, String indent, String method, List<String> helpers) {
+    if (names.size() == 1) {
+      String name = names.get(0);
+      return indent + "return \"" + name + "\".equals(name) ? " + indexes.get(name) + " : -1;\n";
+    }
+    int pos = discriminant(names, tested);
+    Map<Character, List<String>> byChar = new TreeMap<>();
+    names.forEach(name -> byChar.computeIfAbsent(name.charAt(pos), c -> new ArrayList<>()).add(name));
+    Set<Integer> nextTested = new HashSet<>(tested);
+    nextTested.add(pos);
+    return genSwitch("name.charAt(" + pos + ")", byChar, PropertyDispatch::charLiteral, nextTested, indent, method, "_", helpers);
+  }
+
+  /**
+   * @return the switch on the {@code selector} matching the names of each group, the groups of a switch larger than a
+   *         method are matched by helper methods named after the {@code method} when {@code helpers} is not null
+   */
+  private <K> String genSwitch(String selector, Map<K, List<String>> groups, Function<K, String> label, Set<Integer> tested,
+                               String indent, String method, String separator, List<String> helpers) {
+    boolean split = false;
+    if (helpers != null) {
+      String inline = genSwitch(selector, groups, label, tested, indent, method, separator, null);
+      if (MethodChunks.estimate(inline) <= MethodChunks.METHOD_SIZE) {
+        return inline;
+      }
+      split = true;
+    }
+    StringBuilder code = new StringBuilder();
+    code.append(indent).append("switch (").append(selector).append(") {\n");
+    int index = 0;
+    for (Map.Entry<K, List<String>> group : groups.entrySet()) {
+      String key = label.apply(group.getKey());
+      code.append(indent).append("  case ").append(key).append(":\n");
+      if (split && group.getValue().size() > 1) {
+        String helper = method + separator + (separator.isEmpty() ? key : String.valueOf(index));
+        code.append(indent).append("    return ").append(helper).append("(name);\n");
+        // Keep the helper before the helpers it calls
+        int at = helpers.size();
+        helpers.add(null);
+        helpers.set(at, "  private static int " + helper + "(String name) {\n" +
+          genMatch(group.getValue(), tested, "    ", helper, helpers) +
+          "  }\n");
+      } else {
+        code.append(genMatch(group.getValue(), tested, indent + "    ", method, null));
+      }
+      index++;
+    }
+    code.append(indent).append("  default:\n");
+    code.append(indent).append("    return -1;\n");
+    code.append(indent).append("}\n");
+    return code.toString();
+  }
+
+  /**
+   * @return the position of the character that splits the {@code names} of the same length in the most groups
+   */
+  private static int discriminant(List<String> names, Set<Integer> tested) {
+    int best = -1;
+    int bestCount = 0;
+    for (int pos = 0;pos < names.get(0).length();pos++) {
+      if (!tested.contains(pos)) {
+        Set<Character> chars = new HashSet<>();
+        for (String name : names) {
+          chars.add(name.charAt(pos));
+        }
+        if (chars.size() > bestCount) {
+          best = pos;
+          bestCount = chars.size();
+        }
+      }
+    }
+    return best;
+  }
+
+  private static String charLiteral(char c) {
+    switch (c) {
+      case '\'':
+        return "'\\''";
+      case '\\':
+        return "'\\\\'";
+      default:
+        return c >= 0x20 && c < 0x7F ? "'" + c + "'" : String.format("'\\u%04x'", (int) c);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package io.vertx.codegen.json;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * The JSON conversions of the data objects and enums of a module.
+ * <p/>
+ * The {@code converter_registry} generator implements a registry per {@code @ModuleGen} module and declares it
+ * as a {@link ServiceLoader} service, so a runtime can discover the conversions of the modules of its classpath
+ * instead of looking them up by reflection.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public interface ConverterRegistry {
+
+  /**
+   * @return the name of the module
+   */
+  String getModuleName();
+
+  /**
+   * @return the codecs of the module keyed by type
+   */
+  Map<Class<?>, JsonCodec<?, ?>> getCodecs();
+
+}
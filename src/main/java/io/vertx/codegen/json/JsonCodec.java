@@ -0,0 +1,93 @@
+package io.vertx.codegen.json;
+
+import java.util.function.Function;
+
+/**
+ * The JSON conversion of a type, the decoder and the encoder are direct references to the data object constructor,
+ * {@code toJson} method, converter, json mapper or enum methods, so no reflection is involved.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public final class JsonCodec<T, J> {
+
+  /**
+   * Create a codec.
+   *
+   * @param type the type
+   * @param jsonType the json type
+   * @param decoder the decoder or {@code null} when the type cannot be decoded
+   * @param encoder the encoder or {@code null} when the type cannot be encoded
+   * @return the codec
+   */
+  public static <T, J> JsonCodec<T, J> of(Class<T> type, Class<J> jsonType, Function<? super J, ? extends T> decoder, Function<? super T, ? extends J> encoder) {
+    return new JsonCodec<>(type, jsonType, decoder, encoder);
+  }
+
+  private final Class<T> type;
+  private final Class<J> jsonType;
+  private final Function<? super J, ? extends T> decoder;
+  private final Function<? super T, ? extends J> encoder;
+
+  private JsonCodec(Class<T> type, Class<J> jsonType, Function<? super J, ? extends T> decoder, Function<? super T, ? extends J> encoder) {
+    this.type = type;
+    this.jsonType = jsonType;
+    this.decoder = decoder;
+    this.encoder = encoder;
+  }
+
+  /**
+   * @return the type
+   */
+  public Class<T> getType() {
+    return type;
+  }
+
+  /**
+   * @return the json type, e.g {@code JsonObject} or {@code String}
+   */
+  public Class<J> getJsonType() {
+    return jsonType;
+  }
+
+  /**
+   * @return whether the type can be decoded
+   */
+  public boolean isDecodable() {
+    return decoder != null;
+  }
+
+  /**
+   * @return whether the type can be encoded
+   */
+  public boolean isEncodable() {
+    return encoder != null;
+  }
+
+  /**
+   * Decode a json value.
+   *
+   * @param json the json value
+   * @return the decoded value
+   * @throws UnsupportedOperationException when the type cannot be decoded
+   */
+  public T decode(J json) {
+    if (decoder == null) {
+      throw new UnsupportedOperationException(type.getName() + " cannot be decoded");
+    }
+    return decoder.apply(json);
+  }
+
+  /**
+   * Encode a value.
+   *
+   * @param value the value
+   * @return the json value
+   * @throws UnsupportedOperationException when the type cannot be encoded
+   */
+  public J encode(T value) {
+    if (encoder == null) {
+      throw new UnsupportedOperationException(type.getName() + " cannot be encoded");
+    }
+    return encoder.apply(value);
+  }
+}
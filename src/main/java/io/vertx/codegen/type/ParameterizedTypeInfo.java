@@ -1,6 +1,7 @@
 package io.vertx.codegen.type;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,7 +17,7 @@ public class ParameterizedTypeInfo extends TypeInfo {
   public ParameterizedTypeInfo(ClassTypeInfo raw, boolean nullable, List<TypeInfo> args) {
     this.raw = raw;
     this.nullable = nullable;
-    this.args = args;
+    this.args = Collections.unmodifiableList(args);
   }
 
   @Override
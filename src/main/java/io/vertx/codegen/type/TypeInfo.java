@@ -9,10 +9,20 @@ import java.util.Collection;
  */
 public abstract class TypeInfo {
 
+  private int hash;
+
   public abstract boolean equals(Object obj);
 
+  /**
+   * @return the hash code of the {@link #toString()} value, computed once since types are immutable
+   */
   public int hashCode() {
-    return toString().hashCode();
+    int h = hash;
+    if (h == 0) {
+      h = toString().hashCode();
+      hash = h;
+    }
+    return h;
   }
 
   /**
@@ -15,6 +15,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Type info factory based on <i>javax.lang.model</i> and type mirrors.
@@ -32,6 +34,8 @@ public class TypeMirrorFactory {
   final Types typeUtils;
   final Map<String, MapperInfo> serializers = new HashMap<>();
   final Map<String, MapperInfo> deserializers = new HashMap<>();
+  private final Map<InternKey, TypeInfo> interned = new ConcurrentHashMap<>();
+  private final Map<DeclaredKey, TypeInfo> declared = new ConcurrentHashMap<>();
 
   public TypeMirrorFactory(Elements elementUtils, Types typeUtils) {
     this.elementUtils = elementUtils;
@@ -44,6 +48,7 @@ public class TypeMirrorFactory {
       throw new GenException(elt, "Mapper cannot declare mixed JSON types");
     }
     deserializers.putIfAbsent(key, mapper);
+    invalidate();
   }
 
   public void addDataObjectSerializer(Element elt, TypeMirror dataObjectType, MapperInfo mapper) {
@@ -52,6 +57,15 @@ public class TypeMirrorFactory {
       throw new GenException(elt, "Mapper cannot declare mixed JSON types " + deserializers.get(key).getJsonType() + " " + mapper.getJsonType());
     }
     serializers.putIfAbsent(key, mapper);
+    invalidate();
+  }
+
+  /**
+   * The mappers change the data object info of the types created afterwards.
+   */
+  private void invalidate() {
+    declared.clear();
+    interned.clear();
   }
 
   public TypeInfo create(TypeMirror type) {
@@ -97,10 +111,37 @@ public class TypeMirrorFactory {
   public TypeInfo create(TypeUse use, DeclaredType type, boolean checkTypeArgs) {
     boolean nullable = use != null && use.isNullable();
     TypeElement elt = (TypeElement) type.asElement();
+    List<? extends TypeMirror> typeArgs = type.getTypeArguments();
+    if (checkTypeArgs && typeArgs.size() > 0 && elt.getKind() != ElementKind.ENUM) {
+      String fqcn = elt.getQualifiedName().toString();
+      List<TypeInfo> typeArguments;
+      typeArguments = new ArrayList<>(typeArgs.size());
+      for (int i = 0; i < typeArgs.size(); i++) {
+        TypeUse argUse = use != null ? use.getArg(fqcn, i) : null;
+        TypeInfo typeArgDesc = create(argUse, typeArgs.get(i));
+        // Need to check it is an interface type
+        typeArguments.add(typeArgDesc);
+      }
+      ClassTypeInfo raw = (ClassTypeInfo) create(null, (DeclaredType) elt.asType(), false);
+      return intern(new ParameterizedTypeInfo(raw, nullable, typeArguments));
+    }
+    // The declared type of a generic element and its raw usage can resolve different mappers and handler types
+    DeclaredKey key = new DeclaredKey(elt, nullable, typeArgs.isEmpty() ? null : type.toString());
+    TypeInfo cached = declared.get(key);
+    if (cached == null) {
+      cached = createDeclared(nullable, elt, type);
+      TypeInfo prev = declared.putIfAbsent(key, cached);
+      if (prev != null) {
+        cached = prev;
+      }
+    }
+    return cached;
+  }
+
+  private TypeInfo createDeclared(boolean nullable, TypeElement elt, DeclaredType type) {
     PackageElement pkgElt = elementUtils.getPackageOf(elt);
     ModuleInfo module = ModuleInfo.resolve(elementUtils, pkgElt);
     String fqcn = elt.getQualifiedName().toString();
-    String simpleName = elt.getSimpleName().toString();
     boolean proxyGen = elt.getAnnotation(ProxyGen.class) != null;
     if (elt.getKind() == ElementKind.ENUM) {
       ArrayList<String> values = new ArrayList<>();
@@ -110,89 +151,204 @@ public class TypeMirrorFactory {
         }
       }
       boolean gen = elt.getAnnotation(VertxGen.class) != null;
-      return new EnumTypeInfo(fqcn, gen, values, module, nullable);
+      return intern(new EnumTypeInfo(fqcn, gen, values, module, nullable));
     } else {
       ClassKind kind = ClassKind.getKind(fqcn, elt.getAnnotation(VertxGen.class) != null);
-      List<? extends TypeMirror> typeArgs = type.getTypeArguments();
-      if (checkTypeArgs && typeArgs.size() > 0) {
-        List<TypeInfo> typeArguments;
-        typeArguments = new ArrayList<>(typeArgs.size());
-        for (int i = 0; i < typeArgs.size(); i++) {
-          TypeUse argUse = use != null ? use.getArg(fqcn, i) : null;
-          TypeInfo typeArgDesc = create(argUse, typeArgs.get(i));
-          // Need to check it is an interface type
-          typeArguments.add(typeArgDesc);
+      ClassTypeInfo raw;
+      if (kind == ClassKind.BOXED_PRIMITIVE) {
+        raw = ClassTypeInfo.PRIMITIVES.get(fqcn);
+        if (nullable) {
+          raw = new ClassTypeInfo(raw.kind, raw.name, raw.module, true, raw.params, null);
         }
-        ClassTypeInfo raw = (ClassTypeInfo) create(null, (DeclaredType) type.asElement().asType(), false);
-        return new ParameterizedTypeInfo(raw, nullable, typeArguments);
       } else {
-        ClassTypeInfo raw;
-        if (kind == ClassKind.BOXED_PRIMITIVE) {
-          raw = ClassTypeInfo.PRIMITIVES.get(fqcn);
-          if (nullable) {
-            raw = new ClassTypeInfo(raw.kind, raw.name, raw.module, true, raw.params, null);
-          }
-        } else {
-          MapperInfo serializer = serializers.get(type.toString());
-          MapperInfo deserializer = deserializers.get(type.toString());
-          if (elt.getAnnotation(DataObject.class) != null) {
-            ClassKind serializable = Helper.getAnnotatedDataObjectAnnotatedSerializationType(elementUtils, elt);
-            ClassKind deserializable = Helper.getAnnotatedDataObjectDeserialisationType(elementUtils, typeUtils, elt);
-            if (serializer == null && serializable != null) {
-              serializer = new MapperInfo();
-              serializer.setQualifiedName(fqcn);
-              serializer.setKind(MapperKind.SELF);
-              if (serializable == ClassKind.JSON_OBJECT) {
-                serializer.setTargetType(JSON_OBJECT);
-                serializer.setSelectors(Collections.singletonList("toJson"));
-              } else {
-                serializer.setTargetType(STRING);
-                serializer.setSelectors(Collections.singletonList("toJson"));
-              }
-            }
-            if (deserializer == null && deserializable != null) {
-              deserializer = new MapperInfo();
-              deserializer.setQualifiedName(fqcn);
-              deserializer.setKind(MapperKind.SELF);
-              if (deserializable == ClassKind.JSON_OBJECT) {
-                deserializer.setTargetType(JSON_OBJECT);
-              } else {
-                deserializer.setTargetType(STRING);
-              }
+        MapperInfo serializer = serializers.get(type.toString());
+        MapperInfo deserializer = deserializers.get(type.toString());
+        if (elt.getAnnotation(DataObject.class) != null) {
+          ClassKind serializable = Helper.getAnnotatedDataObjectAnnotatedSerializationType(elementUtils, elt);
+          ClassKind deserializable = Helper.getAnnotatedDataObjectDeserialisationType(elementUtils, typeUtils, elt);
+          if (serializer == null && serializable != null) {
+            serializer = new MapperInfo();
+            serializer.setQualifiedName(fqcn);
+            serializer.setKind(MapperKind.SELF);
+            if (serializable == ClassKind.JSON_OBJECT) {
+              serializer.setTargetType(JSON_OBJECT);
+              serializer.setSelectors(Collections.singletonList("toJson"));
+            } else {
+              serializer.setTargetType(STRING);
+              serializer.setSelectors(Collections.singletonList("toJson"));
             }
           }
-          DataObjectInfo dataObject = null;
-          if (serializer != null || deserializer != null) {
-            dataObject = new DataObjectInfo(
-              serializer,
-              deserializer);
+          if (deserializer == null && deserializable != null) {
+            deserializer = new MapperInfo();
+            deserializer.setQualifiedName(fqcn);
+            deserializer.setKind(MapperKind.SELF);
+            if (deserializable == ClassKind.JSON_OBJECT) {
+              deserializer.setTargetType(JSON_OBJECT);
+            } else {
+              deserializer.setTargetType(STRING);
+            }
           }
-          List<TypeParamInfo.Class> typeParams = createTypeParams(type);
-          if (kind == ClassKind.API) {
-            VertxGen genAnn = elt.getAnnotation(VertxGen.class);
-            TypeInfo handlerArg = null;
-            TypeElement parameterizedElt = elementUtils.getTypeElement(ClassModel.VERTX_HANDLER);
-            TypeMirror parameterizedType = parameterizedElt.asType();
-            TypeMirror rawType = typeUtils.erasure(parameterizedType);
-            if (typeUtils.isSubtype(type, rawType)) {
-              TypeMirror resolved = Helper.resolveTypeParameter(typeUtils, type, parameterizedElt.getTypeParameters().get(0));
-              if (resolved.getKind() == TypeKind.DECLARED) {
-                DeclaredType dt = (DeclaredType) resolved;
-                TypeElement a = (TypeElement) dt.asElement();
-                if (!a.getQualifiedName().toString().equals("io.vertx.core.AsyncResult")) {
-                  handlerArg = create(resolved);
-                }
-              } else {
+        }
+        DataObjectInfo dataObject = null;
+        if (serializer != null || deserializer != null) {
+          dataObject = new DataObjectInfo(
+            serializer,
+            deserializer);
+        }
+        List<TypeParamInfo.Class> typeParams = createTypeParams(type);
+        if (kind == ClassKind.API) {
+          VertxGen genAnn = elt.getAnnotation(VertxGen.class);
+          TypeInfo handlerArg = null;
+          TypeElement parameterizedElt = elementUtils.getTypeElement(ClassModel.VERTX_HANDLER);
+          TypeMirror parameterizedType = parameterizedElt.asType();
+          TypeMirror rawType = typeUtils.erasure(parameterizedType);
+          if (typeUtils.isSubtype(type, rawType)) {
+            TypeMirror resolved = Helper.resolveTypeParameter(typeUtils, type, parameterizedElt.getTypeParameters().get(0));
+            if (resolved.getKind() == TypeKind.DECLARED) {
+              DeclaredType dt = (DeclaredType) resolved;
+              TypeElement a = (TypeElement) dt.asElement();
+              if (!a.getQualifiedName().toString().equals("io.vertx.core.AsyncResult")) {
                 handlerArg = create(resolved);
               }
+            } else {
+              handlerArg = create(resolved);
             }
-            raw = new ApiTypeInfo(fqcn, genAnn.concrete(), typeParams, handlerArg, module, nullable, proxyGen, dataObject);
-          } else {
-            raw = new ClassTypeInfo(kind, fqcn, module, nullable, typeParams, dataObject);
           }
+          raw = new ApiTypeInfo(fqcn, genAnn.concrete(), typeParams, handlerArg, module, nullable, proxyGen, dataObject);
+        } else {
+          raw = new ClassTypeInfo(kind, fqcn, module, nullable, typeParams, dataObject);
+        }
+      }
+      return intern(raw);
+    }
+  }
+
+  /**
+   * Canonicalize a class or parameterized type, so the same type is represented by a single instance for
+   * this factory. Class types are identified by their class, name and nullability, a class type carrying a data
+   * object or a handler argument is not interned since the mappers and the handler argument depend on the type
+   * arguments of the usage. A parameterized type is interned only when its arguments are canonical, which excludes
+   * type variables and arrays.
+   *
+   * @param type the type to intern
+   * @return the canonical instance
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends TypeInfo> T intern(T type) {
+    InternKey key;
+    if (type instanceof ParameterizedTypeInfo) {
+      ParameterizedTypeInfo parameterized = (ParameterizedTypeInfo) type;
+      TypeInfo[] parts = new TypeInfo[parameterized.args.size() + 1];
+      parts[0] = parameterized.raw;
+      for (int i = 0;i < parameterized.args.size();i++) {
+        TypeInfo arg = parameterized.args.get(i);
+        if (!(arg instanceof ClassTypeInfo || arg instanceof ParameterizedTypeInfo || arg instanceof PrimitiveTypeInfo)) {
+          return type;
+        }
+        parts[i + 1] = arg;
+      }
+      key = new InternKey(ParameterizedTypeInfo.class, null, parameterized.nullable, parts);
+    } else {
+      ClassTypeInfo classType = (ClassTypeInfo) type;
+      if (classType.dataObject != null || classType instanceof ApiTypeInfo && ((ApiTypeInfo) classType).handlerArg != null) {
+        return type;
+      }
+      key = new InternKey(classType.getClass(), classType.name, classType.nullable, null);
+    }
+    TypeInfo prev = interned.putIfAbsent(key, type);
+    return prev != null ? (T) prev : type;
+  }
+
+  private static final class InternKey {
+
+    private final Class<?> type;
+    private final String name;
+    private final boolean nullable;
+    private final TypeInfo[] parts;
+    private final int hash;
+
+    private InternKey(Class<?> type, String name, boolean nullable, TypeInfo[] parts) {
+      this.type = type;
+      this.name = name;
+      this.nullable = nullable;
+      this.parts = parts;
+      int h = type.hashCode() * 31 + Boolean.hashCode(nullable);
+      if (name != null) {
+        h = h * 31 + name.hashCode();
+      }
+      if (parts != null) {
+        for (TypeInfo part : parts) {
+          h = h * 31 + System.identityHashCode(part);
+        }
+      }
+      this.hash = h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof InternKey)) {
+        return false;
+      }
+      InternKey that = (InternKey) obj;
+      if (type != that.type || nullable != that.nullable || !Objects.equals(name, that.name)) {
+        return false;
+      }
+      if (parts == null || that.parts == null) {
+        return parts == that.parts;
+      }
+      if (parts.length != that.parts.length) {
+        return false;
+      }
+      // Parts are canonical instances
+      for (int i = 0;i < parts.length;i++) {
+        if (parts[i] != that.parts[i]) {
+          return false;
         }
-        return raw;
       }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * Identifies the type created for a type element, the type of an element does not depend on the usage
+   * besides the nullability and the type arguments, which are identified by the declared type name used to
+   * resolve the mappers, or {@code null} for a raw usage.
+   */
+  private static final class DeclaredKey {
+
+    private final TypeElement elt;
+    private final boolean nullable;
+    private final String typeName;
+
+    private DeclaredKey(TypeElement elt, boolean nullable, String typeName) {
+      this.elt = elt;
+      this.nullable = nullable;
+      this.typeName = typeName;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof DeclaredKey)) {
+        return false;
+      }
+      DeclaredKey that = (DeclaredKey) obj;
+      return elt.equals(that.elt) && nullable == that.nullable && Objects.equals(typeName, that.typeName);
+    }
+
+    @Override
+    public int hashCode() {
+      return (elt.hashCode() * 31 + Boolean.hashCode(nullable)) * 31 + Objects.hashCode(typeName);
     }
   }
 
@@ -49,7 +49,7 @@ public class TypeUse {
     }
     providers.add(new TypeInternalProvider() {
       private Method getMethod(ProcessingEnvironment env, ExecutableElement methodElt) {
-        Method methodRef = Helper.getReflectMethod(Thread.currentThread().getContextClassLoader(), methodElt);
+        Method methodRef = Helper.getReflectMethod(env, Thread.currentThread().getContextClassLoader(), methodElt);
         if (methodRef == null) {
           methodRef = Helper.getReflectMethod(env, methodElt);
         }
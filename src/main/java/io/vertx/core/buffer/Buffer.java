@@ -1,8 +1,7 @@
 package io.vertx.core.buffer;
 
 import io.vertx.codegen.annotations.VertxGen;
-
-import java.util.Arrays;
+import io.vertx.core.buffer.impl.BufferImpl;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -10,22 +9,45 @@ import java.util.Arrays;
 @VertxGen
 public interface Buffer {
 
+  static Buffer buffer() {
+    return new BufferImpl(new byte[0]);
+  }
+
   static Buffer buffer(byte[] bytes) {
-    return new Buffer() {
-      @Override
-      public byte[] getBytes() {
-        return bytes;
-      }
-      @Override
-      public boolean equals(Object obj) {
-        if (obj instanceof Buffer) {
-          Buffer that = (Buffer) obj;
-          return Arrays.equals(bytes, that.getBytes());
-        }
-        return false;
-      }
-    };
+    return new BufferImpl(bytes);
   }
 
   byte[] getBytes();
+
+  byte[] getBytes(int start, int end);
+
+  Buffer getBytes(int start, int end, byte[] dst, int dstIndex);
+
+  Buffer getBuffer(int start, int end);
+
+  String getString(int start, int end, String enc);
+
+  byte getByte(int pos);
+
+  int getInt(int pos);
+
+  float getFloat(int pos);
+
+  double getDouble(int pos);
+
+  Buffer appendByte(byte b);
+
+  Buffer appendBytes(byte[] bytes);
+
+  Buffer appendBytes(byte[] bytes, int offset, int len);
+
+  Buffer appendBuffer(Buffer buff);
+
+  Buffer appendInt(int i);
+
+  Buffer appendFloat(float f);
+
+  Buffer appendDouble(double d);
+
+  int length();
 }
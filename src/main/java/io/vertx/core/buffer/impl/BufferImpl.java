@@ -0,0 +1,156 @@
+package io.vertx.core.buffer.impl;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class BufferImpl implements Buffer {
+
+  private byte[] bytes;
+  private int length;
+
+  public BufferImpl(byte[] bytes) {
+    this.bytes = bytes;
+    this.length = bytes.length;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+  }
+
+  @Override
+  public byte[] getBytes(int start, int end) {
+    checkRange(start, end);
+    return Arrays.copyOfRange(bytes, start, end);
+  }
+
+  @Override
+  public Buffer getBytes(int start, int end, byte[] dst, int dstIndex) {
+    checkRange(start, end);
+    System.arraycopy(bytes, start, dst, dstIndex, end - start);
+    return this;
+  }
+
+  @Override
+  public Buffer getBuffer(int start, int end) {
+    return new BufferImpl(getBytes(start, end));
+  }
+
+  @Override
+  public String getString(int start, int end, String enc) {
+    checkRange(start, end);
+    try {
+      return new String(bytes, start, end - start, enc);
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  @Override
+  public byte getByte(int pos) {
+    checkRange(pos, pos + 1);
+    return bytes[pos];
+  }
+
+  @Override
+  public float getFloat(int pos) {
+    return Float.intBitsToFloat(getInt(pos));
+  }
+
+  @Override
+  public double getDouble(int pos) {
+    return Double.longBitsToDouble(((long) getInt(pos) << 32) | (getInt(pos + 4) & 0xFFFFFFFFL));
+  }
+
+  @Override
+  public Buffer appendByte(byte b) {
+    ensureCapacity(1);
+    bytes[length++] = b;
+    return this;
+  }
+
+  @Override
+  public Buffer appendBytes(byte[] b) {
+    return appendBytes(b, 0, b.length);
+  }
+
+  @Override
+  public Buffer appendBytes(byte[] b, int offset, int len) {
+    ensureCapacity(len);
+    System.arraycopy(b, offset, bytes, length, len);
+    length += len;
+    return this;
+  }
+
+  @Override
+  public Buffer appendBuffer(Buffer buff) {
+    int len = buff.length();
+    ensureCapacity(len);
+    buff.getBytes(0, len, bytes, length);
+    length += len;
+    return this;
+  }
+
+  @Override
+  public Buffer appendFloat(float f) {
+    return appendInt(Float.floatToIntBits(f));
+  }
+
+  @Override
+  public Buffer appendDouble(double d) {
+    long bits = Double.doubleToLongBits(d);
+    appendInt((int) (bits >>> 32));
+    return appendInt((int) bits);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public int getInt(int pos) {
+    checkRange(pos, pos + 4);
+    return (bytes[pos] & 0xFF) << 24 | (bytes[pos + 1] & 0xFF) << 16 | (bytes[pos + 2] & 0xFF) << 8 | (bytes[pos + 3] & 0xFF);
+  }
+
+  @Override
+  public Buffer appendInt(int i) {
+    ensureCapacity(4);
+    bytes[length++] = (byte) (i >>> 24);
+    bytes[length++] = (byte) (i >>> 16);
+    bytes[length++] = (byte) (i >>> 8);
+    bytes[length++] = (byte) i;
+    return this;
+  }
+
+  private void ensureCapacity(int n) {
+    if (length + n > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(length + n, bytes.length * 2));
+    }
+  }
+
+  private void checkRange(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + length);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof Buffer) {
+      return Arrays.equals(getBytes(), ((Buffer) obj).getBytes());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(getBytes());
+  }
+}
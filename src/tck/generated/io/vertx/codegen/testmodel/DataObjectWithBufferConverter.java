@@ -29,8 +29,9 @@ public class DataObjectWithBufferConverter {
   }
 
   public static void toJson(DataObjectWithBuffer obj, java.util.Map<String, Object> json) {
-    if (obj.getBuffer() != null) {
-      json.put("buffer", java.util.Base64.getEncoder().encodeToString(obj.getBuffer().getBytes()));
+    io.vertx.core.buffer.Buffer bufferValue = obj.getBuffer();
+    if (bufferValue != null) {
+      json.put("buffer", java.util.Base64.getEncoder().encodeToString(bufferValue.getBytes()));
     }
   }
 }
@@ -0,0 +1,93 @@
+package io.vertx.codegen.testmodel;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.codegen.testmodel.DataObjectWithJsonOwnership}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.codegen.testmodel.DataObjectWithJsonOwnership} original class using Vert.x codegen.
+ */
+public class DataObjectWithJsonOwnershipConverter {
+
+
+  public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, DataObjectWithJsonOwnership obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "copiedJsonObjectValue":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setCopiedJsonObjectValue(((JsonObject)member.getValue()).copy());
+          }
+          break;
+        case "jsonArrayValue":
+          if (member.getValue() instanceof JsonArray) {
+            obj.setJsonArrayValue(((JsonArray)member.getValue()));
+          }
+          break;
+        case "jsonArrayValueMap":
+          if (member.getValue() instanceof JsonObject) {
+            JsonObject object = (JsonObject) member.getValue();
+            java.util.Map<String, io.vertx.core.json.JsonArray> map = new java.util.LinkedHashMap<>((int) (object.size() / 0.75f) + 1);
+            for (java.util.Map.Entry<String, Object> entry : object) {
+              if (entry.getValue() instanceof JsonArray)
+                map.put(entry.getKey(), ((JsonArray)entry.getValue()));
+            }
+            obj.setJsonArrayValueMap(map);
+          }
+          break;
+        case "jsonObjectValue":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setJsonObjectValue(((JsonObject)member.getValue()));
+          }
+          break;
+        case "jsonObjectValues":
+          if (member.getValue() instanceof JsonArray) {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.core.json.JsonObject> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
+              if (item instanceof JsonObject)
+                list.add(((JsonObject)item));
+            }
+            obj.setJsonObjectValues(list);
+          }
+          break;
+      }
+    }
+  }
+
+  public static void toJson(DataObjectWithJsonOwnership obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+  public static void toJson(DataObjectWithJsonOwnership obj, java.util.Map<String, Object> json) {
+    io.vertx.core.json.JsonObject copiedJsonObjectValueValue = obj.getCopiedJsonObjectValue();
+    if (copiedJsonObjectValueValue != null) {
+      json.put("copiedJsonObjectValue", copiedJsonObjectValueValue);
+    }
+    io.vertx.core.json.JsonArray jsonArrayValueValue = obj.getJsonArrayValue();
+    if (jsonArrayValueValue != null) {
+      json.put("jsonArrayValue", jsonArrayValueValue);
+    }
+    java.util.Map<String, io.vertx.core.json.JsonArray> jsonArrayValueMapValue = obj.getJsonArrayValueMap();
+    if (jsonArrayValueMapValue != null) {
+      JsonObject map = new JsonObject(new java.util.LinkedHashMap<>((int) (jsonArrayValueMapValue.size() / 0.75f) + 1));
+      for (java.util.Map.Entry<String, io.vertx.core.json.JsonArray> entry : jsonArrayValueMapValue.entrySet()) {
+        map.put(entry.getKey(), entry.getValue());
+      }
+      json.put("jsonArrayValueMap", map);
+    }
+    io.vertx.core.json.JsonObject jsonObjectValueValue = obj.getJsonObjectValue();
+    if (jsonObjectValueValue != null) {
+      json.put("jsonObjectValue", jsonObjectValueValue);
+    }
+    java.util.List<io.vertx.core.json.JsonObject> jsonObjectValuesValue = obj.getJsonObjectValues();
+    if (jsonObjectValuesValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(jsonObjectValuesValue.size()));
+      for (io.vertx.core.json.JsonObject item : jsonObjectValuesValue) {
+        array.add(item);
+      }
+      json.put("jsonObjectValues", array);
+    }
+  }
+}
@@ -17,131 +17,144 @@ public class DataObjectWithListsConverter {
       switch (member.getKey()) {
         case "booleanValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Boolean> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.Boolean> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof Boolean)
                 list.add((Boolean)item);
-            });
+            }
             obj.setBooleanValues(list);
           }
           break;
         case "dataObjectValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.codegen.testmodel.TestDataObject> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.codegen.testmodel.TestDataObject> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof JsonObject)
                 list.add(new io.vertx.codegen.testmodel.TestDataObject((io.vertx.core.json.JsonObject)item));
-            });
+            }
             obj.setDataObjectValues(list);
           }
           break;
         case "doubleValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Double> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.Double> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof Number)
                 list.add(((Number)item).doubleValue());
-            });
+            }
             obj.setDoubleValues(list);
           }
           break;
         case "enumValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.codegen.testmodel.TestEnum> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.codegen.testmodel.TestEnum> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof String)
                 list.add(io.vertx.codegen.testmodel.TestEnum.valueOf((String)item));
-            });
+            }
             obj.setEnumValues(list);
           }
           break;
         case "floatValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Float> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.Float> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof Number)
                 list.add(((Number)item).floatValue());
-            });
+            }
             obj.setFloatValues(list);
           }
           break;
         case "genEnumValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.codegen.testmodel.TestGenEnum> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.codegen.testmodel.TestGenEnum> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof String)
                 list.add(io.vertx.codegen.testmodel.TestGenEnum.valueOf((String)item));
-            });
+            }
             obj.setGenEnumValues(list);
           }
           break;
         case "instantValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.time.Instant> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.time.Instant> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof String)
-                list.add(Instant.from(DateTimeFormatter.ISO_INSTANT.parse((String)item)));
-            });
+                list.add(parseInstant((String)item));
+            }
             obj.setInstantValues(list);
           }
           break;
         case "integerValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Integer> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.Integer> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof Number)
                 list.add(((Number)item).intValue());
-            });
+            }
             obj.setIntegerValues(list);
           }
           break;
         case "jsonArrayValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.core.json.JsonArray> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.core.json.JsonArray> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof JsonArray)
                 list.add(((JsonArray)item).copy());
-            });
+            }
             obj.setJsonArrayValues(list);
           }
           break;
         case "jsonObjectValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.core.json.JsonObject> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.core.json.JsonObject> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof JsonObject)
                 list.add(((JsonObject)item).copy());
-            });
+            }
             obj.setJsonObjectValues(list);
           }
           break;
         case "longValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Long> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.Long> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof Number)
                 list.add(((Number)item).longValue());
-            });
+            }
             obj.setLongValues(list);
           }
           break;
         case "shortValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.Short> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.Short> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof Number)
                 list.add(((Number)item).shortValue());
-            });
+            }
             obj.setShortValues(list);
           }
           break;
         case "stringValues":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof String)
                 list.add((String)item);
-            });
+            }
             obj.setStringValues(list);
           }
           break;
@@ -155,4 +168,107 @@ public class DataObjectWithListsConverter {
 
   public static void toJson(DataObjectWithLists obj, java.util.Map<String, Object> json) {
   }
+
+  private static String formatInstant(Instant instant) {
+    long seconds = instant.getEpochSecond();
+    int secondOfDay = (int) Math.floorMod(seconds, 86400L);
+    long z = Math.floorDiv(seconds, 86400L) + 719468L;
+    long era = Math.floorDiv(z, 146097L);
+    int dayOfEra = (int) (z - era * 146097L);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int mp = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yearOfEra + era * 400L + (month <= 2 ? 1 : 0);
+    if (year < 0L || year > 9999L) {
+      return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+    char[] chars = new char[30];
+    formatDigits(chars, 0, (int) year, 4);
+    chars[4] = '-';
+    formatDigits(chars, 5, month, 2);
+    chars[7] = '-';
+    formatDigits(chars, 8, day, 2);
+    chars[10] = 'T';
+    formatDigits(chars, 11, secondOfDay / 3600, 2);
+    chars[13] = ':';
+    formatDigits(chars, 14, (secondOfDay / 60) % 60, 2);
+    chars[16] = ':';
+    formatDigits(chars, 17, secondOfDay % 60, 2);
+    int pos = 19;
+    int nanos = instant.getNano();
+    if (nanos != 0) {
+      chars[pos++] = '.';
+      if (nanos % 1000000 == 0) {
+        formatDigits(chars, pos, nanos / 1000000, 3);
+        pos += 3;
+      } else if (nanos % 1000 == 0) {
+        formatDigits(chars, pos, nanos / 1000, 6);
+        pos += 6;
+      } else {
+        formatDigits(chars, pos, nanos, 9);
+        pos += 9;
+      }
+    }
+    chars[pos++] = 'Z';
+    return new String(chars, 0, pos);
+  }
+
+  private static void formatDigits(char[] chars, int pos, int value, int digits) {
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static Instant parseInstant(String text) {
+    int length = text.length();
+    if ((length == 20 || length >= 22 && length <= 30) && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T' &&
+      text.charAt(13) == ':' && text.charAt(16) == ':' && text.charAt(length - 1) == 'Z') {
+      int year = parseDigits(text, 0, 4);
+      int month = parseDigits(text, 5, 2);
+      int day = parseDigits(text, 8, 2);
+      int hour = parseDigits(text, 11, 2);
+      int minute = parseDigits(text, 14, 2);
+      int second = parseDigits(text, 17, 2);
+      int nanos = 0;
+      if (length > 20) {
+        nanos = text.charAt(19) == '.' ? parseDigits(text, 20, length - 21) : -1;
+        for (int i = length - 21; i < 9 && nanos > 0; i++) {
+          nanos *= 10;
+        }
+      }
+      if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && hour >= 0 && hour < 24 && minute >= 0 && minute < 60 &&
+        second >= 0 && second < 60 && nanos >= 0) {
+        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+        int monthLength = month == 2 ? (leap ? 29 : 28) : (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);
+        if (day <= monthLength) {
+          int y = month <= 2 ? year - 1 : year;
+          int era = Math.floorDiv(y, 400);
+          int yearOfEra = y - era * 400;
+          int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+          int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+          long days = era * 146097L + dayOfEra - 719468L;
+          return Instant.ofEpochSecond(days * 86400L + hour * 3600 + minute * 60 + second, nanos);
+        }
+      }
+    }
+    if (length > 0 && (text.charAt(length - 1) == 'Z' || text.charAt(length - 1) == 'z')) {
+      return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(text));
+    }
+    return java.time.OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant();
+  }
+
+  private static int parseDigits(String text, int pos, int digits) {
+    int value = 0;
+    for (int i = pos; i < pos + digits; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
 }
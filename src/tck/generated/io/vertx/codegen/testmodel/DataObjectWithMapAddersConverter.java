@@ -17,106 +17,119 @@ public class DataObjectWithMapAddersConverter {
       switch (member.getKey()) {
         case "booleanValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof Boolean)
                 obj.addBooleanValue(entry.getKey(), (Boolean)entry.getValue());
-            });
+            }
           }
           break;
         case "dataObjectValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof JsonObject)
                 obj.addDataObjectValue(entry.getKey(), new io.vertx.codegen.testmodel.TestDataObject((io.vertx.core.json.JsonObject)entry.getValue()));
-            });
+            }
           }
           break;
         case "doubleValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof Number)
                 obj.addDoubleValue(entry.getKey(), ((Number)entry.getValue()).doubleValue());
-            });
+            }
           }
           break;
         case "enumValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof String)
                 obj.addEnumValue(entry.getKey(), io.vertx.codegen.testmodel.TestEnum.valueOf((String)entry.getValue()));
-            });
+            }
           }
           break;
         case "floatValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof Number)
                 obj.addFloatValue(entry.getKey(), ((Number)entry.getValue()).floatValue());
-            });
+            }
           }
           break;
         case "genEnumValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof String)
                 obj.addGenEnumValue(entry.getKey(), io.vertx.codegen.testmodel.TestGenEnum.valueOf((String)entry.getValue()));
-            });
+            }
           }
           break;
         case "instantValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof String)
-                obj.addInstantValue(entry.getKey(), Instant.from(DateTimeFormatter.ISO_INSTANT.parse((String)entry.getValue())));
-            });
+                obj.addInstantValue(entry.getKey(), parseInstant((String)entry.getValue()));
+            }
           }
           break;
         case "integerValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof Number)
                 obj.addIntegerValue(entry.getKey(), ((Number)entry.getValue()).intValue());
-            });
+            }
           }
           break;
         case "jsonArrayValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof JsonArray)
                 obj.addJsonArrayValue(entry.getKey(), ((JsonArray)entry.getValue()).copy());
-            });
+            }
           }
           break;
         case "jsonObjectValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof JsonObject)
                 obj.addJsonObjectValue(entry.getKey(), ((JsonObject)entry.getValue()).copy());
-            });
+            }
           }
           break;
         case "longValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof Number)
                 obj.addLongValue(entry.getKey(), ((Number)entry.getValue()).longValue());
-            });
+            }
           }
           break;
         case "shortValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof Number)
                 obj.addShortValue(entry.getKey(), ((Number)entry.getValue()).shortValue());
-            });
+            }
           }
           break;
         case "stringValues":
           if (member.getValue() instanceof JsonObject) {
-            ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {
+            JsonObject object = (JsonObject) member.getValue();
+            for (java.util.Map.Entry<String, Object> entry : object) {
               if (entry.getValue() instanceof String)
                 obj.addStringValue(entry.getKey(), (String)entry.getValue());
-            });
+            }
           }
           break;
       }
@@ -129,4 +142,107 @@ public class DataObjectWithMapAddersConverter {
 
   public static void toJson(DataObjectWithMapAdders obj, java.util.Map<String, Object> json) {
   }
+
+  private static String formatInstant(Instant instant) {
+    long seconds = instant.getEpochSecond();
+    int secondOfDay = (int) Math.floorMod(seconds, 86400L);
+    long z = Math.floorDiv(seconds, 86400L) + 719468L;
+    long era = Math.floorDiv(z, 146097L);
+    int dayOfEra = (int) (z - era * 146097L);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int mp = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yearOfEra + era * 400L + (month <= 2 ? 1 : 0);
+    if (year < 0L || year > 9999L) {
+      return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+    char[] chars = new char[30];
+    formatDigits(chars, 0, (int) year, 4);
+    chars[4] = '-';
+    formatDigits(chars, 5, month, 2);
+    chars[7] = '-';
+    formatDigits(chars, 8, day, 2);
+    chars[10] = 'T';
+    formatDigits(chars, 11, secondOfDay / 3600, 2);
+    chars[13] = ':';
+    formatDigits(chars, 14, (secondOfDay / 60) % 60, 2);
+    chars[16] = ':';
+    formatDigits(chars, 17, secondOfDay % 60, 2);
+    int pos = 19;
+    int nanos = instant.getNano();
+    if (nanos != 0) {
+      chars[pos++] = '.';
+      if (nanos % 1000000 == 0) {
+        formatDigits(chars, pos, nanos / 1000000, 3);
+        pos += 3;
+      } else if (nanos % 1000 == 0) {
+        formatDigits(chars, pos, nanos / 1000, 6);
+        pos += 6;
+      } else {
+        formatDigits(chars, pos, nanos, 9);
+        pos += 9;
+      }
+    }
+    chars[pos++] = 'Z';
+    return new String(chars, 0, pos);
+  }
+
+  private static void formatDigits(char[] chars, int pos, int value, int digits) {
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  private static Instant parseInstant(String text) {
+    int length = text.length();
+    if ((length == 20 || length >= 22 && length <= 30) && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T' &&
+      text.charAt(13) == ':' && text.charAt(16) == ':' && text.charAt(length - 1) == 'Z') {
+      int year = parseDigits(text, 0, 4);
+      int month = parseDigits(text, 5, 2);
+      int day = parseDigits(text, 8, 2);
+      int hour = parseDigits(text, 11, 2);
+      int minute = parseDigits(text, 14, 2);
+      int second = parseDigits(text, 17, 2);
+      int nanos = 0;
+      if (length > 20) {
+        nanos = text.charAt(19) == '.' ? parseDigits(text, 20, length - 21) : -1;
+        for (int i = length - 21; i < 9 && nanos > 0; i++) {
+          nanos *= 10;
+        }
+      }
+      if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && hour >= 0 && hour < 24 && minute >= 0 && minute < 60 &&
+        second >= 0 && second < 60 && nanos >= 0) {
+        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+        int monthLength = month == 2 ? (leap ? 29 : 28) : (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);
+        if (day <= monthLength) {
+          int y = month <= 2 ? year - 1 : year;
+          int era = Math.floorDiv(y, 400);
+          int yearOfEra = y - era * 400;
+          int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+          int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+          long days = era * 146097L + dayOfEra - 719468L;
+          return Instant.ofEpochSecond(days * 86400L + hour * 3600 + minute * 60 + second, nanos);
+        }
+      }
+    }
+    if (length > 0 && (text.charAt(length - 1) == 'Z' || text.charAt(length - 1) == 'z')) {
+      return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(text));
+    }
+    return java.time.OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant();
+  }
+
+  private static int parseDigits(String text, int pos, int digits) {
+    int value = 0;
+    for (int i = pos; i < pos + digits; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
 }
@@ -22,11 +22,12 @@ public class DataObjectWithNestedBufferConverter {
           break;
         case "buffers":
           if (member.getValue() instanceof JsonArray) {
-            java.util.ArrayList<io.vertx.core.buffer.Buffer> list =  new java.util.ArrayList<>();
-            ((Iterable<Object>)member.getValue()).forEach( item -> {
+            JsonArray array = (JsonArray) member.getValue();
+            java.util.ArrayList<io.vertx.core.buffer.Buffer> list = new java.util.ArrayList<>(array.size());
+            for (Object item : array) {
               if (item instanceof String)
                 list.add(io.vertx.core.buffer.Buffer.buffer(java.util.Base64.getDecoder().decode((String)item)));
-            });
+            }
             obj.setBuffers(list);
           }
           break;
@@ -44,16 +45,21 @@ public class DataObjectWithNestedBufferConverter {
   }
 
   public static void toJson(DataObjectWithNestedBuffer obj, java.util.Map<String, Object> json) {
-    if (obj.getBuffer() != null) {
-      json.put("buffer", java.util.Base64.getEncoder().encodeToString(obj.getBuffer().getBytes()));
+    io.vertx.core.buffer.Buffer bufferValue = obj.getBuffer();
+    if (bufferValue != null) {
+      json.put("buffer", java.util.Base64.getEncoder().encodeToString(bufferValue.getBytes()));
     }
-    if (obj.getBuffers() != null) {
-      JsonArray array = new JsonArray();
-      obj.getBuffers().forEach(item -> array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes())));
+    java.util.List<io.vertx.core.buffer.Buffer> buffersValue = obj.getBuffers();
+    if (buffersValue != null) {
+      JsonArray array = new JsonArray(new java.util.ArrayList<>(buffersValue.size()));
+      for (io.vertx.core.buffer.Buffer item : buffersValue) {
+        array.add(java.util.Base64.getEncoder().encodeToString(item.getBytes()));
+      }
       json.put("buffers", array);
     }
-    if (obj.getNested() != null) {
-      json.put("nested", obj.getNested().toJson());
+    io.vertx.codegen.testmodel.DataObjectWithBuffer nestedValue = obj.getNested();
+    if (nestedValue != null) {
+      json.put("nested", nestedValue.toJson());
     }
   }
 }
@@ -26,8 +26,9 @@ public class DataObjectWithOnlyJsonObjectConstructorConverter {
   }
 
   public static void toJson(DataObjectWithOnlyJsonObjectConstructor obj, java.util.Map<String, Object> json) {
-    if (obj.getFoo() != null) {
-      json.put("foo", obj.getFoo());
+    java.lang.String fooValue = obj.getFoo();
+    if (fooValue != null) {
+      json.put("foo", fooValue);
     }
   }
 }
@@ -34,11 +34,13 @@ public class DataObjectWithRecursionConverter {
   }
 
   public static void toJson(DataObjectWithRecursion obj, java.util.Map<String, Object> json) {
-    if (obj.getData() != null) {
-      json.put("data", obj.getData());
+    java.lang.String dataValue = obj.getData();
+    if (dataValue != null) {
+      json.put("data", dataValue);
     }
-    if (obj.getNext() != null) {
-      json.put("next", obj.getNext().toJson());
+    io.vertx.codegen.testmodel.DataObjectWithRecursion nextValue = obj.getNext();
+    if (nextValue != null) {
+      json.put("next", nextValue.toJson());
     }
   }
 }
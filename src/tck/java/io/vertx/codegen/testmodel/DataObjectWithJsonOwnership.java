@@ -0,0 +1,81 @@
+package io.vertx.codegen.testmodel;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.TransferJsonOwnership;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@DataObject(generateConverter = true, transferJsonOwnership = true)
+public class DataObjectWithJsonOwnership {
+
+  private JsonObject jsonObjectValue;
+  private JsonArray jsonArrayValue;
+  private List<JsonObject> jsonObjectValues;
+  private Map<String, JsonArray> jsonArrayValueMap;
+  private JsonObject copiedJsonObjectValue;
+
+  public DataObjectWithJsonOwnership() {
+  }
+
+  public DataObjectWithJsonOwnership(JsonObject json) {
+    DataObjectWithJsonOwnershipConverter.fromJson(json, this);
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public DataObjectWithJsonOwnership setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public JsonArray getJsonArrayValue() {
+    return jsonArrayValue;
+  }
+
+  public DataObjectWithJsonOwnership setJsonArrayValue(JsonArray jsonArrayValue) {
+    this.jsonArrayValue = jsonArrayValue;
+    return this;
+  }
+
+  public List<JsonObject> getJsonObjectValues() {
+    return jsonObjectValues;
+  }
+
+  public DataObjectWithJsonOwnership setJsonObjectValues(List<JsonObject> jsonObjectValues) {
+    this.jsonObjectValues = jsonObjectValues;
+    return this;
+  }
+
+  public Map<String, JsonArray> getJsonArrayValueMap() {
+    return jsonArrayValueMap;
+  }
+
+  public DataObjectWithJsonOwnership setJsonArrayValueMap(Map<String, JsonArray> jsonArrayValueMap) {
+    this.jsonArrayValueMap = jsonArrayValueMap;
+    return this;
+  }
+
+  @TransferJsonOwnership(false)
+  public JsonObject getCopiedJsonObjectValue() {
+    return copiedJsonObjectValue;
+  }
+
+  public DataObjectWithJsonOwnership setCopiedJsonObjectValue(JsonObject copiedJsonObjectValue) {
+    this.copiedJsonObjectValue = copiedJsonObjectValue;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    DataObjectWithJsonOwnershipConverter.toJson(this, json);
+    return json;
+  }
+}
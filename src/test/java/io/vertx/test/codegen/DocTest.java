@@ -5,6 +5,7 @@ import io.vertx.codegen.EnumModel;
 import io.vertx.codegen.MethodInfo;
 import io.vertx.codegen.doc.Doc;
 import io.vertx.codegen.doc.Tag;
+import io.vertx.codegen.doc.Text;
 import io.vertx.codegen.doc.Token;
 import io.vertx.test.codegen.doc.*;
 import org.junit.Test;
@@ -12,6 +13,7 @@ import org.junit.Test;
 import javax.lang.model.element.ElementKind;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -118,6 +120,94 @@ public class DocTest {
     assertEquals("\n", events.get(5).getValue());
   }
 
+  @Test
+  public void testNotTag() {
+    assertText("{@ def}", "{@ def}");
+    assertText("{@1def}", "{@1def}");
+    assertText("{@def", "{@def");
+    assertText("abc}{@def", "abc}{@def");
+    assertText("a\rb", "a\rb");
+  }
+
+  @Test
+  public void testTagEndsWithFirstBrace() {
+    List<Token> events = Token.tokenize("{@def {ghi}}");
+    assertEquals(2, events.size());
+    assertEquals("{@def {ghi}", events.get(0).getValue());
+    assertEquals("def", ((Token.InlineTag)events.get(0)).getTag().getName());
+    assertEquals(" {ghi", ((Token.InlineTag)events.get(0)).getTag().getValue());
+    assertTrue(events.get(1).isText());
+    assertEquals("}", events.get(1).getValue());
+  }
+
+  @Test
+  public void testCRLF() {
+    List<Token> events = Token.tokenize("abc\r\ndef\n");
+    assertEquals(4, events.size());
+    assertEquals("abc", events.get(0).getValue());
+    assertTrue(events.get(1).isLineBreak());
+    assertEquals("\r\n", events.get(1).getValue());
+    assertEquals("def", events.get(2).getValue());
+    assertTrue(events.get(3).isLineBreak());
+    assertEquals("\n", events.get(3).getValue());
+  }
+
+  @Test
+  public void testLargeText() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < 100000;i++) {
+      sb.append("abc {@link Foo}\n");
+    }
+    List<Token> events = Token.tokenize(sb.toString());
+    assertEquals(300000, events.size());
+    assertEquals("abc ", events.get(299997).getValue());
+    assertEquals(" Foo", ((Token.InlineTag)events.get(299998)).getTag().getValue());
+    assertTrue(events.get(299999).isLineBreak());
+  }
+
+  private void assertText(String text, String... expected) {
+    List<Token> events = Token.tokenize(text);
+    assertEquals(expected.length, events.size());
+    for (int i = 0;i < expected.length;i++) {
+      assertTrue(events.get(i).isText());
+      assertEquals(expected[i], events.get(i).getValue());
+    }
+  }
+
+  @Test
+  public void testDeferredMapping() {
+    AtomicInteger count = new AtomicInteger();
+    Text text = new Text("abc {@link Foo}").map(token -> {
+      count.incrementAndGet();
+      return token;
+    });
+    assertEquals(2, count.get());
+    boolean prev = Text.deferMappings(true);
+    try {
+      text = new Text("abc {@link Foo}").map(token -> {
+        count.incrementAndGet();
+        return token;
+      });
+    } finally {
+      Text.deferMappings(prev);
+    }
+    assertEquals(2, count.get());
+    assertEquals(2, text.getTokens().size());
+    assertEquals(4, count.get());
+    assertSame(text.getTokens(), text.getTokens());
+    assertEquals(4, count.get());
+  }
+
+  @Test
+  public void testDocsDisabled() throws Exception {
+    ClassModel model = new GeneratorHelper().setOption(Doc.DOCS_OPTION, "false").generateClass(LinkToMethodInSameType.class);
+    assertNull(model.getIfaceComment());
+    assertNull(model.getDoc());
+    MethodInfo method = model.getMethodMap().get("m").get(0);
+    assertNull(method.getComment());
+    assertNull(method.getDoc());
+  }
+
   @Test
   public void testLinkToMethodInSameType() throws Exception {
     ClassModel model = new GeneratorHelper().generateClass(LinkToMethodInSameType.class);
@@ -42,7 +42,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -56,6 +58,12 @@ public class GeneratorHelper {
 
   private final DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
   private final List<CodeGen.Converter> converters = new ArrayList<>();
+  private final Map<String, String> options = new LinkedHashMap<>();
+
+  public GeneratorHelper setOption(String name, String value) {
+    options.put(name, value);
+    return this;
+  }
 
   public GeneratorHelper registerConverter(String type, String serializer, String... names) {
     converters.add(new CodeGen.Converter(type, serializer, Arrays.asList(names)));
@@ -77,6 +85,7 @@ public class GeneratorHelper {
     File f = new File(url.toURI());
     MyProcessor<PackageModel> processor = new MyProcessor<>(codegen -> codegen.getPackageModel(clazz.getPackage().getName()), otherSupportedAnnotations.stream().map(Class::getCanonicalName).collect(Collectors.toSet()));
     Compiler compiler = new Compiler(processor, collector);
+    options.forEach((name, value) -> compiler.addOption("-A" + name + "=" + value));
     compiler.compile(f);
     return processor.result;
   }
@@ -91,6 +100,7 @@ public class GeneratorHelper {
     File[] files = Files.walk(info.getParentFile().toPath()).filter(Files::isRegularFile).map(Path::toFile).toArray(File[]::new);
     MyProcessor<ModuleModel> processor = new MyProcessor<>(codegen -> codegen.getModuleModel(packageFqn), otherSupportedAnnotations.stream().map(Class::getCanonicalName).collect(Collectors.toSet()));
     Compiler compiler = new Compiler(processor, collector);
+    options.forEach((name, value) -> compiler.addOption("-A" + name + "=" + value));
     compiler.compile(files);
     return processor.result;
   }
@@ -118,6 +128,7 @@ public class GeneratorHelper {
     String className = c.getCanonicalName();
     MyProcessor<M> processor = new MyProcessor<>(f, otherSupportedAnnotations.stream().map(Class::getCanonicalName).collect(Collectors.toSet()));
     Compiler compiler = new Compiler(processor, collector);
+    options.forEach((name, value) -> compiler.addOption("-A" + name + "=" + value));
     compiler.compile(types);
     if (processor.result == null) {
       throw new IllegalArgumentException(className + " not processed.");
@@ -154,7 +165,7 @@ public class GeneratorHelper {
 
     @Override
     public Set<String> getSupportedOptions() {
-      return Collections.emptySet();
+      return options.keySet();
     }
 
     @Override
@@ -9,6 +9,9 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
 
@@ -170,6 +173,59 @@ public class HelperTest {
     });
   }
 
+  @Test
+  public void testGetReflectMethod() throws Exception {
+    Utils.assertProcess((processingEnv, roundEnv) -> {
+      ClassLoader loader = HelperTest.class.getClassLoader();
+      ExecutableElement getElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.util.List#get(int)");
+      ExecutableElement containsAllElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.util.List#containsAll");
+      ExecutableElement appendElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.lang.StringBuilder#append(CharSequence)");
+      try {
+        assertEquals(List.class.getMethod("get", int.class), Helper.getReflectMethod(loader, getElt));
+        assertEquals(List.class.getMethod("containsAll", Collection.class), Helper.getReflectMethod(loader, containsAllElt));
+        // The most specific return type of the bridge methods
+        assertEquals(StringBuilder.class, Helper.getReflectMethod(loader, appendElt).getReturnType());
+      } catch (NoSuchMethodException e) {
+        throw new AssertionError(e);
+      }
+      ClassLoader emptyLoader = new ClassLoader(null) {
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+          throw new ClassNotFoundException(name);
+        }
+      };
+      assertNull(Helper.getReflectMethod(emptyLoader, getElt));
+      assertNull(Helper.getReflectMethod(emptyLoader, containsAllElt));
+    });
+  }
+
+  @Test
+  public void testGetReflectMethodMissingClassPerEnvironment() throws Exception {
+    AtomicBoolean available = new AtomicBoolean();
+    ClassLoader loader = new ClassLoader(HelperTest.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!available.get()) {
+          throw new ClassNotFoundException(name);
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+    Utils.assertProcess((processingEnv, roundEnv) -> {
+      ExecutableElement getElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.util.List#get(int)");
+      available.set(false);
+      assertNull(Helper.getReflectMethod(processingEnv, loader, getElt));
+      available.set(true);
+      // Remembered as missing for this processing environment
+      assertNull(Helper.getReflectMethod(processingEnv, loader, getElt));
+      assertNotNull(Helper.getReflectMethod(loader, getElt));
+    });
+    Utils.assertProcess((processingEnv, roundEnv) -> {
+      ExecutableElement getElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.util.List#get(int)");
+      assertNotNull(Helper.getReflectMethod(processingEnv, loader, getElt));
+    });
+  }
+
   @Test
   public void testUnresolveSignatures() throws Exception {
     Utils.assertProcess((processingEnv, roundEnv) -> {
@@ -2,6 +2,7 @@ package io.vertx.test.codegen;
 
 import io.vertx.codegen.ClassModel;
 import io.vertx.codegen.GenException;
+import io.vertx.codegen.ModuleInfo;
 import io.vertx.codegen.ModuleModel;
 import io.vertx.codegen.DataObjectModel;
 import io.vertx.codegen.type.ApiTypeInfo;
@@ -19,6 +20,9 @@ import io.vertx.test.codegen.testmodule.vertx.core.VertxCoreModuleScopedApi;
 import io.vertx.test.codegen.testmodule.vertx.other.VertxOtherModuleScopedApi;
 import org.junit.Test;
 
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.util.Elements;
+
 import static org.junit.Assert.*;
 
 /**
@@ -52,6 +56,24 @@ public class ModuleTest {
     assertEquals("nested", dataObj.getModule().getName());
   }
 
+  @Test
+  public void testResolveModule() throws Exception {
+    Utils.assertProcess((proc, env) -> {
+      Elements elementUtils = proc.getElementUtils();
+      PackageElement modulePkg = elementUtils.getPackageElement("io.vertx.test.codegen.testmodule.modulescoped");
+      PackageElement subPkg = elementUtils.getPackageElement("io.vertx.test.codegen.testmodule.modulescoped.sub");
+      PackageElement noModulePkg = elementUtils.getPackageElement("io.vertx.test.codegen.testmodule.nomodule");
+      ModuleInfo module = ModuleInfo.resolve(elementUtils, subPkg);
+      assertEquals("simple", module.getName());
+      assertSame(module, ModuleInfo.resolve(elementUtils, modulePkg));
+      assertSame(module, ModuleInfo.resolve(elementUtils, subPkg));
+      assertEquals(modulePkg.getQualifiedName(), ModuleInfo.resolveFirstModuleGenAnnotatedPackageElement(elementUtils, subPkg).getQualifiedName());
+      assertNull(ModuleInfo.resolve(elementUtils, noModulePkg));
+      assertNull(ModuleInfo.resolve(elementUtils, noModulePkg));
+      assertNull(ModuleInfo.resolveFirstModuleGenAnnotatedPackageElement(elementUtils, noModulePkg));
+    });
+  }
+
   @Test
   public void testEmptyNameModuleModel() throws Exception {
     try {
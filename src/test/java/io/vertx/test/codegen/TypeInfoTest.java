@@ -1,6 +1,7 @@
 package io.vertx.test.codegen;
 
 import io.vertx.codegen.Helper;
+import io.vertx.codegen.MapperKind;
 import io.vertx.codegen.TypeParamInfo;
 import io.vertx.codegen.testmodel.TestDataObject;
 import io.vertx.codegen.type.*;
@@ -12,12 +13,14 @@ import io.vertx.test.codegen.testtype.*;
 import org.junit.Test;
 
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -296,6 +299,78 @@ public class TypeInfoTest {
     });
   }
 
+  @Test
+  public void testInterning() throws Exception {
+    Utils.assertProcess((proc, env) -> {
+      TypeElement holderElt = proc.getElementUtils().getTypeElement(CollectionHolder.class.getName());
+      TypeMirrorFactory factory = new TypeMirrorFactory(proc.getElementUtils(), proc.getTypeUtils());
+      Map<String, javax.lang.model.type.TypeMirror> returnTypes = holderElt.getEnclosedElements().stream().
+          flatMap(Helper.FILTER_METHOD).
+          collect(Collectors.toMap(m -> m.getSimpleName().toString(), javax.lang.model.element.ExecutableElement::getReturnType));
+      TypeInfo string = factory.create(returnTypes.get("String"));
+      assertSame(string, factory.create(returnTypes.get("String")));
+      ParameterizedTypeInfo listOfString = (ParameterizedTypeInfo) factory.create(returnTypes.get("listOfString"));
+      assertSame(listOfString, factory.create(returnTypes.get("listOfString")));
+      assertSame(string, listOfString.getArg(0));
+      assertSame(factory.create(returnTypes.get("list")), listOfString.getRaw());
+      assertSame(factory.create(returnTypes.get("DataObject")), ((ParameterizedTypeInfo) factory.create(returnTypes.get("listOfDataObject"))).getArg(0));
+      assertNotSame(factory.create(returnTypes.get("listOfClassTypeParam")), factory.create(returnTypes.get("listOfClassTypeParam")));
+      assertEquals(listOfString.toString().hashCode(), listOfString.hashCode());
+    });
+  }
+
+  @Test
+  public void testDeclaredTypeCache() throws Exception {
+    Utils.assertProcess((proc, env) -> {
+      TypeElement holderElt = proc.getElementUtils().getTypeElement(CollectionHolder.class.getName());
+      TypeMirrorFactory factory = new TypeMirrorFactory(proc.getElementUtils(), proc.getTypeUtils());
+      Map<String, javax.lang.model.type.TypeMirror> returnTypes = holderElt.getEnclosedElements().stream().
+          flatMap(Helper.FILTER_METHOD).
+          collect(Collectors.toMap(m -> m.getSimpleName().toString(), javax.lang.model.element.ExecutableElement::getReturnType));
+      TypeInfo enumType = factory.create(returnTypes.get("Enum"));
+      assertSame(enumType, factory.create(returnTypes.get("Enum")));
+      assertSame(enumType, ((ParameterizedTypeInfo) factory.create(returnTypes.get("listOfEnum"))).getArg(0));
+      TypeInfo jsonArray = factory.create(returnTypes.get("JsonArray"));
+      assertSame(jsonArray, factory.create(returnTypes.get("JsonArray")));
+      assertNull(((ClassTypeInfo) jsonArray).getDataObject());
+      MapperInfo mapper = new MapperInfo();
+      mapper.setQualifiedName(JsonArray.class.getName());
+      mapper.setKind(MapperKind.SELF);
+      mapper.setTargetType(factory.create(returnTypes.get("String")));
+      factory.addDataObjectSerializer(holderElt, returnTypes.get("JsonArray"), mapper);
+      ClassTypeInfo mapped = (ClassTypeInfo) factory.create(returnTypes.get("JsonArray"));
+      assertNotSame(jsonArray, mapped);
+      assertSame(mapper, mapped.getDataObject().getSerializer());
+    });
+  }
+
+  @Test
+  public void testDeclaredTypeCacheTypeArguments() throws Exception {
+    Utils.assertProcess((proc, env) -> {
+      TypeElement optionalElt = proc.getElementUtils().getTypeElement(Optional.class.getName());
+      TypeElement stringElt = proc.getElementUtils().getTypeElement(String.class.getName());
+      DeclaredType declared = (DeclaredType) optionalElt.asType();
+      DeclaredType raw = proc.getTypeUtils().getDeclaredType(optionalElt);
+      DeclaredType optionalOfString = proc.getTypeUtils().getDeclaredType(optionalElt, stringElt.asType());
+      TypeMirrorFactory factory = new TypeMirrorFactory(proc.getElementUtils(), proc.getTypeUtils());
+      MapperInfo declaredMapper = new MapperInfo();
+      declaredMapper.setQualifiedName(Optional.class.getName());
+      declaredMapper.setKind(MapperKind.SELF);
+      declaredMapper.setTargetType(factory.create(stringElt.asType()));
+      factory.addDataObjectSerializer(optionalElt, declared, declaredMapper);
+      MapperInfo stringMapper = new MapperInfo();
+      stringMapper.setQualifiedName(Optional.class.getName());
+      stringMapper.setKind(MapperKind.SELF);
+      stringMapper.setTargetType(factory.create(stringElt.asType()));
+      factory.addDataObjectSerializer(optionalElt, optionalOfString, stringMapper);
+      // The raw usage resolves no mapper, it must not be interned with the declared type
+      assertNull(((ClassTypeInfo) factory.create(raw)).getDataObject());
+      assertSame(declaredMapper, ((ClassTypeInfo) factory.create(null, declared, false)).getDataObject().getSerializer());
+      assertSame(stringMapper, ((ClassTypeInfo) factory.create(null, optionalOfString, false)).getDataObject().getSerializer());
+      assertNull(((ClassTypeInfo) factory.create(raw)).getDataObject());
+    });
+  }
+
   @Test
   public void testGetErased() {
     abstract class Container<M> implements AsyncResult<List<M>>  {}
@@ -0,0 +1,212 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class BinaryCodecDataObjectTest {
+
+  private static Buffer encode(TestDataObject obj) {
+    Buffer buffer = Buffer.buffer();
+    TestDataObjectBinaryCodec.writeTo(obj, buffer);
+    return buffer;
+  }
+
+  private static TestDataObject decode(Buffer buffer) {
+    TestDataObject obj = new TestDataObject();
+    assertEquals(buffer.length(), TestDataObjectBinaryCodec.readFrom(buffer, 0, obj));
+    return obj;
+  }
+
+  private static JsonObject toJsonObject(TestDataObject obj) {
+    JsonObject json = new JsonObject();
+    TestDataObjectConverter.toJson(obj, json);
+    return json;
+  }
+
+  @Test
+  public void testRoundTrip() {
+    String key = TestUtils.randomAlphaString(10);
+    String stringValue = TestUtils.randomAlphaString(20);
+    Buffer buffer = TestUtils.randomBuffer(20);
+    JsonObject jsonObject = new JsonObject().put("wibble", TestUtils.randomAlphaString(20)).put("nested", new JsonArray().add(3).add(true).add(null));
+    JsonArray jsonArray = new JsonArray().add(TestUtils.randomAlphaString(20)).add(new JsonObject().put("foo", 4L).put("bar", 1.5D));
+    TimeUnit httpMethod = TimeUnit.values()[TestUtils.randomPositiveInt() % TimeUnit.values().length];
+    ZonedDateTime methodMapped = ZonedDateTime.now();
+    NestedJsonObjectDataObject jsonObjectDataObject = new NestedJsonObjectDataObject().setValue(TestUtils.randomAlphaString(20));
+    NestedStringDataObject stringDataObject = new NestedStringDataObject().setValue(TestUtils.randomAlphaString(20));
+    Map<String, Object> map = new HashMap<>();
+    map.put(TestUtils.randomAlphaString(10), TestUtils.randomAlphaString(20));
+    map.put(TestUtils.randomAlphaString(10), TestUtils.randomBoolean());
+    map.put(TestUtils.randomAlphaString(10), TestUtils.randomInt());
+
+    JsonObject json = new JsonObject();
+    json.put("string", stringValue);
+    json.put("primitiveBoolean", TestUtils.randomBoolean());
+    json.put("primitiveByte", TestUtils.randomByte());
+    json.put("primitiveShort", TestUtils.randomShort());
+    json.put("primitiveInt", TestUtils.randomInt());
+    json.put("primitiveLong", TestUtils.randomLong());
+    json.put("primitiveFloat", TestUtils.randomFloat());
+    json.put("primitiveDouble", TestUtils.randomDouble());
+    json.put("primitiveChar", Character.toString(TestUtils.randomChar()));
+    json.put("boxedBoolean", TestUtils.randomBoolean());
+    json.put("boxedByte", TestUtils.randomByte());
+    json.put("boxedShort", TestUtils.randomShort());
+    json.put("boxedInt", TestUtils.randomInt());
+    json.put("boxedLong", TestUtils.randomLong());
+    json.put("boxedFloat", TestUtils.randomFloat());
+    json.put("boxedDouble", TestUtils.randomDouble());
+    json.put("boxedChar", Character.toString(TestUtils.randomChar()));
+    json.put("jsonObjectDataObject", jsonObjectDataObject.toJson());
+    json.put("stringDataObject", stringDataObject.toJson());
+    json.put("buffer", Base64.getEncoder().encodeToString(buffer.getBytes()));
+    json.put("jsonObject", jsonObject);
+    json.put("jsonArray", jsonArray);
+    json.put("httpMethod", httpMethod.name());
+    json.put("methodMapped", methodMapped.toString());
+    json.put("stringList", new JsonArray().add(stringValue));
+    json.put("boxedIntList", new JsonArray().add(TestUtils.randomInt()));
+    json.put("jsonObjectDataObjectList", new JsonArray().add(jsonObjectDataObject.toJson()));
+    json.put("httpMethodList", new JsonArray().add(httpMethod.name()));
+    json.put("methodMappedList", new JsonArray().add(methodMapped.toString()));
+    json.put("objectList", new JsonArray().add(stringValue).add(true).add(4));
+    json.put("boxedLongSet", new JsonArray().add(TestUtils.randomLong()));
+    json.put("stringDataObjectSet", new JsonArray().add(stringDataObject.toJson()));
+    json.put("addedStringValues", new JsonArray().add(stringValue));
+    json.put("addedBoxedCharValues", new JsonArray().add(Character.toString(TestUtils.randomChar())));
+    json.put("addedJsonArrays", new JsonArray().add(jsonArray));
+    json.put("stringValueMap", new JsonObject().put(key, stringValue));
+    json.put("boxedFloatValueMap", new JsonObject().put(key, TestUtils.randomFloat()));
+    json.put("jsonObjectDataObjectMap", new JsonObject().put(key, jsonObjectDataObject.toJson()));
+    json.put("objectMap", new JsonObject(map));
+    json.put("keyedBoxedShortValues", new JsonObject().put(key, TestUtils.randomShort()));
+    json.put("keyedEnumValues", new JsonObject().put(key, httpMethod.name()));
+    json.put("keyedObjectValues", new JsonObject(map));
+
+    TestDataObject expected = new TestDataObject();
+    TestDataObjectConverter.fromJson(json, expected);
+
+    TestDataObject obj = decode(encode(expected));
+    assertEquals(toJsonObject(expected), toJsonObject(obj));
+    assertEquals(buffer, obj.getBuffer());
+    assertEquals(jsonObject, obj.getJsonObject());
+    assertEquals(jsonArray, obj.getJsonArray());
+    assertEquals(methodMapped, obj.getMethodMapped());
+    assertEquals(Arrays.asList(stringValue, true, 4), obj.getObjectList());
+    assertEquals(map, obj.getObjectMap());
+  }
+
+  @Test
+  public void testEmpty() {
+    TestDataObject expected = new TestDataObject();
+    TestDataObject obj = decode(encode(expected));
+    assertEquals(toJsonObject(expected), toJsonObject(obj));
+    assertNull(obj.getString());
+    assertNull(obj.getBoxedInt());
+    assertNull(obj.getStringList());
+  }
+
+  @Test
+  public void testReadFromPosition() {
+    TestDataObject first = new TestDataObject().setString("first").setPrimitiveInt(1);
+    TestDataObject second = new TestDataObject().setString("second").setPrimitiveInt(2);
+    Buffer buffer = Buffer.buffer();
+    TestDataObjectBinaryCodec.writeTo(first, buffer);
+    TestDataObjectBinaryCodec.writeTo(second, buffer);
+    TestDataObject obj = new TestDataObject();
+    int pos = TestDataObjectBinaryCodec.readFrom(buffer, 0, obj);
+    assertEquals("first", obj.getString());
+    assertEquals(1, obj.getPrimitiveInt());
+    obj = new TestDataObject();
+    assertEquals(buffer.length(), TestDataObjectBinaryCodec.readFrom(buffer, pos, obj));
+    assertEquals("second", obj.getString());
+    assertEquals(2, obj.getPrimitiveInt());
+  }
+
+  @Test
+  public void testVarints() {
+    int smallSize = encode(new TestDataObject().setPrimitiveInt(-1)).length();
+    assertEquals(smallSize + 4, encode(new TestDataObject().setPrimitiveInt(Integer.MIN_VALUE)).length());
+    for (int value : new int[] { 0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+      assertEquals(value, decode(encode(new TestDataObject().setPrimitiveInt(value))).getPrimitiveInt());
+    }
+    for (long value : new long[] { 0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE }) {
+      assertEquals(value, decode(encode(new TestDataObject().setPrimitiveLong(value))).getPrimitiveLong());
+    }
+    for (short value : new short[] { Short.MAX_VALUE, Short.MIN_VALUE }) {
+      assertEquals(value, decode(encode(new TestDataObject().setPrimitiveShort(value))).getPrimitiveShort());
+    }
+    assertEquals(Character.MAX_VALUE, decode(encode(new TestDataObject().setPrimitiveChar(Character.MAX_VALUE))).getPrimitiveChar());
+  }
+
+  @Test
+  public void testBuffer() {
+    Buffer buffer = TestUtils.randomBuffer(100_000);
+    TestDataObject expected = new TestDataObject().setBuffer(buffer).setString("foo");
+    Buffer encoded = encode(expected);
+    // The buffer bytes are written as is after their varint length
+    assertEquals(encode(new TestDataObject().setString("foo")).length() + 3 + buffer.length(), encoded.length());
+    TestDataObject obj = decode(encoded);
+    assertEquals(buffer, obj.getBuffer());
+    assertEquals("foo", obj.getString());
+  }
+
+  @Test
+  public void testJsonValueTypes() {
+    BigInteger bigInteger = new BigInteger("123456789012345678901234567890");
+    BigDecimal bigDecimal = new BigDecimal("-12345678901234567890.0123456789");
+    Buffer buffer = TestUtils.randomBuffer(20);
+    byte[] bytes = TestUtils.randomBuffer(20).getBytes();
+    JsonObject json = new JsonObject()
+      .put("bigInteger", bigInteger)
+      .put("bigDecimal", bigDecimal)
+      .put("buffer", buffer)
+      .put("bytes", bytes);
+    JsonObject copy = decode(encode(new TestDataObject().setJsonObject(json))).getJsonObject();
+    assertEquals(bigInteger, copy.getValue("bigInteger"));
+    assertEquals(bigDecimal, copy.getValue("bigDecimal"));
+    assertEquals(buffer, copy.getValue("buffer"));
+    assertArrayEquals(bytes, (byte[]) copy.getValue("bytes"));
+  }
+
+  @Test
+  public void testSchemaMismatch() {
+    Buffer encoded = encode(new TestDataObject().setString("foo"));
+    Buffer altered = Buffer.buffer().appendByte((byte) (encoded.getByte(0) ^ 1)).appendBuffer(encoded.getBuffer(1, encoded.length()));
+    try {
+      TestDataObjectBinaryCodec.readFrom(altered, 0, new TestDataObject());
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  @Test
+  public void testNullElements() {
+    TestDataObject expected = new TestDataObject();
+    expected.setStringList(Arrays.asList("foo", null, "bar"));
+    Map<String, Integer> map = new HashMap<>();
+    map.put("foo", 3);
+    map.put("bar", null);
+    expected.setBoxedIntValueMap(map);
+    TestDataObject obj = decode(encode(expected));
+    assertEquals(Arrays.asList("foo", "bar"), obj.getStringList());
+    assertEquals(1, obj.getBoxedIntValueMap().size());
+    assertEquals(3, (int) obj.getBoxedIntValueMap().get("foo"));
+  }
+}
@@ -0,0 +1,247 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.CodeGenProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * A data object converter generated with the processor options of a test, e.g the optional generation modes of
+ * {@code DataObjectHelperGen}, instead of the options of the converters fixtures build.
+ * <p/>
+ * The converter is compiled in a temporary directory and loaded by its own class loader with the other generated
+ * classes, e.g the binary codec of the data object. The converted data object is the class of the test classpath
+ * when it exists, so a test creates and checks data objects as usual and invokes the converter reflectively.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class CompiledConverter {
+
+  private static final Map<List<String>, File[]> fixtures = new HashMap<>();
+
+  /**
+   * @return the directory of the converters fixtures sources
+   */
+  public static File fixtures() {
+    File basedir = new File(System.getProperty("codegen.basedir", "."));
+    return new File(basedir, "src/converters");
+  }
+
+  /**
+   * Compile the converter of a data object of the converters fixtures, the converters of the fixtures package are
+   * compiled once per {@code options}.
+   *
+   * @param dataObject the data object class
+   * @param options the processor options
+   * @return the converter
+   */
+  public static synchronized CompiledConverter of(Class<?> dataObject, String... options) {
+    File[] outputs = fixtures.computeIfAbsent(Arrays.asList(options), k -> {
+      File dir = new File(fixtures(), "java/" + dataObject.getPackage().getName().replace('.', '/'));
+      File[] sources = dir.listFiles((d, name) -> name.endsWith(".java"));
+      assertNotNull(sources);
+      // Exclude the fixtures classes of the test classpath, otherwise the processor does not generate existing converters
+      String pkg = dataObject.getPackage().getName().replace('.', File.separatorChar);
+      List<File> classpath = classpath().stream()
+        .filter(entry -> !new File(entry, pkg).isDirectory())
+        .collect(Collectors.toList());
+      classpath.add(new File(fixtures(), "resources"));
+      return compile(classpath, options, sources);
+    });
+    return load(outputs[0], outputs[1], dataObject.getName());
+  }
+
+  /**
+   * Compile the converter of a data object.
+   *
+   * @param dataObject the data object class name
+   * @param options the processor options
+   * @param sources the sources to compile
+   * @return the converter
+   */
+  public static CompiledConverter compile(String dataObject, String[] options, File... sources) {
+    File[] outputs = compile(classpath(), options, sources);
+    return load(outputs[0], outputs[1], dataObject);
+  }
+
+  private static List<File> classpath() {
+    return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+      .map(File::new)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Compile the {@code sources} with the processor, the class path is set on the file manager since the
+   * {@code -classpath} option is not applied by the Java 8 compiler once the file manager locations are set.
+   *
+   * @return the class output and the source output directories
+   */
+  private static File[] compile(List<File> classpath, String[] options, File... sources) {
+    List<String> args = new ArrayList<>();
+    if (Arrays.stream(options).noneMatch(option -> option.startsWith("-Acodegen.generators="))) {
+      args.add("-Acodegen.generators=data_object_converters");
+    }
+    args.addAll(Arrays.asList(options));
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fm = compiler.getStandardFileManager(diagnostics, null, null)) {
+      File classOutput = Files.createTempDirectory("codegen").toFile();
+      File sourceOutput = Files.createTempDirectory("codegen").toFile();
+      fm.setLocation(StandardLocation.CLASS_PATH, classpath);
+      fm.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classOutput));
+      fm.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(sourceOutput));
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fm, diagnostics, args, null, fm.getJavaFileObjects(sources));
+      task.setProcessors(Collections.singletonList(new CodeGenProcessor()));
+      boolean compiled = task.call();
+      assertTrue(diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+        .map(Object::toString)
+        .collect(Collectors.joining("\n")), compiled);
+      return new File[] { classOutput, sourceOutput };
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static CompiledConverter load(File classOutput, File sourceOutput, String dataObject) {
+    try {
+      return new CompiledConverter(new GeneratedClassLoader(classOutput, sourceOutput).loadClass(dataObject + "Converter"));
+    } catch (Exception e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private final Class<?> type;
+
+  private CompiledConverter(Class<?> type) {
+    this.type = type;
+  }
+
+  /**
+   * @return the converter class
+   */
+  public Class<?> type() {
+    return type;
+  }
+
+  /**
+   * @return the class generated for the data object with the {@code suffix}, e.g {@code BinaryCodec}
+   */
+  public Class<?> generated(String suffix) throws ClassNotFoundException {
+    return type.getClassLoader().loadClass(type.getName().substring(0, type.getName().length() - "Converter".length()) + suffix);
+  }
+
+  /**
+   * Invoke a static method of the converter.
+   */
+  public Object invoke(String name, Object... args) throws Exception {
+    return invoke(type, null, name, args);
+  }
+
+  /**
+   * Invoke a public method of an object created by the converter, e.g its decoder.
+   */
+  public static Object call(Object target, String name, Object... args) throws Exception {
+    return invoke(target.getClass(), target, name, args);
+  }
+
+  private static Object invoke(Class<?> type, Object target, String name, Object... args) throws Exception {
+    for (Method method : type.getMethods()) {
+      if (method.getName().equals(name) && Modifier.isStatic(method.getModifiers()) == (target == null) && isApplicable(method, args)) {
+        method.setAccessible(true);
+        try {
+          return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Exception) {
+            throw (Exception) cause;
+          }
+          throw (Error) cause;
+        }
+      }
+    }
+    throw new NoSuchMethodException(type.getName() + "#" + name);
+  }
+
+  private static boolean isApplicable(Method method, Object[] args) {
+    Class<?>[] types = method.getParameterTypes();
+    if (types.length != args.length) {
+      return false;
+    }
+    for (int i = 0; i < types.length; i++) {
+      if (types[i].isPrimitive() ? args[i] == null : args[i] != null && !types[i].isInstance(args[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Loads the generated classes, i.e having their source in the source output, from the class output before the
+   * parent class loader, the other classes of the class output are only loaded when the parent class loader does not
+   * have them.
+   */
+  private static class GeneratedClassLoader extends URLClassLoader {
+
+    private final File sourceOutput;
+
+    GeneratedClassLoader(File classOutput, File sourceOutput) throws MalformedURLException {
+      super(new URL[]{classOutput.toURI().toURL()}, CompiledConverter.class.getClassLoader());
+      this.sourceOutput = sourceOutput;
+    }
+
+    private boolean isGenerated(String name) {
+      int nested = name.indexOf('$');
+      String topLevel = nested >= 0 ? name.substring(0, nested) : name;
+      return new File(sourceOutput, topLevel.replace('.', '/') + ".java").isFile();
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (isGenerated(name)) {
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> clazz = findLoadedClass(name);
+          if (clazz == null) {
+            clazz = findClass(name);
+          }
+          if (resolve) {
+            resolveClass(clazz);
+          }
+          return clazz;
+        }
+      }
+      return super.loadClass(name, resolve);
+    }
+
+    @Override
+    public URL getResource(String name) {
+      if (name.endsWith(".class") && isGenerated(name.substring(0, name.length() - 6).replace('/', '.'))) {
+        return findResource(name);
+      }
+      return super.getResource(name);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.json.ConverterRegistry;
+import io.vertx.codegen.json.JsonCodec;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class ConverterRegistryTest {
+
+  private final ConverterRegistry registry = new VertxConverterRegistry();
+
+  @SuppressWarnings("unchecked")
+  private <T, J> JsonCodec<T, J> codec(Class<T> type) {
+    JsonCodec<T, J> codec = (JsonCodec<T, J>) registry.getCodecs().get(type);
+    assertNotNull("No codec for " + type.getName(), codec);
+    assertSame(type, codec.getType());
+    return codec;
+  }
+
+  @Test
+  public void testModule() {
+    assertEquals("vertx", registry.getModuleName());
+    assertFalse(registry.getCodecs().containsKey(ChildInheritingDataObjectConverter.class));
+  }
+
+  @Test
+  public void testDataObject() {
+    JsonCodec<TestDataObject, JsonObject> codec = codec(TestDataObject.class);
+    assertSame(JsonObject.class, codec.getJsonType());
+    assertNotNull(codec.decode(new JsonObject()));
+    assertEquals("the_string", codec.encode(new TestDataObject().setString("the_string")).getValue("string"));
+  }
+
+  @Test
+  public void testStringDataObject() {
+    JsonCodec<NestedStringDataObject, String> codec = codec(NestedStringDataObject.class);
+    assertSame(String.class, codec.getJsonType());
+    NestedStringDataObject obj = codec.decode("the_value");
+    assertEquals("the_value", obj.getValue());
+    assertEquals("the_value", codec.encode(obj));
+  }
+
+  @Test
+  public void testDecodeWithConverter() {
+    JsonCodec<ConverterGeneratesDeserializerWithFromJsonDataObject, JsonObject> codec = codec(ConverterGeneratesDeserializerWithFromJsonDataObject.class);
+    assertEquals(4, codec.decode(new JsonObject().put("a", 4)).getA());
+    assertEquals(new JsonObject().put("hello", "francesco"), codec.encode(new ConverterGeneratesDeserializerWithFromJsonDataObject()));
+  }
+
+  @Test
+  public void testNotEncodable() {
+    JsonCodec<NoConverterDataObject, JsonObject> codec = codec(NoConverterDataObject.class);
+    assertTrue(codec.isDecodable());
+    assertFalse(codec.isEncodable());
+    try {
+      codec.encode(new NoConverterDataObject());
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+  }
+
+  @Test
+  public void testEnum() {
+    JsonCodec<TimeUnit, String> codec = codec(TimeUnit.class);
+    assertSame(TimeUnit.SECONDS, codec.decode("SECONDS"));
+    assertEquals("HOURS", codec.encode(TimeUnit.HOURS));
+  }
+
+  @Test
+  public void testJsonMapper() {
+    JsonCodec<ZonedDateTime, String> codec = codec(ZonedDateTime.class);
+    ZonedDateTime dateTime = ZonedDateTime.now();
+    assertEquals(dateTime, codec.decode(codec.encode(dateTime)));
+  }
+}
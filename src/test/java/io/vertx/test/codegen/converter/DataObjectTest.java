@@ -783,6 +783,22 @@ public class DataObjectTest {
     assertEquals(expectedJson, json);
   }
 
+  @Test
+  public void testUnknownPropertyNames() {
+    JsonObject json = new JsonObject();
+    json.put("strinG", "foo");
+    json.put("bufferMaP", "foo");
+    json.put("boxedint", 3);
+    json.put("", 3);
+    json.put("primitiveInt", 4);
+    TestDataObject obj = new TestDataObject();
+    TestDataObjectConverter.fromJson(json, obj);
+    assertNull(obj.getString());
+    assertNull(obj.getBufferMap());
+    assertNull(obj.getBoxedInt());
+    assertEquals(4, obj.getPrimitiveInt());
+  }
+
   private String toBase64(Buffer buffer) {
     return Base64.getEncoder().encodeToString(buffer.getBytes());
   }
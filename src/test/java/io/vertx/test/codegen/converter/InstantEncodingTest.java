@@ -0,0 +1,190 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class InstantEncodingTest {
+
+  private static final List<Instant> EDGE_CASES = Arrays.asList(
+    Instant.EPOCH,
+    Instant.ofEpochSecond(-1L),
+    Instant.ofEpochSecond(-1L, 999_999_999),
+    Instant.parse("0000-01-01T00:00:00Z"),
+    Instant.parse("0000-02-29T12:30:45.5Z"),
+    Instant.parse("1600-03-01T00:00:00Z"),
+    Instant.parse("1900-02-28T23:59:59.999Z"),
+    Instant.parse("1969-12-31T23:59:59.123456Z"),
+    Instant.parse("2000-02-29T00:00:00.000000001Z"),
+    Instant.parse("2024-12-31T23:59:59.120Z"),
+    Instant.parse("9999-12-31T23:59:59.999999999Z"),
+    Instant.parse("-0001-12-31T23:59:59Z"),
+    Instant.parse("+10000-01-01T00:00:00Z"),
+    Instant.MIN,
+    Instant.MAX
+  );
+
+  /**
+   * @return edge cases and random instants with the fraction digits of the different ISO-8601 layouts
+   */
+  public static List<Instant> instants() {
+    List<Instant> instants = new ArrayList<>(EDGE_CASES);
+    Random random = new Random(0);
+    long min = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond();
+    long max = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+    for (int i = 0; i < 10000; i++) {
+      long seconds = min + (long) (random.nextDouble() * (max - min));
+      int nanos;
+      switch (i % 4) {
+        case 0:
+          nanos = 0;
+          break;
+        case 1:
+          nanos = random.nextInt(1000) * 1_000_000;
+          break;
+        case 2:
+          nanos = random.nextInt(1_000_000) * 1_000;
+          break;
+        default:
+          nanos = random.nextInt(1_000_000_000);
+          break;
+      }
+      instants.add(Instant.ofEpochSecond(seconds, nanos));
+    }
+    return instants;
+  }
+
+  @Test
+  public void testEpochMillis() throws Exception {
+    Instant instant = Instant.ofEpochMilli(1_700_000_000_123L);
+    InstantDataObject obj = new InstantDataObject().setMillis(instant).setMillisList(Arrays.asList(instant, Instant.EPOCH));
+    JsonObject json = new JsonObject();
+    InstantDataObjectConverter.toJson(obj, json);
+    assertEquals(1_700_000_000_123L, json.getValue("millis"));
+    assertEquals(Arrays.asList(1_700_000_000_123L, 0L), toList(json.getValue("millisList")));
+    InstantDataObject copy = new InstantDataObject();
+    InstantDataObjectConverter.fromJson(json, copy);
+    assertEquals(instant, copy.getMillis());
+    assertEquals(Arrays.asList(instant, Instant.EPOCH), copy.getMillisList());
+  }
+
+  @Test
+  public void testEpochNanos() throws Exception {
+    Instant instant = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+    InstantDataObject obj = new InstantDataObject().setNanos(instant);
+    JsonObject json = new JsonObject();
+    InstantDataObjectConverter.toJson(obj, json);
+    assertEquals(1_700_000_000_123_456_789L, json.getValue("nanos"));
+    InstantDataObject copy = new InstantDataObject();
+    InstantDataObjectConverter.fromJson(json, copy);
+    assertEquals(instant, copy.getNanos());
+    Instant before = Instant.ofEpochSecond(-10L, 1);
+    json = new JsonObject();
+    InstantDataObjectConverter.toJson(new InstantDataObject().setNanos(before), json);
+    copy = new InstantDataObject();
+    InstantDataObjectConverter.fromJson(json, copy);
+    assertEquals(before, copy.getNanos());
+  }
+
+  @Test
+  public void testEpochNanosOverflow() {
+    try {
+      InstantDataObjectConverter.toJson(new InstantDataObject().setNanos(Instant.MAX), new JsonObject());
+      fail();
+    } catch (ArithmeticException ignore) {
+    }
+  }
+
+  @Test
+  public void testIsoFormat() throws Exception {
+    for (Instant instant : instants()) {
+      JsonObject json = new JsonObject();
+      InstantDataObjectConverter.toJson(new InstantDataObject().setIso(instant), json);
+      String expected = DateTimeFormatter.ISO_INSTANT.format(instant);
+      assertEquals(expected, json.getValue("iso"));
+    }
+  }
+
+  @Test
+  public void testIsoParse() throws Exception {
+    for (Instant instant : instants()) {
+      String text = DateTimeFormatter.ISO_INSTANT.format(instant);
+      InstantDataObject obj = new InstantDataObject();
+      InstantDataObjectConverter.fromJson(new JsonObject().put("iso", text), obj);
+      assertEquals(instant, obj.getIso());
+    }
+  }
+
+  @Test
+  public void testIsoParseFractionDigits() {
+    Instant expected = Instant.parse("2021-06-15T10:20:30.120Z");
+    for (String text : Arrays.asList("2021-06-15T10:20:30.12Z", "2021-06-15T10:20:30.120Z", "2021-06-15T10:20:30.1200Z", "2021-06-15T10:20:30.120000000Z")) {
+      InstantDataObject obj = new InstantDataObject();
+      InstantDataObjectConverter.fromJson(new JsonObject().put("iso", text), obj);
+      assertEquals(text, expected, obj.getIso());
+    }
+  }
+
+  @Test
+  public void testIsoParseFallback() {
+    // Lower case separators, offsets and years outside the fixed layout are parsed by DateTimeFormatter
+    assertIsoParse(Instant.parse("2021-06-15T10:20:30Z"), "2021-06-15t10:20:30z");
+    assertIsoParse(Instant.parse("+12345-06-15T10:20:30Z"), "+12345-06-15T10:20:30Z");
+    assertIsoParse(Instant.parse("2021-06-15T08:20:30Z"), "2021-06-15T10:20:30+02:00");
+  }
+
+  @Test
+  public void testIsoParseInvalid() {
+    for (String text : Arrays.asList("2021-02-30T10:20:30Z", "2021-13-15T10:20:30Z", "2021-06-15T25:20:30Z", "2021-06-15T10:20:3aZ", "2021-06-15")) {
+      try {
+        InstantDataObjectConverter.fromJson(new JsonObject().put("iso", text), new InstantDataObject());
+        fail(text);
+      } catch (java.time.format.DateTimeParseException ignore) {
+      }
+    }
+  }
+
+  @Test
+  public void testIsoList() throws Exception {
+    List<Instant> instants = Arrays.asList(Instant.parse("2021-06-15T10:20:30Z"), Instant.parse("1921-06-15T10:20:30.5Z"));
+    InstantDataObject obj = new InstantDataObject().setIsoList(instants);
+    JsonObject json = new JsonObject();
+    InstantDataObjectConverter.toJson(obj, json);
+    assertEquals(Arrays.asList("2021-06-15T10:20:30Z", "1921-06-15T10:20:30.500Z"), toList(json.getValue("isoList")));
+    InstantDataObject copy = new InstantDataObject();
+    InstantDataObjectConverter.fromJson(json, copy);
+    assertEquals(instants, copy.getIsoList());
+  }
+
+  @Test
+  public void testWrongJsonType() {
+    InstantDataObject obj = new InstantDataObject();
+    InstantDataObjectConverter.fromJson(new JsonObject().put("millis", "2021-06-15T10:20:30Z").put("iso", 3L), obj);
+    assertNull(obj.getMillis());
+    assertNull(obj.getIso());
+  }
+
+  private static List<Object> toList(Object array) {
+    List<Object> list = new ArrayList<>();
+    ((JsonArray) array).forEach(list::add);
+    return list;
+  }
+
+  private static void assertIsoParse(Instant expected, String text) {
+    InstantDataObject obj = new InstantDataObject();
+    InstantDataObjectConverter.fromJson(new JsonObject().put("iso", text), obj);
+    assertEquals(expected, obj.getIso());
+  }
+}
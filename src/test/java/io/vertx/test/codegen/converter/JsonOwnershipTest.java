@@ -0,0 +1,78 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.testmodel.DataObjectWithJsonOwnership;
+import io.vertx.codegen.testmodel.DataObjectWithJsonOwnershipConverter;
+import io.vertx.codegen.testmodel.DataObjectWithValues;
+import io.vertx.codegen.testmodel.DataObjectWithValuesConverter;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class JsonOwnershipTest {
+
+  @Test
+  public void testTransferOwnership() {
+    JsonObject jsonObject = new JsonObject().put("foo", "bar");
+    JsonArray jsonArray = new JsonArray().add("foo").add(3);
+    JsonObject first = new JsonObject().put("index", 0);
+    JsonObject second = new JsonObject().put("index", 1);
+    JsonArray mapped = new JsonArray().add(true);
+    JsonObject json = new JsonObject()
+      .put("jsonObjectValue", jsonObject)
+      .put("jsonArrayValue", jsonArray)
+      .put("jsonObjectValues", new JsonArray().add(first).add(second))
+      .put("jsonArrayValueMap", new JsonObject().put("key", mapped));
+    DataObjectWithJsonOwnership obj = new DataObjectWithJsonOwnership();
+    DataObjectWithJsonOwnershipConverter.fromJson(json, obj);
+    assertSame(jsonObject, obj.getJsonObjectValue());
+    assertSame(jsonArray, obj.getJsonArrayValue());
+    assertEquals(2, obj.getJsonObjectValues().size());
+    assertSame(first, obj.getJsonObjectValues().get(0));
+    assertSame(second, obj.getJsonObjectValues().get(1));
+    assertSame(mapped, obj.getJsonArrayValueMap().get("key"));
+  }
+
+  @Test
+  public void testTransferOwnershipOverride() {
+    JsonObject copied = new JsonObject().put("foo", "bar");
+    DataObjectWithJsonOwnership obj = new DataObjectWithJsonOwnership(new JsonObject().put("copiedJsonObjectValue", copied));
+    assertNotSame(copied, obj.getCopiedJsonObjectValue());
+    assertEquals(copied, obj.getCopiedJsonObjectValue());
+    copied.put("foo", "juu");
+    assertEquals("bar", obj.getCopiedJsonObjectValue().getValue("foo"));
+  }
+
+  @Test
+  public void testRoundTrip() {
+    DataObjectWithJsonOwnership expected = new DataObjectWithJsonOwnership()
+      .setJsonObjectValue(new JsonObject().put("foo", "bar"))
+      .setJsonArrayValue(new JsonArray().add(1))
+      .setJsonObjectValues(Arrays.asList(new JsonObject().put("index", 0)))
+      .setCopiedJsonObjectValue(new JsonObject().put("juu", 4));
+    DataObjectWithJsonOwnership obj = new DataObjectWithJsonOwnership(expected.toJson());
+    assertEquals(expected.getJsonObjectValue(), obj.getJsonObjectValue());
+    assertEquals(expected.getJsonArrayValue(), obj.getJsonArrayValue());
+    assertEquals(expected.getJsonObjectValues(), obj.getJsonObjectValues());
+    assertEquals(expected.getCopiedJsonObjectValue(), obj.getCopiedJsonObjectValue());
+  }
+
+  @Test
+  public void testCopyByDefault() {
+    JsonObject jsonObject = new JsonObject().put("foo", "bar");
+    JsonArray jsonArray = new JsonArray().add("foo");
+    DataObjectWithValues obj = new DataObjectWithValues();
+    DataObjectWithValuesConverter.fromJson(new JsonObject().put("jsonObjectValue", jsonObject).put("jsonArrayValue", jsonArray), obj);
+    JsonObject json = obj.toJson();
+    assertNotSame(jsonObject, json.getValue("jsonObjectValue"));
+    assertEquals(jsonObject, json.getValue("jsonObjectValue"));
+    assertNotSame(jsonArray, json.getValue("jsonArrayValue"));
+    assertEquals(jsonArray, json.getValue("jsonArrayValue"));
+  }
+}
@@ -0,0 +1,240 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.testmodel.DataObjectWithMapsConverter;
+import io.vertx.codegen.testmodel.DataObjectWithValuesConverter;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check the generated methods are compiled by the JIT, i.e they are not larger than the HotSpot
+ * {@code HugeMethodLimit}.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class MethodSizeTest {
+
+  private static final int HUGE_METHOD_LIMIT = 8000;
+
+  private static final String LARGE_DATA_OBJECT = "io.vertx.test.codegen.converter.large.LargeDataObject";
+
+  @Test
+  public void testConverter() throws Exception {
+    Map<String, Integer> sizes = assertMethodSizes(TestDataObjectConverter.class);
+    // TestDataObject is large enough to be split
+    assertTrue(sizes.containsKey("toJson0"));
+    assertTrue(sizes.containsKey("fromJson0"));
+  }
+
+  @Test
+  public void testConverterModes() throws Exception {
+    CompiledConverter converter = CompiledConverter.of(TestDataObject.class,
+      "-Acodegen.data_object_converters.streaming=true",
+      "-Acodegen.data_object_converters.specialized_primitives=true",
+      "-Acodegen.data_object_converters.indexed_dispatch=true",
+      "-Acodegen.data_object_converters.decoder=true");
+    Map<String, Integer> sizes = assertMethodSizes(converter.type());
+    assertTrue(sizes.containsKey("toJson0"));
+    assertTrue(sizes.containsKey("fromJson0"));
+  }
+
+  @Test
+  public void testLargeDataObject() throws Exception {
+    CompiledConverter converter = compileLargeDataObject(100, 400);
+    Map<String, Integer> sizes = assertMethodSizes(converter.type());
+    // The property names are dispatched per length
+    assertTrue(sizes.containsKey("propertyIndex8"));
+    assertTrue(sizes.containsKey("propertyIndex8_0"));
+    assertTrue(sizes.containsKey("fromJson0"));
+    sizes = assertMethodSizes(converter.generated("BinaryCodec"));
+    assertTrue(sizes.containsKey("writeTo0"));
+    assertTrue(sizes.containsKey("readFrom0"));
+    // The split dispatch resolves the inherited and the declared properties
+    JsonObject json = new JsonObject();
+    Map<String, Integer> expected = new LinkedHashMap<>();
+    for (int i = 0;i < 400;i++) {
+      if (i < 100) {
+        expected.put("parentValue" + i, -i);
+      }
+      expected.put("value" + i, i);
+    }
+    expected.forEach(json::put);
+    json.put("value400", 400);
+    json.put("valuf100", 100);
+    json.put("parentValue100", 100);
+    Object obj = converter.type().getClassLoader().loadClass(LARGE_DATA_OBJECT).getConstructor().newInstance();
+    converter.invoke("fromJson", json, obj);
+    assertEquals(expected, CompiledConverter.call(obj, "values"));
+  }
+
+  @Test
+  public void testBinaryCodec() throws Exception {
+    Map<String, Integer> sizes = assertMethodSizes(TestDataObjectBinaryCodec.class);
+    assertTrue(sizes.containsKey("writeTo0"));
+    assertTrue(sizes.containsKey("readFrom0"));
+  }
+
+  @Test
+  public void testSmallConverter() throws Exception {
+    for (Class<?> converter : new Class<?>[] { DataObjectWithValuesConverter.class, DataObjectWithMapsConverter.class }) {
+      Map<String, Integer> sizes = assertMethodSizes(converter);
+      assertFalse(sizes.containsKey("toJson0"));
+      assertFalse(sizes.containsKey("fromJson0"));
+    }
+  }
+
+  /**
+   * Generate and compile a data object with a parent, both having many {@code int} properties, with its converter
+   * and its binary codec.
+   */
+  private static CompiledConverter compileLargeDataObject(int parentProperties, int properties) throws IOException {
+    File dir = Files.createTempDirectory("codegen").toFile();
+    File pkg = new File(dir, LARGE_DATA_OBJECT.substring(0, LARGE_DATA_OBJECT.lastIndexOf('.')).replace('.', '/'));
+    assertTrue(pkg.mkdirs());
+    File packageInfo = new File(pkg, "package-info.java");
+    try (PrintWriter writer = new PrintWriter(packageInfo)) {
+      writer.println("@io.vertx.codegen.annotations.ModuleGen(name = \"vertx-large\", groupPackage = \"io.vertx.test\")");
+      writer.println("package io.vertx.test.codegen.converter.large;");
+    }
+    File parent = new File(pkg, "LargeParentDataObject.java");
+    try (PrintWriter writer = new PrintWriter(parent)) {
+      writer.println("package io.vertx.test.codegen.converter.large;");
+      writer.println("@io.vertx.codegen.annotations.DataObject");
+      writer.println("public class LargeParentDataObject {");
+      writer.println("  protected final java.util.Map<String, Integer> values = new java.util.LinkedHashMap<>();");
+      writer.println("  public LargeParentDataObject() { }");
+      writer.println("  public LargeParentDataObject(io.vertx.core.json.JsonObject json) { }");
+      writer.println("  public java.util.Map<String, Integer> values() { return values; }");
+      printProperties(writer, "ParentValue", "parentValue", parentProperties);
+      writer.println("}");
+    }
+    File child = new File(pkg, "LargeDataObject.java");
+    try (PrintWriter writer = new PrintWriter(child)) {
+      writer.println("package io.vertx.test.codegen.converter.large;");
+      writer.println("@io.vertx.codegen.annotations.DataObject(generateConverter = true, generateBinaryCodec = true, inheritConverter = true)");
+      writer.println("public class LargeDataObject extends LargeParentDataObject {");
+      writer.println("  public LargeDataObject() { }");
+      writer.println("  public LargeDataObject(io.vertx.core.json.JsonObject json) { }");
+      printProperties(writer, "Value", "value", properties);
+      writer.println("}");
+    }
+    return CompiledConverter.compile(LARGE_DATA_OBJECT, new String[] {
+      "-Acodegen.generators=data_object_converters,data_object_binary_codec",
+      "-Acodegen.data_object_converters.indexed_dispatch=true"
+    }, packageInfo, parent, child);
+  }
+
+  private static void printProperties(PrintWriter writer, String method, String name, int count) {
+    for (int i = 0;i < count;i++) {
+      writer.println("  public int get" + method + i + "() { return values.getOrDefault(\"" + name + i + "\", 0); }");
+      writer.println("  public void set" + method + i + "(int value) { values.put(\"" + name + i + "\", value); }");
+    }
+  }
+
+  private static Map<String, Integer> assertMethodSizes(Class<?> clazz) throws IOException {
+    Map<String, Integer> sizes = methodSizes(clazz);
+    assertFalse(sizes.isEmpty());
+    sizes.forEach((name, size) -> assertTrue(clazz.getSimpleName() + "#" + name + " has " + size + " bytes", size < HUGE_METHOD_LIMIT));
+    return sizes;
+  }
+
+  /**
+   * @return the largest code length of the methods of the {@code clazz} per method name
+   */
+  private static Map<String, Integer> methodSizes(Class<?> clazz) throws IOException {
+    try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+      assertNotNull(in);
+      DataInputStream data = new DataInputStream(in);
+      data.readInt(); // magic
+      data.readUnsignedShort(); // minor
+      data.readUnsignedShort(); // major
+      int count = data.readUnsignedShort();
+      String[] utf8 = new String[count];
+      for (int i = 1; i < count; i++) {
+        int tag = data.readUnsignedByte();
+        switch (tag) {
+          case 1:
+            utf8[i] = data.readUTF();
+            break;
+          case 7:
+          case 8:
+          case 16:
+          case 19:
+          case 20:
+            data.readUnsignedShort();
+            break;
+          case 15:
+            data.readUnsignedByte();
+            data.readUnsignedShort();
+            break;
+          case 3:
+          case 4:
+          case 9:
+          case 10:
+          case 11:
+          case 12:
+          case 17:
+          case 18:
+            data.readInt();
+            break;
+          case 5:
+          case 6:
+            data.readLong();
+            i++;
+            break;
+          default:
+            throw new IOException("Unexpected constant pool tag " + tag);
+        }
+      }
+      data.readUnsignedShort(); // access flags
+      data.readUnsignedShort(); // this class
+      data.readUnsignedShort(); // super class
+      data.skipBytes(2 * data.readUnsignedShort()); // interfaces
+      int fields = data.readUnsignedShort();
+      for (int i = 0; i < fields; i++) {
+        data.skipBytes(6);
+        skipAttributes(data);
+      }
+      Map<String, Integer> sizes = new LinkedHashMap<>();
+      int methods = data.readUnsignedShort();
+      for (int i = 0; i < methods; i++) {
+        data.readUnsignedShort(); // access flags
+        String name = utf8[data.readUnsignedShort()];
+        data.readUnsignedShort(); // descriptor
+        int attributes = data.readUnsignedShort();
+        for (int j = 0; j < attributes; j++) {
+          String attribute = utf8[data.readUnsignedShort()];
+          int length = data.readInt();
+          if (attribute.equals("Code")) {
+            data.readUnsignedShort(); // max stack
+            data.readUnsignedShort(); // max locals
+            int size = data.readInt();
+            sizes.merge(name, size, Math::max);
+            data.skipBytes(length - 8);
+          } else {
+            data.skipBytes(length);
+          }
+        }
+      }
+      return sizes;
+    }
+  }
+
+  private static void skipAttributes(DataInputStream data) throws IOException {
+    int attributes = data.readUnsignedShort();
+    for (int i = 0; i < attributes; i++) {
+      data.readUnsignedShort();
+      data.skipBytes(data.readInt());
+    }
+  }
+}
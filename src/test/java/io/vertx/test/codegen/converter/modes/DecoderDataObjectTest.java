@@ -0,0 +1,155 @@
+package io.vertx.test.codegen.converter.modes;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.CompiledConverter;
+import io.vertx.test.codegen.converter.TestDataObject;
+import io.vertx.test.codegen.converter.TestUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vertx.test.codegen.converter.CompiledConverter.call;
+import static org.junit.Assert.*;
+
+/**
+ * Check the {@code JsonDecoder} of the converters generated with the decoder mode.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class DecoderDataObjectTest {
+
+  private static final CompiledConverter converter = CompiledConverter.of(TestDataObject.class, "-Acodegen.data_object_converters.decoder=true");
+
+  private static Object decoder(Handler<TestDataObject> handler) throws Exception {
+    return call(converter.invoke("decoder"), "handler", handler);
+  }
+
+  private static Buffer buffer(String s) {
+    return Buffer.buffer(s.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static List<TestDataObject> decode(String json, int chunkSize) throws Exception {
+    List<TestDataObject> decoded = new ArrayList<>();
+    AtomicBoolean ended = new AtomicBoolean();
+    Object decoder = call(decoder(decoded::add), "endHandler", (Handler<Void>) v -> ended.set(true));
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      call(decoder, "handle", Buffer.buffer(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize))));
+    }
+    assertFalse(ended.get());
+    call(decoder, "end");
+    assertTrue(ended.get());
+    return decoded;
+  }
+
+  @Test
+  public void testDecodeJsonArray() throws Exception {
+    String json = "[{\"string\":\"foo\",\"stringList\":[\"a}\",\"\\\"]\"]}, {\"string\":\"b\u00e9r\",\"jsonObject\":{\"nested\":{}}}]";
+    for (int chunkSize : new int[] { 1, 3, json.length() }) {
+      List<TestDataObject> decoded = decode(json, chunkSize);
+      assertEquals(2, decoded.size());
+      assertEquals("foo", decoded.get(0).getString());
+      assertEquals(Arrays.asList("a}", "\"]"), decoded.get(0).getStringList());
+      assertEquals("b\u00e9r", decoded.get(1).getString());
+      assertEquals(new JsonObject().put("nested", new JsonObject()), decoded.get(1).getJsonObject());
+    }
+    assertEquals(0, decode(" [ ] ", 1).size());
+  }
+
+  @Test
+  public void testDecodeNewlineDelimited() throws Exception {
+    String json = "{\"primitiveInt\":1}\n{\"primitiveInt\":2}\r\n\n{\"primitiveInt\":3}\n";
+    for (int chunkSize : new int[] { 1, 5, json.length() }) {
+      List<TestDataObject> decoded = decode(json, chunkSize);
+      assertEquals(3, decoded.size());
+      for (int i = 0; i < 3; i++) {
+        assertEquals(i + 1, decoded.get(i).getPrimitiveInt());
+      }
+    }
+    assertEquals(0, decode("", 1).size());
+  }
+
+  @Test
+  public void testDecoderBackPressure() throws Exception {
+    List<TestDataObject> decoded = new ArrayList<>();
+    AtomicInteger drains = new AtomicInteger();
+    Object decoder = decoder(decoded::add);
+    call(call(decoder, "drainHandler", (Handler<Void>) v -> drains.incrementAndGet()), "pause");
+    call(decoder, "handle", buffer("[{\"primitiveInt\":1},{\"primitiveInt\":2},{\"primi"));
+    assertEquals(true, call(decoder, "writeQueueFull"));
+    assertEquals(0, decoded.size());
+    call(decoder, "fetch", 1L);
+    assertEquals(1, decoded.size());
+    assertEquals(true, call(decoder, "writeQueueFull"));
+    assertEquals(0, drains.get());
+    call(decoder, "fetch", 2L);
+    assertEquals(2, decoded.size());
+    assertEquals(false, call(decoder, "writeQueueFull"));
+    assertEquals(1, drains.get());
+    call(decoder, "handle", buffer("tiveInt\":3}]"));
+    assertEquals(3, decoded.size());
+    assertEquals(3, decoded.get(2).getPrimitiveInt());
+  }
+
+  @Test
+  public void testDecoderHandlerFailure() throws Exception {
+    List<Throwable> failures = new ArrayList<>();
+    List<Integer> decoded = new ArrayList<>();
+    Object decoder = call(decoder(obj -> {
+      if (obj.getPrimitiveInt() == 1) {
+        throw new IllegalStateException();
+      }
+      decoded.add(obj.getPrimitiveInt());
+    }), "exceptionHandler", (Handler<Throwable>) failures::add);
+    try {
+      call(decoder, "handle", buffer("[{\"primitiveInt\":1},{\"primitiveInt\":2}"));
+      fail();
+    } catch (IllegalStateException ignore) {
+    }
+    // The handler failure is not a decoding failure
+    assertEquals(0, failures.size());
+    call(decoder, "handle", buffer(",{\"primitiveInt\":3}]"));
+    assertEquals(Arrays.asList(2, 3), decoded);
+  }
+
+  @Test
+  public void testDecoderReleasesLargeObject() throws Exception {
+    List<TestDataObject> decoded = new ArrayList<>();
+    Object decoder = decoder(decoded::add);
+    String large = TestUtils.randomAlphaString(100_000);
+    call(decoder, "handle", buffer("{\"string\":\"" + large + "\"}\n{\"primitiveInt\":1}\n{\"primi"));
+    assertEquals(2, decoded.size());
+    assertEquals(large, decoded.get(0).getString());
+    java.lang.reflect.Field pending = decoder.getClass().getDeclaredField("pending");
+    pending.setAccessible(true);
+    assertEquals(1024, ((byte[]) pending.get(decoder)).length);
+    call(decoder, "handle", buffer("tiveInt\":2}"));
+    assertEquals(3, decoded.size());
+    assertEquals(2, decoded.get(2).getPrimitiveInt());
+  }
+
+  @Test
+  public void testDecoderFailure() throws Exception {
+    List<Throwable> failures = new ArrayList<>();
+    List<TestDataObject> decoded = new ArrayList<>();
+    Object decoder = call(decoder(decoded::add), "exceptionHandler", (Handler<Throwable>) failures::add);
+    call(decoder, "handle", buffer("[{\"primitiveInt\":1}, 4]"));
+    assertEquals(1, decoded.size());
+    assertEquals(1, failures.size());
+    call(decoder, "handle", buffer("{\"primitiveInt\":2}"));
+    assertEquals(1, decoded.size());
+
+    failures.clear();
+    decoder = call(converter.invoke("decoder"), "exceptionHandler", (Handler<Throwable>) failures::add);
+    call(decoder, "handle", buffer("[{\"primitiveInt\":1}"));
+    call(decoder, "end");
+    assertEquals(1, failures.size());
+  }
+}
@@ -0,0 +1,49 @@
+package io.vertx.test.codegen.converter.modes;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.CompiledConverter;
+import io.vertx.test.codegen.converter.TestDataObject;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check the converters generated with the indexed dispatch mode.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class IndexedDispatchDataObjectTest {
+
+  private static final CompiledConverter converter = CompiledConverter.of(TestDataObject.class, "-Acodegen.data_object_converters.indexed_dispatch=true");
+
+  @Test
+  public void testPropertyNames() throws Exception {
+    JsonObject json = new JsonObject();
+    json.put("string", "foo");
+    json.put("primitiveInt", 4);
+    json.put("boxedInt", 5);
+    json.put("jsonObject", new JsonObject().put("a", 1));
+    TestDataObject obj = new TestDataObject();
+    converter.invoke("fromJson", json, obj);
+    assertEquals("foo", obj.getString());
+    assertEquals(4, obj.getPrimitiveInt());
+    assertEquals(Integer.valueOf(5), obj.getBoxedInt());
+    assertEquals(new JsonObject().put("a", 1), obj.getJsonObject());
+  }
+
+  @Test
+  public void testUnknownPropertyNames() throws Exception {
+    JsonObject json = new JsonObject();
+    json.put("strinG", "foo");
+    json.put("bufferMaP", "foo");
+    json.put("boxedint", 3);
+    json.put("", 3);
+    json.put("primitiveInt", 4);
+    TestDataObject obj = new TestDataObject();
+    converter.invoke("fromJson", json, obj);
+    assertNull(obj.getString());
+    assertNull(obj.getBufferMap());
+    assertNull(obj.getBoxedInt());
+    assertEquals(4, obj.getPrimitiveInt());
+  }
+}
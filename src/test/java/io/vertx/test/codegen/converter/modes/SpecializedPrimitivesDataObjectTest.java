@@ -0,0 +1,54 @@
+package io.vertx.test.codegen.converter.modes;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.CompiledConverter;
+import io.vertx.test.codegen.converter.TestDataObject;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check the converters generated with the specialized primitives mode.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class SpecializedPrimitivesDataObjectTest {
+
+  private static final CompiledConverter converter = CompiledConverter.of(TestDataObject.class, "-Acodegen.data_object_converters.specialized_primitives=true");
+
+  @Test
+  public void testReuseBoxedValues() throws Exception {
+    Integer boxedInt = 100_000;
+    Long boxedLong = 100_000L;
+    Double boxedDouble = 0.5d;
+    JsonObject json = new JsonObject();
+    json.put("boxedInt", boxedInt);
+    json.put("boxedLong", boxedLong);
+    json.put("boxedDouble", boxedDouble);
+    json.put("boxedFloat", 0.5d);
+    json.put("boxedIntList", new JsonArray().add(boxedInt));
+    TestDataObject obj = new TestDataObject();
+    converter.invoke("fromJson", json, obj);
+    assertSame(boxedInt, obj.getBoxedInt());
+    assertSame(boxedLong, obj.getBoxedLong());
+    assertSame(boxedDouble, obj.getBoxedDouble());
+    assertEquals(0.5f, obj.getBoxedFloat(), 0);
+    assertSame(boxedInt, obj.getBoxedIntList().get(0));
+  }
+
+  @Test
+  public void testPrimitiveConversions() throws Exception {
+    JsonObject json = new JsonObject();
+    json.put("primitiveInt", 4294967297L);
+    json.put("primitiveByte", 258);
+    json.put("primitiveDouble", 3);
+    json.put("boxedShort", 65537);
+    TestDataObject obj = new TestDataObject();
+    converter.invoke("fromJson", json, obj);
+    assertEquals(1, obj.getPrimitiveInt());
+    assertEquals((byte) 2, obj.getPrimitiveByte());
+    assertEquals(3d, obj.getPrimitiveDouble(), 0);
+    assertEquals(Short.valueOf((short) 1), obj.getBoxedShort());
+  }
+}
@@ -0,0 +1,260 @@
+package io.vertx.test.codegen.converter.modes;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.CompiledConverter;
+import io.vertx.test.codegen.converter.NestedJsonObjectDataObject;
+import io.vertx.test.codegen.converter.NestedStringDataObject;
+import io.vertx.test.codegen.converter.SnakeFormattedDataObject;
+import io.vertx.test.codegen.converter.TestDataObject;
+import io.vertx.test.codegen.converter.TestUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check the converters generated with the streaming mode.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class StreamingDataObjectTest {
+
+  private static final JsonFactory factory = new JsonFactory();
+
+  private static final String STREAMING = "-Acodegen.data_object_converters.streaming=true";
+
+  private static final CompiledConverter converter = CompiledConverter.of(TestDataObject.class, STREAMING);
+
+  private static String toJson(TestDataObject obj) throws Exception {
+    StringWriter buffer = new StringWriter();
+    try (JsonGenerator generator = factory.createGenerator(buffer)) {
+      converter.invoke("toJson", obj, generator);
+    }
+    return buffer.toString();
+  }
+
+  private static TestDataObject fromJson(String json) throws Exception {
+    TestDataObject obj = new TestDataObject();
+    try (JsonParser parser = factory.createParser(json)) {
+      converter.invoke("fromJson", parser, obj);
+      assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+      assertNull(parser.nextToken());
+    }
+    return obj;
+  }
+
+  private static String toBase64(Buffer buffer) {
+    return Base64.getEncoder().encodeToString(buffer.getBytes());
+  }
+
+  private static JsonObject toJsonObject(TestDataObject obj) throws Exception {
+    JsonObject json = new JsonObject();
+    converter.invoke("toJson", obj, json);
+    return json;
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    String key = TestUtils.randomAlphaString(10);
+    String stringValue = TestUtils.randomAlphaString(20);
+    Buffer buffer = TestUtils.randomBuffer(20);
+    JsonObject jsonObject = new JsonObject().put("wibble", TestUtils.randomAlphaString(20)).put("nested", new JsonArray().add(3).add(true));
+    JsonArray jsonArray = new JsonArray().add(TestUtils.randomAlphaString(20)).add(new JsonObject().put("foo", "bar"));
+    TimeUnit httpMethod = TimeUnit.values()[TestUtils.randomPositiveInt() % TimeUnit.values().length];
+    ZonedDateTime methodMapped = ZonedDateTime.now();
+    NestedJsonObjectDataObject jsonObjectDataObject = new NestedJsonObjectDataObject().setValue(TestUtils.randomAlphaString(20));
+    NestedStringDataObject stringDataObject = new NestedStringDataObject().setValue(TestUtils.randomAlphaString(20));
+    Map<String, Object> map = new HashMap<>();
+    map.put(TestUtils.randomAlphaString(10), TestUtils.randomAlphaString(20));
+    map.put(TestUtils.randomAlphaString(10), TestUtils.randomBoolean());
+    map.put(TestUtils.randomAlphaString(10), TestUtils.randomInt());
+
+    JsonObject json = new JsonObject();
+    json.put("string", stringValue);
+    json.put("primitiveBoolean", TestUtils.randomBoolean());
+    json.put("primitiveByte", TestUtils.randomByte());
+    json.put("primitiveShort", TestUtils.randomShort());
+    json.put("primitiveInt", TestUtils.randomInt());
+    json.put("primitiveLong", TestUtils.randomLong());
+    json.put("primitiveFloat", TestUtils.randomFloat());
+    json.put("primitiveDouble", TestUtils.randomDouble());
+    json.put("primitiveChar", Character.toString(TestUtils.randomChar()));
+    json.put("boxedBoolean", TestUtils.randomBoolean());
+    json.put("boxedByte", TestUtils.randomByte());
+    json.put("boxedShort", TestUtils.randomShort());
+    json.put("boxedInt", TestUtils.randomInt());
+    json.put("boxedLong", TestUtils.randomLong());
+    json.put("boxedFloat", TestUtils.randomFloat());
+    json.put("boxedDouble", TestUtils.randomDouble());
+    json.put("boxedChar", Character.toString(TestUtils.randomChar()));
+    json.put("jsonObjectDataObject", jsonObjectDataObject.toJson());
+    json.put("stringDataObject", stringDataObject.toJson());
+    json.put("buffer", toBase64(buffer));
+    json.put("jsonObject", jsonObject);
+    json.put("jsonArray", jsonArray);
+    json.put("httpMethod", httpMethod.name());
+    json.put("methodMapped", methodMapped.toString());
+    json.put("stringList", new JsonArray().add(stringValue));
+    json.put("boxedIntList", new JsonArray().add(TestUtils.randomInt()));
+    json.put("boxedDoubleList", new JsonArray().add(TestUtils.randomDouble()));
+    json.put("jsonObjectDataObjectList", new JsonArray().add(jsonObjectDataObject.toJson()));
+    json.put("bufferList", new JsonArray().add(toBase64(buffer)));
+    json.put("jsonObjectList", new JsonArray().add(jsonObject));
+    json.put("httpMethodList", new JsonArray().add(httpMethod.name()));
+    json.put("methodMappedList", new JsonArray().add(methodMapped.toString()));
+    json.put("objectList", new JsonArray().add(stringValue).add(true).add(4));
+    json.put("boxedLongSet", new JsonArray().add(TestUtils.randomLong()));
+    json.put("stringDataObjectSet", new JsonArray().add(stringDataObject.toJson()));
+    json.put("addedStringValues", new JsonArray().add(stringValue));
+    json.put("addedBoxedCharValues", new JsonArray().add(Character.toString(TestUtils.randomChar())));
+    json.put("addedJsonArrays", new JsonArray().add(jsonArray));
+    json.put("stringValueMap", new JsonObject().put(key, stringValue));
+    json.put("boxedFloatValueMap", new JsonObject().put(key, TestUtils.randomFloat()));
+    json.put("jsonObjectDataObjectMap", new JsonObject().put(key, jsonObjectDataObject.toJson()));
+    json.put("objectMap", new JsonObject(map));
+    json.put("keyedBoxedShortValues", new JsonObject().put(key, TestUtils.randomShort()));
+    json.put("keyedEnumValues", new JsonObject().put(key, httpMethod.name()));
+    json.put("keyedObjectValues", new JsonObject(map));
+
+    TestDataObject expected = new TestDataObject();
+    converter.invoke("fromJson", json, expected);
+
+    TestDataObject obj = fromJson(toJson(expected));
+    assertEquals(toJsonObject(expected), toJsonObject(obj));
+    assertEquals(buffer, obj.getBuffer());
+    assertEquals(jsonObject, obj.getJsonObject());
+    assertEquals(jsonArray, obj.getJsonArray());
+    assertEquals(methodMapped, obj.getMethodMapped());
+    assertEquals(Arrays.asList(stringValue, true, 4), obj.getObjectList());
+    assertEquals(map, obj.getObjectMap());
+  }
+
+  @Test
+  public void testSkipUnknownAndMismatchedValues() throws Exception {
+    TestDataObject obj = fromJson("{" +
+      "\"unknown\":{\"string\":\"nested\",\"array\":[1,{\"a\":[]}]}," +
+      "\"primitiveInt\":\"not-a-number\"," +
+      "\"boxedInt\":null," +
+      "\"jsonObject\":[1,2]," +
+      "\"stringList\":[\"a\",1,{\"b\":\"c\"},null,\"d\"]," +
+      "\"boxedLongValueMap\":{\"a\":1,\"b\":\"2\",\"c\":[3]}," +
+      "\"string\":\"the-string\"" +
+      "}");
+    assertEquals("the-string", obj.getString());
+    assertEquals(0, obj.getPrimitiveInt());
+    assertNull(obj.getBoxedInt());
+    assertNull(obj.getJsonObject());
+    assertEquals(Arrays.asList("a", "d"), obj.getStringList());
+    assertEquals(Collections.singletonMap("a", 1L), obj.getBoxedLongValueMap());
+  }
+
+  @Test
+  public void testNumberConversions() throws Exception {
+    TestDataObject obj = fromJson("{" +
+      "\"primitiveInt\":4294967297," +
+      "\"primitiveLong\":2.9," +
+      "\"primitiveByte\":258," +
+      "\"primitiveFloat\":3," +
+      "\"boxedDouble\":12345678901," +
+      "\"boxedChar\":\"xyz\"," +
+      "\"boxedBoolean\":false" +
+      "}");
+    assertEquals(1, obj.getPrimitiveInt());
+    assertEquals(2L, obj.getPrimitiveLong());
+    assertEquals((byte) 2, obj.getPrimitiveByte());
+    assertEquals(3f, obj.getPrimitiveFloat(), 0);
+    assertEquals(12345678901d, obj.getBoxedDouble(), 0);
+    assertEquals((Character) 'x', obj.getBoxedChar());
+    assertEquals(Boolean.FALSE, obj.isBoxedBoolean());
+  }
+
+  @Test
+  public void testParserPositionedAtStartObject() throws Exception {
+    TestDataObject obj = new TestDataObject();
+    try (JsonParser parser = factory.createParser("[{\"string\":\"foo\"},{\"string\":\"bar\"}]")) {
+      assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+      assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+      converter.invoke("fromJson", parser, obj);
+      assertEquals("foo", obj.getString());
+      converter.invoke("fromJson", parser, obj);
+      assertEquals("bar", obj.getString());
+      assertEquals(JsonToken.END_ARRAY, parser.nextToken());
+    }
+  }
+
+  @Test
+  public void testToJsonOmitsNullValues() throws Exception {
+    TestDataObject obj = new TestDataObject();
+    obj.setString("foo");
+    obj.setPrimitiveInt(4);
+    obj.setStringList(Arrays.asList("a", null));
+    String json = toJson(obj);
+    assertTrue(json.startsWith("{"));
+    assertTrue(json.contains("\"string\":\"foo\""));
+    assertTrue(json.contains("\"primitiveInt\":4"));
+    assertTrue(json.contains("\"stringList\":[\"a\",null]"));
+    assertFalse(json.contains("\"boxedInt\""));
+    assertFalse(json.contains("\"jsonObject\""));
+  }
+
+  @Test
+  public void testBuffer() throws Exception {
+    for (int length : new int[] { 0, 1, 2, 3, 4, 1000, 100_000 }) {
+      Buffer buffer = TestUtils.randomBuffer(length);
+      TestDataObject obj = new TestDataObject().setBuffer(buffer).setBufferList(Arrays.asList(buffer, Buffer.buffer()));
+      String json = toJson(obj);
+      // The streamed encoding is the encoding of the map based converter
+      assertTrue(json.contains("\"buffer\":\"" + toBase64(buffer) + "\""));
+      assertEquals(toJsonObject(obj).getValue("buffer"), toBase64(buffer));
+      TestDataObject copy = fromJson(json);
+      assertEquals(buffer, copy.getBuffer());
+      assertEquals(Arrays.asList(buffer, Buffer.buffer()), copy.getBufferList());
+    }
+  }
+
+  @Test
+  public void testBufferFromReader() throws Exception {
+    // The Base64 value spans several reads of the parser input
+    Buffer buffer = TestUtils.randomBuffer(50_000);
+    String json = "{\"buffer\":\"" + toBase64(buffer) + "\"}";
+    TestDataObject obj = new TestDataObject();
+    try (JsonParser parser = factory.createParser(new java.io.StringReader(json))) {
+      converter.invoke("fromJson", parser, obj);
+    }
+    assertEquals(buffer, obj.getBuffer());
+    obj = new TestDataObject();
+    try (JsonParser parser = factory.createParser(new java.io.ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+      converter.invoke("fromJson", parser, obj);
+    }
+    assertEquals(buffer, obj.getBuffer());
+  }
+
+  @Test
+  public void testToJsonFormattedNames() throws Exception {
+    SnakeFormattedDataObject obj = new SnakeFormattedDataObject().setFoo("a").setFooBar("b").setFooBarJuu("c");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CompiledConverter snakeConverter = CompiledConverter.of(SnakeFormattedDataObject.class, STREAMING);
+    try (JsonGenerator generator = factory.createGenerator(out)) {
+      snakeConverter.invoke("toJson", obj, generator);
+      snakeConverter.invoke("toJson", obj, generator);
+    }
+    String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertEquals("{\"foo\":\"a\",\"foo_bar\":\"b\",\"foo_bar_juu\":\"c\"} {\"foo\":\"a\",\"foo_bar\":\"b\",\"foo_bar_juu\":\"c\"}", json);
+  }
+}
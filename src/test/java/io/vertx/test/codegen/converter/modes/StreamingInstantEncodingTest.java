@@ -0,0 +1,95 @@
+package io.vertx.test.codegen.converter.modes;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import io.vertx.test.codegen.converter.CompiledConverter;
+import io.vertx.test.codegen.converter.InstantDataObject;
+import io.vertx.test.codegen.converter.InstantEncodingTest;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Check the instant encodings of the converters generated with the streaming mode.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class StreamingInstantEncodingTest {
+
+  private static final JsonFactory factory = new JsonFactory();
+
+  private static final CompiledConverter converter = CompiledConverter.of(InstantDataObject.class, "-Acodegen.data_object_converters.streaming=true");
+
+  private static String toJson(InstantDataObject obj) throws Exception {
+    StringWriter buffer = new StringWriter();
+    try (JsonGenerator generator = factory.createGenerator(buffer)) {
+      converter.invoke("toJson", obj, generator);
+    }
+    return buffer.toString();
+  }
+
+  private static InstantDataObject fromJson(String json) throws Exception {
+    InstantDataObject obj = new InstantDataObject();
+    try (JsonParser parser = factory.createParser(json)) {
+      converter.invoke("fromJson", parser, obj);
+    }
+    return obj;
+  }
+
+  @Test
+  public void testEpochMillis() throws Exception {
+    Instant instant = Instant.ofEpochMilli(1_700_000_000_123L);
+    InstantDataObject obj = new InstantDataObject().setMillis(instant).setMillisList(Arrays.asList(instant, Instant.EPOCH));
+    String streamed = toJson(obj);
+    assertEquals("{\"millis\":1700000000123,\"millisList\":[1700000000123,0]}", streamed);
+    InstantDataObject copy = fromJson(streamed);
+    assertEquals(instant, copy.getMillis());
+    assertEquals(Arrays.asList(instant, Instant.EPOCH), copy.getMillisList());
+  }
+
+  @Test
+  public void testEpochNanos() throws Exception {
+    Instant instant = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+    String streamed = toJson(new InstantDataObject().setNanos(instant));
+    assertEquals("{\"nanos\":1700000000123456789}", streamed);
+    assertEquals(instant, fromJson(streamed).getNanos());
+  }
+
+  @Test
+  public void testIsoFormat() throws Exception {
+    for (Instant instant : InstantEncodingTest.instants()) {
+      String expected = DateTimeFormatter.ISO_INSTANT.format(instant);
+      assertEquals("{\"iso\":\"" + expected + "\"}", toJson(new InstantDataObject().setIso(instant)));
+    }
+  }
+
+  @Test
+  public void testIsoParse() throws Exception {
+    for (Instant instant : InstantEncodingTest.instants()) {
+      String text = DateTimeFormatter.ISO_INSTANT.format(instant);
+      assertEquals(instant, fromJson("{\"iso\":\"" + text + "\"}").getIso());
+    }
+  }
+
+  @Test
+  public void testIsoList() throws Exception {
+    List<Instant> instants = Arrays.asList(Instant.parse("2021-06-15T10:20:30Z"), Instant.parse("1921-06-15T10:20:30.5Z"));
+    InstantDataObject obj = new InstantDataObject().setIsoList(instants);
+    assertEquals(instants, fromJson(toJson(obj)).getIsoList());
+  }
+
+  @Test
+  public void testWrongJsonType() throws Exception {
+    InstantDataObject obj = fromJson("{\"millis\":\"2021-06-15T10:20:30Z\",\"iso\":3,\"nanos\":[]}");
+    assertNull(obj.getMillis());
+    assertNull(obj.getIso());
+    assertNull(obj.getNanos());
+  }
+}
@@ -9,6 +9,7 @@ import io.vertx.test.codegen.testapi.MethodWithValidVertxGenParams;
 import io.vertx.test.codegen.testapi.VertxGenClass1;
 import io.vertx.test.codegen.testapi.VertxGenClass2;
 import io.vertx.test.codegen.testdataobject.CommentedDataObject;
+import io.vertx.test.codegen.testdataobject.ConverterDataObject;
 import io.vertx.test.codegen.testdataobject.PropertyGettersSetters;
 import io.vertx.test.codegen.testenum.ValidEnum;
 import io.vertx.test.codegen.testmodule.modulescoped.ModuleScopedApi;
@@ -19,13 +20,24 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
 
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.lang.model.element.Element;
 import java.io.File;
 import java.io.FileInputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import static io.vertx.test.codegen.Utils.assertFile;
 import static io.vertx.test.codegen.Utils.assertMkDirs;
@@ -161,6 +173,59 @@ public class CodeGeneratorTest {
     assertEquals(expected, result);
   }
 
+  @Test
+  public void testEmptyParts() throws Exception {
+    File output = new File(testDir, "aggregated.txt");
+    Compiler compiler = new Compiler(new CodeGenProcessor());
+    compiler.addOption("-Acodegen.generators=testgen8");
+    compiler.addOption("-Acodegen.output=" + testDir.getAbsolutePath());
+    assertTrue(compiler.compile(VertxGenClass1.class));
+    assertFalse(output.exists());
+    compiler = new Compiler(new CodeGenProcessor());
+    compiler.addOption("-Acodegen.generators=testgen8");
+    compiler.addOption("-Acodegen.output=" + testDir.getAbsolutePath());
+    assertTrue(compiler.compile(VertxGenClass1.class, VertxGenClass2.class));
+    assertFile("VertxGenClass2\n", output);
+  }
+
+  @Test
+  public void testFailedPartsDiscarded() throws Exception {
+    File output = new File(testDir, "aggregated.txt");
+    Compiler compiler = new Compiler(new CodeGenProcessor());
+    compiler.addOption("-Acodegen.generators=testgen8");
+    compiler.addOption("-Acodegen.output=" + testDir.getAbsolutePath());
+    assertTrue(compiler.compile(VertxGenClass1.class, VertxGenClass2.class));
+    assertFile("VertxGenClass2\n", output);
+    compiler = new Compiler(new CodeGenProcessor());
+    compiler.addOption("-Acodegen.generators=testgen8");
+    compiler.addOption("-Acodegen.output=" + testDir.getAbsolutePath());
+    compiler.addOption("-Atestgen8.fail=VertxGenClass2");
+    assertFalse(compiler.compile(MethodWithValidVertxGenParams.class, VertxGenClass1.class, VertxGenClass2.class));
+    // The previous file is kept and the temporary file is removed
+    assertFile("VertxGenClass2\n", output);
+    assertEquals(Collections.singletonList("aggregated.txt"), Arrays.asList(testDir.list()));
+  }
+
+  @Test
+  public void testFailedPartsDiscardedResource() throws Exception {
+    File classes = assertMkDirs(new File(testDir, "classes"));
+    Compiler compiler = new Compiler(new CodeGenProcessor());
+    compiler.setClassOutput(classes);
+    compiler.addOption("-Acodegen.generators=testgen8");
+    compiler.addOption("-Atestgen8.filename=resources/aggregated.txt");
+    assertTrue(compiler.compile(VertxGenClass1.class, VertxGenClass2.class));
+    assertFile("VertxGenClass2\n", new File(classes, "aggregated.txt"));
+    File failedClasses = assertMkDirs(new File(testDir, "failed-classes"));
+    compiler = new Compiler(new CodeGenProcessor());
+    compiler.setClassOutput(failedClasses);
+    compiler.addOption("-Acodegen.generators=testgen8");
+    compiler.addOption("-Atestgen8.filename=resources/aggregated.txt");
+    compiler.addOption("-Atestgen8.fail=VertxGenClass2");
+    assertFalse(compiler.compile(MethodWithValidVertxGenParams.class, VertxGenClass1.class, VertxGenClass2.class));
+    // The resource is not created with a partial content
+    assertFalse(new File(failedClasses, "aggregated.txt").exists());
+  }
+
   @Test
   public void testAbsoluteFilename() throws Exception {
     // Does not pass on windows because of drive letter
@@ -242,6 +307,211 @@ public class CodeGeneratorTest {
     assertTrue(fileContent.contains(VertxGenClass2.class.getSimpleName()));
   }
 
+  @Test
+  public void testParallelRender() throws Exception {
+    Class[] classes = { MethodWithValidVertxGenParams.class, VertxGenClass1.class, VertxGenClass2.class, ValidEnum.class };
+    File sequential = assertMkDirs(new File(testDir, "sequential"));
+    File parallel = assertMkDirs(new File(testDir, "parallel"));
+    for (File output : Arrays.asList(sequential, parallel)) {
+      Compiler compiler = new Compiler(new CodeGenProcessor());
+      compiler.addOption("-Acodegen.generators=testgen1");
+      compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+      if (output == parallel) {
+        compiler.addOption("-Acodegen.threads=4");
+      }
+      assertTrue(compiler.compile(classes));
+    }
+    for (Class clazz : classes) {
+      String name = clazz.getName().replace('.', '_') + ".properties";
+      Properties expected = new Properties();
+      expected.load(new FileInputStream(new File(sequential, name)));
+      Properties actual = new Properties();
+      actual.load(new FileInputStream(new File(parallel, name)));
+      // Object identity based value
+      expected.remove("helper");
+      actual.remove("helper");
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testParallelRenderNotThreadSafe() throws Exception {
+    Compiler compiler = new Compiler(new CodeGenProcessor());
+    compiler.addOption("-Acodegen.generators=testgen7");
+    compiler.addOption("-Acodegen.output=" + testDir.getAbsolutePath());
+    compiler.addOption("-Acodegen.threads=4");
+    assertTrue(compiler.compile(InvalidInterfaceDataObject.class, CommentedDataObject.class));
+    for (Class clazz : Arrays.asList(InvalidInterfaceDataObject.class, CommentedDataObject.class)) {
+      Properties props = new Properties();
+      props.load(new FileInputStream(new File(testDir, clazz.getName().replace('.', '_') + ".properties")));
+      assertEquals(Thread.currentThread().getName(), props.getProperty("renderThread"));
+    }
+  }
+
+  @Test
+  public void testCache() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    File generated = new File(output, VertxGenClass1.class.getName().replace('.', '_') + ".properties");
+    Runnable compile = () -> {
+      Compiler compiler = new Compiler(new CodeGenProcessor());
+      compiler.addOption("-Acodegen.generators=testgen1");
+      compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+      compiler.addOption("-Acodegen.cache=" + cacheDir.getAbsolutePath());
+      try {
+        assertTrue(compiler.compile(VertxGenClass1.class));
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+    };
+    compile.run();
+    assertTrue(generated.isFile());
+    File[] entries = cacheDir.listFiles();
+    assertNotNull(entries);
+    assertEquals(1, entries.length);
+    String entry = new String(Files.readAllBytes(entries[0].toPath()), StandardCharsets.UTF_8);
+    int idx = entry.indexOf('\n');
+    String fingerprint = entry.substring(0, idx);
+
+    // Same fingerprint : the cached content is used
+    Files.write(entries[0].toPath(), (fingerprint + "\ncached=true").getBytes(StandardCharsets.UTF_8));
+    assertTrue(generated.delete());
+    compile.run();
+    Properties props = new Properties();
+    props.load(new FileInputStream(generated));
+    assertEquals("true", props.getProperty("cached"));
+
+    // Different fingerprint : the file is rendered again
+    Files.write(entries[0].toPath(), ("stale\ncached=true").getBytes(StandardCharsets.UTF_8));
+    compile.run();
+    props = new Properties();
+    props.load(new FileInputStream(generated));
+    assertNull(props.getProperty("cached"));
+    assertEquals(VertxGenClass1.class.getName(), props.getProperty("ifaceFQCN"));
+    entry = new String(Files.readAllBytes(entries[0].toPath()), StandardCharsets.UTF_8);
+    assertTrue(entry.startsWith(fingerprint + "\n"));
+  }
+
+  @Test
+  public void testCacheGeneratorOption() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    List<String> fingerprints = new ArrayList<>();
+    for (String value : Arrays.asList("a", "a", "b")) {
+      Compiler compiler = new Compiler(new CodeGenProcessor());
+      compiler.addOption("-Acodegen.generators=testgen1");
+      compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+      compiler.addOption("-Acodegen.cache=" + cacheDir.getAbsolutePath());
+      compiler.addOption("-Atestgen1.option=" + value);
+      assertTrue(compiler.compile(VertxGenClass1.class));
+      File[] entries = cacheDir.listFiles();
+      assertNotNull(entries);
+      assertEquals(1, entries.length);
+      String entry = new String(Files.readAllBytes(entries[0].toPath()), StandardCharsets.UTF_8);
+      fingerprints.add(entry.substring(0, entry.indexOf('\n')));
+    }
+    assertEquals(fingerprints.get(0), fingerprints.get(1));
+    assertNotEquals(fingerprints.get(1), fingerprints.get(2));
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    File output = assertMkDirs(new File(testDir, "output"));
+    for (String name : Arrays.asList("metrics.json", "metrics.csv")) {
+      File report = new File(testDir, name);
+      Compiler compiler = new Compiler(new CodeGenProcessor());
+      compiler.addOption("-Acodegen.generators=testgen1");
+      compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+      compiler.addOption("-Acodegen.metrics=" + report.getAbsolutePath());
+      assertTrue(compiler.compile(VertxGenClass1.class));
+      assertTrue(report.isFile());
+      String content = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+      for (String phase : Arrays.asList("round", "init", "getModel", "process:class", "render:testgen1", "write")) {
+        assertTrue(content, content.contains(name.endsWith(".csv") ? "phase," + phase + "," : "\"" + phase + "\": {\"count\": "));
+      }
+      if (name.endsWith(".csv")) {
+        assertTrue(content, content.contains("counter,models.class,1,,"));
+        assertTrue(content, content.contains("counter,files.other,1,,"));
+      } else {
+        assertTrue(content, content.contains("\"models.class\": 1"));
+        assertTrue(content, content.contains("\"files.other\": 1"));
+      }
+    }
+  }
+
+  @Test
+  public void testIncrementalProcessing() throws Exception {
+    assertEquals(Collections.singleton("org.gradle.annotation.processing.isolating"), incrementalOptions("-Acodegen.generators=testgen1"));
+    assertEquals(Collections.singleton("org.gradle.annotation.processing.aggregating"), incrementalOptions("-Acodegen.generators=cheatsheet"));
+    assertEquals(Collections.emptySet(), incrementalOptions("-Acodegen.generators=testgen1", "-Acodegen.output=" + testDir.getAbsolutePath()));
+    assertEquals(Collections.singleton("org.gradle.annotation.processing.isolating"), incrementalOptions("-Acodegen.generators=data_object_converters"));
+    // The converter registry aggregates the module only when enabled
+    assertEquals(Collections.singleton("org.gradle.annotation.processing.isolating"), incrementalOptions("-Acodegen.generators=data_object_converters|converter_registry"));
+    assertEquals(Collections.singleton("org.gradle.annotation.processing.aggregating"), incrementalOptions("-Acodegen.generators=data_object_converters|converter_registry", "-Acodegen.converter_registry=true"));
+    // A generator must opt-in to be isolating
+    assertEquals(Collections.emptySet(), incrementalOptions("-Acodegen.generators=testgen1|testgen7"));
+  }
+
+  @Test
+  public void testOriginatingElements() throws Exception {
+    Map<String, List<String>> created = new LinkedHashMap<>();
+    Compiler compiler = new Compiler(recordFiler(new CodeGenProcessor(), (name, elements) ->
+      created.put(name, Arrays.stream(elements).map(Object::toString).collect(Collectors.toList()))));
+    compiler.addOption("-Acodegen.generators=data_object_converters");
+    assertTrue(compiler.compile(ConverterDataObject.class, PropertyGettersSetters.class));
+    Map<String, List<String>> expected = new LinkedHashMap<>();
+    expected.put("createSourceFile:" + ConverterDataObject.class.getName() + "Converter", Collections.singletonList(ConverterDataObject.class.getName()));
+    assertEquals(expected, created);
+  }
+
+  /**
+   * @return a processor delegating to the {@code processor} with a {@link Filer} reporting the name and the
+   *         originating elements of the files it creates to the {@code recorder}
+   */
+  private static Processor recordFiler(Processor processor, BiConsumer<String, Element[]> recorder) {
+    return proxy(Processor.class, processor, (method, args) -> {
+      if (method.getName().equals("init")) {
+        ProcessingEnvironment env = (ProcessingEnvironment) args[0];
+        Filer filer = proxy(Filer.class, env.getFiler(), (filerMethod, filerArgs) -> {
+          if (filerMethod.getName().startsWith("create")) {
+            Object name = filerMethod.getName().equals("createResource") ? filerArgs[2] : filerArgs[0];
+            recorder.accept(filerMethod.getName() + ":" + name, (Element[]) filerArgs[filerArgs.length - 1]);
+          }
+        });
+        args[0] = Proxy.newProxyInstance(ProcessingEnvironment.class.getClassLoader(), new Class[]{ProcessingEnvironment.class}, (proxy, envMethod, envArgs) ->
+          envMethod.getName().equals("getFiler") ? filer : invoke(envMethod, env, envArgs));
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T delegate, BiConsumer<Method, Object[]> interceptor) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+      interceptor.accept(method, args);
+      return invoke(method, delegate, args);
+    });
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private Set<String> incrementalOptions(String... options) throws Exception {
+    CodeGenProcessor processor = new CodeGenProcessor();
+    Compiler compiler = new Compiler(processor);
+    for (String option : options) {
+      compiler.addOption(option);
+    }
+    assertTrue(compiler.compile(VertxGenClass1.class));
+    Set<String> supported = new HashSet<>(processor.getSupportedOptions());
+    supported.removeIf(option -> !option.startsWith("org.gradle.annotation.processing."));
+    return supported;
+  }
+
   @Test
   public void testServiceLoader() throws Exception {
     Properties props = assertCompile("testgen7", InvalidInterfaceDataObject.class);
@@ -14,6 +14,7 @@ import io.vertx.codegen.type.TypeInfo;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -22,6 +23,8 @@ import java.util.stream.Collectors;
 public class TestGenerator extends Generator<Model>{
   public TestGenerator(){
     name = "testgen1";
+    threadSafe = true;
+    isolating = true;
     kinds = new HashSet<>(Arrays.asList("dataObject", "class", "enum", "module"));
   }
 
@@ -30,6 +33,11 @@ public class TestGenerator extends Generator<Model>{
     return Arrays.asList(DataObject.class, ModuleGen.class, VertxGen.class);
   }
 
+  @Override
+  public Collection<String> options() {
+    return Collections.singleton("testgen1.option");
+  }
+
   @Override
   public String filename(Model model) {
     return model.getFqn().replace('.', '_') + ".properties";
@@ -29,6 +29,7 @@ public class TestGenerator extends Generator<DataObjectModel>{
 
   @Override
   public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
-    return "MyGenerator=true";
+    // Not thread safe, so always rendered on the processor thread
+    return "MyGenerator=true\nrenderThread=" + Thread.currentThread().getName() + "\n";
   }
 }
@@ -0,0 +1,54 @@
+package io.vertx.test.codegen.generator.gen8;
+
+import io.vertx.codegen.ClassModel;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.RenderContext;
+import io.vertx.codegen.annotations.VertxGen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Aggregates the models in a file with a writer, the first part is empty. The part of the model named by
+ * the {@code testgen8.fail} option fails after writing the model name. The {@code testgen8.filename} option
+ * overrides the name of the file.
+ */
+public class TestGenerator extends Generator<ClassModel>{
+  public TestGenerator(){
+    name = "testgen8";
+    incremental = true;
+    threadSafe = true;
+    kinds = new HashSet<>(Collections.singletonList("class"));
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(VertxGen.class);
+  }
+
+  @Override
+  public Collection<String> options() {
+    return new HashSet<>(Arrays.asList("testgen8.fail", "testgen8.filename"));
+  }
+
+  @Override
+  public String filename(ClassModel model) {
+    return env.getOptions().getOrDefault("testgen8.filename", "aggregated.txt");
+  }
+
+  @Override
+  public void render(ClassModel model, RenderContext context, Writer writer) throws IOException {
+    if (context.getIndex() > 0) {
+      writer.write(model.getType().getSimpleName());
+      if (model.getType().getSimpleName().equals(env.getOptions().get("testgen8.fail"))) {
+        throw new IOException("Failed to render " + model.getType().getSimpleName());
+      }
+      writer.write('\n');
+    }
+  }
+}